@@ -35,6 +35,7 @@ import com.mhschmieder.fxcontrols.action.FileActions;
 import com.mhschmieder.fxcontrols.action.LabeledActionFactory;
 import com.mhschmieder.fxcontrols.action.SettingsActions;
 import com.mhschmieder.fxcontrols.action.XActionGroup;
+import com.mhschmieder.fxpolarchart.math.PolarResponseNormalization;
 import com.mhschmieder.jcommons.util.ClientProperties;
 import javafx.scene.paint.Color;
 import org.controlsfx.control.action.Action;
@@ -49,12 +50,14 @@ public final class PolarResponseActions {
 
     public FileActions     _fileActions;
     public PolarResponseViewActions     _viewActions;
+    public PolarResponseSessionActions  _sessionActions;
     public SettingsActions _settingsActions;
     public TestActions     _testActions;
 
     public PolarResponseActions( final ClientProperties pClientProperties ) {
         _fileActions = new FileActions( pClientProperties );
         _viewActions = new PolarResponseViewActions( pClientProperties );
+        _sessionActions = new PolarResponseSessionActions( pClientProperties );
         _settingsActions = new SettingsActions( pClientProperties );
         _testActions = new TestActions( pClientProperties );
     }
@@ -88,6 +91,9 @@ public final class PolarResponseActions {
         final XActionGroup viewActionGroup = PolarResponseLabeledActionFactory
                 .getViewActionGroup( pClientProperties, _viewActions );
 
+        final XActionGroup sessionActionGroup = PolarResponseLabeledActionFactory
+                .getSessionActionGroup( pClientProperties, _sessionActions );
+
         final XActionGroup settingsActionGroup = LabeledActionFactory
                 .getSettingsActionGroup( pClientProperties, _settingsActions, true );
 
@@ -95,7 +101,11 @@ public final class PolarResponseActions {
                 .getTestActionGroup( pClientProperties, _testActions );
 
         final Collection< Action > polarResponseMenuBarActionCollection = Arrays
-                .asList( fileActionGroup, viewActionGroup, settingsActionGroup, testActionGroup );
+                .asList( fileActionGroup,
+                         viewActionGroup,
+                         sessionActionGroup,
+                         settingsActionGroup,
+                         testActionGroup );
 
         return polarResponseMenuBarActionCollection;
     }
@@ -110,6 +120,11 @@ public final class PolarResponseActions {
         return _settingsActions.getSelectedBackgroundColorName();
     }
 
+    public Collection< Action > getSessionActionCollection() {
+        // Forward this method to the Session actions container.
+        return _sessionActions.getSessionActionCollection();
+    }
+
     public Collection< Action > getSettingsActionCollection( final ClientProperties pClientProperties ) {
         // Forward this method to the File actions container.
         return _settingsActions.getSettingsActionCollection( pClientProperties, true );
@@ -139,4 +154,14 @@ public final class PolarResponseActions {
         // Forward this method to the View actions container.
         _viewActions.setGridSpacing( gridSpacing );
     }
+
+    public void setAngularSmoothingWidth( final int angularSmoothingWidth ) {
+        // Forward this method to the View actions container.
+        _viewActions.setAngularSmoothingWidth( angularSmoothingWidth );
+    }
+
+    public void setNormalization( final PolarResponseNormalization normalization ) {
+        // Forward this method to the View actions container.
+        _viewActions.setNormalization( normalization );
+    }
 }
@@ -62,6 +62,110 @@ public class PolarResponseLabeledActionFactory {
         return scaleChoiceGroup;
     }
 
+    @SuppressWarnings("nls")
+    public static final XActionGroup getSmoothingChoiceGroup( final ClientProperties pClientProperties,
+                                                              final PolarResponseSmoothingChoices polarResponseSmoothingChoices ) {
+        final Collection< Action > smoothingChoiceCollection = polarResponseSmoothingChoices
+                .getSmoothingChoiceCollection();
+
+        final XActionGroup smoothingChoiceGroup = ActionFactory
+                .makeChoiceGroup( pClientProperties,
+                                  smoothingChoiceCollection,
+                                  BUNDLE_NAME,
+                                  "smoothing",
+                                  null );
+
+        return smoothingChoiceGroup;
+    }
+
+    @SuppressWarnings("nls")
+    public static final XActionGroup getNormalizationChoiceGroup( final ClientProperties pClientProperties,
+                                                                  final PolarResponseNormalizationChoices polarResponseNormalizationChoices ) {
+        final Collection< Action > normalizationChoiceCollection = polarResponseNormalizationChoices
+                .getNormalizationChoiceCollection();
+
+        final XActionGroup normalizationChoiceGroup = ActionFactory
+                .makeChoiceGroup( pClientProperties,
+                                  normalizationChoiceCollection,
+                                  BUNDLE_NAME,
+                                  "normalization",
+                                  null );
+
+        return normalizationChoiceGroup;
+    }
+
+    @SuppressWarnings("nls")
+    public static final XAction getDirectivityChartsAction( final ClientProperties pClientProperties ) {
+        return ActionFactory
+                .makeAction( pClientProperties, BUNDLE_NAME, "view", "directivityCharts", null );
+    }
+
+    @SuppressWarnings("nls")
+    public static final XAction getDirectivityMapAction( final ClientProperties pClientProperties ) {
+        return ActionFactory
+                .makeAction( pClientProperties, BUNDLE_NAME, "view", "directivityMap", null );
+    }
+
+    @SuppressWarnings("nls")
+    public static final XAction getSetDifferenceReferenceAction( final ClientProperties pClientProperties ) {
+        return ActionFactory
+                .makeAction( pClientProperties, BUNDLE_NAME, "view", "setDifferenceReference", null );
+    }
+
+    @SuppressWarnings("nls")
+    public static final XAction getClearDifferenceReferenceAction( final ClientProperties pClientProperties ) {
+        return ActionFactory
+                .makeAction( pClientProperties, BUNDLE_NAME, "view", "clearDifferenceReference", null );
+    }
+
+    @SuppressWarnings("nls")
+    public static final XAction getOpenSessionArchiveAction( final ClientProperties pClientProperties ) {
+        return ActionFactory
+                .makeAction( pClientProperties, BUNDLE_NAME, "session", "openArchive", null );
+    }
+
+    @SuppressWarnings("nls")
+    public static final XAction getSaveSessionArchiveAction( final ClientProperties pClientProperties ) {
+        return ActionFactory
+                .makeAction( pClientProperties, BUNDLE_NAME, "session", "saveArchive", null );
+    }
+
+    @SuppressWarnings("nls")
+    public static final XAction getCloseSessionArchiveAction( final ClientProperties pClientProperties ) {
+        return ActionFactory
+                .makeAction( pClientProperties, BUNDLE_NAME, "session", "closeArchive", null );
+    }
+
+    @SuppressWarnings("nls")
+    public static final XAction getOpenBalloonAction( final ClientProperties pClientProperties ) {
+        return ActionFactory
+                .makeAction( pClientProperties, BUNDLE_NAME, "session", "openBalloon", null );
+    }
+
+    @SuppressWarnings("nls")
+    public static final XAction getBalloonPlanesAction( final ClientProperties pClientProperties ) {
+        return ActionFactory
+                .makeAction( pClientProperties, BUNDLE_NAME, "session", "balloonPlanes", null );
+    }
+
+    @SuppressWarnings("nls")
+    public static final XAction getCloseBalloonAction( final ClientProperties pClientProperties ) {
+        return ActionFactory
+                .makeAction( pClientProperties, BUNDLE_NAME, "session", "closeBalloon", null );
+    }
+
+    @SuppressWarnings("nls")
+    public static final XAction getImportPolarTableAction( final ClientProperties pClientProperties ) {
+        return ActionFactory
+                .makeAction( pClientProperties, BUNDLE_NAME, "session", "importPolarTable", null );
+    }
+
+    @SuppressWarnings("nls")
+    public static final XAction getExportPolarDataAction( final ClientProperties pClientProperties ) {
+        return ActionFactory
+                .makeAction( pClientProperties, BUNDLE_NAME, "session", "exportPolarData", null );
+    }
+
     @SuppressWarnings("nls")
     public static final XAction getScaleDiv10dbChoice( final ClientProperties pClientProperties ) {
         return getScaleDivChoice( pClientProperties, "div10db" );
@@ -83,6 +187,71 @@ public class PolarResponseLabeledActionFactory {
         return ActionFactory.makeChoice( pClientProperties, BUNDLE_NAME, "scale", itemName, null );
     }
 
+    @SuppressWarnings("nls")
+    public static final XAction getSmoothingNoneChoice( final ClientProperties pClientProperties ) {
+        return getSmoothingChoice( pClientProperties, "none" );
+    }
+
+    @SuppressWarnings("nls")
+    public static final XAction getSmoothing5degChoice( final ClientProperties pClientProperties ) {
+        return getSmoothingChoice( pClientProperties, "deg5" );
+    }
+
+    @SuppressWarnings("nls")
+    public static final XAction getSmoothing10degChoice( final ClientProperties pClientProperties ) {
+        return getSmoothingChoice( pClientProperties, "deg10" );
+    }
+
+    @SuppressWarnings("nls")
+    public static final XAction getSmoothing20degChoice( final ClientProperties pClientProperties ) {
+        return getSmoothingChoice( pClientProperties, "deg20" );
+    }
+
+    @SuppressWarnings("nls")
+    private static final XAction getSmoothingChoice( final ClientProperties pClientProperties,
+                                                     final String itemName ) {
+        return ActionFactory
+                .makeChoice( pClientProperties, BUNDLE_NAME, "smoothing", itemName, null );
+    }
+
+    @SuppressWarnings("nls")
+    public static final XAction getNormalizationAbsoluteChoice( final ClientProperties pClientProperties ) {
+        return getNormalizationChoice( pClientProperties, "absolute" );
+    }
+
+    @SuppressWarnings("nls")
+    public static final XAction getNormalizationOnAxisChoice( final ClientProperties pClientProperties ) {
+        return getNormalizationChoice( pClientProperties, "onAxis" );
+    }
+
+    @SuppressWarnings("nls")
+    public static final XAction getNormalizationMaximumChoice( final ClientProperties pClientProperties ) {
+        return getNormalizationChoice( pClientProperties, "maximum" );
+    }
+
+    @SuppressWarnings("nls")
+    private static final XAction getNormalizationChoice( final ClientProperties pClientProperties,
+                                                         final String itemName ) {
+        return ActionFactory
+                .makeChoice( pClientProperties, BUNDLE_NAME, "normalization", itemName, null );
+    }
+
+    @SuppressWarnings("nls")
+    public static final XActionGroup getSessionActionGroup( final ClientProperties pClientProperties,
+                                                            final PolarResponseSessionActions polarResponseSessionActions ) {
+        final Collection< Action > sessionActionCollection = polarResponseSessionActions
+                .getSessionActionCollection();
+
+        final XActionGroup sessionActionGroup = ActionFactory
+                .makeActionGroup( pClientProperties,
+                                  sessionActionCollection,
+                                  BUNDLE_NAME,
+                                  "session",
+                                  null );
+
+        return sessionActionGroup;
+    }
+
     @SuppressWarnings("nls")
     public static final XActionGroup getTestActionGroup( final ClientProperties pClientProperties,
                                                          final TestActions testActions ) {
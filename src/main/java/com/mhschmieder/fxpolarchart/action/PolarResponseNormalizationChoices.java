@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.action;
+
+import com.mhschmieder.fxcontrols.action.XAction;
+import com.mhschmieder.fxpolarchart.math.PolarResponseNormalization;
+import com.mhschmieder.jcommons.util.ClientProperties;
+import org.controlsfx.control.action.Action;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * This is a struct-like container for Normalization choices used by Polar
+ * Response.
+ */
+public final class PolarResponseNormalizationChoices {
+
+    public XAction _normalizationAbsoluteChoice;
+    public XAction _normalizationOnAxisChoice;
+    public XAction _normalizationMaximumChoice;
+
+    public PolarResponseNormalizationChoices( final ClientProperties pClientProperties ) {
+        _normalizationAbsoluteChoice = PolarResponseLabeledActionFactory
+                .getNormalizationAbsoluteChoice( pClientProperties );
+        _normalizationOnAxisChoice = PolarResponseLabeledActionFactory
+                .getNormalizationOnAxisChoice( pClientProperties );
+        _normalizationMaximumChoice = PolarResponseLabeledActionFactory
+                .getNormalizationMaximumChoice( pClientProperties );
+    }
+
+    public Collection< Action > getNormalizationChoiceCollection() {
+        final Collection< Action > normalizationChoiceCollection = Arrays
+                .asList( _normalizationAbsoluteChoice,
+                         _normalizationOnAxisChoice,
+                         _normalizationMaximumChoice );
+        return normalizationChoiceCollection;
+    }
+
+    public void setNormalization( final PolarResponseNormalization normalization ) {
+        // Sync up the status of all associated controls with the current
+        // Normalization by setting the appropriate action selected status.
+        switch ( normalization ) {
+        case ON_AXIS:
+            _normalizationOnAxisChoice.setSelected( true );
+            break;
+        case MAXIMUM:
+            _normalizationMaximumChoice.setSelected( true );
+            break;
+        default:
+            _normalizationAbsoluteChoice.setSelected( true );
+            break;
+        }
+    }
+}
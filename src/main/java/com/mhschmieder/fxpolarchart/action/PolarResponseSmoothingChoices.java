@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.action;
+
+import com.mhschmieder.fxcontrols.action.XAction;
+import com.mhschmieder.jcommons.util.ClientProperties;
+import org.controlsfx.control.action.Action;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * This is a struct-like container for Smoothing choices used by Polar Response.
+ */
+public final class PolarResponseSmoothingChoices {
+
+    public XAction _smoothingNoneChoice;
+    public XAction _smoothing5degChoice;
+    public XAction _smoothing10degChoice;
+    public XAction _smoothing20degChoice;
+
+    public PolarResponseSmoothingChoices( final ClientProperties pClientProperties ) {
+        _smoothingNoneChoice = PolarResponseLabeledActionFactory
+                .getSmoothingNoneChoice( pClientProperties );
+        _smoothing5degChoice = PolarResponseLabeledActionFactory
+                .getSmoothing5degChoice( pClientProperties );
+        _smoothing10degChoice = PolarResponseLabeledActionFactory
+                .getSmoothing10degChoice( pClientProperties );
+        _smoothing20degChoice = PolarResponseLabeledActionFactory
+                .getSmoothing20degChoice( pClientProperties );
+    }
+
+    public Collection< Action > getSmoothingChoiceCollection() {
+        final Collection< Action > smoothingChoiceCollection = Arrays
+                .asList( _smoothingNoneChoice,
+                         _smoothing5degChoice,
+                         _smoothing10degChoice,
+                         _smoothing20degChoice );
+        return smoothingChoiceCollection;
+    }
+
+    public void setAngularSmoothingWidth( final int angularSmoothingWidth ) {
+        // Sync up the status of all associated controls with the current
+        // Angular Smoothing Width by setting the appropriate action selected
+        // status.
+        switch ( angularSmoothingWidth ) {
+        case 5:
+            _smoothing5degChoice.setSelected( true );
+            break;
+        case 10:
+            _smoothing10degChoice.setSelected( true );
+            break;
+        case 20:
+            _smoothing20degChoice.setSelected( true );
+            break;
+        default:
+            _smoothingNoneChoice.setSelected( true );
+            break;
+        }
+    }
+}
@@ -30,7 +30,9 @@
  */
 package com.mhschmieder.fxpolarchart.action;
 
+import com.mhschmieder.fxcontrols.action.XAction;
 import com.mhschmieder.fxcontrols.action.XActionGroup;
+import com.mhschmieder.fxpolarchart.math.PolarResponseNormalization;
 import com.mhschmieder.jcommons.util.ClientProperties;
 import org.controlsfx.control.action.Action;
 
@@ -43,9 +45,25 @@ import java.util.Collection;
 public final class PolarResponseViewActions {
 
     public PolarResponseAmplitudeScaleChoices _scaleChoices;
+    public PolarResponseSmoothingChoices      _smoothingChoices;
+    public PolarResponseNormalizationChoices  _normalizationChoices;
+    public XAction                            _directivityChartsAction;
+    public XAction                            _directivityMapAction;
+    public XAction                            _setDifferenceReferenceAction;
+    public XAction                            _clearDifferenceReferenceAction;
 
     public PolarResponseViewActions( final ClientProperties pClientProperties ) {
         _scaleChoices = new PolarResponseAmplitudeScaleChoices( pClientProperties );
+        _smoothingChoices = new PolarResponseSmoothingChoices( pClientProperties );
+        _normalizationChoices = new PolarResponseNormalizationChoices( pClientProperties );
+        _directivityChartsAction = PolarResponseLabeledActionFactory
+                .getDirectivityChartsAction( pClientProperties );
+        _directivityMapAction = PolarResponseLabeledActionFactory
+                .getDirectivityMapAction( pClientProperties );
+        _setDifferenceReferenceAction = PolarResponseLabeledActionFactory
+                .getSetDifferenceReferenceAction( pClientProperties );
+        _clearDifferenceReferenceAction = PolarResponseLabeledActionFactory
+                .getClearDifferenceReferenceAction( pClientProperties );
     }
 
     public Collection< Action > getScaleChoiceCollection() {
@@ -57,7 +75,18 @@ public final class PolarResponseViewActions {
         final XActionGroup scaleChoiceGroup = PolarResponseLabeledActionFactory
                 .getScaleChoiceGroup( pClientProperties, _scaleChoices );
 
-        final Collection< Action > viewActionCollection = Arrays.asList( scaleChoiceGroup );
+        final XActionGroup smoothingChoiceGroup = PolarResponseLabeledActionFactory
+                .getSmoothingChoiceGroup( pClientProperties, _smoothingChoices );
+        final XActionGroup normalizationChoiceGroup = PolarResponseLabeledActionFactory
+                .getNormalizationChoiceGroup( pClientProperties, _normalizationChoices );
+
+        final Collection< Action > viewActionCollection = Arrays.asList( scaleChoiceGroup,
+                                                                          smoothingChoiceGroup,
+                                                                          normalizationChoiceGroup,
+                                                                          _directivityChartsAction,
+                                                                          _directivityMapAction,
+                                                                          _setDifferenceReferenceAction,
+                                                                          _clearDifferenceReferenceAction );
 
         return viewActionCollection;
     }
@@ -66,5 +95,15 @@ public final class PolarResponseViewActions {
         // Forward this method to the Scale choices container.
         _scaleChoices.setGridSpacing( gridSpacing );
     }
+
+    public void setAngularSmoothingWidth( final int angularSmoothingWidth ) {
+        // Forward this method to the Smoothing choices container.
+        _smoothingChoices.setAngularSmoothingWidth( angularSmoothingWidth );
+    }
+
+    public void setNormalization( final PolarResponseNormalization normalization ) {
+        // Forward this method to the Normalization choices container.
+        _normalizationChoices.setNormalization( normalization );
+    }
 }
 
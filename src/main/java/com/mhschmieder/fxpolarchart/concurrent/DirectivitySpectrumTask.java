@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.concurrent;
+
+import com.mhschmieder.fxpolarchart.math.DirectivityMetrics;
+import com.mhschmieder.fxpolarchart.math.DirectivityMetricsCalculator;
+import com.mhschmieder.fxpolarchart.model.PolarResponse;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A fork-join task that computes the directivity metrics for a whole batch of
+ * bands, splitting the batch in halves across the pool's worker threads.
+ * <p>
+ * Each band is independent, so the results are written straight into one
+ * shared array at the band's own position, and no merging is needed.
+ */
+public final class DirectivitySpectrumTask extends RecursiveTask< DirectivityMetrics[] > {
+
+    private static final long serialVersionUID = -6183270254516432176L;
+
+    /**
+     * The number of bands below which a task is computed on one thread, as
+     * a single band only takes a few microseconds at one degree resolution.
+     */
+    public static final int SEQUENTIAL_THRESHOLD = 8;
+
+    private final PolarResponse[] bands;
+    private final DirectivityMetrics[] directivityMetrics;
+    private final int startIndex;
+    private final int endIndex;
+
+    /**
+     * Makes a task for computing the directivity metrics for all of the bands.
+     *
+     * @param pBands The bands, in the order the results should be in
+     */
+    public DirectivitySpectrumTask( final PolarResponse[] pBands ) {
+        this( pBands, new DirectivityMetrics[ pBands.length ], 0, pBands.length );
+    }
+
+    private DirectivitySpectrumTask( final PolarResponse[] pBands,
+                                     final DirectivityMetrics[] pDirectivityMetrics,
+                                     final int pStartIndex,
+                                     final int pEndIndex ) {
+        bands = pBands;
+        directivityMetrics = pDirectivityMetrics;
+        startIndex = pStartIndex;
+        endIndex = pEndIndex;
+    }
+
+    @Override
+    protected DirectivityMetrics[] compute() {
+        if ( ( endIndex - startIndex ) <= SEQUENTIAL_THRESHOLD ) {
+            // The calculator caches its weights and is not thread-safe, so
+            // each leaf task uses its own.
+            final DirectivityMetricsCalculator directivityMetricsCalculator =
+                    new DirectivityMetricsCalculator();
+            for ( int i = startIndex; i < endIndex; i++ ) {
+                final PolarResponse band = bands[ i ];
+                directivityMetrics[ i ] = directivityMetricsCalculator
+                        .calculate( band.getHorizontalAmplitude(),
+                                    band.getVerticalAmplitude(),
+                                    band.getCenterFrequency() );
+            }
+        }
+        else {
+            final int middleIndex = ( startIndex + endIndex ) >>> 1;
+            final DirectivitySpectrumTask lowerTask =
+                    new DirectivitySpectrumTask( bands, directivityMetrics, startIndex, middleIndex );
+            final DirectivitySpectrumTask upperTask =
+                    new DirectivitySpectrumTask( bands, directivityMetrics, middleIndex, endIndex );
+            lowerTask.fork();
+            upperTask.compute();
+            lowerTask.join();
+        }
+
+        return directivityMetrics;
+    }
+}
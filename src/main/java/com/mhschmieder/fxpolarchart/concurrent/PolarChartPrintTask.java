@@ -0,0 +1,192 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.concurrent;
+
+import com.mhschmieder.fxpolarchart.model.PolarResponse;
+import javafx.concurrent.Task;
+
+import javax.swing.JComponent;
+import java.awt.EventQueue;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.print.PageFormat;
+import java.awt.print.Pageable;
+import java.awt.print.Printable;
+import java.awt.print.PrinterException;
+import java.awt.print.PrinterJob;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A task that prints polar charts, one page per response, without holding
+ * up either the JavaFX Application Thread or the AWT Event Dispatch Thread.
+ * <p>
+ * The print dialog, the rendering of the pages and the spooling all happen
+ * on this task's thread. Each page is rendered from an immutable response
+ * snapshot, via a dedicated offscreen component that is made on the Event
+ * Dispatch Thread when the printer job first asks for the page, so that a
+ * job of many bands or models never needs all of its pages at once.
+ */
+public final class PolarChartPrintTask extends Task< Boolean > {
+
+    private final PrinterJob                              printerJob;
+    private final PageFormat                              pageFormat;
+    private final List< PolarResponse >                   polarResponses;
+    private final Function< PolarResponse, JComponent >   pageSourceFactory;
+
+    // Keep the component for the page the printer job is on, as a job can
+    // ask for the same page more than once, such as when banding.
+    private int                                           pageSourceIndex;
+    private JComponent                                    pageSource;
+
+    /**
+     * Makes a task to print polar charts.
+     *
+     * @param pPrinterJob The printer job to print with
+     * @param pPageFormat The page format to print every page with
+     * @param pPolarResponses The responses to print, one per page
+     * @param pPageSourceFactory The maker of an offscreen component that
+     *            shows a response, which is invoked on the Event Dispatch
+     *            Thread
+     */
+    public PolarChartPrintTask( final PrinterJob pPrinterJob,
+                                final PageFormat pPageFormat,
+                                final List< PolarResponse > pPolarResponses,
+                                final Function< PolarResponse, JComponent > pPageSourceFactory ) {
+        printerJob = pPrinterJob;
+        pageFormat = pPageFormat;
+        polarResponses = new ArrayList<>( pPolarResponses );
+        pageSourceFactory = pPageSourceFactory;
+        pageSourceIndex = -1;
+        pageSource = null;
+    }
+
+    /**
+     * Shows the print dialog, then prints all of the pages if the user
+     * accepts it.
+     *
+     * @return {@code true} if the job was printed, or {@code false} if the
+     *         user dismissed the print dialog or cancelled the job
+     */
+    @Override
+    protected Boolean call() throws Exception {
+        final int numberOfPages = polarResponses.size();
+        printerJob.setPageable( new Pageable() {
+            @Override
+            public int getNumberOfPages() {
+                return numberOfPages;
+            }
+
+            @Override
+            public PageFormat getPageFormat( final int pageIndex ) {
+                return pageFormat;
+            }
+
+            @Override
+            public Printable getPrintable( final int pageIndex ) {
+                return PolarChartPrintTask.this::printPage;
+            }
+        } );
+
+        // NOTE: The print dialog is modal to this thread only, which leaves
+        //  the viewer responsive while it is up.
+        updateMessage( "Waiting for Print Dialog" ); //$NON-NLS-1$
+        if ( !printerJob.printDialog() ) {
+            return Boolean.FALSE;
+        }
+
+        updateProgress( 0L, numberOfPages );
+        printerJob.print();
+
+        return Boolean.valueOf( !isCancelled() && !printerJob.isCancelled() );
+    }
+
+    @Override
+    protected void cancelled() {
+        printerJob.cancel();
+    }
+
+    // Render one page, scaled to fit the imageable area of the page while
+    // keeping the aspect ratio of the chart.
+    private int printPage( final Graphics graphics,
+                           final PageFormat pagePageFormat,
+                           final int pageIndex )
+            throws PrinterException {
+        if ( ( pageIndex >= polarResponses.size() ) || isCancelled() ) {
+            return Printable.NO_SUCH_PAGE;
+        }
+
+        if ( pageIndex != pageSourceIndex ) {
+            pageSource = makePageSource( polarResponses.get( pageIndex ) );
+            pageSourceIndex = pageIndex;
+            updateMessage( "Printing Page " + ( pageIndex + 1 ) //$NON-NLS-1$
+                    + " of " + polarResponses.size() ); //$NON-NLS-1$
+            updateProgress( pageIndex, polarResponses.size() );
+        }
+
+        final double scaleFactor = Math.min( pagePageFormat.getImageableWidth()
+                / pageSource.getWidth(), pagePageFormat.getImageableHeight()
+                        / pageSource.getHeight() );
+
+        final Graphics2D graphics2D = ( Graphics2D ) graphics.create();
+        try {
+            graphics2D.translate( pagePageFormat.getImageableX(),
+                                  pagePageFormat.getImageableY() );
+            graphics2D.scale( scaleFactor, scaleFactor );
+            pageSource.print( graphics2D );
+        }
+        finally {
+            graphics2D.dispose();
+        }
+
+        return Printable.PAGE_EXISTS;
+    }
+
+    // Make the offscreen component for a page on the Event Dispatch Thread,
+    // after which it is only touched by this thread.
+    private JComponent makePageSource( final PolarResponse polarResponse )
+            throws PrinterException {
+        final JComponent[] madePageSource = new JComponent[ 1 ];
+        try {
+            EventQueue.invokeAndWait( () -> madePageSource[ 0 ] = pageSourceFactory
+                    .apply( polarResponse ) );
+        }
+        catch ( final Exception e ) {
+            final PrinterException printerException =
+                    new PrinterException( "Page Rendering Failed" ); //$NON-NLS-1$
+            printerException.initCause( e );
+            throw printerException;
+        }
+
+        return madePageSource[ 0 ];
+    }
+}
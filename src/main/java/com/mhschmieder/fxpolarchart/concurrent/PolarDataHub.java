@@ -0,0 +1,207 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.concurrent;
+
+import com.mhschmieder.fxpolarchart.model.PolarResponseCache;
+import com.mhschmieder.fxpolarchart.model.PolarResponseKey;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An application-wide hub for polar response data, which is shared by all of
+ * the Polar Response Viewers in an application, such as one per loudspeaker
+ * in a system design.
+ * <p>
+ * The hub holds one response cache, one priority-aware scheduler for server
+ * requests with a bounded pool of threads, and a registry of the requests in
+ * flight, so that when several viewers ask for the same band of the same
+ * model at once, only the first one makes the network call and the others
+ * wait for it to fill the cache.
+ * <p>
+ * The request registry must only be used on the JavaFX Application Thread,
+ * where the viewers start and finish their requests, so it needs no locking.
+ */
+public final class PolarDataHub {
+
+    /**
+     * The default maximum number of server requests in flight at once, across
+     * all of the viewers that share a hub.
+     */
+    public static final int DEFAULT_MAXIMUM_CONCURRENT_REQUESTS = 4;
+
+    // Share one hub across the application, unless a client makes its own.
+    private static final PolarDataHub SHARED_HUB = new PolarDataHub();
+
+    /**
+     * Returns the hub that is shared across the application.
+     *
+     * @return The shared hub
+     */
+    public static PolarDataHub getSharedHub() {
+        return SHARED_HUB;
+    }
+
+    // Keep track of which viewer is making the request for a band, and which
+    // others are waiting on it, in the order that they started waiting.
+    private static final class InFlightRequest {
+
+        private final Object owner;
+        private final Map< Object, Runnable > waiters = new LinkedHashMap<>();
+
+        private InFlightRequest( final Object pOwner ) {
+            owner = pOwner;
+        }
+    }
+
+    private final PolarResponseCache polarResponseCache;
+    private final PolarRequestScheduler requestScheduler;
+    private final Map< PolarResponseKey, InFlightRequest > inFlightRequests;
+
+    // Count the requests that were started and those that were deduplicated.
+    private long numberOfRequestsStarted;
+    private long numberOfRequestsDeduplicated;
+
+    public PolarDataHub() {
+        this( new PolarResponseCache(), DEFAULT_MAXIMUM_CONCURRENT_REQUESTS );
+    }
+
+    public PolarDataHub( final PolarResponseCache pPolarResponseCache,
+                         final int maximumConcurrentRequests ) {
+        polarResponseCache = pPolarResponseCache;
+        requestScheduler = new PolarRequestScheduler( maximumConcurrentRequests );
+
+        inFlightRequests = new HashMap<>();
+    }
+
+    /**
+     * Returns the response cache that is shared by all of the viewers.
+     *
+     * @return The shared response cache
+     */
+    public PolarResponseCache getPolarResponseCache() {
+        return polarResponseCache;
+    }
+
+    /**
+     * Returns the priority-aware scheduler that all of the viewers' request
+     * services run on.
+     *
+     * @return The shared request scheduler
+     */
+    public PolarRequestScheduler getRequestScheduler() {
+        return requestScheduler;
+    }
+
+    /**
+     * Claims the server request for a band, unless another viewer already
+     * has it in flight, in which case the caller is notified once that
+     * request settles, whether it succeeded or not.
+     * <p>
+     * This method must be called on the JavaFX Application Thread.
+     *
+     * @param polarResponseKey The key of the band to request
+     * @param owner The viewer that wants to make the request
+     * @param onSettled The notification to run on the JavaFX Application
+     *            Thread if another viewer already has the request in flight
+     * @return {@code true} if the caller should make the request, and must
+     *         then end it once it settles
+     */
+    public boolean beginRequest( final PolarResponseKey polarResponseKey,
+                                 final Object owner,
+                                 final Runnable onSettled ) {
+        final InFlightRequest inFlightRequest = inFlightRequests.get( polarResponseKey );
+        if ( ( inFlightRequest == null ) || ( inFlightRequest.owner == owner ) ) {
+            if ( inFlightRequest == null ) {
+                inFlightRequests.put( polarResponseKey, new InFlightRequest( owner ) );
+            }
+            numberOfRequestsStarted++;
+            return true;
+        }
+
+        inFlightRequest.waiters.put( owner, onSettled );
+        numberOfRequestsDeduplicated++;
+        return false;
+    }
+
+    /**
+     * Stops waiting on another viewer's request for a band, such as when the
+     * waiting viewer moves on to another band or is closed, so that its
+     * notification is dropped rather than run against stale state later.
+     * This does nothing if the caller isn't waiting on the band.
+     * <p>
+     * This method must be called on the JavaFX Application Thread.
+     *
+     * @param polarResponseKey The key of the awaited band
+     * @param owner The viewer that was waiting on the request
+     */
+    public void cancelWait( final PolarResponseKey polarResponseKey, final Object owner ) {
+        final InFlightRequest inFlightRequest = inFlightRequests.get( polarResponseKey );
+        if ( inFlightRequest != null ) {
+            inFlightRequest.waiters.remove( owner );
+        }
+    }
+
+    /**
+     * Ends a claimed request, whether it succeeded, failed or was cancelled,
+     * and notifies any viewers that were waiting on it. This does nothing if
+     * the caller doesn't own the request for the band.
+     * <p>
+     * This method must be called on the JavaFX Application Thread.
+     *
+     * @param polarResponseKey The key of the requested band
+     * @param owner The viewer that made the request
+     */
+    public void endRequest( final PolarResponseKey polarResponseKey, final Object owner ) {
+        final InFlightRequest inFlightRequest = inFlightRequests.get( polarResponseKey );
+        if ( ( inFlightRequest == null ) || ( inFlightRequest.owner != owner ) ) {
+            return;
+        }
+
+        inFlightRequests.remove( polarResponseKey );
+        for ( final Runnable waiter : inFlightRequest.waiters.values() ) {
+            waiter.run();
+        }
+    }
+
+    public int getNumberOfRequestsInFlight() {
+        return inFlightRequests.size();
+    }
+
+    public long getNumberOfRequestsStarted() {
+        return numberOfRequestsStarted;
+    }
+
+    public long getNumberOfRequestsDeduplicated() {
+        return numberOfRequestsDeduplicated;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.concurrent;
+
+import com.mhschmieder.fxpolarchart.net.PolarDataRequestParameters;
+import com.mhschmieder.jcommons.net.DataServerResponse;
+import com.mhschmieder.jcommons.net.HttpServletRequestProperties;
+import com.mhschmieder.jcommons.security.LoginCredentials;
+import com.mhschmieder.jcommons.util.ClientProperties;
+
+import java.net.HttpURLConnection;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A client-side load test harness for the Polar Response data request
+ * pipeline, which replays an interaction trace against a local or remote
+ * servlet at a configurable rate and concurrency.
+ * <p>
+ * Each request is made and run through the same Polar Data Request Task and
+ * Polar Data Request Parameters that the Polar Response Viewer uses, so that
+ * the measured latency reflects real client behaviour rather than a synthetic
+ * HTTP client.
+ * <p>
+ * NOTE: As the task is a JavaFX Task, the JavaFX Toolkit must already be
+ *  running when this harness is used, which is always the case when it is
+ *  invoked from within an application that hosts the viewer.
+ */
+public final class PolarDataLoadTestHarness {
+
+    /**
+     * Use a pseudo HTTP Response Code for requests that failed before a
+     * response was received, so that they still show up in the summary.
+     */
+    public static final int NO_RESPONSE_CODE = 0;
+
+    /**
+     * Cache the Server Request Properties, which identify the endpoint.
+     */
+    private final HttpServletRequestProperties httpServletRequestProperties;
+
+    // Cache the full Session Context (System Type, Locale, Client Type, etc.).
+    private final ClientProperties clientProperties;
+
+    // Cache the Login Credentials to attach to every request.
+    private final LoginCredentials loginCredentials;
+
+    public PolarDataLoadTestHarness( final HttpServletRequestProperties pServerRequestProperties,
+                                     final ClientProperties pClientProperties,
+                                     final LoginCredentials pLoginCredentials ) {
+        httpServletRequestProperties = pServerRequestProperties;
+        clientProperties = pClientProperties;
+        loginCredentials = pLoginCredentials;
+    }
+
+    /**
+     * Replays an interaction trace and blocks until every request completes.
+     *
+     * @param trace The interaction trace to replay
+     * @param requestsPerSecond The rate at which to issue requests, or zero to
+     *            issue them as fast as the concurrency limit allows
+     * @param concurrency The maximum number of requests in flight at once
+     * @return A summary of latency, throughput and errors for the run
+     * @throws InterruptedException If the calling thread is interrupted while
+     *             waiting for the run to complete
+     */
+    public PolarDataLoadTestReport run( final PolarDataRequestTrace trace,
+                                        final double requestsPerSecond,
+                                        final int concurrency )
+            throws InterruptedException {
+        final List< PolarDataRequestTrace.Step > steps = trace.getSteps();
+        final int numberOfRequests = steps.size();
+
+        // Each request writes to its own slot, and the executor shutdown
+        // guarantees visibility of all slots once the run is complete.
+        final long[] latencyNanoseconds = new long[ numberOfRequests ];
+        final long[] serviceTimeNanoseconds = new long[ numberOfRequests ];
+        final int[] httpResponseCodes = new int[ numberOfRequests ];
+        final AtomicInteger numberOfErrors = new AtomicInteger( 0 );
+        final AtomicLong totalBytesReceived = new AtomicLong( 0L );
+
+        final int numberOfThreads = Math.max( 1, concurrency );
+        final ExecutorService executorService = Executors
+                .newFixedThreadPool( numberOfThreads, runnable -> {
+                    final Thread thread = new Thread( runnable, "PolarDataLoadTest" ); //$NON-NLS-1$
+                    thread.setDaemon( true );
+                    return thread;
+                } );
+
+        final long intervalNanoseconds = ( requestsPerSecond > 0.0d )
+            ? Math.round( 1.0e9d / requestsPerSecond )
+            : 0L;
+        final long startTime = System.nanoTime();
+        try {
+            for ( int i = 0; i < numberOfRequests; i++ ) {
+                // Pace the requests against the ideal schedule rather than the
+                // previous request, so that slow submissions don't lower the
+                // offered rate.
+                final long scheduledTime = startTime + ( i * intervalNanoseconds );
+                long delay;
+                while ( ( delay = scheduledTime - System.nanoTime() ) > 0L ) {
+                    LockSupport.parkNanos( delay );
+                    if ( Thread.interrupted() ) {
+                        throw new InterruptedException();
+                    }
+                }
+
+                final int requestIndex = i;
+                final PolarDataRequestTrace.Step step = steps.get( i );
+                executorService.execute( () -> {
+                    final long requestStartTime = System.nanoTime();
+                    final int httpResponseCode = runRequest( step, totalBytesReceived );
+                    final long requestEndTime = System.nanoTime();
+
+                    latencyNanoseconds[ requestIndex ] = requestEndTime - scheduledTime;
+                    serviceTimeNanoseconds[ requestIndex ] = requestEndTime - requestStartTime;
+                    httpResponseCodes[ requestIndex ] = httpResponseCode;
+                    if ( httpResponseCode != HttpURLConnection.HTTP_OK ) {
+                        numberOfErrors.incrementAndGet();
+                    }
+                } );
+            }
+        }
+        finally {
+            executorService.shutdown();
+        }
+
+        executorService.awaitTermination( Long.MAX_VALUE, TimeUnit.NANOSECONDS );
+        final long elapsedTime = System.nanoTime() - startTime;
+
+        final SortedMap< Integer, Integer > httpResponseCodeCounts = new TreeMap<>();
+        for ( final int httpResponseCode : httpResponseCodes ) {
+            httpResponseCodeCounts.merge( httpResponseCode, 1, Integer::sum );
+        }
+
+        return new PolarDataLoadTestReport( latencyNanoseconds,
+                                            serviceTimeNanoseconds,
+                                            numberOfErrors.get(),
+                                            elapsedTime,
+                                            totalBytesReceived.get(),
+                                            requestsPerSecond,
+                                            numberOfThreads,
+                                            httpResponseCodeCounts );
+    }
+
+    // Run a single request to completion on the calling thread, and return
+    // its HTTP Response Code.
+    private int runRequest( final PolarDataRequestTrace.Step step,
+                            final AtomicLong totalBytesReceived ) {
+        final PolarDataRequestParameters polarDataRequestParameters =
+                new PolarDataRequestParameters( loginCredentials,
+                                                step.getAcousticSourceModel(),
+                                                step.makeFrequencyRange() );
+        final PolarDataRequestTask polarDataRequestTask =
+                new PolarDataRequestTask( httpServletRequestProperties,
+                                          polarDataRequestParameters,
+                                          clientProperties );
+        try {
+            polarDataRequestTask.run();
+            final DataServerResponse dataServerResponse = polarDataRequestTask.get();
+            if ( dataServerResponse == null ) {
+                return NO_RESPONSE_CODE;
+            }
+
+            final byte[] serverResponseData = dataServerResponse.getServerResponseData();
+            if ( serverResponseData != null ) {
+                totalBytesReceived.addAndGet( serverResponseData.length );
+            }
+
+            return dataServerResponse.getHttpResponseCode();
+        }
+        catch ( final Exception e ) {
+            return NO_RESPONSE_CODE;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.concurrent;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * An immutable summary of one run of the Polar Data load test harness.
+ * <p>
+ * Latency is measured from the time each request was scheduled to be issued
+ * rather than from when a worker picked it up, so that queueing delay at the
+ * client is not hidden when the server falls behind the offered rate.
+ */
+public final class PolarDataLoadTestReport {
+
+    private final int numberOfRequests;
+    private final int numberOfErrors;
+    private final long elapsedTimeNanoseconds;
+    private final long totalBytesReceived;
+    private final double requestsPerSecondOffered;
+    private final int concurrency;
+
+    // Keep the latencies sorted, for cheap percentile lookups.
+    private final long[] sortedLatencyNanoseconds;
+    private final long[] sortedServiceTimeNanoseconds;
+
+    private final SortedMap< Integer, Integer > httpResponseCodeCounts;
+
+    public PolarDataLoadTestReport( final long[] pLatencyNanoseconds,
+                                    final long[] pServiceTimeNanoseconds,
+                                    final int pNumberOfErrors,
+                                    final long pElapsedTimeNanoseconds,
+                                    final long pTotalBytesReceived,
+                                    final double pRequestsPerSecondOffered,
+                                    final int pConcurrency,
+                                    final SortedMap< Integer, Integer > pHttpResponseCodeCounts ) {
+        numberOfRequests = pLatencyNanoseconds.length;
+        numberOfErrors = pNumberOfErrors;
+        elapsedTimeNanoseconds = pElapsedTimeNanoseconds;
+        totalBytesReceived = pTotalBytesReceived;
+        requestsPerSecondOffered = pRequestsPerSecondOffered;
+        concurrency = pConcurrency;
+
+        sortedLatencyNanoseconds = pLatencyNanoseconds.clone();
+        Arrays.sort( sortedLatencyNanoseconds );
+        sortedServiceTimeNanoseconds = pServiceTimeNanoseconds.clone();
+        Arrays.sort( sortedServiceTimeNanoseconds );
+
+        httpResponseCodeCounts = Collections
+                .unmodifiableSortedMap( new TreeMap<>( pHttpResponseCodeCounts ) );
+    }
+
+    public int getNumberOfRequests() {
+        return numberOfRequests;
+    }
+
+    public int getNumberOfErrors() {
+        return numberOfErrors;
+    }
+
+    public double getElapsedTimeSeconds() {
+        return elapsedTimeNanoseconds * 1.0e-9d;
+    }
+
+    public long getTotalBytesReceived() {
+        return totalBytesReceived;
+    }
+
+    public double getThroughputRequestsPerSecond() {
+        return ( elapsedTimeNanoseconds > 0L )
+            ? numberOfRequests / getElapsedTimeSeconds()
+            : 0.0d;
+    }
+
+    /**
+     * Returns the requested latency percentile, using the nearest-rank method.
+     *
+     * @param percentile The percentile to look up, from 0 to 100
+     * @return The latency at the requested percentile, in milliseconds
+     */
+    public double getLatencyPercentileMilliseconds( final double percentile ) {
+        return getPercentileMilliseconds( sortedLatencyNanoseconds, percentile );
+    }
+
+    /**
+     * Returns the requested service time percentile, using the nearest-rank
+     * method. Service time excludes time spent queued at the client.
+     *
+     * @param percentile The percentile to look up, from 0 to 100
+     * @return The service time at the requested percentile, in milliseconds
+     */
+    public double getServiceTimePercentileMilliseconds( final double percentile ) {
+        return getPercentileMilliseconds( sortedServiceTimeNanoseconds, percentile );
+    }
+
+    public SortedMap< Integer, Integer > getHttpResponseCodeCounts() {
+        return httpResponseCodeCounts;
+    }
+
+    private static double getPercentileMilliseconds( final long[] sortedNanoseconds,
+                                                     final double percentile ) {
+        final int numberOfSamples = sortedNanoseconds.length;
+        if ( numberOfSamples == 0 ) {
+            return 0.0d;
+        }
+
+        final int rank = ( int ) Math.ceil( 0.01d * percentile * numberOfSamples );
+        final int index = Math.max( 0, Math.min( numberOfSamples - 1, rank - 1 ) );
+        return sortedNanoseconds[ index ] * 1.0e-6d;
+    }
+
+    @SuppressWarnings("nls")
+    @Override
+    public String toString() {
+        final StringBuilder report = new StringBuilder( 512 );
+        report.append( String.format( Locale.ENGLISH,
+                                      "Polar Data Load Test: %d requests, %d errors, "
+                                              + "%d concurrent, %.1f req/s offered%n",
+                                      numberOfRequests,
+                                      numberOfErrors,
+                                      concurrency,
+                                      requestsPerSecondOffered ) );
+        report.append( String.format( Locale.ENGLISH,
+                                      "  Elapsed: %.3f s, Throughput: %.2f req/s, "
+                                              + "Received: %d bytes%n",
+                                      getElapsedTimeSeconds(),
+                                      getThroughputRequestsPerSecond(),
+                                      totalBytesReceived ) );
+        report.append( String.format( Locale.ENGLISH,
+                                      "  Latency (ms): p50 %.1f, p90 %.1f, p95 %.1f, "
+                                              + "p99 %.1f, max %.1f%n",
+                                      getLatencyPercentileMilliseconds( 50.0d ),
+                                      getLatencyPercentileMilliseconds( 90.0d ),
+                                      getLatencyPercentileMilliseconds( 95.0d ),
+                                      getLatencyPercentileMilliseconds( 99.0d ),
+                                      getLatencyPercentileMilliseconds( 100.0d ) ) );
+        report.append( String.format( Locale.ENGLISH,
+                                      "  Service Time (ms): p50 %.1f, p99 %.1f%n",
+                                      getServiceTimePercentileMilliseconds( 50.0d ),
+                                      getServiceTimePercentileMilliseconds( 99.0d ) ) );
+        report.append( "  HTTP Response Codes: " ).append( httpResponseCodeCounts );
+        return report.toString();
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.concurrent;
+
+import com.mhschmieder.jacoustics.FrequencyRange;
+import com.mhschmieder.jacoustics.RelativeBandwidth;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable, ordered list of Polar Response data requests that mimics a
+ * realistic client interaction, for replay by the load test harness.
+ * <p>
+ * The factory methods model the three interaction patterns that dominate
+ * server traffic from the Polar Response Viewer: stepping up and down through
+ * adjacent bands, switching between Acoustic Source Models at a fixed band,
+ * and sweeping every band of the Octave Range for one or more models.
+ */
+public final class PolarDataRequestTrace {
+
+    /**
+     * A single step of an interaction trace, holding just enough information
+     * to build the same Polar Data Request Parameters that the viewer builds.
+     */
+    public static final class Step {
+
+        private final String acousticSourceModel;
+        private final RelativeBandwidth relativeBandwidth;
+        private final String octaveRange;
+        private final double centerFrequency;
+
+        public Step( final String pAcousticSourceModel,
+                     final RelativeBandwidth pRelativeBandwidth,
+                     final String pOctaveRange,
+                     final double pCenterFrequency ) {
+            acousticSourceModel = pAcousticSourceModel;
+            relativeBandwidth = pRelativeBandwidth;
+            octaveRange = pOctaveRange;
+            centerFrequency = pCenterFrequency;
+        }
+
+        public String getAcousticSourceModel() {
+            return acousticSourceModel;
+        }
+
+        public RelativeBandwidth getRelativeBandwidth() {
+            return relativeBandwidth;
+        }
+
+        public String getOctaveRange() {
+            return octaveRange;
+        }
+
+        public double getCenterFrequency() {
+            return centerFrequency;
+        }
+
+        /**
+         * Returns a new Frequency Range for this step, as the request
+         * parameters hold on to it for the life of the request.
+         *
+         * @return A new Frequency Range matching this step
+         */
+        public FrequencyRange makeFrequencyRange() {
+            return new FrequencyRange( relativeBandwidth, octaveRange, centerFrequency );
+        }
+    }
+
+    private final List< Step > steps;
+
+    public PolarDataRequestTrace( final List< Step > pSteps ) {
+        steps = Collections.unmodifiableList( new ArrayList<>( pSteps ) );
+    }
+
+    public List< Step > getSteps() {
+        return steps;
+    }
+
+    public int size() {
+        return steps.size();
+    }
+
+    /**
+     * Returns a new trace that replays this trace the requested number of
+     * times in succession.
+     *
+     * @param numberOfRepetitions The number of times to replay this trace
+     * @return A new trace that replays this trace the requested number of times
+     */
+    public PolarDataRequestTrace repeat( final int numberOfRepetitions ) {
+        final List< Step > repeatedSteps = new ArrayList<>( steps.size()
+                * Math.max( 0, numberOfRepetitions ) );
+        for ( int i = 0; i < numberOfRepetitions; i++ ) {
+            repeatedSteps.addAll( steps );
+        }
+        return new PolarDataRequestTrace( repeatedSteps );
+    }
+
+    /**
+     * Returns a new trace that replays this trace followed by another trace.
+     *
+     * @param trace The trace to append to this trace
+     * @return A new trace that replays this trace followed by the other trace
+     */
+    public PolarDataRequestTrace concatenate( final PolarDataRequestTrace trace ) {
+        final List< Step > concatenatedSteps = new ArrayList<>( steps.size() + trace.size() );
+        concatenatedSteps.addAll( steps );
+        concatenatedSteps.addAll( trace.steps );
+        return new PolarDataRequestTrace( concatenatedSteps );
+    }
+
+    /**
+     * Makes a trace that steps one band at a time from the lowest to the
+     * highest Center Frequency and back down again, as a user does when
+     * arrowing through the Center Frequency Selector.
+     *
+     * @param acousticSourceModel The Acoustic Source Model to request
+     * @param relativeBandwidth The Relative Bandwidth of each band
+     * @param octaveRange The Octave Range that the bands belong to
+     * @param centerFrequencies The band Center Frequencies, in ascending order
+     * @return A trace that steps up and back down through all of the bands
+     */
+    public static PolarDataRequestTrace makeBandSteppingTrace( final String acousticSourceModel,
+                                                               final RelativeBandwidth relativeBandwidth,
+                                                               final String octaveRange,
+                                                               final List< Double > centerFrequencies ) {
+        final int numberOfBands = centerFrequencies.size();
+        final List< Step > steps = new ArrayList<>( 2 * numberOfBands );
+        for ( int i = 0; i < numberOfBands; i++ ) {
+            steps.add( new Step( acousticSourceModel,
+                                 relativeBandwidth,
+                                 octaveRange,
+                                 centerFrequencies.get( i ) ) );
+        }
+        for ( int i = numberOfBands - 2; i >= 0; i-- ) {
+            steps.add( new Step( acousticSourceModel,
+                                 relativeBandwidth,
+                                 octaveRange,
+                                 centerFrequencies.get( i ) ) );
+        }
+        return new PolarDataRequestTrace( steps );
+    }
+
+    /**
+     * Makes a trace that switches between Acoustic Source Models at a fixed
+     * band, as a user does when comparing products at a frequency of concern.
+     *
+     * @param acousticSourceModels The Acoustic Source Models to cycle through
+     * @param relativeBandwidth The Relative Bandwidth of the band
+     * @param octaveRange The Octave Range that the band belongs to
+     * @param centerFrequency The Center Frequency of the band
+     * @return A trace that switches once through all of the models
+     */
+    public static PolarDataRequestTrace makeModelSwitchingTrace( final List< String > acousticSourceModels,
+                                                                 final RelativeBandwidth relativeBandwidth,
+                                                                 final String octaveRange,
+                                                                 final double centerFrequency ) {
+        final List< Step > steps = new ArrayList<>( acousticSourceModels.size() );
+        for ( final String acousticSourceModel : acousticSourceModels ) {
+            steps.add( new Step( acousticSourceModel,
+                                 relativeBandwidth,
+                                 octaveRange,
+                                 centerFrequency ) );
+        }
+        return new PolarDataRequestTrace( steps );
+    }
+
+    /**
+     * Makes a trace that sweeps every band of the Octave Range in ascending
+     * order for each Acoustic Source Model in turn, as is done when building
+     * up a full frequency-dependent picture of each model.
+     *
+     * @param acousticSourceModels The Acoustic Source Models to sweep
+     * @param relativeBandwidth The Relative Bandwidth of each band
+     * @param octaveRange The Octave Range that the bands belong to
+     * @param centerFrequencies The band Center Frequencies, in ascending order
+     * @return A trace that sweeps all of the bands for each model
+     */
+    public static PolarDataRequestTrace makeSweepTrace( final List< String > acousticSourceModels,
+                                                        final RelativeBandwidth relativeBandwidth,
+                                                        final String octaveRange,
+                                                        final List< Double > centerFrequencies ) {
+        final List< Step > steps = new ArrayList<>( acousticSourceModels.size()
+                * centerFrequencies.size() );
+        for ( final String acousticSourceModel : acousticSourceModels ) {
+            for ( final Double centerFrequency : centerFrequencies ) {
+                steps.add( new Step( acousticSourceModel,
+                                     relativeBandwidth,
+                                     octaveRange,
+                                     centerFrequency ) );
+            }
+        }
+        return new PolarDataRequestTrace( steps );
+    }
+}
@@ -0,0 +1,371 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.concurrent;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+
+/**
+ * A priority-aware scheduler for polar data requests, which runs them on a
+ * fixed pool of daemon worker threads.
+ * <p>
+ * Queued requests are always dispatched in order of their priority class,
+ * and in first-come, first-served order within a class. A queued request
+ * can be promoted to a higher class, such as when the user navigates to a
+ * band that is being prefetched, which moves it ahead of the rest.
+ * <p>
+ * Each class also has its own concurrency limit. Running requests can't be
+ * safely preempted part-way through a network transfer, so by default the
+ * background classes are limited such that at least one worker is always
+ * left free for interactive requests.
+ * <p>
+ * The scheduler keeps queue wait time statistics by class, as that is what
+ * shows whether foreground requests are being held up.
+ */
+public final class PolarRequestScheduler implements Executor {
+
+    /**
+     * A handle on a request that has been submitted to the scheduler.
+     */
+    public final class ScheduledRequest {
+
+        private final Runnable command;
+        private final Runnable onCancelled;
+        private PolarRequestPriority priority;
+        private final long submissionTimeNanos;
+        private boolean started;
+        private boolean cancelled;
+
+        private ScheduledRequest( final Runnable pCommand,
+                                  final PolarRequestPriority pPriority,
+                                  final Runnable pOnCancelled ) {
+            command = pCommand;
+            onCancelled = pOnCancelled;
+            priority = pPriority;
+            submissionTimeNanos = System.nanoTime();
+            started = false;
+            cancelled = false;
+        }
+
+        /**
+         * Returns the current priority class of this request.
+         *
+         * @return The current priority class of this request
+         */
+        public PolarRequestPriority getPriority() {
+            synchronized ( PolarRequestScheduler.this ) {
+                return priority;
+            }
+        }
+
+        /**
+         * Moves this request up to a higher priority class, if it is still
+         * queued. It then queues behind the requests already in that class.
+         *
+         * @param pPriority The priority class to promote this request to
+         * @return {@code true} if the request was still queued
+         */
+        public boolean promote( final PolarRequestPriority pPriority ) {
+            synchronized ( PolarRequestScheduler.this ) {
+                if ( started || cancelled ) {
+                    return false;
+                }
+                if ( pPriority.ordinal() < priority.ordinal() ) {
+                    queues[ priority.ordinal() ].remove( this );
+                    priority = pPriority;
+                    queues[ priority.ordinal() ].addLast( this );
+                    PolarRequestScheduler.this.notifyAll();
+                }
+                return true;
+            }
+        }
+
+        /**
+         * Removes this request from the queue, if it hasn't started yet, and
+         * then runs its cancellation callback, if any, on the calling thread.
+         * <p>
+         * Exactly one of the request and its cancellation callback is run, so
+         * a request that holds a resource, such as a claim on a band in the
+         * Polar Data Hub, can always release it from one or the other.
+         *
+         * @return {@code true} if the request was still queued
+         */
+        public boolean cancel() {
+            synchronized ( PolarRequestScheduler.this ) {
+                if ( started || cancelled ) {
+                    return false;
+                }
+                queues[ priority.ordinal() ].remove( this );
+                cancelled = true;
+            }
+
+            // Run the callback outside the lock, as it may submit more work.
+            if ( onCancelled != null ) {
+                onCancelled.run();
+            }
+            return true;
+        }
+
+        public boolean isStarted() {
+            synchronized ( PolarRequestScheduler.this ) {
+                return started;
+            }
+        }
+    }
+
+    private static final int NUMBER_OF_PRIORITIES = PolarRequestPriority.values().length;
+
+    // Keep one queue per priority class, indexed by ordinal.
+    private final ArrayDeque< ScheduledRequest >[] queues;
+
+    // Keep the concurrency limits and the number of running requests per
+    // priority class.
+    private final int[] concurrencyLimits;
+    private final int[] numberOfRunningRequests;
+
+    // Keep the queue wait time statistics per priority class.
+    private final long[] numberOfRequestsStarted;
+    private final long[] totalQueueWaitNanos;
+    private final long[] maximumQueueWaitNanos;
+
+    private final int numberOfWorkers;
+
+    @SuppressWarnings("unchecked")
+    public PolarRequestScheduler( final int pNumberOfWorkers ) {
+        numberOfWorkers = Math.max( 1, pNumberOfWorkers );
+
+        queues = new ArrayDeque[ NUMBER_OF_PRIORITIES ];
+        for ( int i = 0; i < NUMBER_OF_PRIORITIES; i++ ) {
+            queues[ i ] = new ArrayDeque<>();
+        }
+
+        // Start the background classes off well below the number of workers.
+        concurrencyLimits = new int[ NUMBER_OF_PRIORITIES ];
+        concurrencyLimits[ PolarRequestPriority.INTERACTIVE.ordinal() ] = numberOfWorkers;
+        concurrencyLimits[ PolarRequestPriority.PREFETCH.ordinal() ] = Math
+                .max( 1, numberOfWorkers / 2 );
+        concurrencyLimits[ PolarRequestPriority.BULK.ordinal() ] = Math
+                .max( 1, numberOfWorkers / 4 );
+
+        numberOfRunningRequests = new int[ NUMBER_OF_PRIORITIES ];
+        numberOfRequestsStarted = new long[ NUMBER_OF_PRIORITIES ];
+        totalQueueWaitNanos = new long[ NUMBER_OF_PRIORITIES ];
+        maximumQueueWaitNanos = new long[ NUMBER_OF_PRIORITIES ];
+
+        // Use daemon threads, so that idle workers never hold up shutdown.
+        for ( int i = 0; i < numberOfWorkers; i++ ) {
+            final Thread worker = new Thread( this::runWorker,
+                                              "PolarDataRequest-" //$NON-NLS-1$
+                                                      + ( i + 1 ) );
+            worker.setDaemon( true );
+            worker.start();
+        }
+    }
+
+    /**
+     * Runs a request as an interactive one.
+     */
+    @Override
+    public void execute( final Runnable command ) {
+        submit( command, PolarRequestPriority.INTERACTIVE );
+    }
+
+    /**
+     * Queues a request in the given priority class.
+     *
+     * @param command The request to run
+     * @param priority The priority class of the request
+     * @return A handle for promoting or cancelling the request while queued
+     */
+    public ScheduledRequest submit( final Runnable command,
+                                    final PolarRequestPriority priority ) {
+        return submit( command, priority, null );
+    }
+
+    /**
+     * Queues a request in the given priority class, with a callback that is
+     * run instead of the request if it is cancelled while still queued.
+     *
+     * @param command The request to run
+     * @param priority The priority class of the request
+     * @param onCancelled The callback to run if the request is cancelled, or
+     *            {@code null} if there is nothing to release
+     * @return A handle for promoting or cancelling the request while queued
+     */
+    public synchronized ScheduledRequest submit( final Runnable command,
+                                                 final PolarRequestPriority priority,
+                                                 final Runnable onCancelled ) {
+        final ScheduledRequest scheduledRequest = new ScheduledRequest( command,
+                                                                        priority,
+                                                                        onCancelled );
+        queues[ priority.ordinal() ].addLast( scheduledRequest );
+        notifyAll();
+        return scheduledRequest;
+    }
+
+    /**
+     * Returns an executor that queues everything in the given priority
+     * class, such as for use by a JavaFX Service.
+     *
+     * @param priority The priority class of the requests
+     * @return An executor for the given priority class
+     */
+    public Executor getExecutor( final PolarRequestPriority priority ) {
+        return command -> submit( command, priority );
+    }
+
+    /**
+     * Sets how many requests of a priority class may run at once. This is
+     * capped by the number of workers.
+     *
+     * @param priority The priority class to limit
+     * @param concurrencyLimit The maximum number of running requests
+     */
+    public synchronized void setConcurrencyLimit( final PolarRequestPriority priority,
+                                                  final int concurrencyLimit ) {
+        concurrencyLimits[ priority.ordinal() ] = Math
+                .max( 1, Math.min( concurrencyLimit, numberOfWorkers ) );
+        notifyAll();
+    }
+
+    public synchronized int getConcurrencyLimit( final PolarRequestPriority priority ) {
+        return concurrencyLimits[ priority.ordinal() ];
+    }
+
+    public int getNumberOfWorkers() {
+        return numberOfWorkers;
+    }
+
+    public synchronized int getNumberOfQueuedRequests( final PolarRequestPriority priority ) {
+        return queues[ priority.ordinal() ].size();
+    }
+
+    public synchronized int getNumberOfRunningRequests( final PolarRequestPriority priority ) {
+        return numberOfRunningRequests[ priority.ordinal() ];
+    }
+
+    public synchronized long getNumberOfRequestsStarted( final PolarRequestPriority priority ) {
+        return numberOfRequestsStarted[ priority.ordinal() ];
+    }
+
+    /**
+     * Returns the mean time that the started requests of a priority class
+     * spent queued, in milliseconds.
+     *
+     * @param priority The priority class
+     * @return The mean queue wait time, or zero if none have started
+     */
+    public synchronized double getMeanQueueWaitMilliseconds( final PolarRequestPriority priority ) {
+        final int index = priority.ordinal();
+        return ( numberOfRequestsStarted[ index ] > 0L )
+            ? ( 1.0E-6d * totalQueueWaitNanos[ index ] ) / numberOfRequestsStarted[ index ]
+            : 0.0d;
+    }
+
+    /**
+     * Returns the longest time that a started request of a priority class
+     * spent queued, in milliseconds.
+     *
+     * @param priority The priority class
+     * @return The maximum queue wait time, or zero if none have started
+     */
+    public synchronized double getMaximumQueueWaitMilliseconds( final PolarRequestPriority priority ) {
+        return 1.0E-6d * maximumQueueWaitNanos[ priority.ordinal() ];
+    }
+
+    // Take the next request that is allowed to run, which is the oldest one
+    // in the highest priority class that is under its concurrency limit.
+    // NOTE: The background classes together never take the last worker, as
+    //  long as there is more than one, whatever their individual limits.
+    private ScheduledRequest pollNextRequest() {
+        int numberOfRunningBackgroundRequests = 0;
+        for ( int i = 1; i < NUMBER_OF_PRIORITIES; i++ ) {
+            numberOfRunningBackgroundRequests += numberOfRunningRequests[ i ];
+        }
+        final boolean backgroundAllowed = ( numberOfWorkers == 1 )
+                || ( numberOfRunningBackgroundRequests < ( numberOfWorkers - 1 ) );
+
+        for ( int i = 0; i < NUMBER_OF_PRIORITIES; i++ ) {
+            if ( ( i > 0 ) && !backgroundAllowed ) {
+                break;
+            }
+            if ( !queues[ i ].isEmpty()
+                    && ( numberOfRunningRequests[ i ] < concurrencyLimits[ i ] ) ) {
+                return queues[ i ].pollFirst();
+            }
+        }
+
+        return null;
+    }
+
+    private void runWorker() {
+        for ( ;; ) {
+            final ScheduledRequest scheduledRequest;
+            final int index;
+            synchronized ( this ) {
+                ScheduledRequest nextRequest;
+                while ( ( nextRequest = pollNextRequest() ) == null ) {
+                    try {
+                        wait();
+                    }
+                    catch ( final InterruptedException ie ) {
+                        return;
+                    }
+                }
+
+                scheduledRequest = nextRequest;
+                scheduledRequest.started = true;
+                index = scheduledRequest.priority.ordinal();
+                numberOfRunningRequests[ index ]++;
+
+                final long queueWaitNanos = System.nanoTime()
+                        - scheduledRequest.submissionTimeNanos;
+                numberOfRequestsStarted[ index ]++;
+                totalQueueWaitNanos[ index ] += queueWaitNanos;
+                maximumQueueWaitNanos[ index ] = Math.max( maximumQueueWaitNanos[ index ],
+                                                           queueWaitNanos );
+            }
+
+            try {
+                scheduledRequest.command.run();
+            }
+            catch ( final RuntimeException re ) {
+                re.printStackTrace();
+            }
+            finally {
+                synchronized ( this ) {
+                    numberOfRunningRequests[ index ]--;
+                    notifyAll();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.concurrent;
+
+import com.mhschmieder.fxpolarchart.io.PngStripEncoder;
+import javafx.concurrent.Task;
+
+import javax.swing.JComponent;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A task that exports a Swing component as a high resolution PNG image,
+ * without holding up either the JavaFX Application Thread or the AWT Event
+ * Dispatch Thread.
+ * <p>
+ * The component is rendered at the requested scale in horizontal strips on
+ * a rendering thread, while this task's own thread encodes the strips that
+ * are already done, so that encoding overlaps with rendering. Only a couple
+ * of strips are held in memory at a time, however large the image.
+ * <p>
+ * NOTE: The component must be a dedicated offscreen one, that has been laid
+ *  out at its export size and is no longer touched by any other thread, as
+ *  Swing components can otherwise only be painted on the Event Dispatch
+ *  Thread.
+ */
+public final class RasterGraphicsExportTask extends Task< File > {
+
+    /**
+     * The default height of a rendered strip, in image pixels.
+     */
+    public static final int STRIP_HEIGHT_DEFAULT = 256;
+
+    // Limit how far rendering may get ahead of encoding, in strips.
+    private static final int MAXIMUM_PENDING_STRIPS = 2;
+
+    // Mark the end of the strips, whether rendering finished or failed.
+    private static final BufferedImage END_OF_STRIPS =
+            new BufferedImage( 1, 1, BufferedImage.TYPE_INT_RGB );
+
+    private final JComponent exportSource;
+    private final double     scaleFactor;
+    private final double     dotsPerInch;
+    private final File       file;
+    private final int        stripHeight;
+
+    // Keep any failure on the rendering thread, to rethrow from this task.
+    private volatile Throwable renderingFailure;
+
+    /**
+     * Makes a task to export a component as a PNG image.
+     *
+     * @param pExportSource The dedicated offscreen component to export
+     * @param pScaleFactor The number of image pixels per component pixel
+     * @param pDotsPerInch The resolution to record in the image, or zero
+     * @param pFile The file to write the image to
+     */
+    public RasterGraphicsExportTask( final JComponent pExportSource,
+                                     final double pScaleFactor,
+                                     final double pDotsPerInch,
+                                     final File pFile ) {
+        exportSource = pExportSource;
+        scaleFactor = pScaleFactor;
+        dotsPerInch = pDotsPerInch;
+        file = pFile;
+        stripHeight = STRIP_HEIGHT_DEFAULT;
+    }
+
+    @Override
+    protected File call() throws Exception {
+        final int imageWidth = ( int ) Math.ceil( exportSource.getWidth() * scaleFactor );
+        final int imageHeight = ( int ) Math.ceil( exportSource.getHeight() * scaleFactor );
+        if ( ( imageWidth <= 0 ) || ( imageHeight <= 0 ) ) {
+            throw new IOException( "Nothing to export" ); //$NON-NLS-1$
+        }
+
+        updateMessage( "Exporting " + imageWidth + " x " + imageHeight //$NON-NLS-1$ //$NON-NLS-2$
+                + " Image" ); //$NON-NLS-1$
+        updateProgress( 0L, imageHeight );
+
+        // Render on a separate thread, handing over finished strips.
+        final BlockingQueue< BufferedImage > strips =
+                new ArrayBlockingQueue<>( MAXIMUM_PENDING_STRIPS );
+        final Thread renderingThread = new Thread( () -> renderStrips( imageWidth,
+                                                                       imageHeight,
+                                                                       strips ),
+                                                   "RasterGraphicsExport" ); //$NON-NLS-1$
+        renderingThread.setDaemon( true );
+        renderingThread.start();
+
+        // Write to a temporary file first, so that a cancelled or failed
+        // export never leaves a partial image behind.
+        final File tempFile = File.createTempFile( "RasterGraphicsExport", //$NON-NLS-1$
+                                                   ".png", //$NON-NLS-1$
+                                                   file.getAbsoluteFile().getParentFile() );
+        boolean exported = false;
+        try {
+            try ( final OutputStream outputStream =
+                    new BufferedOutputStream( new FileOutputStream( tempFile ) );
+                    final PngStripEncoder pngStripEncoder = new PngStripEncoder( outputStream,
+                                                                                 imageWidth,
+                                                                                 imageHeight,
+                                                                                 dotsPerInch ) ) {
+                for ( ;; ) {
+                    final BufferedImage strip = strips.take();
+                    if ( strip == END_OF_STRIPS ) {
+                        break;
+                    }
+
+                    final int[] pixels = ( ( DataBufferInt ) strip.getRaster().getDataBuffer() )
+                            .getData();
+                    final int numberOfRows = Math.min( strip.getHeight(),
+                                                       imageHeight - pngStripEncoder
+                                                               .getNumberOfRowsWritten() );
+                    pngStripEncoder.writeRows( pixels, 0, strip.getWidth(), numberOfRows );
+                    updateProgress( pngStripEncoder.getNumberOfRowsWritten(), imageHeight );
+                }
+
+                if ( renderingFailure != null ) {
+                    throw new IOException( "Rendering Failed", renderingFailure ); //$NON-NLS-1$
+                }
+                if ( isCancelled() ) {
+                    return null;
+                }
+
+                pngStripEncoder.finish();
+            }
+
+            Files.move( tempFile.toPath(),
+                        file.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING );
+            exported = true;
+        }
+        finally {
+            renderingThread.interrupt();
+            if ( !exported ) {
+                Files.deleteIfExists( tempFile.toPath() );
+            }
+        }
+
+        return file;
+    }
+
+    // Render the component in strips, until done, cancelled or failed.
+    private void renderStrips( final int imageWidth,
+                               final int imageHeight,
+                               final BlockingQueue< BufferedImage > strips ) {
+        final Color background = exportSource.getBackground();
+        try {
+            for ( int y = 0; ( y < imageHeight ) && !isCancelled(); y += stripHeight ) {
+                final BufferedImage strip = new BufferedImage( imageWidth,
+                                                               Math.min( stripHeight,
+                                                                         imageHeight - y ),
+                                                               BufferedImage.TYPE_INT_RGB );
+
+                // Paint the whole component, shifted so that only this
+                // strip falls within the image bounds.
+                final Graphics2D graphics = strip.createGraphics();
+                try {
+                    graphics.setColor( ( background != null ) ? background : Color.WHITE );
+                    graphics.fillRect( 0, 0, strip.getWidth(), strip.getHeight() );
+                    graphics.translate( 0, -y );
+                    graphics.scale( scaleFactor, scaleFactor );
+
+                    // NOTE: Printing rather than painting bypasses the Swing
+                    //  repaint manager's back buffers, which belong to the
+                    //  Event Dispatch Thread.
+                    exportSource.print( graphics );
+                }
+                finally {
+                    graphics.dispose();
+                }
+
+                strips.put( strip );
+            }
+        }
+        catch ( final InterruptedException ie ) {
+            // The export was abandoned, so there's no one left to tell.
+            return;
+        }
+        catch ( final RuntimeException | Error e ) {
+            renderingFailure = e;
+        }
+
+        try {
+            strips.put( END_OF_STRIPS );
+        }
+        catch ( final InterruptedException ie ) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.graphics;
+
+import java.util.Locale;
+
+/**
+ * Running statistics for the paths simplified during one vector export.
+ * <p>
+ * The exported file is written by the shared graphics export code, so the
+ * size savings are estimated from the vertices dropped, at the cost of one
+ * pair of coordinates in the text-based vector formats.
+ */
+public final class PathSimplificationStatistics {
+
+    /**
+     * The estimated size of one vertex in the text-based vector formats, as
+     * two coordinates of about six digits, a separator and a path operator.
+     */
+    public static final int ESTIMATED_BYTES_PER_VERTEX = 16;
+
+    private final double tolerance;
+
+    private long numberOfPaths;
+    private long numberOfInputVertices;
+    private long numberOfOutputVertices;
+
+    public PathSimplificationStatistics( final double pTolerance ) {
+        tolerance = pTolerance;
+        numberOfPaths = 0L;
+        numberOfInputVertices = 0L;
+        numberOfOutputVertices = 0L;
+    }
+
+    /**
+     * Records one simplified path.
+     *
+     * @param inputVertices The number of vertices before simplification
+     * @param outputVertices The number of vertices after simplification
+     */
+    public void recordPath( final int inputVertices, final int outputVertices ) {
+        numberOfPaths++;
+        numberOfInputVertices += inputVertices;
+        numberOfOutputVertices += outputVertices;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public long getNumberOfPaths() {
+        return numberOfPaths;
+    }
+
+    public long getNumberOfInputVertices() {
+        return numberOfInputVertices;
+    }
+
+    public long getNumberOfOutputVertices() {
+        return numberOfOutputVertices;
+    }
+
+    /**
+     * Returns the fraction of the vertices that were dropped.
+     *
+     * @return The fraction of the vertices that were dropped, from zero to one
+     */
+    public double getVertexReduction() {
+        return ( numberOfInputVertices > 0L )
+            ? 1.0d - ( ( double ) numberOfOutputVertices / numberOfInputVertices )
+            : 0.0d;
+    }
+
+    /**
+     * Returns the estimated size of the path data that was dropped from the
+     * exported file.
+     *
+     * @return The estimated number of bytes saved
+     */
+    public long getEstimatedBytesSaved() {
+        return ESTIMATED_BYTES_PER_VERTEX * ( numberOfInputVertices - numberOfOutputVertices );
+    }
+
+    @SuppressWarnings("nls")
+    @Override
+    public String toString() {
+        return String.format( Locale.ENGLISH,
+                              "Path Simplification: %d paths, %d -> %d vertices "
+                                      + "(%.1f%% fewer) at %.3g tolerance, about %d bytes saved",
+                              numberOfPaths,
+                              numberOfInputVertices,
+                              numberOfOutputVertices,
+                              100.0d * getVertexReduction(),
+                              tolerance,
+                              getEstimatedBytesSaved() );
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.graphics;
+
+/**
+ * A level-of-detail helper for closed polar amplitude traces, which decimates
+ * high angular resolution data down to the pixel density of the chart it is
+ * drawn in, so that fine data costs no more to paint than one degree data.
+ * <p>
+ * A closed trace holds one sample per angular step from 0 to 360 degrees
+ * inclusive, with the on-axis sample repeated at 360 degrees, so the angular
+ * resolution can always be inferred from the number of data points.
+ * <p>
+ * Decimation is peak-preserving: each retained grid angle stands for a bucket
+ * of neighbouring samples, and takes whichever bucket extremum deviates most
+ * from the sample at the grid angle itself. As a bucket spans no more than a
+ * couple of pixels along the arc, moving a lobe or a null to the grid angle
+ * is invisible, whereas dropping it would not be.
+ */
+public final class PolarTraceDecimator {
+
+    /**
+     * The smallest arc length, in pixels, between adjacent drawn points.
+     */
+    public static final double MINIMUM_PIXELS_PER_POINT = 2.0d;
+
+    /**
+     * The coarsest angular resolution that decimation may produce, so that
+     * small charts still look the same as they did with one degree data.
+     */
+    public static final double MAXIMUM_DISPLAY_ANGLE_INCREMENT_DEGREES = 1.0d;
+
+    /**
+     * The finest supported angular resolution, as a divisor of 360 degrees.
+     * Angle increments must be whole multiples of a millidegree.
+     */
+    public static final int MAXIMUM_ANGULAR_RESOLUTION_DIVISOR = 360000;
+
+    /**
+     * The smallest number of angular intervals that makes a meaningful trace.
+     */
+    public static final int MINIMUM_NUMBER_OF_INTERVALS = 4;
+
+    /**
+     * The default constructor is disabled, as this is a static utilities class.
+     */
+    private PolarTraceDecimator() {}
+
+    /**
+     * Returns whether a closed polar trace with the given number of data
+     * points lies on a supported angular grid.
+     *
+     * @param numberOfDataPoints The number of data points in the closed trace
+     * @return {@code true} if the data points evenly divide the full circle
+     */
+    public static boolean isSupportedNumberOfDataPoints( final int numberOfDataPoints ) {
+        final int numberOfIntervals = numberOfDataPoints - 1;
+        return ( numberOfIntervals >= MINIMUM_NUMBER_OF_INTERVALS )
+                && ( ( MAXIMUM_ANGULAR_RESOLUTION_DIVISOR % numberOfIntervals ) == 0 );
+    }
+
+    /**
+     * Returns the angular resolution of a closed polar trace.
+     *
+     * @param numberOfDataPoints The number of data points in the closed trace
+     * @return The angle increment between data points, in degrees
+     */
+    public static double getAngleIncrementDegrees( final int numberOfDataPoints ) {
+        return 360.0d / ( numberOfDataPoints - 1 );
+    }
+
+    /**
+     * Returns the number of data points in a closed polar trace.
+     *
+     * @param angleIncrementDegrees The angle increment between data points
+     * @return The number of data points in the closed trace
+     */
+    public static int getNumberOfDataPoints( final double angleIncrementDegrees ) {
+        return ( int ) Math.round( 360.0d / angleIncrementDegrees ) + 1;
+    }
+
+    /**
+     * Returns the angles of a closed polar trace, from 0 to 360 degrees.
+     *
+     * @param numberOfDataPoints The number of data points in the closed trace
+     * @return The angle of each data point, in degrees
+     */
+    public static double[] makeAngleDegrees( final int numberOfDataPoints ) {
+        final double angleIncrementDegrees = getAngleIncrementDegrees( numberOfDataPoints );
+        final double[] angleDegrees = new double[ numberOfDataPoints ];
+        for ( int i = 0; i < numberOfDataPoints; i++ ) {
+            angleDegrees[ i ] = i * angleIncrementDegrees;
+        }
+        return angleDegrees;
+    }
+
+    /**
+     * Returns the coarsest decimation of a closed polar trace that keeps
+     * adjacent points at least the minimum pixel spacing apart at the outer
+     * radius of the chart, without exceeding the maximum display increment.
+     * <p>
+     * The factor always divides the number of angular intervals evenly, so
+     * that the decimated trace still lands on 0 and 360 degrees.
+     *
+     * @param numberOfDataPoints The number of data points in the closed trace
+     * @param radiusPixels The outer radius of the polar chart, in pixels
+     * @return The number of source intervals per drawn interval
+     */
+    public static int getDecimationFactor( final int numberOfDataPoints,
+                                           final double radiusPixels ) {
+        final int numberOfIntervals = numberOfDataPoints - 1;
+        if ( ( numberOfIntervals < 2 ) || !( radiusPixels > 0.0d ) ) {
+            return 1;
+        }
+
+        final double angleIncrementDegrees = 360.0d / numberOfIntervals;
+        final double targetAngleIncrementDegrees = Math
+                .min( MAXIMUM_DISPLAY_ANGLE_INCREMENT_DEGREES,
+                      Math.toDegrees( MINIMUM_PIXELS_PER_POINT / radiusPixels ) );
+        if ( angleIncrementDegrees >= targetAngleIncrementDegrees ) {
+            return 1;
+        }
+
+        // Take the first factor that reaches the target, unless doing so would
+        // step past the maximum display increment on an awkward grid.
+        int decimationFactor = 1;
+        for ( int factor = 2; factor <= numberOfIntervals; factor++ ) {
+            if ( ( numberOfIntervals % factor ) != 0 ) {
+                continue;
+            }
+
+            final double displayAngleIncrementDegrees = factor * angleIncrementDegrees;
+            if ( displayAngleIncrementDegrees > ( MAXIMUM_DISPLAY_ANGLE_INCREMENT_DEGREES
+                    + 1.0e-9d ) ) {
+                break;
+            }
+
+            decimationFactor = factor;
+            if ( displayAngleIncrementDegrees >= targetAngleIncrementDegrees ) {
+                break;
+            }
+        }
+
+        return decimationFactor;
+    }
+
+    /**
+     * Decimates a closed polar trace by a whole factor, preserving the most
+     * prominent lobe or null within each bucket of source samples.
+     *
+     * @param amplitude The closed polar trace to decimate
+     * @param decimationFactor The number of source intervals per drawn interval,
+     *            which must evenly divide the number of source intervals
+     * @return The decimated closed trace, or the source trace if the factor is
+     *         one or less
+     */
+    public static double[] decimate( final double[] amplitude, final int decimationFactor ) {
+        if ( decimationFactor <= 1 ) {
+            return amplitude;
+        }
+
+        final double[] decimatedAmplitude = new double[ getNumberOfDecimatedDataPoints( amplitude.length,
+                                                                                        decimationFactor ) ];
+        decimateInto( amplitude, decimationFactor, decimatedAmplitude );
+        return decimatedAmplitude;
+    }
+
+    /**
+     * Returns the number of data points in a decimated closed polar trace.
+     *
+     * @param numberOfDataPoints The number of data points in the source trace
+     * @param decimationFactor The number of source intervals per drawn interval
+     * @return The number of data points in the decimated trace
+     */
+    public static int getNumberOfDecimatedDataPoints( final int numberOfDataPoints,
+                                                      final int decimationFactor ) {
+        return ( ( numberOfDataPoints - 1 ) / Math.max( 1, decimationFactor ) ) + 1;
+    }
+
+    /**
+     * Decimates a closed polar trace by a whole factor into a caller-supplied
+     * array, such as a pooled display buffer, so that no allocation is needed.
+     *
+     * @param amplitude The closed polar trace to decimate
+     * @param decimationFactor The number of source intervals per drawn interval,
+     *            which must evenly divide the number of source intervals
+     * @param decimatedAmplitude The array to hold the decimated closed trace,
+     *            which must have exactly the decimated number of data points
+     */
+    public static void decimateInto( final double[] amplitude,
+                                     final int decimationFactor,
+                                     final double[] decimatedAmplitude ) {
+        if ( decimationFactor <= 1 ) {
+            System.arraycopy( amplitude, 0, decimatedAmplitude, 0, amplitude.length );
+            return;
+        }
+
+        final int numberOfIntervals = amplitude.length - 1;
+        final int numberOfDisplayIntervals = numberOfIntervals / decimationFactor;
+
+        // Center each bucket on its grid angle, wrapping around the circle so
+        // that the buckets tile the trace exactly once.
+        final int bucketStartOffset = -( ( decimationFactor - 1 ) / 2 );
+        for ( int i = 0; i < numberOfDisplayIntervals; i++ ) {
+            final int gridIndex = i * decimationFactor;
+            final double gridValue = amplitude[ gridIndex ];
+            double minimum = gridValue;
+            double maximum = gridValue;
+            for ( int j = 0; j < decimationFactor; j++ ) {
+                int index = gridIndex + bucketStartOffset + j;
+                if ( index < 0 ) {
+                    index += numberOfIntervals;
+                }
+                else if ( index >= numberOfIntervals ) {
+                    index -= numberOfIntervals;
+                }
+
+                final double value = amplitude[ index ];
+                if ( value < minimum ) {
+                    minimum = value;
+                }
+                else if ( value > maximum ) {
+                    maximum = value;
+                }
+            }
+
+            decimatedAmplitude[ i ] = ( ( maximum - gridValue ) > ( gridValue - minimum ) )
+                ? maximum
+                : minimum;
+        }
+
+        // Close the trace by repeating the on-axis value at 360 degrees.
+        decimatedAmplitude[ numberOfDisplayIntervals ] = decimatedAmplitude[ 0 ];
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.graphics;
+
+/**
+ * Ramer-Douglas-Peucker simplification of polylines, with a guaranteed
+ * maximum error: every dropped vertex lies within the tolerance of the
+ * segment of the simplified polyline that replaces it.
+ * <p>
+ * The distance is measured to the segment rather than to its extended line,
+ * so that the guarantee also holds where a trace doubles back on itself.
+ */
+public final class PolylineSimplifier {
+
+    /**
+     * The default constructor is disabled, as this is a static utilities class.
+     */
+    private PolylineSimplifier() {}
+
+    /**
+     * Marks the vertices of a polyline to keep, so that no dropped vertex is
+     * farther than the tolerance from the simplified polyline. The end
+     * vertices are always kept.
+     *
+     * @param coordinates The interleaved x and y coordinates of the vertices
+     * @param numberOfVertices The number of vertices to simplify
+     * @param tolerance The maximum distance of a dropped vertex from the
+     *            simplified polyline, in the units of the coordinates
+     * @param keep The flags to set for the vertices to keep, which must have
+     *            room for all of the vertices
+     * @return The number of vertices that are kept
+     */
+    public static int simplify( final double[] coordinates,
+                                final int numberOfVertices,
+                                final double tolerance,
+                                final boolean[] keep ) {
+        if ( numberOfVertices <= 2 ) {
+            for ( int i = 0; i < numberOfVertices; i++ ) {
+                keep[ i ] = true;
+            }
+            return numberOfVertices;
+        }
+
+        for ( int i = 1; i < ( numberOfVertices - 1 ); i++ ) {
+            keep[ i ] = false;
+        }
+        keep[ 0 ] = true;
+        keep[ numberOfVertices - 1 ] = true;
+        int numberOfKeptVertices = 2;
+
+        // Use an explicit stack of spans, as traces can have thousands of
+        // vertices and recursion depth would follow the worst case.
+        final double toleranceSquared = tolerance * tolerance;
+        final int[] spanStack = new int[ 2 * numberOfVertices ];
+        int stackSize = 0;
+        spanStack[ stackSize++ ] = 0;
+        spanStack[ stackSize++ ] = numberOfVertices - 1;
+        while ( stackSize > 0 ) {
+            final int last = spanStack[ --stackSize ];
+            final int first = spanStack[ --stackSize ];
+            if ( ( last - first ) < 2 ) {
+                continue;
+            }
+
+            // Find the vertex farthest from the segment spanning the range.
+            double maximumDistanceSquared = -1.0d;
+            int farthest = -1;
+            for ( int i = first + 1; i < last; i++ ) {
+                final double distanceSquared = getSegmentDistanceSquared( coordinates,
+                                                                          i,
+                                                                          first,
+                                                                          last );
+                if ( distanceSquared > maximumDistanceSquared ) {
+                    maximumDistanceSquared = distanceSquared;
+                    farthest = i;
+                }
+            }
+
+            if ( maximumDistanceSquared > toleranceSquared ) {
+                keep[ farthest ] = true;
+                numberOfKeptVertices++;
+                spanStack[ stackSize++ ] = first;
+                spanStack[ stackSize++ ] = farthest;
+                spanStack[ stackSize++ ] = farthest;
+                spanStack[ stackSize++ ] = last;
+            }
+        }
+
+        return numberOfKeptVertices;
+    }
+
+    // Return the squared distance of a vertex from the segment between two
+    // other vertices.
+    private static double getSegmentDistanceSquared( final double[] coordinates,
+                                                     final int vertex,
+                                                     final int start,
+                                                     final int end ) {
+        final double x = coordinates[ 2 * vertex ];
+        final double y = coordinates[ ( 2 * vertex ) + 1 ];
+        final double x1 = coordinates[ 2 * start ];
+        final double y1 = coordinates[ ( 2 * start ) + 1 ];
+        final double dx = coordinates[ 2 * end ] - x1;
+        final double dy = coordinates[ ( 2 * end ) + 1 ] - y1;
+
+        final double lengthSquared = ( dx * dx ) + ( dy * dy );
+        double t = 0.0d;
+        if ( lengthSquared > 0.0d ) {
+            t = Math.max( 0.0d,
+                          Math.min( 1.0d, ( ( ( x - x1 ) * dx ) + ( ( y - y1 ) * dy ) ) / lengthSquared ) );
+        }
+
+        final double offsetX = x - ( x1 + ( t * dx ) );
+        final double offsetY = y - ( y1 + ( t * dy ) );
+        return ( offsetX * offsetX ) + ( offsetY * offsetY );
+    }
+}
@@ -0,0 +1,666 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.graphics;
+
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Paint;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Path2D;
+import java.awt.geom.PathIterator;
+import java.awt.geom.RectangularShape;
+import java.awt.image.BufferedImage;
+import java.awt.image.BufferedImageOp;
+import java.awt.image.ImageObserver;
+import java.awt.image.RenderedImage;
+import java.awt.image.renderable.RenderableImage;
+import java.text.AttributedCharacterIterator;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * A graphics context that simplifies stroked polylines before passing them
+ * on to another graphics context, such as that of a vector graphics export,
+ * so that high resolution traces don't bloat the exported files.
+ * <p>
+ * The simplification is done in device space, via the current transform, so
+ * that the tolerance is the guaranteed maximum visual error in the units of
+ * the exported file no matter how the chart is scaled. Only the straight
+ * runs of a path are simplified; curves, fills, text and images are passed
+ * on unchanged, as are simple shapes such as lines and rectangles.
+ */
+public final class SimplifyingGraphics2D extends Graphics2D {
+
+    private final Graphics2D                   graphics;
+    private final double                       tolerance;
+    private final PathSimplificationStatistics statistics;
+
+    // Reuse the working arrays across paths, as traces tend to be similar
+    // in length.
+    private double[]                           userCoordinates;
+    private double[]                           deviceCoordinates;
+    private boolean[]                          keep;
+
+    /**
+     * Wraps a graphics context, to simplify its stroked polylines.
+     *
+     * @param pGraphics The graphics context to draw to
+     * @param pTolerance The maximum visual error, in device units
+     * @param pStatistics The statistics to record each simplified path in
+     */
+    public SimplifyingGraphics2D( final Graphics2D pGraphics,
+                                  final double pTolerance,
+                                  final PathSimplificationStatistics pStatistics ) {
+        graphics = pGraphics;
+        tolerance = pTolerance;
+        statistics = pStatistics;
+
+        userCoordinates = new double[ 256 ];
+        deviceCoordinates = new double[ 256 ];
+        keep = new boolean[ 128 ];
+    }
+
+    public PathSimplificationStatistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public void draw( final Shape shape ) {
+        if ( shape instanceof RectangularShape ) {
+            graphics.draw( shape );
+            return;
+        }
+
+        graphics.draw( simplify( shape ) );
+    }
+
+    @Override
+    public void drawPolyline( final int[] xPoints, final int[] yPoints, final int nPoints ) {
+        graphics.draw( simplify( toPath( xPoints, yPoints, nPoints, false ) ) );
+    }
+
+    @Override
+    public void drawPolygon( final int[] xPoints, final int[] yPoints, final int nPoints ) {
+        graphics.draw( simplify( toPath( xPoints, yPoints, nPoints, true ) ) );
+    }
+
+    // Make a path from integer polyline vertices.
+    private static Path2D toPath( final int[] xPoints,
+                                  final int[] yPoints,
+                                  final int nPoints,
+                                  final boolean closed ) {
+        final Path2D path = new Path2D.Double( Path2D.WIND_NON_ZERO, nPoints );
+        for ( int i = 0; i < nPoints; i++ ) {
+            if ( i == 0 ) {
+                path.moveTo( xPoints[ i ], yPoints[ i ] );
+            }
+            else {
+                path.lineTo( xPoints[ i ], yPoints[ i ] );
+            }
+        }
+        if ( closed && ( nPoints > 0 ) ) {
+            path.closePath();
+        }
+        return path;
+    }
+
+    // Simplify every straight run of a path, keeping its other segments.
+    // NOTE: The kept vertices keep their exact user space coordinates, so
+    //  the only change to the drawing is the dropped vertices.
+    private Shape simplify( final Shape shape ) {
+        final AffineTransform transform = graphics.getTransform();
+        final PathIterator pathIterator = shape.getPathIterator( null );
+        final Path2D simplifiedPath = new Path2D.Double( pathIterator.getWindingRule() );
+        final double[] segment = new double[ 6 ];
+        int numberOfVertices = 0;
+        boolean startsWithMoveTo = false;
+        double subpathStartX = 0.0d;
+        double subpathStartY = 0.0d;
+        while ( !pathIterator.isDone() ) {
+            final int segmentType = pathIterator.currentSegment( segment );
+            switch ( segmentType ) {
+            case PathIterator.SEG_MOVETO:
+                flushRun( simplifiedPath, numberOfVertices, startsWithMoveTo, transform );
+                numberOfVertices = addVertex( 0, segment[ 0 ], segment[ 1 ] );
+                startsWithMoveTo = true;
+                subpathStartX = segment[ 0 ];
+                subpathStartY = segment[ 1 ];
+                break;
+            case PathIterator.SEG_LINETO:
+                numberOfVertices = addVertex( numberOfVertices, segment[ 0 ], segment[ 1 ] );
+                break;
+            case PathIterator.SEG_QUADTO:
+                flushRun( simplifiedPath, numberOfVertices, startsWithMoveTo, transform );
+                simplifiedPath.quadTo( segment[ 0 ], segment[ 1 ], segment[ 2 ], segment[ 3 ] );
+                numberOfVertices = addVertex( 0, segment[ 2 ], segment[ 3 ] );
+                startsWithMoveTo = false;
+                break;
+            case PathIterator.SEG_CUBICTO:
+                flushRun( simplifiedPath, numberOfVertices, startsWithMoveTo, transform );
+                simplifiedPath.curveTo( segment[ 0 ],
+                                        segment[ 1 ],
+                                        segment[ 2 ],
+                                        segment[ 3 ],
+                                        segment[ 4 ],
+                                        segment[ 5 ] );
+                numberOfVertices = addVertex( 0, segment[ 4 ], segment[ 5 ] );
+                startsWithMoveTo = false;
+                break;
+            case PathIterator.SEG_CLOSE:
+                // A closed subpath continues from its starting point.
+                flushRun( simplifiedPath, numberOfVertices, startsWithMoveTo, transform );
+                simplifiedPath.closePath();
+                numberOfVertices = addVertex( 0, subpathStartX, subpathStartY );
+                startsWithMoveTo = false;
+                break;
+            default:
+                break;
+            }
+            pathIterator.next();
+        }
+        flushRun( simplifiedPath, numberOfVertices, startsWithMoveTo, transform );
+
+        return simplifiedPath;
+    }
+
+    private int addVertex( final int numberOfVertices, final double x, final double y ) {
+        if ( ( 2 * numberOfVertices ) == userCoordinates.length ) {
+            final int capacity = 2 * userCoordinates.length;
+            userCoordinates = Arrays.copyOf( userCoordinates, capacity );
+            deviceCoordinates = new double[ capacity ];
+            keep = new boolean[ capacity / 2 ];
+        }
+        userCoordinates[ 2 * numberOfVertices ] = x;
+        userCoordinates[ ( 2 * numberOfVertices ) + 1 ] = y;
+        return numberOfVertices + 1;
+    }
+
+    // Append a straight run to the path, simplified in device space. Unless
+    // the run starts with a move, its first vertex is already in the path.
+    private void flushRun( final Path2D simplifiedPath,
+                           final int numberOfVertices,
+                           final boolean startsWithMoveTo,
+                           final AffineTransform transform ) {
+        if ( ( numberOfVertices == 0 ) || ( !startsWithMoveTo && ( numberOfVertices == 1 ) ) ) {
+            return;
+        }
+
+        transform.transform( userCoordinates, 0, deviceCoordinates, 0, numberOfVertices );
+        final int numberOfKeptVertices = PolylineSimplifier.simplify( deviceCoordinates,
+                                                                      numberOfVertices,
+                                                                      tolerance,
+                                                                      keep );
+        if ( statistics != null ) {
+            statistics.recordPath( numberOfVertices, numberOfKeptVertices );
+        }
+
+        for ( int i = 0; i < numberOfVertices; i++ ) {
+            if ( !keep[ i ] ) {
+                continue;
+            }
+            final double x = userCoordinates[ 2 * i ];
+            final double y = userCoordinates[ ( 2 * i ) + 1 ];
+            if ( i == 0 ) {
+                if ( startsWithMoveTo ) {
+                    simplifiedPath.moveTo( x, y );
+                }
+            }
+            else {
+                simplifiedPath.lineTo( x, y );
+            }
+        }
+    }
+
+    @Override
+    public Graphics create() {
+        return new SimplifyingGraphics2D( ( Graphics2D ) graphics.create(),
+                                          tolerance,
+                                          statistics );
+    }
+
+    @Override
+    public void dispose() {
+        graphics.dispose();
+    }
+
+    // The rest of the graphics context is passed on unchanged.
+
+    @Override
+    public void fill( final Shape shape ) {
+        graphics.fill( shape );
+    }
+
+    @Override
+    public void drawString( final String str, final int x, final int y ) {
+        graphics.drawString( str, x, y );
+    }
+
+    @Override
+    public void drawString( final String str, final float x, final float y ) {
+        graphics.drawString( str, x, y );
+    }
+
+    @Override
+    public void drawString( final AttributedCharacterIterator iterator, final int x, final int y ) {
+        graphics.drawString( iterator, x, y );
+    }
+
+    @Override
+    public void drawString( final AttributedCharacterIterator iterator,
+                            final float x,
+                            final float y ) {
+        graphics.drawString( iterator, x, y );
+    }
+
+    @Override
+    public void drawGlyphVector( final GlyphVector glyphVector, final float x, final float y ) {
+        graphics.drawGlyphVector( glyphVector, x, y );
+    }
+
+    @Override
+    public boolean drawImage( final Image img,
+                              final AffineTransform xform,
+                              final ImageObserver observer ) {
+        return graphics.drawImage( img, xform, observer );
+    }
+
+    @Override
+    public void drawImage( final BufferedImage img,
+                           final BufferedImageOp op,
+                           final int x,
+                           final int y ) {
+        graphics.drawImage( img, op, x, y );
+    }
+
+    @Override
+    public void drawRenderedImage( final RenderedImage img, final AffineTransform xform ) {
+        graphics.drawRenderedImage( img, xform );
+    }
+
+    @Override
+    public void drawRenderableImage( final RenderableImage img, final AffineTransform xform ) {
+        graphics.drawRenderableImage( img, xform );
+    }
+
+    @Override
+    public boolean drawImage( final Image img,
+                              final int x,
+                              final int y,
+                              final ImageObserver observer ) {
+        return graphics.drawImage( img, x, y, observer );
+    }
+
+    @Override
+    public boolean drawImage( final Image img,
+                              final int x,
+                              final int y,
+                              final int width,
+                              final int height,
+                              final ImageObserver observer ) {
+        return graphics.drawImage( img, x, y, width, height, observer );
+    }
+
+    @Override
+    public boolean drawImage( final Image img,
+                              final int x,
+                              final int y,
+                              final Color bgcolor,
+                              final ImageObserver observer ) {
+        return graphics.drawImage( img, x, y, bgcolor, observer );
+    }
+
+    @Override
+    public boolean drawImage( final Image img,
+                              final int x,
+                              final int y,
+                              final int width,
+                              final int height,
+                              final Color bgcolor,
+                              final ImageObserver observer ) {
+        return graphics.drawImage( img, x, y, width, height, bgcolor, observer );
+    }
+
+    @Override
+    public boolean drawImage( final Image img,
+                              final int dx1,
+                              final int dy1,
+                              final int dx2,
+                              final int dy2,
+                              final int sx1,
+                              final int sy1,
+                              final int sx2,
+                              final int sy2,
+                              final ImageObserver observer ) {
+        return graphics.drawImage( img, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2, observer );
+    }
+
+    @Override
+    public boolean drawImage( final Image img,
+                              final int dx1,
+                              final int dy1,
+                              final int dx2,
+                              final int dy2,
+                              final int sx1,
+                              final int sy1,
+                              final int sx2,
+                              final int sy2,
+                              final Color bgcolor,
+                              final ImageObserver observer ) {
+        return graphics.drawImage( img, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2, bgcolor, observer );
+    }
+
+    @Override
+    public boolean hit( final Rectangle rect, final Shape shape, final boolean onStroke ) {
+        return graphics.hit( rect, shape, onStroke );
+    }
+
+    @Override
+    public GraphicsConfiguration getDeviceConfiguration() {
+        return graphics.getDeviceConfiguration();
+    }
+
+    @Override
+    public void setComposite( final Composite comp ) {
+        graphics.setComposite( comp );
+    }
+
+    @Override
+    public void setPaint( final Paint paint ) {
+        graphics.setPaint( paint );
+    }
+
+    @Override
+    public void setStroke( final Stroke stroke ) {
+        graphics.setStroke( stroke );
+    }
+
+    @Override
+    public void setRenderingHint( final RenderingHints.Key hintKey, final Object hintValue ) {
+        graphics.setRenderingHint( hintKey, hintValue );
+    }
+
+    @Override
+    public Object getRenderingHint( final RenderingHints.Key hintKey ) {
+        return graphics.getRenderingHint( hintKey );
+    }
+
+    @Override
+    public void setRenderingHints( final Map< ?, ? > hints ) {
+        graphics.setRenderingHints( hints );
+    }
+
+    @Override
+    public void addRenderingHints( final Map< ?, ? > hints ) {
+        graphics.addRenderingHints( hints );
+    }
+
+    @Override
+    public RenderingHints getRenderingHints() {
+        return graphics.getRenderingHints();
+    }
+
+    @Override
+    public void translate( final int x, final int y ) {
+        graphics.translate( x, y );
+    }
+
+    @Override
+    public void translate( final double tx, final double ty ) {
+        graphics.translate( tx, ty );
+    }
+
+    @Override
+    public void rotate( final double theta ) {
+        graphics.rotate( theta );
+    }
+
+    @Override
+    public void rotate( final double theta, final double x, final double y ) {
+        graphics.rotate( theta, x, y );
+    }
+
+    @Override
+    public void scale( final double sx, final double sy ) {
+        graphics.scale( sx, sy );
+    }
+
+    @Override
+    public void shear( final double shx, final double shy ) {
+        graphics.shear( shx, shy );
+    }
+
+    @Override
+    public void transform( final AffineTransform tx ) {
+        graphics.transform( tx );
+    }
+
+    @Override
+    public void setTransform( final AffineTransform tx ) {
+        graphics.setTransform( tx );
+    }
+
+    @Override
+    public AffineTransform getTransform() {
+        return graphics.getTransform();
+    }
+
+    @Override
+    public Paint getPaint() {
+        return graphics.getPaint();
+    }
+
+    @Override
+    public Composite getComposite() {
+        return graphics.getComposite();
+    }
+
+    @Override
+    public void setBackground( final Color color ) {
+        graphics.setBackground( color );
+    }
+
+    @Override
+    public Color getBackground() {
+        return graphics.getBackground();
+    }
+
+    @Override
+    public Stroke getStroke() {
+        return graphics.getStroke();
+    }
+
+    @Override
+    public void clip( final Shape shape ) {
+        graphics.clip( shape );
+    }
+
+    @Override
+    public FontRenderContext getFontRenderContext() {
+        return graphics.getFontRenderContext();
+    }
+
+    @Override
+    public Color getColor() {
+        return graphics.getColor();
+    }
+
+    @Override
+    public void setColor( final Color color ) {
+        graphics.setColor( color );
+    }
+
+    @Override
+    public void setPaintMode() {
+        graphics.setPaintMode();
+    }
+
+    @Override
+    public void setXORMode( final Color color ) {
+        graphics.setXORMode( color );
+    }
+
+    @Override
+    public Font getFont() {
+        return graphics.getFont();
+    }
+
+    @Override
+    public void setFont( final Font font ) {
+        graphics.setFont( font );
+    }
+
+    @Override
+    public FontMetrics getFontMetrics( final Font font ) {
+        return graphics.getFontMetrics( font );
+    }
+
+    @Override
+    public Rectangle getClipBounds() {
+        return graphics.getClipBounds();
+    }
+
+    @Override
+    public void clipRect( final int x, final int y, final int width, final int height ) {
+        graphics.clipRect( x, y, width, height );
+    }
+
+    @Override
+    public void setClip( final int x, final int y, final int width, final int height ) {
+        graphics.setClip( x, y, width, height );
+    }
+
+    @Override
+    public Shape getClip() {
+        return graphics.getClip();
+    }
+
+    @Override
+    public void setClip( final Shape clip ) {
+        graphics.setClip( clip );
+    }
+
+    @Override
+    public void copyArea( final int x,
+                          final int y,
+                          final int width,
+                          final int height,
+                          final int dx,
+                          final int dy ) {
+        graphics.copyArea( x, y, width, height, dx, dy );
+    }
+
+    @Override
+    public void drawLine( final int x1, final int y1, final int x2, final int y2 ) {
+        graphics.drawLine( x1, y1, x2, y2 );
+    }
+
+    @Override
+    public void fillRect( final int x, final int y, final int width, final int height ) {
+        graphics.fillRect( x, y, width, height );
+    }
+
+    @Override
+    public void drawRect( final int x, final int y, final int width, final int height ) {
+        graphics.drawRect( x, y, width, height );
+    }
+
+    @Override
+    public void clearRect( final int x, final int y, final int width, final int height ) {
+        graphics.clearRect( x, y, width, height );
+    }
+
+    @Override
+    public void drawRoundRect( final int x,
+                               final int y,
+                               final int width,
+                               final int height,
+                               final int arcWidth,
+                               final int arcHeight ) {
+        graphics.drawRoundRect( x, y, width, height, arcWidth, arcHeight );
+    }
+
+    @Override
+    public void fillRoundRect( final int x,
+                               final int y,
+                               final int width,
+                               final int height,
+                               final int arcWidth,
+                               final int arcHeight ) {
+        graphics.fillRoundRect( x, y, width, height, arcWidth, arcHeight );
+    }
+
+    @Override
+    public void drawOval( final int x, final int y, final int width, final int height ) {
+        graphics.drawOval( x, y, width, height );
+    }
+
+    @Override
+    public void fillOval( final int x, final int y, final int width, final int height ) {
+        graphics.fillOval( x, y, width, height );
+    }
+
+    @Override
+    public void drawArc( final int x,
+                         final int y,
+                         final int width,
+                         final int height,
+                         final int startAngle,
+                         final int arcAngle ) {
+        graphics.drawArc( x, y, width, height, startAngle, arcAngle );
+    }
+
+    @Override
+    public void fillArc( final int x,
+                         final int y,
+                         final int width,
+                         final int height,
+                         final int startAngle,
+                         final int arcAngle ) {
+        graphics.fillArc( x, y, width, height, startAngle, arcAngle );
+    }
+
+    @Override
+    public void fillPolygon( final int[] xPoints, final int[] yPoints, final int nPoints ) {
+        graphics.fillPolygon( xPoints, yPoints, nPoints );
+    }
+}
@@ -0,0 +1,357 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.io;
+
+import com.mhschmieder.fxpolarchart.math.FractionalOctaveBandSynthesizer;
+import com.mhschmieder.fxpolarchart.model.PolarResponse;
+import com.mhschmieder.jacoustics.RelativeBandwidth;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A read-only store for full-sphere directivity balloon data, which memory-maps
+ * a local balloon file so that even gigabyte-sized data sets never sit on the
+ * Java heap, and which slices arbitrary horizontal and vertical planes out of
+ * any band.
+ * <p>
+ * The balloon file is little-endian, and starts with a 32-byte header of
+ * eight 32-bit integers: the magic number, the format version, the number of
+ * bands per octave, the index of the first band (where band zero is centered
+ * on 1 kHz), the number of bands, the number of longitudes, the number of
+ * latitudes, and a reserved word. The header is followed by 32-bit float
+ * levels in decibels, ordered by band, then by latitude from -90 to +90
+ * degrees, then by longitude from 0 degrees upwards.
+ * <p>
+ * On-axis is at longitude 0 and latitude 0, and the angular resolution is the
+ * same for longitude and latitude, so the number of longitudes must be a
+ * multiple of four and the number of latitudes must be one more than half the
+ * number of longitudes. Horizontal planes are thus contiguous in the file,
+ * which makes them the cheapest to slice.
+ */
+public final class BalloonDataStore implements Closeable {
+
+    /**
+     * The magic number that identifies a balloon file, which spells "PBLN"
+     * when read as little-endian bytes.
+     */
+    public static final int MAGIC_NUMBER   = 0x4E4C4250;
+
+    /**
+     * The only balloon file format version understood by this store.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    /**
+     * The size of the balloon file header, in bytes.
+     */
+    public static final int HEADER_SIZE    = 32;
+
+    private final FileChannel fileChannel;
+
+    private final int octaveDivider;
+    private final int firstBandIndex;
+    private final int numberOfBands;
+    private final int numberOfLongitudes;
+    private final int numberOfLatitudes;
+    private final double angleIncrementDegrees;
+    private final long bandSizeInBytes;
+
+    // Map each band on demand, as a whole-file mapping can't exceed 2 GB.
+    private final FloatBuffer[] bandData;
+
+    /**
+     * Opens and validates a balloon file, without reading any of its levels.
+     *
+     * @param balloonFile The balloon file to open
+     * @throws IOException If the file can't be opened or isn't a valid balloon
+     */
+    @SuppressWarnings("nls")
+    public BalloonDataStore( final File balloonFile ) throws IOException {
+        fileChannel = FileChannel.open( balloonFile.toPath(), StandardOpenOption.READ );
+        try {
+            final ByteBuffer header = ByteBuffer.allocate( HEADER_SIZE )
+                    .order( ByteOrder.LITTLE_ENDIAN );
+            while ( header.hasRemaining() ) {
+                if ( fileChannel.read( header, header.position() ) < 0 ) {
+                    throw new IOException( "Balloon File Header Incomplete." );
+                }
+            }
+            header.flip();
+
+            if ( header.getInt() != MAGIC_NUMBER ) {
+                throw new IOException( "Not a Balloon File." );
+            }
+            if ( header.getInt() != FORMAT_VERSION ) {
+                throw new IOException( "Unsupported Balloon File Version." );
+            }
+
+            octaveDivider = header.getInt();
+            firstBandIndex = header.getInt();
+            numberOfBands = header.getInt();
+            numberOfLongitudes = header.getInt();
+            numberOfLatitudes = header.getInt();
+            if ( ( octaveDivider < 1 ) || ( numberOfBands < 1 ) || ( numberOfLongitudes < 4 )
+                    || ( ( numberOfLongitudes % 4 ) != 0 )
+                    || ( numberOfLatitudes != ( ( numberOfLongitudes / 2 ) + 1 ) ) ) {
+                throw new IOException( "Invalid Balloon File Grid." );
+            }
+
+            angleIncrementDegrees = 360.0d / numberOfLongitudes;
+            bandSizeInBytes = 4L * numberOfLongitudes * numberOfLatitudes;
+            if ( fileChannel.size() < ( HEADER_SIZE + ( numberOfBands * bandSizeInBytes ) ) ) {
+                throw new IOException( "Balloon File Truncated." );
+            }
+
+            bandData = new FloatBuffer[ numberOfBands ];
+        }
+        catch ( final IOException ioe ) {
+            fileChannel.close();
+            throw ioe;
+        }
+    }
+
+    public int getOctaveDivider() {
+        return octaveDivider;
+    }
+
+    public int getFirstBandIndex() {
+        return firstBandIndex;
+    }
+
+    public int getNumberOfBands() {
+        return numberOfBands;
+    }
+
+    public double getAngleIncrementDegrees() {
+        return angleIncrementDegrees;
+    }
+
+    public boolean containsBand( final int bandIndex ) {
+        final int bandOffset = bandIndex - firstBandIndex;
+        return ( bandOffset >= 0 ) && ( bandOffset < numberOfBands );
+    }
+
+    // Map a band the first time it is sliced.
+    @SuppressWarnings("nls")
+    private synchronized FloatBuffer getBandData( final int bandIndex ) throws IOException {
+        if ( !containsBand( bandIndex ) ) {
+            throw new IllegalArgumentException( "Band Not in Balloon File: " + bandIndex );
+        }
+
+        final int bandOffset = bandIndex - firstBandIndex;
+        FloatBuffer floatBuffer = bandData[ bandOffset ];
+        if ( floatBuffer == null ) {
+            final MappedByteBuffer mappedByteBuffer = fileChannel
+                    .map( FileChannel.MapMode.READ_ONLY,
+                          HEADER_SIZE + ( bandOffset * bandSizeInBytes ),
+                          bandSizeInBytes );
+            floatBuffer = mappedByteBuffer.order( ByteOrder.LITTLE_ENDIAN ).asFloatBuffer();
+            bandData[ bandOffset ] = floatBuffer;
+        }
+        return floatBuffer;
+    }
+
+    /**
+     * Slices the horizontal plane at a given elevation out of one band, as a
+     * closed polar trace over all longitudes. At non-zero elevations this is
+     * a conical rather than a planar cut, as is conventional for balloons.
+     *
+     * @param bandIndex The index of the band, where band zero is at 1 kHz
+     * @param elevationDegrees The elevation of the plane, from -90 to +90
+     * @return A zero-copy view of the horizontal plane
+     * @throws IOException If the band can't be mapped
+     * @throws IllegalArgumentException If the balloon doesn't contain the band
+     */
+    public BalloonPlaneSlice sliceHorizontalPlane( final int bandIndex,
+                                                   final double elevationDegrees )
+            throws IOException {
+        final double latitudeIndex = ( Math.max( -90.0d, Math.min( 90.0d, elevationDegrees ) )
+                + 90.0d ) / angleIncrementDegrees;
+        final int lowerLatitudeIndex = Math.min( ( int ) Math.floor( latitudeIndex ),
+                                                 numberOfLatitudes - 1 );
+        final int upperLatitudeIndex = Math.min( lowerLatitudeIndex + 1, numberOfLatitudes - 1 );
+        final float upperWeight = ( float ) ( latitudeIndex - lowerLatitudeIndex );
+
+        final int numberOfDataPoints = numberOfLongitudes + 1;
+        final int[] lowerElementIndices = new int[ numberOfDataPoints ];
+        final int[] upperElementIndices = new int[ numberOfDataPoints ];
+        for ( int i = 0; i < numberOfDataPoints; i++ ) {
+            final int longitudeIndex = i % numberOfLongitudes;
+            lowerElementIndices[ i ] = ( lowerLatitudeIndex * numberOfLongitudes )
+                    + longitudeIndex;
+            upperElementIndices[ i ] = ( upperLatitudeIndex * numberOfLongitudes )
+                    + longitudeIndex;
+        }
+
+        return new BalloonPlaneSlice( getBandData( bandIndex ),
+                                      lowerElementIndices,
+                                      upperElementIndices,
+                                      upperWeight );
+    }
+
+    /**
+     * Slices the vertical plane at a given azimuth out of one band, as a
+     * closed polar trace that runs from on-axis up over the top, down the back
+     * and up from the bottom of the great circle through both poles.
+     *
+     * @param bandIndex The index of the band, where band zero is at 1 kHz
+     * @param azimuthDegrees The azimuth of the plane, in degrees
+     * @return A zero-copy view of the vertical plane
+     * @throws IOException If the band can't be mapped
+     * @throws IllegalArgumentException If the balloon doesn't contain the band
+     */
+    public BalloonPlaneSlice sliceVerticalPlane( final int bandIndex,
+                                                 final double azimuthDegrees )
+            throws IOException {
+        double longitudeIndex = ( azimuthDegrees % 360.0d ) / angleIncrementDegrees;
+        if ( longitudeIndex < 0.0d ) {
+            longitudeIndex += numberOfLongitudes;
+        }
+        final int lowerLongitudeIndex = ( ( int ) Math.floor( longitudeIndex ) )
+                % numberOfLongitudes;
+        final int upperLongitudeIndex = ( lowerLongitudeIndex + 1 ) % numberOfLongitudes;
+        final float upperWeight = ( float ) ( longitudeIndex - Math.floor( longitudeIndex ) );
+
+        final int numberOfDataPoints = numberOfLongitudes + 1;
+        final int[] lowerElementIndices = new int[ numberOfDataPoints ];
+        final int[] upperElementIndices = new int[ numberOfDataPoints ];
+        fillMeridianElementIndices( lowerLongitudeIndex, lowerElementIndices );
+        fillMeridianElementIndices( upperLongitudeIndex, upperElementIndices );
+
+        return new BalloonPlaneSlice( getBandData( bandIndex ),
+                                      lowerElementIndices,
+                                      upperElementIndices,
+                                      upperWeight );
+    }
+
+    // Walk the great circle through the poles at a given longitude, starting
+    // on-axis and heading up, then down the opposite longitude, then back up
+    // the original longitude to on-axis.
+    private void fillMeridianElementIndices( final int longitudeIndex,
+                                             final int[] elementIndices ) {
+        final int quarterTurn = numberOfLongitudes / 4;
+        final int oppositeLongitudeIndex = ( longitudeIndex + ( 2 * quarterTurn ) )
+                % numberOfLongitudes;
+        for ( int i = 0; i < elementIndices.length; i++ ) {
+            final int latitudeIndex;
+            final int meridianLongitudeIndex;
+            if ( i <= quarterTurn ) {
+                latitudeIndex = quarterTurn + i;
+                meridianLongitudeIndex = longitudeIndex;
+            }
+            else if ( i < ( 3 * quarterTurn ) ) {
+                latitudeIndex = ( 3 * quarterTurn ) - i;
+                meridianLongitudeIndex = oppositeLongitudeIndex;
+            }
+            else {
+                latitudeIndex = i - ( 3 * quarterTurn );
+                meridianLongitudeIndex = longitudeIndex;
+            }
+            elementIndices[ i ] = ( latitudeIndex * numberOfLongitudes ) + meridianLongitudeIndex;
+        }
+    }
+
+    /**
+     * Slices a horizontal and a vertical plane out of the balloon for a band
+     * of the requested bandwidth, power-averaging the balloon's finer bands
+     * if the balloon is at a finer odd fraction of the requested bandwidth.
+     *
+     * @param acousticSourceModel The Acoustic Source Model the balloon is for
+     * @param relativeBandwidth The requested Relative Bandwidth
+     * @param requestedBandIndex The index of the requested band
+     * @param centerFrequency The nominal Center Frequency of the requested band
+     * @param elevationDegrees The elevation of the horizontal plane
+     * @param azimuthDegrees The azimuth of the vertical plane
+     * @return The polar response for the requested band, or {@code null} if
+     *         the balloon doesn't cover it
+     * @throws IOException If a band can't be mapped
+     */
+    public PolarResponse slicePolarResponse( final String acousticSourceModel,
+                                             final RelativeBandwidth relativeBandwidth,
+                                             final int requestedBandIndex,
+                                             final double centerFrequency,
+                                             final double elevationDegrees,
+                                             final double azimuthDegrees )
+            throws IOException {
+        final int requestedOctaveDivider = relativeBandwidth.toOctaveDivider();
+        if ( ( octaveDivider % requestedOctaveDivider ) != 0 ) {
+            return null;
+        }
+        final int bandwidthRatio = octaveDivider / requestedOctaveDivider;
+        if ( ( bandwidthRatio % 2 ) == 0 ) {
+            return null;
+        }
+
+        final int centerBandIndex = bandwidthRatio * requestedBandIndex;
+        final int firstConstituentBandIndex = centerBandIndex - ( bandwidthRatio / 2 );
+        final double[][] horizontalAmplitudes = new double[ bandwidthRatio ][];
+        final double[][] verticalAmplitudes = new double[ bandwidthRatio ][];
+        for ( int i = 0; i < bandwidthRatio; i++ ) {
+            final int bandIndex = firstConstituentBandIndex + i;
+            if ( !containsBand( bandIndex ) ) {
+                return null;
+            }
+            horizontalAmplitudes[ i ] = sliceHorizontalPlane( bandIndex, elevationDegrees )
+                    .toAmplitudeArray();
+            verticalAmplitudes[ i ] = sliceVerticalPlane( bandIndex, azimuthDegrees )
+                    .toAmplitudeArray();
+        }
+
+        return ( bandwidthRatio == 1 )
+            ? new PolarResponse( acousticSourceModel,
+                                 relativeBandwidth,
+                                 centerFrequency,
+                                 horizontalAmplitudes[ 0 ],
+                                 verticalAmplitudes[ 0 ] )
+            : new PolarResponse( acousticSourceModel,
+                                 relativeBandwidth,
+                                 centerFrequency,
+                                 FractionalOctaveBandSynthesizer.powerAverage( horizontalAmplitudes ),
+                                 FractionalOctaveBandSynthesizer.powerAverage( verticalAmplitudes ) );
+    }
+
+    /**
+     * Closes the underlying file. Bands that were already mapped stay valid
+     * until they are no longer referenced.
+     */
+    @Override
+    public void close() throws IOException {
+        fileChannel.close();
+    }
+}
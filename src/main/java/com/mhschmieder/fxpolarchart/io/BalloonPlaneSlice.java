@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.io;
+
+import java.nio.FloatBuffer;
+
+/**
+ * A zero-copy view of one plane through one band of a directivity balloon,
+ * presented as a closed polar trace from 0 to 360 degrees.
+ * <p>
+ * The view reads straight from the memory-mapped band, so slicing a plane
+ * never touches any other part of the balloon. Planes that fall between grid
+ * angles are linearly interpolated (in decibels) between the two nearest
+ * grid planes as they are read.
+ */
+public final class BalloonPlaneSlice {
+
+    private final FloatBuffer bandData;
+    private final int numberOfDataPoints;
+
+    // Keep the two nearest grid planes' element indices, and the weight of
+    // the second plane, for interpolating off-grid planes.
+    private final int[] lowerElementIndices;
+    private final int[] upperElementIndices;
+    private final float upperWeight;
+
+    BalloonPlaneSlice( final FloatBuffer pBandData,
+                       final int[] pLowerElementIndices,
+                       final int[] pUpperElementIndices,
+                       final float pUpperWeight ) {
+        bandData = pBandData;
+        lowerElementIndices = pLowerElementIndices;
+        upperElementIndices = pUpperElementIndices;
+        upperWeight = pUpperWeight;
+        numberOfDataPoints = pLowerElementIndices.length;
+    }
+
+    public int getNumberOfDataPoints() {
+        return numberOfDataPoints;
+    }
+
+    /**
+     * Returns the level at one angle of the closed polar trace.
+     *
+     * @param index The index of the angle, from 0 at on-axis to the last index
+     *            at 360 degrees
+     * @return The level at the requested angle, in decibels
+     */
+    public double getAmplitude( final int index ) {
+        final float lowerValue = bandData.get( lowerElementIndices[ index ] );
+        if ( upperWeight == 0.0f ) {
+            return lowerValue;
+        }
+
+        final float upperValue = bandData.get( upperElementIndices[ index ] );
+        return lowerValue + ( upperWeight * ( upperValue - lowerValue ) );
+    }
+
+    /**
+     * Copies the closed polar trace into an amplitude array, as needed by the
+     * chart API, which is the only time the slice's data leaves the mapping.
+     *
+     * @param amplitude The array to copy into, which must be at least as long
+     *            as the number of data points
+     */
+    public void copyInto( final double[] amplitude ) {
+        for ( int i = 0; i < numberOfDataPoints; i++ ) {
+            amplitude[ i ] = getAmplitude( i );
+        }
+    }
+
+    /**
+     * Returns a new amplitude array holding the closed polar trace.
+     *
+     * @return A new array holding the closed polar trace
+     */
+    public double[] toAmplitudeArray() {
+        final double[] amplitude = new double[ numberOfDataPoints ];
+        copyInto( amplitude );
+        return amplitude;
+    }
+}
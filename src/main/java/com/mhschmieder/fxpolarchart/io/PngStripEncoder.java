@@ -0,0 +1,255 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.io;
+
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * A streaming encoder for opaque 8-bit RGB PNG images, which accepts the
+ * image in horizontal strips from top to bottom, so that a strip can be
+ * encoded while the next one is still being rendered, and so that the whole
+ * image never has to be held in memory.
+ * <p>
+ * Each row is written with the "Sub" filter, which costs one subtraction
+ * per byte and suits the flat fills and thin traces of charts well.
+ */
+public final class PngStripEncoder implements Closeable {
+
+    // The PNG file signature.
+    private static final byte[] PNG_SIGNATURE = { ( byte ) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' };
+
+    // The filter type byte for the "Sub" filter.
+    private static final int    FILTER_TYPE_SUB = 1;
+
+    // The size at which compressed data is flushed as an IDAT chunk.
+    private static final int    IDAT_CHUNK_SIZE = 64 * 1024;
+
+    // The number of meters in an inch, for the physical pixel dimensions.
+    private static final double METERS_PER_INCH = 0.0254d;
+
+    // Buffer the compressed image data, and emit it as IDAT chunks.
+    private final class ImageDataOutputStream extends OutputStream {
+
+        private final byte[] chunkData = new byte[ IDAT_CHUNK_SIZE ];
+        private int chunkLength = 0;
+
+        @Override
+        public void write( final int b ) throws IOException {
+            if ( chunkLength == chunkData.length ) {
+                flushChunk();
+            }
+            chunkData[ chunkLength++ ] = ( byte ) b;
+        }
+
+        @Override
+        public void write( final byte[] b, final int off, final int len ) throws IOException {
+            int offset = off;
+            int remaining = len;
+            while ( remaining > 0 ) {
+                if ( chunkLength == chunkData.length ) {
+                    flushChunk();
+                }
+                final int count = Math.min( remaining, chunkData.length - chunkLength );
+                System.arraycopy( b, offset, chunkData, chunkLength, count );
+                chunkLength += count;
+                offset += count;
+                remaining -= count;
+            }
+        }
+
+        private void flushChunk() throws IOException {
+            if ( chunkLength > 0 ) {
+                writeChunk( "IDAT", chunkData, chunkLength ); //$NON-NLS-1$
+                chunkLength = 0;
+            }
+        }
+    }
+
+    private final DataOutputStream     outputStream;
+    private final int                  width;
+    private final int                  height;
+    private final ImageDataOutputStream imageDataStream;
+    private final Deflater             deflater;
+    private final DeflaterOutputStream deflaterStream;
+    private final CRC32                crc;
+
+    // Keep the filtered row buffer, and track how many rows are written.
+    private final byte[]               filteredRow;
+    private int                        numberOfRowsWritten;
+
+    /**
+     * Writes the PNG header for an image of the given size, after which its
+     * rows are written in strips via {@link #writeRows}.
+     *
+     * @param pOutputStream The stream to write the image to
+     * @param pWidth The width of the image, in pixels
+     * @param pHeight The height of the image, in pixels
+     * @param dotsPerInch The resolution to record in the image, or zero to
+     *            leave it unspecified
+     * @throws IOException If the header can't be written
+     */
+    public PngStripEncoder( final OutputStream pOutputStream,
+                            final int pWidth,
+                            final int pHeight,
+                            final double dotsPerInch )
+            throws IOException {
+        outputStream = new DataOutputStream( pOutputStream );
+        width = pWidth;
+        height = pHeight;
+        crc = new CRC32();
+
+        outputStream.write( PNG_SIGNATURE );
+
+        // Write the image header, for 8-bit RGB without interlacing.
+        final byte[] header = new byte[ 13 ];
+        putInt( header, 0, width );
+        putInt( header, 4, height );
+        header[ 8 ] = 8;
+        header[ 9 ] = 2;
+        writeChunk( "IHDR", header, header.length ); //$NON-NLS-1$
+
+        // Record the resolution, so that the image prints at its true size.
+        if ( dotsPerInch > 0.0d ) {
+            final int pixelsPerMeter = ( int ) Math.round( dotsPerInch / METERS_PER_INCH );
+            final byte[] physicalDimensions = new byte[ 9 ];
+            putInt( physicalDimensions, 0, pixelsPerMeter );
+            putInt( physicalDimensions, 4, pixelsPerMeter );
+            physicalDimensions[ 8 ] = 1;
+            writeChunk( "pHYs", physicalDimensions, physicalDimensions.length ); //$NON-NLS-1$
+        }
+
+        imageDataStream = new ImageDataOutputStream();
+        deflater = new Deflater( Deflater.DEFAULT_COMPRESSION );
+        deflaterStream = new DeflaterOutputStream( imageDataStream, deflater, IDAT_CHUNK_SIZE );
+
+        filteredRow = new byte[ 1 + ( 3 * width ) ];
+        filteredRow[ 0 ] = FILTER_TYPE_SUB;
+        numberOfRowsWritten = 0;
+    }
+
+    /**
+     * Writes the next rows of the image, from packed RGB pixels such as those
+     * of a {@code BufferedImage.TYPE_INT_RGB} raster.
+     *
+     * @param pixels The packed RGB pixels of the rows, row by row
+     * @param offset The index of the first pixel of the first row
+     * @param scanlineStride The number of pixels from one row to the next
+     * @param numberOfRows The number of rows to write
+     * @throws IOException If the rows can't be written
+     */
+    public void writeRows( final int[] pixels,
+                           final int offset,
+                           final int scanlineStride,
+                           final int numberOfRows )
+            throws IOException {
+        if ( ( numberOfRowsWritten + numberOfRows ) > height ) {
+            throw new IllegalStateException( "More rows than the image height" ); //$NON-NLS-1$
+        }
+
+        for ( int row = 0; row < numberOfRows; row++ ) {
+            final int rowOffset = offset + ( row * scanlineStride );
+            int previousRed = 0;
+            int previousGreen = 0;
+            int previousBlue = 0;
+            for ( int x = 0, i = 1; x < width; x++ ) {
+                final int rgb = pixels[ rowOffset + x ];
+                final int red = ( rgb >> 16 ) & 0xFF;
+                final int green = ( rgb >> 8 ) & 0xFF;
+                final int blue = rgb & 0xFF;
+                filteredRow[ i++ ] = ( byte ) ( red - previousRed );
+                filteredRow[ i++ ] = ( byte ) ( green - previousGreen );
+                filteredRow[ i++ ] = ( byte ) ( blue - previousBlue );
+                previousRed = red;
+                previousGreen = green;
+                previousBlue = blue;
+            }
+            deflaterStream.write( filteredRow, 0, filteredRow.length );
+        }
+
+        numberOfRowsWritten += numberOfRows;
+    }
+
+    public int getNumberOfRowsWritten() {
+        return numberOfRowsWritten;
+    }
+
+    /**
+     * Finishes the image data and writes the PNG trailer, once all of the
+     * rows have been written.
+     *
+     * @throws IOException If the image data can't be finished
+     */
+    public void finish() throws IOException {
+        if ( numberOfRowsWritten != height ) {
+            throw new IllegalStateException( "Fewer rows than the image height" ); //$NON-NLS-1$
+        }
+
+        deflaterStream.finish();
+        imageDataStream.flushChunk();
+        writeChunk( "IEND", new byte[ 0 ], 0 ); //$NON-NLS-1$
+        outputStream.flush();
+    }
+
+    /**
+     * Releases the compressor, without closing the underlying stream.
+     */
+    @Override
+    public void close() {
+        deflater.end();
+    }
+
+    private void writeChunk( final String type, final byte[] data, final int length )
+            throws IOException {
+        final byte[] typeBytes = type.getBytes( StandardCharsets.US_ASCII );
+        crc.reset();
+        crc.update( typeBytes, 0, typeBytes.length );
+        crc.update( data, 0, length );
+
+        outputStream.writeInt( length );
+        outputStream.write( typeBytes );
+        outputStream.write( data, 0, length );
+        outputStream.writeInt( ( int ) crc.getValue() );
+    }
+
+    private static void putInt( final byte[] buffer, final int index, final int value ) {
+        buffer[ index ] = ( byte ) ( value >>> 24 );
+        buffer[ index + 1 ] = ( byte ) ( value >>> 16 );
+        buffer[ index + 2 ] = ( byte ) ( value >>> 8 );
+        buffer[ index + 3 ] = ( byte ) value;
+    }
+}
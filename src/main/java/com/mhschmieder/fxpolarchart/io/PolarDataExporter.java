@@ -0,0 +1,260 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.io;
+
+import com.mhschmieder.fxpolarchart.model.PolarResponse;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An exporter for decoded polar response data across many bands, as CSV text
+ * or as columnar little-endian binary.
+ * <p>
+ * Bands are written one at a time through a fixed-size buffer to a file
+ * channel, so the output never has to be built in memory, however many bands
+ * there are.
+ * <p>
+ * The CSV file has a header row, and then one row per angle of each plane of
+ * each band, with the Center Frequency in Hz, the plane, the angle in degrees
+ * and the level in decibels. Values are written in full precision, with a
+ * period as the decimal separator whatever the locale.
+ * <p>
+ * The binary file starts with a 16-byte header of four 32-bit integers: the
+ * magic number, the format version, the number of bands, and a reserved word.
+ * Each band then has its Center Frequency as a 64-bit double, the number of
+ * horizontal and of vertical data points as 32-bit integers, and then the
+ * horizontal column and the vertical column of 64-bit double levels. As with
+ * server responses, each column is a closed trace from 0 to 360 degrees.
+ */
+public final class PolarDataExporter {
+
+    /**
+     * The magic number that identifies a binary export, which spells "PPDX"
+     * when read as little-endian bytes.
+     */
+    public static final int MAGIC_NUMBER   = 0x58445050;
+
+    /**
+     * The binary export format version written by this exporter.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    /**
+     * The size of the binary export header, in bytes.
+     */
+    public static final int HEADER_SIZE    = 16;
+
+    // The position of the number of bands in the binary header, which is
+    // only known once all of the bands have been written.
+    private static final int NUMBER_OF_BANDS_POSITION = 8;
+
+    // Round angles to a micro-degree, to hide binary fractions of the
+    // angle increment.
+    private static final double ANGLE_SCALE = 1.0e6d;
+
+    // The size of the output buffer, which bounds the memory used.
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @SuppressWarnings("nls")
+    private static final byte[] CSV_HEADER =
+            "Center Frequency (Hz),Plane,Angle (deg),Level (dB)\r\n"
+                    .getBytes( StandardCharsets.US_ASCII );
+
+    @SuppressWarnings("nls")
+    private static final byte[] HORIZONTAL_PLANE_CELL = ",Horizontal,"
+            .getBytes( StandardCharsets.US_ASCII );
+
+    @SuppressWarnings("nls")
+    private static final byte[] VERTICAL_PLANE_CELL = ",Vertical,"
+            .getBytes( StandardCharsets.US_ASCII );
+
+    /**
+     * The default constructor is disabled, as this is a static utilities class.
+     */
+    private PolarDataExporter() {}
+
+    /**
+     * Exports bands as CSV text.
+     *
+     * @param file The CSV file to write
+     * @param bands The bands to export, which are only iterated once
+     * @return The number of bands exported
+     * @throws IOException If the file can't be written
+     */
+    public static int exportCsv( final File file, final Iterable< PolarResponse > bands )
+            throws IOException {
+        final ByteBuffer byteBuffer = ByteBuffer.allocate( BUFFER_SIZE );
+        final StringBuilder row = new StringBuilder( 64 );
+        int numberOfBands = 0;
+        try ( final FileChannel fileChannel = openForWriting( file ) ) {
+            put( fileChannel, byteBuffer, CSV_HEADER );
+            for ( final PolarResponse band : bands ) {
+                final byte[] centerFrequencyCell = Double.toString( band.getCenterFrequency() )
+                        .getBytes( StandardCharsets.US_ASCII );
+                putCsvPlane( fileChannel,
+                             byteBuffer,
+                             row,
+                             centerFrequencyCell,
+                             HORIZONTAL_PLANE_CELL,
+                             band.getHorizontalAmplitude(),
+                             band.getHorizontalAngleIncrementDegrees() );
+                putCsvPlane( fileChannel,
+                             byteBuffer,
+                             row,
+                             centerFrequencyCell,
+                             VERTICAL_PLANE_CELL,
+                             band.getVerticalAmplitude(),
+                             band.getVerticalAngleIncrementDegrees() );
+                numberOfBands++;
+            }
+            flush( fileChannel, byteBuffer );
+        }
+
+        return numberOfBands;
+    }
+
+    // Write one row per angle of a plane.
+    private static void putCsvPlane( final FileChannel fileChannel,
+                                     final ByteBuffer byteBuffer,
+                                     final StringBuilder row,
+                                     final byte[] centerFrequencyCell,
+                                     final byte[] planeCell,
+                                     final double[] amplitude,
+                                     final double angleIncrementDegrees )
+            throws IOException {
+        for ( int i = 0; i < amplitude.length; i++ ) {
+            row.setLength( 0 );
+            row.append( Math.rint( i * angleIncrementDegrees * ANGLE_SCALE ) / ANGLE_SCALE )
+                    .append( ',' ).append( amplitude[ i ] )
+                    .append( '\r' ).append( '\n' );
+
+            put( fileChannel, byteBuffer, centerFrequencyCell );
+            put( fileChannel, byteBuffer, planeCell );
+            if ( byteBuffer.remaining() < row.length() ) {
+                flush( fileChannel, byteBuffer );
+            }
+            for ( int j = 0; j < row.length(); j++ ) {
+                byteBuffer.put( ( byte ) row.charAt( j ) );
+            }
+        }
+    }
+
+    /**
+     * Exports bands as columnar little-endian binary.
+     *
+     * @param file The binary file to write
+     * @param bands The bands to export, which are only iterated once
+     * @return The number of bands exported
+     * @throws IOException If the file can't be written
+     */
+    public static int exportBinary( final File file, final Iterable< PolarResponse > bands )
+            throws IOException {
+        final ByteBuffer byteBuffer = ByteBuffer.allocate( BUFFER_SIZE )
+                .order( ByteOrder.LITTLE_ENDIAN );
+        int numberOfBands = 0;
+        try ( final FileChannel fileChannel = openForWriting( file ) ) {
+            byteBuffer.putInt( MAGIC_NUMBER );
+            byteBuffer.putInt( FORMAT_VERSION );
+            byteBuffer.putInt( 0 );
+            byteBuffer.putInt( 0 );
+
+            for ( final PolarResponse band : bands ) {
+                final double[] horizontalAmplitude = band.getHorizontalAmplitude();
+                final double[] verticalAmplitude = band.getVerticalAmplitude();
+                if ( byteBuffer.remaining() < 16 ) {
+                    flush( fileChannel, byteBuffer );
+                }
+                byteBuffer.putDouble( band.getCenterFrequency() );
+                byteBuffer.putInt( horizontalAmplitude.length );
+                byteBuffer.putInt( verticalAmplitude.length );
+                putDoubles( fileChannel, byteBuffer, horizontalAmplitude );
+                putDoubles( fileChannel, byteBuffer, verticalAmplitude );
+                numberOfBands++;
+            }
+            flush( fileChannel, byteBuffer );
+
+            // Now that the number of bands is known, patch it into the header.
+            byteBuffer.putInt( numberOfBands );
+            byteBuffer.flip();
+            while ( byteBuffer.hasRemaining() ) {
+                fileChannel.write( byteBuffer,
+                                   NUMBER_OF_BANDS_POSITION + byteBuffer.position() );
+            }
+        }
+
+        return numberOfBands;
+    }
+
+    private static FileChannel openForWriting( final File file ) throws IOException {
+        return FileChannel.open( file.toPath(),
+                                 StandardOpenOption.CREATE,
+                                 StandardOpenOption.TRUNCATE_EXISTING,
+                                 StandardOpenOption.WRITE );
+    }
+
+    private static void put( final FileChannel fileChannel,
+                             final ByteBuffer byteBuffer,
+                             final byte[] bytes )
+            throws IOException {
+        if ( byteBuffer.remaining() < bytes.length ) {
+            flush( fileChannel, byteBuffer );
+        }
+        byteBuffer.put( bytes );
+    }
+
+    private static void putDoubles( final FileChannel fileChannel,
+                                    final ByteBuffer byteBuffer,
+                                    final double[] values )
+            throws IOException {
+        for ( final double value : values ) {
+            if ( byteBuffer.remaining() < Double.BYTES ) {
+                flush( fileChannel, byteBuffer );
+            }
+            byteBuffer.putDouble( value );
+        }
+    }
+
+    // Write out the buffered bytes, and clear the buffer for reuse.
+    private static void flush( final FileChannel fileChannel, final ByteBuffer byteBuffer )
+            throws IOException {
+        byteBuffer.flip();
+        while ( byteBuffer.hasRemaining() ) {
+            fileChannel.write( byteBuffer );
+        }
+        byteBuffer.clear();
+    }
+}
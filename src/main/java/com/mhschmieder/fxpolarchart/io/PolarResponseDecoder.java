@@ -0,0 +1,364 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.io;
+
+import com.mhschmieder.fxpolarchart.graphics.PolarTraceDecimator;
+import com.mhschmieder.fxpolarchart.model.PolarResponse;
+import com.mhschmieder.fxpolarchart.util.DoubleArrayPool;
+import com.mhschmieder.jacoustics.RelativeBandwidth;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * A decoder for the payload of a polar response server response into an
+ * immutable {@link PolarResponse} snapshot.
+ * <p>
+ * The payload is either a ZIP file with one entry per plane of little-endian
+ * doubles, or a framed body that holds both planes directly, which may also
+ * be gzip-compressed when the server applies a Content-Encoding. The framed
+ * body avoids the ZIP headers and entry walk for what are only two small
+ * planes, and the ZIP payload remains the fallback for older servers. The
+ * format is sniffed from the leading magic number, as the request task only
+ * hands over the body.
+ * <p>
+ * The framed body is little-endian, and starts with a 16-byte header of four
+ * 32-bit integers: the magic number, the format version, the number of
+ * horizontal data points and the number of vertical data points. The
+ * horizontal plane then follows as doubles, and then the vertical plane.
+ * <p>
+ * The angular resolution is inferred from the number of values in each
+ * plane. To close the plot curve, the server repeats the on-axis 0-degree
+ * data at 360 degrees, so the resolution is 360 degrees divided by one less
+ * than the count.
+ */
+public final class PolarResponseDecoder {
+
+    /**
+     * The name of the ZIP entry for the horizontal polar response.
+     */
+    public static final String HORIZONTAL_ENTRY_NAME = "PolarResponseHz.bin"; //$NON-NLS-1$
+
+    /**
+     * The name of the ZIP entry for the vertical polar response.
+     */
+    public static final String VERTICAL_ENTRY_NAME = "PolarResponseVt.bin"; //$NON-NLS-1$
+
+    /**
+     * The magic number that identifies a framed body, which spells "PPRF"
+     * when read as little-endian bytes.
+     */
+    public static final int FRAMED_MAGIC_NUMBER   = 0x46525050;
+
+    /**
+     * The only framed body format version understood by this decoder.
+     */
+    public static final int FRAMED_FORMAT_VERSION = 1;
+
+    /**
+     * The size of the framed body header, in bytes.
+     */
+    public static final int FRAMED_HEADER_SIZE    = 16;
+
+    // The leading bytes of a gzip stream, as a little-endian short.
+    private static final int GZIP_MAGIC_NUMBER = GZIPInputStream.GZIP_MAGIC;
+
+    // The initial capacity of a trace, which grows as needed while reading.
+    // Scratch traces are sized in powers of two, to limit the number of
+    // distinct array lengths in the buffer pool.
+    private static final int INITIAL_NUMBER_OF_DATA_POINTS = 512;
+
+    // The number of bytes in one encoded data point.
+    private static final int BYTES_PER_DATA_POINT = Double.BYTES;
+
+    // The size of the per-thread byte buffer for the inflated entry data.
+    private static final int TRANSFER_BUFFER_SIZE = 8192;
+
+    // Reuse one byte buffer per decoding thread, rather than chaining new
+    // buffered streams to every entry.
+    private static final ThreadLocal< byte[] > TRANSFER_BUFFER =
+            ThreadLocal.withInitial( () -> new byte[ TRANSFER_BUFFER_SIZE ] );
+
+    /**
+     * The default constructor is disabled, as this is a static utilities class.
+     */
+    private PolarResponseDecoder() {}
+
+    /**
+     * Decodes both planes of a server response into a snapshot, whether it
+     * is a framed body, a gzip-compressed framed body, or a ZIP payload.
+     *
+     * @param serverResponseData The payload of the server response
+     * @param acousticSourceModel The Acoustic Source Model requested
+     * @param relativeBandwidth The Relative Bandwidth requested
+     * @param centerFrequency The Center Frequency requested
+     * @return The decoded snapshot
+     * @throws PolarResponseFormatException If a plane is missing or invalid
+     * @throws IOException If the payload can't be read or inflated
+     */
+    @SuppressWarnings("nls")
+    public static PolarResponse decodeServerResponse( final byte[] serverResponseData,
+                                                      final String acousticSourceModel,
+                                                      final RelativeBandwidth relativeBandwidth,
+                                                      final double centerFrequency )
+            throws IOException {
+        if ( serverResponseData == null ) {
+            throw new PolarResponseFormatException( "Missing, Incomplete, or Invalid Response Data." );
+        }
+
+        // Sniff the payload format, and fall back to ZIP for older servers.
+        final ByteBuffer byteBuffer = ByteBuffer.wrap( serverResponseData )
+                .order( ByteOrder.LITTLE_ENDIAN );
+        if ( ( serverResponseData.length >= 2 )
+                && ( ( byteBuffer.getShort( 0 ) & 0xFFFF ) == GZIP_MAGIC_NUMBER ) ) {
+            return decodeFramedBody( inflateGzipBody( serverResponseData ),
+                                     acousticSourceModel,
+                                     relativeBandwidth,
+                                     centerFrequency );
+        }
+        if ( ( serverResponseData.length >= 4 ) && ( byteBuffer.getInt( 0 ) == FRAMED_MAGIC_NUMBER ) ) {
+            return decodeFramedBody( byteBuffer, acousticSourceModel, relativeBandwidth, centerFrequency );
+        }
+
+        return decodeZipPayload( serverResponseData,
+                                 acousticSourceModel,
+                                 relativeBandwidth,
+                                 centerFrequency );
+    }
+
+    // Decode a ZIP payload with one entry per plane.
+    @SuppressWarnings("nls")
+    private static PolarResponse decodeZipPayload( final byte[] serverResponseData,
+                                                   final String acousticSourceModel,
+                                                   final RelativeBandwidth relativeBandwidth,
+                                                   final double centerFrequency )
+            throws IOException {
+        // Chain a ZipInputStream to a ByteArrayInputStream, to inflate the
+        // ZIP entries.
+        // NOTE: The entry streams are deliberately not closed, as closing a
+        //  stream chained to a ZIP entry closes the whole ZIP stream.
+        double[] horizontalAmplitude = null;
+        double[] verticalAmplitude = null;
+        try ( final ByteArrayInputStream byteArrayInputStream =
+                new ByteArrayInputStream( serverResponseData );
+                final ZipInputStream zipInputStream = new ZipInputStream( byteArrayInputStream ) ) {
+            ZipEntry zipEntry = null;
+            while ( ( zipEntry = zipInputStream.getNextEntry() ) != null ) {
+                final String name = zipEntry.getName();
+                if ( HORIZONTAL_ENTRY_NAME.equalsIgnoreCase( name ) ) {
+                    horizontalAmplitude = loadPolarAmplitudeData( zipInputStream );
+                    if ( horizontalAmplitude == null ) {
+                        throw new PolarResponseFormatException( "Missing, Incomplete, or Invalid Horizontal Polar Response." );
+                    }
+                }
+                else if ( VERTICAL_ENTRY_NAME.equalsIgnoreCase( name ) ) {
+                    verticalAmplitude = loadPolarAmplitudeData( zipInputStream );
+                    if ( verticalAmplitude == null ) {
+                        throw new PolarResponseFormatException( "Missing, Incomplete, or Invalid Vertical Polar Response." );
+                    }
+                }
+
+                // Close the current ZIP entry to prepare to read the next one.
+                zipInputStream.closeEntry();
+            }
+        }
+
+        if ( horizontalAmplitude == null ) {
+            throw new PolarResponseFormatException( "Missing, Incomplete, or Invalid Horizontal Polar Response." );
+        }
+        if ( verticalAmplitude == null ) {
+            throw new PolarResponseFormatException( "Missing, Incomplete, or Invalid Vertical Polar Response." );
+        }
+
+        return new PolarResponse( acousticSourceModel,
+                                  relativeBandwidth,
+                                  centerFrequency,
+                                  horizontalAmplitude,
+                                  verticalAmplitude );
+    }
+
+    // Inflate a gzip-compressed framed body.
+    private static ByteBuffer inflateGzipBody( final byte[] serverResponseData )
+            throws IOException {
+        final byte[] transferBuffer = TRANSFER_BUFFER.get();
+        try ( final GZIPInputStream gzipInputStream =
+                new GZIPInputStream( new ByteArrayInputStream( serverResponseData ) );
+                final ByteArrayOutputStream byteArrayOutputStream =
+                        new ByteArrayOutputStream( 4 * serverResponseData.length ) ) {
+            int bytesRead = 0;
+            while ( ( bytesRead = gzipInputStream.read( transferBuffer ) ) >= 0 ) {
+                byteArrayOutputStream.write( transferBuffer, 0, bytesRead );
+            }
+            return ByteBuffer.wrap( byteArrayOutputStream.toByteArray() )
+                    .order( ByteOrder.LITTLE_ENDIAN );
+        }
+    }
+
+    // Decode a framed body, which holds both planes directly.
+    @SuppressWarnings("nls")
+    private static PolarResponse decodeFramedBody( final ByteBuffer byteBuffer,
+                                                   final String acousticSourceModel,
+                                                   final RelativeBandwidth relativeBandwidth,
+                                                   final double centerFrequency )
+            throws PolarResponseFormatException {
+        try {
+            if ( byteBuffer.getInt() != FRAMED_MAGIC_NUMBER ) {
+                throw new PolarResponseFormatException( "Missing, Incomplete, or Invalid Response Data." );
+            }
+            if ( byteBuffer.getInt() != FRAMED_FORMAT_VERSION ) {
+                throw new PolarResponseFormatException( "Unsupported Response Data Version." );
+            }
+
+            final int numberOfHorizontalDataPoints = byteBuffer.getInt();
+            final int numberOfVerticalDataPoints = byteBuffer.getInt();
+            if ( !PolarTraceDecimator.isSupportedNumberOfDataPoints( numberOfHorizontalDataPoints ) ) {
+                throw new PolarResponseFormatException( "Missing, Incomplete, or Invalid Horizontal Polar Response." );
+            }
+            if ( !PolarTraceDecimator.isSupportedNumberOfDataPoints( numberOfVerticalDataPoints ) ) {
+                throw new PolarResponseFormatException( "Missing, Incomplete, or Invalid Vertical Polar Response." );
+            }
+
+            final double[] horizontalAmplitude = new double[ numberOfHorizontalDataPoints ];
+            final double[] verticalAmplitude = new double[ numberOfVerticalDataPoints ];
+            byteBuffer.asDoubleBuffer().get( horizontalAmplitude ).get( verticalAmplitude );
+
+            return new PolarResponse( acousticSourceModel,
+                                      relativeBandwidth,
+                                      centerFrequency,
+                                      horizontalAmplitude,
+                                      verticalAmplitude );
+        }
+        catch ( final BufferUnderflowException bue ) {
+            throw new PolarResponseFormatException( "Missing, Incomplete, or Invalid Response Data." );
+        }
+    }
+
+    /**
+     * Loads a closed polar amplitude trace from a ZIP entry, reading
+     * little-endian doubles until the end of the entry.
+     *
+     * @param entryInputStream The stream of the entry, which for a ZIP stream
+     *            is the ZIP stream itself, positioned at the entry
+     * @return The closed polar trace, or {@code null} if it doesn't cover the
+     *         full circle on a supported angular grid
+     * @throws IOException If the entry can't be read
+     */
+    public static double[] loadPolarAmplitudeData( final InputStream entryInputStream )
+            throws IOException {
+        final DoubleArrayPool doubleArrayPool = DoubleArrayPool.getSharedPool();
+        final byte[] transferBuffer = TRANSFER_BUFFER.get();
+
+        // Decode into a pooled scratch trace, as the final length isn't known
+        // until the end of the entry.
+        double[] amplitude = doubleArrayPool.acquire( INITIAL_NUMBER_OF_DATA_POINTS );
+        int numberOfDataPoints = 0;
+        try {
+            // Decode the little-endian doubles directly from the inflated
+            // bytes, carrying any partial value over to the next read.
+            int numberOfBytes = 0;
+            int bytesRead = 0;
+            while ( ( bytesRead = entryInputStream.read( transferBuffer,
+                                                         numberOfBytes,
+                                                         transferBuffer.length
+                                                                 - numberOfBytes ) ) >= 0 ) {
+                numberOfBytes += bytesRead;
+                final int numberOfValues = numberOfBytes / BYTES_PER_DATA_POINT;
+                if ( ( numberOfDataPoints + numberOfValues ) > amplitude.length ) {
+                    amplitude = growAmplitude( doubleArrayPool,
+                                               amplitude,
+                                               numberOfDataPoints,
+                                               numberOfDataPoints + numberOfValues );
+                }
+
+                int offset = 0;
+                for ( int i = 0; i < numberOfValues; i++ ) {
+                    amplitude[ numberOfDataPoints++ ] = getLittleEndianDouble( transferBuffer,
+                                                                               offset );
+                    offset += BYTES_PER_DATA_POINT;
+                }
+
+                numberOfBytes -= offset;
+                System.arraycopy( transferBuffer, offset, transferBuffer, 0, numberOfBytes );
+            }
+
+            // Reject truncated or malformed responses that don't cover the
+            // full circle on an even angular grid, including any trailing
+            // partial value.
+            if ( ( numberOfBytes != 0 )
+                    || !PolarTraceDecimator.isSupportedNumberOfDataPoints( numberOfDataPoints ) ) {
+                return null;
+            }
+
+            // The snapshot owns its traces outright, so they are copied out
+            // of the scratch trace at their exact length rather than pooled.
+            return Arrays.copyOf( amplitude, numberOfDataPoints );
+        }
+        finally {
+            doubleArrayPool.release( amplitude );
+        }
+    }
+
+    // Replace a pooled scratch trace with one of at least the required
+    // capacity, preserving the values decoded so far.
+    private static double[] growAmplitude( final DoubleArrayPool doubleArrayPool,
+                                           final double[] amplitude,
+                                           final int numberOfDataPoints,
+                                           final int requiredNumberOfDataPoints ) {
+        int capacity = amplitude.length;
+        while ( capacity < requiredNumberOfDataPoints ) {
+            capacity *= 2;
+        }
+
+        final double[] grownAmplitude = doubleArrayPool.acquire( capacity );
+        System.arraycopy( amplitude, 0, grownAmplitude, 0, numberOfDataPoints );
+        doubleArrayPool.release( amplitude );
+
+        return grownAmplitude;
+    }
+
+    // Decode one little-endian IEEE 754 double from a byte buffer.
+    private static double getLittleEndianDouble( final byte[] buffer, final int offset ) {
+        long bits = 0L;
+        for ( int i = BYTES_PER_DATA_POINT - 1; i >= 0; i-- ) {
+            bits = ( bits << 8 ) | ( buffer[ offset + i ] & 0xFFL );
+        }
+        return Double.longBitsToDouble( bits );
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.io;
+
+import com.mhschmieder.fxpolarchart.graphics.PolarTraceDecimator;
+import com.mhschmieder.fxpolarchart.model.PolarResponse;
+import com.mhschmieder.fxpolarchart.model.PolarResponseKey;
+import com.mhschmieder.fxpolarchart.net.PolarResponseValidator;
+import com.mhschmieder.jacoustics.RelativeBandwidth;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * A compact binary file that holds the last displayed polar response, so
+ * that the viewer can paint it immediately on its next launch rather than
+ * come up empty until a server request completes.
+ * <p>
+ * There is one file per Acoustic Source Model, so that several viewers in
+ * one application, such as one per loudspeaker in a system design, don't
+ * overwrite each other's response.
+ * <p>
+ * The file is big-endian, as written by {@link DataOutputStream}, and holds
+ * the magic number and format version, the key of the band, the name of the
+ * Relative Bandwidth, the Center Frequency, the ETag and Last-Modified
+ * validators (as empty strings if absent), and then the number of data
+ * points and the levels of the horizontal plane and then the vertical plane.
+ * <p>
+ * The response is restored with a validation time of zero, so that it is
+ * always revalidated with the server before it is relied upon.
+ */
+public final class PolarResponseWarmStartFile {
+
+    /**
+     * The magic number that identifies a warm start file, which spells "PPWS"
+     * when read as big-endian bytes.
+     */
+    public static final int MAGIC_NUMBER   = 0x50505753;
+
+    /**
+     * The only warm start file format version understood by this class.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    private final File file;
+
+    // The restored response and its band and validators.
+    private PolarResponseKey polarResponseKey;
+    private PolarResponse polarResponse;
+    private PolarResponseValidator polarResponseValidator;
+
+    public PolarResponseWarmStartFile( final File pFile ) {
+        file = pFile;
+    }
+
+    /**
+     * Returns the default warm start file for an Acoustic Source Model, in a
+     * hidden folder of the user's home directory.
+     * <p>
+     * NOTE: Characters that aren't safe in file names are replaced, so two
+     *  models may in rare cases share a file, but the model is also saved in
+     *  the file and is checked against the requested one when it is loaded.
+     *
+     * @param acousticSourceModel The Acoustic Source Model, as requested from
+     *            the server
+     * @return The default warm start file for the Acoustic Source Model
+     */
+    @SuppressWarnings("nls")
+    public static File getDefaultFile( final String acousticSourceModel ) {
+        return new File( new File( System.getProperty( "user.home" ), ".fxpolarchart" ),
+                         "LastPolarResponse-"
+                                 + acousticSourceModel.replaceAll( "[^A-Za-z0-9._-]", "_" )
+                                 + ".bin" );
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public PolarResponseKey getPolarResponseKey() {
+        return polarResponseKey;
+    }
+
+    public PolarResponse getPolarResponse() {
+        return polarResponse;
+    }
+
+    public PolarResponseValidator getPolarResponseValidator() {
+        return polarResponseValidator;
+    }
+
+    /**
+     * Restores the response from the file, if there is a valid one.
+     *
+     * @return {@code true} if a response was restored
+     * @throws IOException If the file exists but can't be read
+     */
+    @SuppressWarnings("nls")
+    public boolean load() throws IOException {
+        polarResponseKey = null;
+        polarResponse = null;
+        polarResponseValidator = null;
+        if ( !file.isFile() ) {
+            return false;
+        }
+
+        try ( final DataInputStream dataInputStream =
+                new DataInputStream( new BufferedInputStream( new FileInputStream( file ) ) ) ) {
+            if ( ( dataInputStream.readInt() != MAGIC_NUMBER )
+                    || ( dataInputStream.readInt() != FORMAT_VERSION ) ) {
+                return false;
+            }
+
+            final String acousticSourceModel = dataInputStream.readUTF();
+            final int octaveDivider = dataInputStream.readInt();
+            final int bandIndex = dataInputStream.readInt();
+            final String relativeBandwidthName = dataInputStream.readUTF();
+            final double centerFrequency = dataInputStream.readDouble();
+            final String entityTag = dataInputStream.readUTF();
+            final String lastModified = dataInputStream.readUTF();
+            final double[] horizontalAmplitude = readAmplitude( dataInputStream );
+            final double[] verticalAmplitude = readAmplitude( dataInputStream );
+            if ( ( horizontalAmplitude == null ) || ( verticalAmplitude == null ) ) {
+                return false;
+            }
+
+            final RelativeBandwidth relativeBandwidth;
+            try {
+                relativeBandwidth = RelativeBandwidth.valueOf( relativeBandwidthName );
+            }
+            catch ( final IllegalArgumentException iae ) {
+                return false;
+            }
+
+            polarResponseKey = new PolarResponseKey( acousticSourceModel, octaveDivider, bandIndex );
+            polarResponse = new PolarResponse( acousticSourceModel,
+                                               relativeBandwidth,
+                                               centerFrequency,
+                                               horizontalAmplitude,
+                                               verticalAmplitude );
+            polarResponseValidator = new PolarResponseValidator( entityTag.isEmpty() ? null : entityTag,
+                                                                 lastModified.isEmpty()
+                                                                     ? null
+                                                                     : lastModified,
+                                                                 0L );
+            return true;
+        }
+    }
+
+    private static double[] readAmplitude( final DataInputStream dataInputStream )
+            throws IOException {
+        final int numberOfDataPoints = dataInputStream.readInt();
+        if ( !PolarTraceDecimator.isSupportedNumberOfDataPoints( numberOfDataPoints ) ) {
+            return null;
+        }
+
+        final double[] amplitude = new double[ numberOfDataPoints ];
+        for ( int i = 0; i < numberOfDataPoints; i++ ) {
+            amplitude[ i ] = dataInputStream.readDouble();
+        }
+        return amplitude;
+    }
+
+    /**
+     * Saves a response to the file, replacing the previous one atomically so
+     * that an interrupted save never leaves a corrupt file behind.
+     *
+     * @param pPolarResponseKey The key of the band of the response
+     * @param pPolarResponse The response to save
+     * @param pPolarResponseValidator The validators of the response, or
+     *            {@code null} if it has none
+     * @throws IOException If the file can't be written
+     */
+    @SuppressWarnings("nls")
+    public void save( final PolarResponseKey pPolarResponseKey,
+                      final PolarResponse pPolarResponse,
+                      final PolarResponseValidator pPolarResponseValidator )
+            throws IOException {
+        final File directory = file.getAbsoluteFile().getParentFile();
+        Files.createDirectories( directory.toPath() );
+
+        final File tempFile = File.createTempFile( "LastPolarResponse", ".tmp", directory );
+        try {
+            try ( final DataOutputStream dataOutputStream =
+                    new DataOutputStream( new BufferedOutputStream( new FileOutputStream( tempFile ) ) ) ) {
+                dataOutputStream.writeInt( MAGIC_NUMBER );
+                dataOutputStream.writeInt( FORMAT_VERSION );
+                dataOutputStream.writeUTF( pPolarResponseKey.getAcousticSourceModel() );
+                dataOutputStream.writeInt( pPolarResponseKey.getOctaveDivider() );
+                dataOutputStream.writeInt( pPolarResponseKey.getBandIndex() );
+                dataOutputStream.writeUTF( pPolarResponse.getRelativeBandwidth().name() );
+                dataOutputStream.writeDouble( pPolarResponse.getCenterFrequency() );
+                dataOutputStream.writeUTF( ( ( pPolarResponseValidator != null )
+                        && ( pPolarResponseValidator.getEntityTag() != null ) )
+                            ? pPolarResponseValidator.getEntityTag()
+                            : "" );
+                dataOutputStream.writeUTF( ( ( pPolarResponseValidator != null )
+                        && ( pPolarResponseValidator.getLastModified() != null ) )
+                            ? pPolarResponseValidator.getLastModified()
+                            : "" );
+                writeAmplitude( dataOutputStream, pPolarResponse.getHorizontalAmplitude() );
+                writeAmplitude( dataOutputStream, pPolarResponse.getVerticalAmplitude() );
+            }
+
+            Files.move( tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING );
+        }
+        finally {
+            Files.deleteIfExists( tempFile.toPath() );
+        }
+    }
+
+    private static void writeAmplitude( final DataOutputStream dataOutputStream,
+                                        final double[] amplitude )
+            throws IOException {
+        dataOutputStream.writeInt( amplitude.length );
+        for ( final double value : amplitude ) {
+            dataOutputStream.writeDouble( value );
+        }
+    }
+}
@@ -0,0 +1,340 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.io;
+
+import com.mhschmieder.fxpolarchart.model.PolarResponse;
+import com.mhschmieder.fxpolarchart.model.PolarResponseKey;
+import com.mhschmieder.jacoustics.RelativeBandwidth;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * A read-only session archive of many polar responses, such as every band
+ * viewed for several Acoustic Source Models, which can be stepped through
+ * offline.
+ * <p>
+ * The archive is a ZIP file with an index entry first, followed by one
+ * directory per response that holds the same plane entries of little-endian
+ * doubles as a server response. Opening an archive only reads the ZIP
+ * central directory and the small index, and loading a response seeks
+ * straight to its two plane entries, so no other response is ever inflated.
+ * <p>
+ * The index entry is big-endian, as written by {@link DataOutputStream}, and
+ * holds the magic number, the format version and the number of responses,
+ * followed for each response by its Acoustic Source Model, the name of its
+ * Relative Bandwidth, its octave divider, its band index, its Center
+ * Frequency and its entry directory.
+ * <p>
+ * Loading is thread-safe, as {@link ZipFile} allows concurrent entry reads.
+ */
+public final class PolarSessionArchive implements Closeable {
+
+    /**
+     * The magic number that identifies a session archive index, which spells
+     * "PSES" when read as big-endian bytes.
+     */
+    public static final int MAGIC_NUMBER     = 0x50534553;
+
+    /**
+     * The only session archive format version understood by this archive.
+     */
+    public static final int FORMAT_VERSION   = 1;
+
+    /**
+     * The name of the index entry, which is always the first entry.
+     */
+    public static final String INDEX_ENTRY_NAME = "SessionIndex.bin"; //$NON-NLS-1$
+
+    // The prefix of the entry directory for each response.
+    private static final String RESPONSE_DIRECTORY_PREFIX = "responses/"; //$NON-NLS-1$
+
+    // Describe where one response sits in the archive, and how to label it.
+    private static final class IndexEntry {
+
+        private final String acousticSourceModel;
+        private final RelativeBandwidth relativeBandwidth;
+        private final double centerFrequency;
+        private final String directoryName;
+
+        private IndexEntry( final String pAcousticSourceModel,
+                            final RelativeBandwidth pRelativeBandwidth,
+                            final double pCenterFrequency,
+                            final String pDirectoryName ) {
+            acousticSourceModel = pAcousticSourceModel;
+            relativeBandwidth = pRelativeBandwidth;
+            centerFrequency = pCenterFrequency;
+            directoryName = pDirectoryName;
+        }
+    }
+
+    private final ZipFile zipFile;
+
+    // Index the responses in archive order, which is the order they were
+    // saved in.
+    private final Map< PolarResponseKey, IndexEntry > index;
+
+    /**
+     * Opens a session archive and reads its index, without inflating any of
+     * its responses.
+     *
+     * @param archiveFile The session archive to open
+     * @throws IOException If the file can't be opened or isn't a valid
+     *             session archive
+     */
+    @SuppressWarnings("nls")
+    public PolarSessionArchive( final File archiveFile ) throws IOException {
+        zipFile = new ZipFile( archiveFile );
+        try {
+            final ZipEntry indexEntry = zipFile.getEntry( INDEX_ENTRY_NAME );
+            if ( indexEntry == null ) {
+                throw new PolarResponseFormatException( "Not a Polar Response Session Archive." );
+            }
+
+            try ( final DataInputStream indexInputStream =
+                    new DataInputStream( new BufferedInputStream( zipFile
+                            .getInputStream( indexEntry ) ) ) ) {
+                index = readIndex( indexInputStream );
+            }
+        }
+        catch ( final IOException | RuntimeException e ) {
+            zipFile.close();
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("nls")
+    private static Map< PolarResponseKey, IndexEntry > readIndex( final DataInputStream indexInputStream )
+            throws IOException {
+        if ( indexInputStream.readInt() != MAGIC_NUMBER ) {
+            throw new PolarResponseFormatException( "Not a Polar Response Session Archive." );
+        }
+        if ( indexInputStream.readInt() != FORMAT_VERSION ) {
+            throw new PolarResponseFormatException( "Unsupported Session Archive Version." );
+        }
+
+        final int numberOfResponses = indexInputStream.readInt();
+        if ( numberOfResponses < 0 ) {
+            throw new PolarResponseFormatException( "Invalid Session Archive Index." );
+        }
+
+        final Map< PolarResponseKey, IndexEntry > index = new LinkedHashMap<>( 2
+                * numberOfResponses );
+        for ( int i = 0; i < numberOfResponses; i++ ) {
+            final String acousticSourceModel = indexInputStream.readUTF();
+            final String relativeBandwidthName = indexInputStream.readUTF();
+            final int octaveDivider = indexInputStream.readInt();
+            final int bandIndex = indexInputStream.readInt();
+            final double centerFrequency = indexInputStream.readDouble();
+            final String directoryName = indexInputStream.readUTF();
+
+            final RelativeBandwidth relativeBandwidth;
+            try {
+                relativeBandwidth = RelativeBandwidth.valueOf( relativeBandwidthName );
+            }
+            catch ( final IllegalArgumentException iae ) {
+                throw new PolarResponseFormatException( "Unsupported Relative Bandwidth in Session Archive: "
+                        + relativeBandwidthName );
+            }
+
+            index.put( new PolarResponseKey( acousticSourceModel, octaveDivider, bandIndex ),
+                       new IndexEntry( acousticSourceModel,
+                                       relativeBandwidth,
+                                       centerFrequency,
+                                       directoryName ) );
+        }
+
+        return Collections.unmodifiableMap( index );
+    }
+
+    public int getNumberOfResponses() {
+        return index.size();
+    }
+
+    public boolean contains( final PolarResponseKey polarResponseKey ) {
+        return index.containsKey( polarResponseKey );
+    }
+
+    /**
+     * Returns the keys of all of the responses in the archive, in the order
+     * they were saved in.
+     *
+     * @return The keys of all of the archived responses
+     */
+    public Iterable< PolarResponseKey > getKeys() {
+        return index.keySet();
+    }
+
+    /**
+     * Loads one response, inflating only its two plane entries.
+     *
+     * @param polarResponseKey The key of the response to load
+     * @return The response, or {@code null} if it isn't in the archive
+     * @throws IOException If the response entries are missing or invalid
+     */
+    @SuppressWarnings("nls")
+    public PolarResponse load( final PolarResponseKey polarResponseKey ) throws IOException {
+        final IndexEntry indexEntry = index.get( polarResponseKey );
+        if ( indexEntry == null ) {
+            return null;
+        }
+
+        final double[] horizontalAmplitude =
+                loadPolarAmplitudeData( indexEntry.directoryName
+                        + PolarResponseDecoder.HORIZONTAL_ENTRY_NAME );
+        if ( horizontalAmplitude == null ) {
+            throw new PolarResponseFormatException( "Missing, Incomplete, or Invalid Horizontal Polar Response: "
+                    + polarResponseKey );
+        }
+        final double[] verticalAmplitude =
+                loadPolarAmplitudeData( indexEntry.directoryName
+                        + PolarResponseDecoder.VERTICAL_ENTRY_NAME );
+        if ( verticalAmplitude == null ) {
+            throw new PolarResponseFormatException( "Missing, Incomplete, or Invalid Vertical Polar Response: "
+                    + polarResponseKey );
+        }
+
+        return new PolarResponse( indexEntry.acousticSourceModel,
+                                  indexEntry.relativeBandwidth,
+                                  indexEntry.centerFrequency,
+                                  horizontalAmplitude,
+                                  verticalAmplitude );
+    }
+
+    // Load one plane entry, or return null if it is missing or invalid.
+    private double[] loadPolarAmplitudeData( final String entryName ) throws IOException {
+        final ZipEntry zipEntry = zipFile.getEntry( entryName );
+        if ( zipEntry == null ) {
+            return null;
+        }
+
+        try ( final InputStream entryInputStream = zipFile.getInputStream( zipEntry ) ) {
+            return PolarResponseDecoder.loadPolarAmplitudeData( entryInputStream );
+        }
+    }
+
+    /**
+     * Closes the underlying file, after which no more responses can be loaded.
+     */
+    @Override
+    public void close() throws IOException {
+        zipFile.close();
+    }
+
+    /**
+     * Writes a session archive of a set of responses, with the index first.
+     *
+     * @param archiveFile The session archive to write
+     * @param polarResponses The responses to archive, by key
+     * @throws IOException If the archive can't be written
+     */
+    public static void write( final File archiveFile,
+                              final Map< PolarResponseKey, PolarResponse > polarResponses )
+            throws IOException {
+        // Chain a ZipOutputStream to a BufferedOutputStream to a
+        // FileOutputStream, for better performance and to properly deflate
+        // ZIP entries.
+        try ( final FileOutputStream fileOutputStream = new FileOutputStream( archiveFile );
+                final BufferedOutputStream bufferedOutputStream =
+                        new BufferedOutputStream( fileOutputStream );
+                final ZipOutputStream zipOutputStream =
+                        new ZipOutputStream( bufferedOutputStream ) ) {
+            // Write the index first, so that it is quick to find even by
+            // tools that scan the archive from the start.
+            // NOTE: The index stream is deliberately not closed, as closing a
+            //  stream chained to a ZIP entry closes the whole ZIP stream.
+            zipOutputStream.putNextEntry( new ZipEntry( INDEX_ENTRY_NAME ) );
+            final DataOutputStream indexOutputStream = new DataOutputStream( zipOutputStream );
+            indexOutputStream.writeInt( MAGIC_NUMBER );
+            indexOutputStream.writeInt( FORMAT_VERSION );
+            indexOutputStream.writeInt( polarResponses.size() );
+            int responseNumber = 0;
+            for ( final Map.Entry< PolarResponseKey, PolarResponse > entry : polarResponses
+                    .entrySet() ) {
+                final PolarResponseKey polarResponseKey = entry.getKey();
+                final PolarResponse polarResponse = entry.getValue();
+                indexOutputStream.writeUTF( polarResponseKey.getAcousticSourceModel() );
+                indexOutputStream.writeUTF( polarResponse.getRelativeBandwidth().name() );
+                indexOutputStream.writeInt( polarResponseKey.getOctaveDivider() );
+                indexOutputStream.writeInt( polarResponseKey.getBandIndex() );
+                indexOutputStream.writeDouble( polarResponse.getCenterFrequency() );
+                indexOutputStream.writeUTF( getDirectoryName( responseNumber++ ) );
+            }
+            indexOutputStream.flush();
+            zipOutputStream.closeEntry();
+
+            responseNumber = 0;
+            for ( final PolarResponse polarResponse : polarResponses.values() ) {
+                final String directoryName = getDirectoryName( responseNumber++ );
+                writePolarAmplitudeData( zipOutputStream,
+                                         directoryName + PolarResponseDecoder.HORIZONTAL_ENTRY_NAME,
+                                         polarResponse.getHorizontalAmplitude() );
+                writePolarAmplitudeData( zipOutputStream,
+                                         directoryName + PolarResponseDecoder.VERTICAL_ENTRY_NAME,
+                                         polarResponse.getVerticalAmplitude() );
+            }
+        }
+    }
+
+    @SuppressWarnings("nls")
+    private static String getDirectoryName( final int responseNumber ) {
+        return RESPONSE_DIRECTORY_PREFIX + responseNumber + "/";
+    }
+
+    // Write one plane in the same little-endian format as a server response.
+    private static void writePolarAmplitudeData( final ZipOutputStream zipOutputStream,
+                                                 final String entryName,
+                                                 final double[] amplitude )
+            throws IOException {
+        final ByteBuffer byteBuffer = ByteBuffer.allocate( Double.BYTES * amplitude.length )
+                .order( ByteOrder.LITTLE_ENDIAN );
+        byteBuffer.asDoubleBuffer().put( amplitude );
+
+        zipOutputStream.putNextEntry( new ZipEntry( entryName ) );
+        zipOutputStream.write( byteBuffer.array() );
+        zipOutputStream.closeEntry();
+    }
+}
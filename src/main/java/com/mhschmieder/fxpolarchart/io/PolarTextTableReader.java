@@ -0,0 +1,405 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.io;
+
+import com.mhschmieder.fxpolarchart.graphics.PolarTraceDecimator;
+import com.mhschmieder.fxpolarchart.model.PolarResponse;
+import com.mhschmieder.jacoustics.RelativeBandwidth;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A streaming reader for polar tables in plain text, such as the tab or
+ * comma separated exports of measurement software and the ASCII polar
+ * sections of Common Loudspeaker Format (CLF) text files.
+ * <p>
+ * A table has one section per plane, which starts with a section header line
+ * of {@code [Horizontal]} or {@code [Vertical]}, or of {@code <HORIZONTAL>}
+ * or {@code <VERTICAL>} in the CLF style. Data before any section header is
+ * taken to be horizontal. Within a section, a header row starts with a
+ * non-numeric label and lists the frequency of each column, and every data
+ * row lists an angle in degrees followed by the level in decibels for each
+ * column. Values may be separated by white space, commas or semicolons, and
+ * blank lines and lines starting with {@code #}, {@code ;} or {@code //} are
+ * ignored.
+ * <p>
+ * Angles may be in any order, and either from 0 to 360 degrees or from -180
+ * to +180 degrees, but must cover the full circle on a supported angular
+ * grid. A row repeated one turn apart, such as at 360 degrees, is dropped,
+ * as the traces are closed here as for server responses.
+ * <p>
+ * The file is read one line at a time, and only the parsed levels are kept,
+ * so the memory used doesn't depend on the formatting or size of the file.
+ * <p>
+ * This class holds no state between reads, so one instance may be shared.
+ */
+public final class PolarTextTableReader {
+
+    // Allow for rounding in text exports when matching angles to the grid
+    // and frequencies across planes.
+    private static final double ANGLE_TOLERANCE_DEGREES       = 1.0e-3d;
+    private static final double FREQUENCY_RELATIVE_TOLERANCE  = 5.0e-3d;
+
+    // The initial number of rows per plane, which grows as needed.
+    private static final int INITIAL_NUMBER_OF_ROWS = 512;
+
+    // Collect the columns of one plane, as they are parsed.
+    private static final class PlaneTable {
+
+        private double[] frequencies;
+        private double[] angles = new double[ INITIAL_NUMBER_OF_ROWS ];
+        private double[][] levels;
+        private int numberOfRows = 0;
+
+        // Add a parsed row, which holds the angle followed by the levels.
+        private void addRow( final double[] row ) {
+            if ( levels == null ) {
+                levels = new double[ frequencies.length ][ angles.length ];
+            }
+            if ( numberOfRows == angles.length ) {
+                angles = Arrays.copyOf( angles, 2 * angles.length );
+                for ( int column = 0; column < levels.length; column++ ) {
+                    levels[ column ] = Arrays.copyOf( levels[ column ], angles.length );
+                }
+            }
+
+            angles[ numberOfRows ] = row[ 0 ];
+            for ( int column = 0; column < levels.length; column++ ) {
+                levels[ column ][ numberOfRows ] = row[ column + 1 ];
+            }
+            numberOfRows++;
+        }
+    }
+
+    public PolarTextTableReader() {}
+
+    /**
+     * Reads a polar table file, with one response per frequency column that
+     * is present in both planes.
+     *
+     * @param file The polar table file to read, in UTF-8 or ASCII
+     * @param acousticSourceModel The Acoustic Source Model to label with
+     * @param relativeBandwidth The Relative Bandwidth to label with
+     * @return The responses, in order of the columns of the horizontal plane
+     * @throws PolarResponseFormatException If the table is malformed or
+     *             doesn't cover the full circle in both planes
+     * @throws IOException If the file can't be read
+     */
+    public List< PolarResponse > read( final File file,
+                                       final String acousticSourceModel,
+                                       final RelativeBandwidth relativeBandwidth )
+            throws IOException {
+        try ( final BufferedReader bufferedReader = Files.newBufferedReader( file.toPath(),
+                                                                             StandardCharsets.UTF_8 ) ) {
+            return read( bufferedReader, acousticSourceModel, relativeBandwidth );
+        }
+    }
+
+    /**
+     * Reads a polar table from a character stream, which is left open.
+     *
+     * @param reader The character stream to read the table from
+     * @param acousticSourceModel The Acoustic Source Model to label with
+     * @param relativeBandwidth The Relative Bandwidth to label with
+     * @return The responses, in order of the columns of the horizontal plane
+     * @throws PolarResponseFormatException If the table is malformed or
+     *             doesn't cover the full circle in both planes
+     * @throws IOException If the stream can't be read
+     */
+    @SuppressWarnings("nls")
+    public List< PolarResponse > read( final Reader reader,
+                                       final String acousticSourceModel,
+                                       final RelativeBandwidth relativeBandwidth )
+            throws IOException {
+        final BufferedReader bufferedReader = ( reader instanceof BufferedReader )
+            ? ( BufferedReader ) reader
+            : new BufferedReader( reader );
+
+        final PlaneTable horizontalTable = new PlaneTable();
+        final PlaneTable verticalTable = new PlaneTable();
+        PlaneTable planeTable = horizontalTable;
+        double[] values = new double[ 64 ];
+        long lineNumber = 0L;
+        String line = null;
+        while ( ( line = bufferedReader.readLine() ) != null ) {
+            lineNumber++;
+
+            final String trimmedLine = line.trim();
+            if ( trimmedLine.isEmpty() || trimmedLine.startsWith( "#" )
+                    || trimmedLine.startsWith( ";" ) || trimmedLine.startsWith( "//" ) ) {
+                continue;
+            }
+
+            // Switch planes at a section header.
+            final char firstCharacter = trimmedLine.charAt( 0 );
+            if ( ( firstCharacter == '[' ) || ( firstCharacter == '<' ) ) {
+                final String sectionName = trimmedLine.toUpperCase( Locale.ENGLISH );
+                if ( sectionName.contains( "HORIZONTAL" ) ) {
+                    planeTable = horizontalTable;
+                }
+                else if ( sectionName.contains( "VERTICAL" ) ) {
+                    planeTable = verticalTable;
+                }
+                else {
+                    // Skip any other sections, such as CLF meta-data.
+                    planeTable = null;
+                }
+                continue;
+            }
+            if ( planeTable == null ) {
+                continue;
+            }
+
+            // Parse the row, with the label of a header row as NaN.
+            final int numberOfValues = parseRow( trimmedLine, lineNumber, values );
+            if ( numberOfValues > values.length ) {
+                values = new double[ 2 * numberOfValues ];
+                parseRow( trimmedLine, lineNumber, values );
+            }
+            if ( numberOfValues < 2 ) {
+                throw new PolarResponseFormatException( "Polar Table Row Too Short at Line "
+                        + lineNumber + "." );
+            }
+
+            if ( Double.isNaN( values[ 0 ] ) ) {
+                if ( planeTable.frequencies != null ) {
+                    throw new PolarResponseFormatException( "Repeated Polar Table Header at Line "
+                            + lineNumber + "." );
+                }
+                planeTable.frequencies = Arrays.copyOfRange( values, 1, numberOfValues );
+            }
+            else {
+                final int numberOfColumns = numberOfValues - 1;
+                if ( ( planeTable.frequencies == null )
+                        || ( planeTable.frequencies.length != numberOfColumns ) ) {
+                    throw new PolarResponseFormatException( "Polar Table Row Doesn't Match Header at Line "
+                            + lineNumber + "." );
+                }
+                planeTable.addRow( values );
+            }
+        }
+
+        return makePolarResponses( horizontalTable,
+                                   verticalTable,
+                                   acousticSourceModel,
+                                   relativeBandwidth );
+    }
+
+    // Parse the separated values of a row into a buffer, with a non-numeric
+    // first value as NaN, and return the number of values even if it exceeds
+    // the buffer size.
+    @SuppressWarnings("nls")
+    private static int parseRow( final String line,
+                                 final long lineNumber,
+                                 final double[] values )
+            throws PolarResponseFormatException {
+        final int length = line.length();
+        int numberOfValues = 0;
+        int index = 0;
+        while ( index < length ) {
+            while ( ( index < length ) && isSeparator( line.charAt( index ) ) ) {
+                index++;
+            }
+            if ( index == length ) {
+                break;
+            }
+
+            final int start = index;
+            while ( ( index < length ) && !isSeparator( line.charAt( index ) ) ) {
+                index++;
+            }
+
+            if ( numberOfValues < values.length ) {
+                final String token = line.substring( start, index );
+                try {
+                    values[ numberOfValues ] = Double.parseDouble( token );
+                }
+                catch ( final NumberFormatException nfe ) {
+                    if ( numberOfValues > 0 ) {
+                        throw new PolarResponseFormatException( "Invalid Polar Table Value \""
+                                + token + "\" at Line " + lineNumber + "." );
+                    }
+                    values[ numberOfValues ] = Double.NaN;
+                }
+            }
+            numberOfValues++;
+        }
+        return numberOfValues;
+    }
+
+    private static boolean isSeparator( final char character ) {
+        return Character.isWhitespace( character ) || ( character == ',' ) || ( character == ';' );
+    }
+
+    // Pair up the columns of the two planes by frequency, and close each
+    // trace on the angular grid.
+    @SuppressWarnings("nls")
+    private static List< PolarResponse > makePolarResponses( final PlaneTable horizontalTable,
+                                                             final PlaneTable verticalTable,
+                                                             final String acousticSourceModel,
+                                                             final RelativeBandwidth relativeBandwidth )
+            throws PolarResponseFormatException {
+        if ( horizontalTable.numberOfRows == 0 ) {
+            throw new PolarResponseFormatException( "Missing Horizontal Polar Table." );
+        }
+        if ( verticalTable.numberOfRows == 0 ) {
+            throw new PolarResponseFormatException( "Missing Vertical Polar Table." );
+        }
+
+        final int[] horizontalGridIndices = getGridIndices( horizontalTable );
+        if ( horizontalGridIndices == null ) {
+            throw new PolarResponseFormatException( "Horizontal Polar Table Doesn't Cover the Full Circle on a Supported Angular Grid." );
+        }
+        final int[] verticalGridIndices = getGridIndices( verticalTable );
+        if ( verticalGridIndices == null ) {
+            throw new PolarResponseFormatException( "Vertical Polar Table Doesn't Cover the Full Circle on a Supported Angular Grid." );
+        }
+
+        final List< PolarResponse > polarResponses = new ArrayList<>( horizontalTable.frequencies.length );
+        for ( int horizontalColumn = 0; horizontalColumn < horizontalTable.frequencies.length; horizontalColumn++ ) {
+            final double frequency = horizontalTable.frequencies[ horizontalColumn ];
+            final int verticalColumn = findColumn( verticalTable.frequencies, frequency );
+            if ( verticalColumn < 0 ) {
+                continue;
+            }
+
+            polarResponses.add( new PolarResponse( acousticSourceModel,
+                                                   relativeBandwidth,
+                                                   frequency,
+                                                   makeClosedTrace( horizontalTable,
+                                                                    horizontalGridIndices,
+                                                                    horizontalColumn ),
+                                                   makeClosedTrace( verticalTable,
+                                                                    verticalGridIndices,
+                                                                    verticalColumn ) ) );
+        }
+
+        return polarResponses;
+    }
+
+    // Return the grid index of every row, or -1 for a dropped duplicate row,
+    // or null if the rows don't fill a supported angular grid. The grid is
+    // tried both with and without a duplicate row one turn apart.
+    private static int[] getGridIndices( final PlaneTable planeTable ) {
+        final int numberOfRows = planeTable.numberOfRows;
+        for ( int numberOfIntervals = numberOfRows; numberOfIntervals >= ( numberOfRows
+                - 1 ); numberOfIntervals-- ) {
+            if ( ( numberOfIntervals < 1 )
+                    || !PolarTraceDecimator.isSupportedNumberOfDataPoints( numberOfIntervals + 1 ) ) {
+                continue;
+            }
+
+            final double angleIncrementDegrees = 360.0d / numberOfIntervals;
+            final int[] gridIndices = new int[ numberOfRows ];
+            final boolean[] filled = new boolean[ numberOfIntervals ];
+            int numberOfFilledIndices = 0;
+            boolean onGrid = true;
+            for ( int row = 0; ( row < numberOfRows ) && onGrid; row++ ) {
+                double angle = planeTable.angles[ row ] % 360.0d;
+                if ( angle < 0.0d ) {
+                    angle += 360.0d;
+                }
+                final double gridPosition = angle / angleIncrementDegrees;
+                final long roundedGridPosition = Math.round( gridPosition );
+                if ( Math.abs( gridPosition - roundedGridPosition )
+                        * angleIncrementDegrees > ANGLE_TOLERANCE_DEGREES ) {
+                    onGrid = false;
+                    break;
+                }
+
+                final int gridIndex = ( int ) ( roundedGridPosition % numberOfIntervals );
+                if ( filled[ gridIndex ] ) {
+                    // Only one angle may repeat, one turn apart, such as 0
+                    // and 360 degrees or -180 and +180 degrees.
+                    if ( numberOfIntervals == numberOfRows ) {
+                        onGrid = false;
+                        break;
+                    }
+                    gridIndices[ row ] = -1;
+                }
+                else {
+                    filled[ gridIndex ] = true;
+                    numberOfFilledIndices++;
+                    gridIndices[ row ] = gridIndex;
+                }
+            }
+
+            if ( onGrid && ( numberOfFilledIndices == numberOfIntervals ) ) {
+                return gridIndices;
+            }
+        }
+
+        return null;
+    }
+
+    private static int findColumn( final double[] frequencies, final double frequency ) {
+        for ( int column = 0; column < frequencies.length; column++ ) {
+            if ( Math.abs( frequencies[ column ] - frequency ) <= ( FREQUENCY_RELATIVE_TOLERANCE
+                    * frequency ) ) {
+                return column;
+            }
+        }
+        return -1;
+    }
+
+    // Place the levels of one column on the angular grid, and repeat the
+    // on-axis level at 360 degrees.
+    private static double[] makeClosedTrace( final PlaneTable planeTable,
+                                             final int[] gridIndices,
+                                             final int column ) {
+        int numberOfIntervals = 0;
+        for ( final int gridIndex : gridIndices ) {
+            if ( gridIndex >= 0 ) {
+                numberOfIntervals++;
+            }
+        }
+
+        final double[] amplitude = new double[ numberOfIntervals + 1 ];
+        final double[] columnLevels = planeTable.levels[ column ];
+        for ( int row = 0; row < gridIndices.length; row++ ) {
+            if ( gridIndices[ row ] >= 0 ) {
+                amplitude[ gridIndices[ row ] ] = columnLevels[ row ];
+            }
+        }
+        amplitude[ numberOfIntervals ] = amplitude[ 0 ];
+
+        return amplitude;
+    }
+}
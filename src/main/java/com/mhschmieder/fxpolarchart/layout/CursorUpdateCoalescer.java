@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.layout;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * A coalescer for cursor updates, which keeps only the latest cursor position
+ * posted between pulses and processes it once on the next pulse, so that
+ * mouse motion costs at most one tracker update per displayed frame.
+ * <p>
+ * The timer runs only while an update is pending, so an idle cursor doesn't
+ * keep the pulse running. All methods must be called on the JavaFX
+ * Application Thread.
+ */
+public final class CursorUpdateCoalescer extends AnimationTimer {
+
+    /**
+     * The handler for a coalesced cursor update.
+     */
+    @FunctionalInterface
+    public interface CursorUpdateHandler {
+
+        /**
+         * Handles the latest cursor position posted before this pulse.
+         *
+         * @param cursorX The cursor x-coordinate
+         * @param cursorY The cursor y-coordinate
+         */
+        void updateCursor( double cursorX, double cursorY );
+    }
+
+    private final CursorUpdateHandler cursorUpdateHandler;
+
+    // Cache the latest cursor position, and whether it is still unprocessed.
+    private double cursorX;
+    private double cursorY;
+    private boolean updatePending;
+    private boolean running;
+
+    // Count the posted events against the updates actually processed.
+    private long eventsReceived;
+    private long updatesProcessed;
+
+    public CursorUpdateCoalescer( final CursorUpdateHandler pCursorUpdateHandler ) {
+        // Always call the superclass constructor first!
+        super();
+
+        cursorUpdateHandler = pCursorUpdateHandler;
+        updatePending = false;
+        running = false;
+        eventsReceived = 0L;
+        updatesProcessed = 0L;
+    }
+
+    /**
+     * Posts a new cursor position, replacing any that is still pending.
+     *
+     * @param pCursorX The cursor x-coordinate
+     * @param pCursorY The cursor y-coordinate
+     */
+    public void postCursorUpdate( final double pCursorX, final double pCursorY ) {
+        cursorX = pCursorX;
+        cursorY = pCursorY;
+        updatePending = true;
+        eventsReceived++;
+
+        if ( !running ) {
+            running = true;
+            start();
+        }
+    }
+
+    /**
+     * Discards any pending cursor position, such as when the cursor leaves.
+     */
+    public void cancelCursorUpdate() {
+        updatePending = false;
+    }
+
+    @Override
+    public void handle( final long now ) {
+        if ( !updatePending ) {
+            // Stop pulsing until the next event arrives.
+            running = false;
+            stop();
+            return;
+        }
+
+        updatePending = false;
+        updatesProcessed++;
+        cursorUpdateHandler.updateCursor( cursorX, cursorY );
+    }
+
+    public long getEventsReceived() {
+        return eventsReceived;
+    }
+
+    public long getUpdatesProcessed() {
+        return updatesProcessed;
+    }
+
+    public void resetCounters() {
+        eventsReceived = 0L;
+        updatesProcessed = 0L;
+    }
+
+    @SuppressWarnings("nls")
+    @Override
+    public String toString() {
+        return "Cursor Events Received: " + eventsReceived + ", Updates Processed: "
+                + updatesProcessed;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.layout;
+
+import com.mhschmieder.jcommons.util.ClientProperties;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+import java.text.DecimalFormatSymbols;
+
+/**
+ * A transparent overlay for a polar plot, that draws a data tracker at the
+ * cursor: a radial line from the plot center, a crosshair, and a readout of
+ * the angle and the amplitude interpolated from the full resolution trace.
+ * <p>
+ * As the tracker lives on its own JavaFX layer, moving it never repaints the
+ * plot underneath, and the amplitude lookup is a constant-time index into
+ * the trace rather than a search, so it keeps up with the display.
+ * <p>
+ * NOTE: The plot does not publish its geometry, so the polar origin is taken
+ *  to be the center of the plot, with 0 degrees at the top and angles
+ *  increasing clockwise. Only the angle matters for the lookup, so the
+ *  readout does not depend on the radial scale.
+ * <p>
+ * NOTE: This is a known limitation, as the plot title and margins are not
+ *  accounted for, so the true origin can sit a little below the center of
+ *  the plot and the readout angle is then slightly off near the origin. The
+ *  error shrinks as the cursor moves out towards the plot edge.
+ */
+public final class PolarDataTrackerOverlay extends Canvas {
+
+    // The half-length of the crosshair arms, in pixels.
+    private static final double CROSSHAIR_SIZE = 6.0d;
+
+    // The offset of the readout from the cursor, in pixels.
+    private static final double READOUT_OFFSET = 8.0d;
+
+    // Cache the tracker color, which contrasts with the plot background.
+    private Color trackerColor;
+
+    // Cache the readout text, keyed by the angle and level in tenths, so that
+    // no text is formatted while the cursor stays within the same tenths.
+    private long readoutAngleTenths;
+    private long readoutLevelTenths;
+    private String readoutText;
+
+    // Reuse the same text buffer for every readout that does change.
+    private final StringBuilder readoutBuilder;
+
+    // Cache the decimal separator for the session locale.
+    private final char decimalSeparator;
+
+    // Cache the full Session Context (System Type, Locale, Client Type, etc.).
+    private final ClientProperties clientProperties;
+
+    public PolarDataTrackerOverlay( final ClientProperties pClientProperties ) {
+        // Always call the superclass constructor first!
+        super();
+
+        clientProperties = pClientProperties;
+        trackerColor = Color.BLACK;
+        readoutText = null;
+        readoutBuilder = new StringBuilder( 32 );
+        decimalSeparator = DecimalFormatSymbols.getInstance( clientProperties.locale )
+                .getDecimalSeparator();
+
+        // Let all mouse events through to the plot underneath.
+        setMouseTransparent( true );
+    }
+
+    /**
+     * Returns the amplitude of a closed polar trace at an arbitrary angle, by
+     * linear interpolation between the two nearest samples.
+     *
+     * @param amplitude The closed polar trace
+     * @param angleDegrees The angle, from 0 up to but excluding 360 degrees
+     * @return The interpolated amplitude
+     */
+    public static double getAmplitudeAtAngle( final double[] amplitude, final double angleDegrees ) {
+        final int numberOfIntervals = amplitude.length - 1;
+        final double position = angleDegrees * ( numberOfIntervals / 360.0d );
+        final int lowerIndex = Math.min( ( int ) position, numberOfIntervals - 1 );
+        final double fraction = position - lowerIndex;
+        return amplitude[ lowerIndex ]
+                + ( fraction * ( amplitude[ lowerIndex + 1 ] - amplitude[ lowerIndex ] ) );
+    }
+
+    /**
+     * Draws the data tracker at the cursor, replacing any previous tracker.
+     *
+     * @param cursorX The cursor x-coordinate, local to the overlay
+     * @param cursorY The cursor y-coordinate, local to the overlay
+     * @param amplitude The full resolution closed polar trace, or {@code null}
+     *            if no trace is shown
+     */
+    public void updateTracker( final double cursorX,
+                               final double cursorY,
+                               final double[] amplitude ) {
+        final GraphicsContext graphicsContext = getGraphicsContext2D();
+        final double width = getWidth();
+        final double height = getHeight();
+        graphicsContext.clearRect( 0.0d, 0.0d, width, height );
+
+        final double centerX = 0.5d * width;
+        final double centerY = 0.5d * height;
+        final double offsetX = cursorX - centerX;
+        final double offsetY = cursorY - centerY;
+        final double cursorRadius = Math.hypot( offsetX, offsetY );
+        if ( ( amplitude == null ) || ( cursorRadius <= 0.0d ) ) {
+            return;
+        }
+
+        // Measure clockwise from the top, in the range [0, 360) degrees.
+        double angleDegrees = Math.toDegrees( Math.atan2( offsetX, -offsetY ) );
+        if ( angleDegrees < 0.0d ) {
+            angleDegrees += 360.0d;
+        }
+        final double level = getAmplitudeAtAngle( amplitude, angleDegrees );
+
+        // Draw the radial line out to the edge of the plot, and the crosshair.
+        final double edgeScale = ( 0.5d * Math.min( width, height ) ) / cursorRadius;
+        graphicsContext.setStroke( trackerColor );
+        graphicsContext.setLineWidth( 1.0d );
+        graphicsContext.strokeLine( centerX,
+                                    centerY,
+                                    centerX + ( edgeScale * offsetX ),
+                                    centerY + ( edgeScale * offsetY ) );
+        graphicsContext.strokeLine( cursorX - CROSSHAIR_SIZE,
+                                    cursorY,
+                                    cursorX + CROSSHAIR_SIZE,
+                                    cursorY );
+        graphicsContext.strokeLine( cursorX,
+                                    cursorY - CROSSHAIR_SIZE,
+                                    cursorX,
+                                    cursorY + CROSSHAIR_SIZE );
+
+        // Show off-axis angles as signed, as that is how they are quoted.
+        final double signedAngleDegrees = ( angleDegrees > 180.0d )
+            ? angleDegrees - 360.0d
+            : angleDegrees;
+        graphicsContext.setFill( trackerColor );
+        graphicsContext.fillText( getReadoutText( signedAngleDegrees, level ),
+                                  cursorX + READOUT_OFFSET,
+                                  cursorY - READOUT_OFFSET );
+    }
+
+    // Format the readout to one decimal place, but only when the rounded angle
+    // or level has changed since the last readout.
+    @SuppressWarnings("nls")
+    private String getReadoutText( final double angleDegrees, final double level ) {
+        final long angleTenths = Math.round( 10.0d * angleDegrees );
+        final long levelTenths = Math.round( 10.0d * level );
+        if ( ( readoutText != null ) && ( angleTenths == readoutAngleTenths )
+                && ( levelTenths == readoutLevelTenths ) ) {
+            return readoutText;
+        }
+
+        readoutBuilder.setLength( 0 );
+        appendTenths( readoutBuilder, angleTenths, decimalSeparator );
+        readoutBuilder.append( "\u00B0  " );
+        appendTenths( readoutBuilder, levelTenths, decimalSeparator );
+        readoutBuilder.append( " dB" );
+
+        readoutAngleTenths = angleTenths;
+        readoutLevelTenths = levelTenths;
+        readoutText = readoutBuilder.toString();
+        return readoutText;
+    }
+
+    // Append a value given in tenths, as a decimal with one fractional digit.
+    private static void appendTenths( final StringBuilder builder,
+                                      final long tenths,
+                                      final char decimalSeparator ) {
+        if ( tenths < 0L ) {
+            builder.append( '-' );
+        }
+        final long magnitude = Math.abs( tenths );
+        builder.append( magnitude / 10L ).append( decimalSeparator ).append( magnitude % 10L );
+    }
+
+    /**
+     * Removes the data tracker, such as when the cursor leaves the plot.
+     */
+    public void clearTracker() {
+        getGraphicsContext2D().clearRect( 0.0d, 0.0d, getWidth(), getHeight() );
+    }
+
+    // Pick black or white for the tracker, whichever contrasts more with the
+    // plot background.
+    public void setForegroundFromBackground( final Color backColor ) {
+        trackerColor = ( backColor.getBrightness() < 0.5d ) ? Color.WHITE : Color.BLACK;
+    }
+}
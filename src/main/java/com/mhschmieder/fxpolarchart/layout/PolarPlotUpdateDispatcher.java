@@ -0,0 +1,271 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.layout;
+
+import com.mhschmieder.fxpolarchart.model.PolarResponse;
+import javafx.application.Platform;
+
+import java.awt.Color;
+import java.awt.EventQueue;
+
+/**
+ * A dispatcher that batches state changes for the horizontal and vertical
+ * AWT polar plots, so that everything posted from the JavaFX side within one
+ * frame is applied in a single AWT Event Dispatch Thread task, with a single
+ * repaint per plot.
+ * <p>
+ * Later changes of the same kind replace earlier pending ones, as only the
+ * final state matters. A trace update supersedes a pending clear, and vice
+ * versa.
+ * <p>
+ * The dispatcher counts logical updates (posts) against the EDT tasks and
+ * repaints that they caused, for verifying the batching.
+ */
+public final class PolarPlotUpdateDispatcher {
+
+    /**
+     * The pending state changes for one plot. Fields are {@code null} when
+     * that kind of state is unchanged.
+     */
+    public static final class PolarPlotUpdate {
+
+        private boolean clearPlot;
+        private Float gridRange;
+        private Integer gridSpacing;
+        private Color backgroundColor;
+        private double[] amplitude;
+        private PolarResponse polarResponse;
+
+        PolarPlotUpdate() {}
+
+        public boolean isClearPlot() {
+            return clearPlot;
+        }
+
+        public Float getGridRange() {
+            return gridRange;
+        }
+
+        public Integer getGridSpacing() {
+            return gridSpacing;
+        }
+
+        public Color getBackgroundColor() {
+            return backgroundColor;
+        }
+
+        /**
+         * Returns the full resolution trace for this plot, which is shared
+         * with the snapshot and must not be modified.
+         *
+         * @return The trace to show, or {@code null} if it is unchanged
+         */
+        public double[] getAmplitude() {
+            return amplitude;
+        }
+
+        public PolarResponse getPolarResponse() {
+            return polarResponse;
+        }
+
+        void setClearPlot() {
+            clearPlot = true;
+            amplitude = null;
+            polarResponse = null;
+        }
+
+        void setTrace( final double[] pAmplitude, final PolarResponse pPolarResponse ) {
+            clearPlot = false;
+            amplitude = pAmplitude;
+            polarResponse = pPolarResponse;
+        }
+    }
+
+    /**
+     * The handler that applies a batch of updates to the plots.
+     */
+    @FunctionalInterface
+    public interface PolarPlotUpdateHandler {
+
+        /**
+         * Applies the pending updates to the plots, and repaints each updated
+         * plot once. This is called on the AWT Event Dispatch Thread.
+         *
+         * @param horizontalUpdate The horizontal plot updates, or {@code null}
+         *            if there are none
+         * @param verticalUpdate The vertical plot updates, or {@code null} if
+         *            there are none
+         */
+        void applyUpdates( PolarPlotUpdate horizontalUpdate, PolarPlotUpdate verticalUpdate );
+    }
+
+    private final PolarPlotUpdateHandler polarPlotUpdateHandler;
+
+    // Hold the pending updates, guarded by this dispatcher's lock.
+    private PolarPlotUpdate horizontalUpdate;
+    private PolarPlotUpdate verticalUpdate;
+    private boolean flushScheduled;
+
+    // Count the logical updates against the EDT tasks and repaints.
+    private long logicalUpdateCount;
+    private long edtTaskCount;
+    private long repaintCount;
+
+    public PolarPlotUpdateDispatcher( final PolarPlotUpdateHandler pPolarPlotUpdateHandler ) {
+        polarPlotUpdateHandler = pPolarPlotUpdateHandler;
+        flushScheduled = false;
+        logicalUpdateCount = 0L;
+        edtTaskCount = 0L;
+        repaintCount = 0L;
+    }
+
+    public synchronized void postClearPlots() {
+        getHorizontalUpdate().setClearPlot();
+        getVerticalUpdate().setClearPlot();
+        scheduleFlush();
+    }
+
+    public synchronized void postGridRange( final float gridRange ) {
+        getHorizontalUpdate().gridRange = gridRange;
+        getVerticalUpdate().gridRange = gridRange;
+        scheduleFlush();
+    }
+
+    public synchronized void postGridSpacing( final int gridSpacing ) {
+        getHorizontalUpdate().gridSpacing = gridSpacing;
+        getVerticalUpdate().gridSpacing = gridSpacing;
+        scheduleFlush();
+    }
+
+    public synchronized void postBackgroundColor( final Color backgroundColor ) {
+        getHorizontalUpdate().backgroundColor = backgroundColor;
+        getVerticalUpdate().backgroundColor = backgroundColor;
+        scheduleFlush();
+    }
+
+    public synchronized void postPolarResponse( final PolarResponse polarResponse ) {
+        getHorizontalUpdate().setTrace( polarResponse.getHorizontalAmplitude(), polarResponse );
+        getVerticalUpdate().setTrace( polarResponse.getVerticalAmplitude(), polarResponse );
+        scheduleFlush();
+    }
+
+    private PolarPlotUpdate getHorizontalUpdate() {
+        if ( horizontalUpdate == null ) {
+            horizontalUpdate = new PolarPlotUpdate();
+        }
+        return horizontalUpdate;
+    }
+
+    private PolarPlotUpdate getVerticalUpdate() {
+        if ( verticalUpdate == null ) {
+            verticalUpdate = new PolarPlotUpdate();
+        }
+        return verticalUpdate;
+    }
+
+    // Schedule a single flush for everything posted until then.
+    // NOTE: The hop to the EDT is deferred to the end of the current JavaFX
+    //  event, as otherwise an idle EDT could flush the first change of an
+    //  event before the rest of them had been posted.
+    private void scheduleFlush() {
+        logicalUpdateCount++;
+        if ( flushScheduled ) {
+            return;
+        }
+
+        flushScheduled = true;
+        if ( Platform.isFxApplicationThread() ) {
+            Platform.runLater( () -> EventQueue.invokeLater( this::flush ) );
+        }
+        else {
+            EventQueue.invokeLater( this::flush );
+        }
+    }
+
+    // Apply all of the pending updates. This runs on the AWT EDT.
+    private void flush() {
+        final PolarPlotUpdate pendingHorizontalUpdate;
+        final PolarPlotUpdate pendingVerticalUpdate;
+        synchronized ( this ) {
+            pendingHorizontalUpdate = horizontalUpdate;
+            pendingVerticalUpdate = verticalUpdate;
+            horizontalUpdate = null;
+            verticalUpdate = null;
+            flushScheduled = false;
+
+            edtTaskCount++;
+            if ( pendingHorizontalUpdate != null ) {
+                repaintCount++;
+            }
+            if ( pendingVerticalUpdate != null ) {
+                repaintCount++;
+            }
+        }
+
+        polarPlotUpdateHandler.applyUpdates( pendingHorizontalUpdate, pendingVerticalUpdate );
+    }
+
+    public synchronized long getLogicalUpdateCount() {
+        return logicalUpdateCount;
+    }
+
+    public synchronized long getEdtTaskCount() {
+        return edtTaskCount;
+    }
+
+    public synchronized long getRepaintCount() {
+        return repaintCount;
+    }
+
+    public synchronized void resetCounters() {
+        logicalUpdateCount = 0L;
+        edtTaskCount = 0L;
+        repaintCount = 0L;
+    }
+
+    @SuppressWarnings("nls")
+    @Override
+    public synchronized String toString() {
+        final double edtTasksPerUpdate = ( logicalUpdateCount > 0L )
+            ? ( double ) edtTaskCount / logicalUpdateCount
+            : 0.0d;
+        final double repaintsPerUpdate = ( logicalUpdateCount > 0L )
+            ? ( double ) repaintCount / logicalUpdateCount
+            : 0.0d;
+        return String.format( "Logical Updates: %1$d, EDT Tasks: %2$d (%3$.2f per update), "
+                + "Repaints: %4$d (%5$.2f per update)",
+                              logicalUpdateCount,
+                              edtTaskCount,
+                              edtTasksPerUpdate,
+                              repaintCount,
+                              repaintsPerUpdate );
+    }
+}
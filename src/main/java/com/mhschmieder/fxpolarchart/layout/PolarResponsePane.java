@@ -33,21 +33,31 @@ package com.mhschmieder.fxpolarchart.layout;
 import com.mhschmieder.fxcontrols.util.RegionUtilities;
 import com.mhschmieder.fxpolarchart.action.PolarResponseActions;
 import com.mhschmieder.fxpolarchart.control.PolarResponseMenuFactory;
+import com.mhschmieder.fxpolarchart.graphics.PolarTraceDecimator;
+import com.mhschmieder.fxpolarchart.layout.PolarPlotUpdateDispatcher.PolarPlotUpdate;
+import com.mhschmieder.fxpolarchart.math.DirectivityMetrics;
+import com.mhschmieder.fxpolarchart.math.DirectivityMetricsCalculator;
+import com.mhschmieder.fxpolarchart.model.PolarResponse;
+import com.mhschmieder.fxpolarchart.util.DoubleArrayPool;
 import com.mhschmieder.jchart.layout.PolarAmplitudePlot;
 import com.mhschmieder.jacoustics.RelativeBandwidth;
 import com.mhschmieder.jcommons.util.ClientProperties;
 import com.mhschmieder.jgraphics.GraphicsUtilities;
 import javafx.embed.swing.SwingNode;
+import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.control.ContextMenu;
+import javafx.scene.control.Label;
 import javafx.scene.input.MouseButton;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.stage.Window;
 
 import java.awt.EventQueue;
 import java.awt.RenderingHints;
+import java.util.Locale;
 
 public final class PolarResponsePane extends BorderPane {
 
@@ -57,6 +67,44 @@ public final class PolarResponsePane extends BorderPane {
     protected SwingNode           _polarPlotVtSwingNode;
     protected PolarAmplitudePlot _awtPolarPlotVt;
 
+    // Declare the data tracker overlays, which sit on top of each plot.
+    protected PolarDataTrackerOverlay _polarPlotHzTrackerOverlay;
+    protected PolarDataTrackerOverlay _polarPlotVtTrackerOverlay;
+
+    // Batch the state changes for both plots into single AWT EDT tasks.
+    protected final PolarPlotUpdateDispatcher _polarPlotUpdateDispatcher;
+
+    // Declare the coalescers for mouse-driven data tracker updates.
+    protected CursorUpdateCoalescer _polarPlotHzCursorUpdateCoalescer;
+    protected CursorUpdateCoalescer _polarPlotVtCursorUpdateCoalescer;
+
+    // Cache the initial plot dimensions and rendering hints, for rebuilding
+    // the plots when the angular resolution of the displayed data changes.
+    protected final int           _plotWidth;
+    protected final int           _plotHeight;
+    protected RenderingHints      _renderingHints;
+
+    // Cache the snapshot of the displayed response, at full resolution, as
+    // the plots only ever see its level-of-detail decimation. The snapshot is
+    // only replaced on the JavaFX Application Thread, and is shared as-is
+    // with the plots, the data trackers and the exports.
+    protected PolarResponse       _polarResponse;
+
+    // Hold the pooled decimated trace that each plot currently displays, in
+    // a one-element holder per plot, so that it can be returned to the pool
+    // once it is replaced or cleared. These are only accessed on the AWT EDT.
+    protected final double[][]    _polarPlotHzDisplayAmplitude = new double[ 1 ][];
+    protected final double[][]    _polarPlotVtDisplayAmplitude = new double[ 1 ][];
+
+    // Compute the directivity metrics on every update, and show them below
+    // the plots.
+    protected final DirectivityMetricsCalculator _directivityMetricsCalculator;
+    protected Label               _directivityMetricsLabel;
+
+    // Show a caption in place of the directivity metrics for responses that
+    // they don't apply to, such as the difference of two responses.
+    protected String              _directivityMetricsCaption;
+
     /**
      * Keep track of which window owns the context menu, for focus and dismissal
      */
@@ -77,6 +125,13 @@ public final class PolarResponsePane extends BorderPane {
         _clientProperties = pClientProperties;
         _contextMenuOwner = contextMenuOwner;
 
+        _plotWidth = polarResponseViewerWidth;
+        _plotHeight = polarResponseViewerHeight;
+
+        _directivityMetricsCalculator = new DirectivityMetricsCalculator();
+        _directivityMetricsCaption = null;
+        _polarPlotUpdateDispatcher = new PolarPlotUpdateDispatcher( this::applyPolarPlotUpdates );
+
         try {
             initPane( polarResponseViewerWidth, 
                       polarResponseViewerHeight, 
@@ -89,14 +144,48 @@ public final class PolarResponsePane extends BorderPane {
     }
 
     public void clearPlots() {
+        // Discard the full resolution data along with the displayed traces.
+        _polarResponse = null;
+        _directivityMetricsLabel.setText( "" ); //$NON-NLS-1$
+        _polarPlotHzTrackerOverlay.clearTracker();
+        _polarPlotVtTrackerOverlay.clearTracker();
+
         // Delegate this method to the subsidiary panels.
-        EventQueue.invokeLater( () -> _awtPolarPlotHz.clearPlot() );
-        EventQueue.invokeLater( () -> _awtPolarPlotVt.clearPlot() );
+        _polarPlotUpdateDispatcher.postClearPlots();
     }
     
     public int getNumberOfPolarDataPoints() {
-        // NOTE: This number is always the same for horizontal and vertical.
-        return _awtPolarPlotHz.getNumberOfPolarDataPoints();
+        // NOTE: This number is always the same for horizontal and vertical,
+        //  and reflects the resolution of the data rather than of the plot.
+        final PolarResponse polarResponse = _polarResponse;
+        return ( polarResponse != null ) ? polarResponse.getHorizontalAmplitude().length : 0;
+    }
+
+    /**
+     * Returns the number of mouse events received by both plots that could
+     * have triggered a data tracker update.
+     *
+     * @return The number of cursor events received
+     */
+    public long getCursorEventsReceived() {
+        return _polarPlotHzCursorUpdateCoalescer.getEventsReceived()
+                + _polarPlotVtCursorUpdateCoalescer.getEventsReceived();
+    }
+
+    /**
+     * Returns the number of data tracker updates actually processed by both
+     * plots, which is at most one per plot per pulse.
+     *
+     * @return The number of cursor updates processed
+     */
+    public long getCursorUpdatesProcessed() {
+        return _polarPlotHzCursorUpdateCoalescer.getUpdatesProcessed()
+                + _polarPlotVtCursorUpdateCoalescer.getUpdatesProcessed();
+    }
+
+    public void resetCursorEventCounters() {
+        _polarPlotHzCursorUpdateCoalescer.resetCounters();
+        _polarPlotVtCursorUpdateCoalescer.resetCounters();
     }
 
     public float getGridRange() {
@@ -109,20 +198,42 @@ public final class PolarResponsePane extends BorderPane {
         return _awtPolarPlotHz.getGridSpacing();
     }
 
+    /**
+     * Returns the snapshot of the displayed response, which may be shared
+     * with other threads as-is.
+     *
+     * @return The displayed response, or {@code null} if there is none
+     */
+    public PolarResponse getPolarResponse() {
+        return _polarResponse;
+    }
+
+    // NOTE: The amplitude data is shared with the displayed snapshot, so it
+    //  must not be modified.
     public double[] getHorizontalPolarAmplitudeData() {
-        return _awtPolarPlotHz.getPolarAmplitudeData();
+        final PolarResponse polarResponse = _polarResponse;
+        return ( polarResponse != null ) ? polarResponse.getHorizontalAmplitude() : new double[ 0 ];
     }
 
     public double[] getHorizontalPolarAngleData() {
-        return _awtPolarPlotHz.getPolarAngleData();
+        final PolarResponse polarResponse = _polarResponse;
+        return ( polarResponse != null )
+            ? PolarTraceDecimator.makeAngleDegrees( polarResponse.getHorizontalAmplitude().length )
+            : new double[ 0 ];
     }
 
+    // NOTE: The amplitude data is shared with the displayed snapshot, so it
+    //  must not be modified.
     public double[] getVerticalPolarAmplitudeData() {
-        return _awtPolarPlotVt.getPolarAmplitudeData();
+        final PolarResponse polarResponse = _polarResponse;
+        return ( polarResponse != null ) ? polarResponse.getVerticalAmplitude() : new double[ 0 ];
     }
 
     public double[] getVerticalPolarAngleData() {
-        return _awtPolarPlotVt.getPolarAngleData();
+        final PolarResponse polarResponse = _polarResponse;
+        return ( polarResponse != null )
+            ? PolarTraceDecimator.makeAngleDegrees( polarResponse.getVerticalAmplitude().length )
+            : new double[ 0 ];
     }
 
     private void initPane( final int polarResponseViewerWidth,
@@ -132,42 +243,65 @@ public final class PolarResponsePane extends BorderPane {
         _polarPlotHzSwingNode = new SwingNode();
         _polarPlotVtSwingNode = new SwingNode();
         EventQueue.invokeLater( () -> {
+            // Get Rendering Hints that aim for quality rendering of geometry.
+            _renderingHints = GraphicsUtilities.getRenderingHintsForCharting();
+
             // Make the individual plots for horizontal and vertical polar
             // patterns.
-            _awtPolarPlotHz = new PolarAmplitudePlot( polarResponseViewerWidth,
-                                                       polarResponseViewerHeight,
-                                                       "Horizontal", //$NON-NLS-1$
-                                                       angleIncrementDegrees );
-            _awtPolarPlotVt = new PolarAmplitudePlot( polarResponseViewerWidth,
-                                                       polarResponseViewerHeight,
-                                                       "Vertical", //$NON-NLS-1$
-                                                       angleIncrementDegrees );
-
-            // Get Rendering Hints that aim for quality rendering of geometry.
-            final RenderingHints renderingHints = GraphicsUtilities.getRenderingHintsForCharting();
-            _awtPolarPlotHz.setRenderingHints( renderingHints );
-            _awtPolarPlotVt.setRenderingHints( renderingHints );
+            _awtPolarPlotHz = makePolarAmplitudePlot( "Horizontal", //$NON-NLS-1$
+                                                      angleIncrementDegrees );
+            _awtPolarPlotVt = makePolarAmplitudePlot( "Vertical", //$NON-NLS-1$
+                                                      angleIncrementDegrees );
 
             _polarPlotHzSwingNode.setContent( _awtPolarPlotHz );
             _polarPlotVtSwingNode.setContent( _awtPolarPlotVt );
         } );
 
-        setLeft( _polarPlotHzSwingNode );
-        setRight( _polarPlotVtSwingNode );
+        // Layer a data tracker overlay on top of each plot.
+        _polarPlotHzTrackerOverlay = new PolarDataTrackerOverlay( _clientProperties );
+        _polarPlotVtTrackerOverlay = new PolarDataTrackerOverlay( _clientProperties );
+        setLeft( makeTrackedPlotPane( _polarPlotHzSwingNode, _polarPlotHzTrackerOverlay ) );
+        setRight( makeTrackedPlotPane( _polarPlotVtSwingNode, _polarPlotVtTrackerOverlay ) );
+
+        _directivityMetricsLabel = new Label();
+        setBottom( _directivityMetricsLabel );
+        BorderPane.setAlignment( _directivityMetricsLabel, Pos.CENTER );
 
         // Build the contextual pop-up menu.
         final ContextMenu contextMenu = PolarResponseMenuFactory
                 .getPolarResponseContextMenu( _clientProperties, polarResponseActions );
 
+        // Coalesce the data tracker updates for each plot to one per pulse,
+        // reading the trace data only once the update is processed.
+        _polarPlotHzCursorUpdateCoalescer = new CursorUpdateCoalescer(
+                ( cursorX, cursorY ) -> {
+                    final PolarResponse polarResponse = _polarResponse;
+                    updateCursorCoordinates( cursorX,
+                                             cursorY,
+                                             _polarPlotHzTrackerOverlay,
+                                             ( polarResponse != null )
+                                                 ? polarResponse.getHorizontalAmplitude()
+                                                 : null );
+                } );
+        _polarPlotVtCursorUpdateCoalescer = new CursorUpdateCoalescer(
+                ( cursorX, cursorY ) -> {
+                    final PolarResponse polarResponse = _polarResponse;
+                    updateCursorCoordinates( cursorX,
+                                             cursorY,
+                                             _polarPlotVtTrackerOverlay,
+                                             ( polarResponse != null )
+                                                 ? polarResponse.getVerticalAmplitude()
+                                                 : null );
+                } );
+
         // Register the pop-up menu and data tracker triggers.
         final Node contextMenuOwner = this;
         _polarPlotHzSwingNode.setOnMouseClicked( mouseEvent -> {
             final MouseButton button = mouseEvent.getButton();
             if ( MouseButton.PRIMARY.equals( button ) ) {
-                // Update the cursor coordinates.
-                updateCursorCoordinates( mouseEvent.getScreenX(),
-                                         mouseEvent.getScreenY(),
-                                         _awtPolarPlotHz );
+                // Update the cursor coordinates on the next pulse.
+                _polarPlotHzCursorUpdateCoalescer.postCursorUpdate( mouseEvent.getX(),
+                                                                     mouseEvent.getY() );
             }
             else if ( MouseButton.SECONDARY.equals( button ) ) {
                 contextMenu
@@ -175,19 +309,22 @@ public final class PolarResponsePane extends BorderPane {
             }
         } );
         _polarPlotHzSwingNode.setOnMouseMoved( mouseEvent -> {
-            // Update the cursor coordinates.
-            updateCursorCoordinates( mouseEvent.getScreenX(),
-                                     mouseEvent.getScreenY(),
-                                     _awtPolarPlotHz );
+            // Update the cursor coordinates on the next pulse, coalescing
+            // all of the motion events that arrive before then.
+            _polarPlotHzCursorUpdateCoalescer.postCursorUpdate( mouseEvent.getX(),
+                                                                 mouseEvent.getY() );
+        } );
+        _polarPlotHzSwingNode.setOnMouseExited( mouseEvent -> {
+            _polarPlotHzCursorUpdateCoalescer.cancelCursorUpdate();
+            _polarPlotHzTrackerOverlay.clearTracker();
         } );
 
         _polarPlotVtSwingNode.setOnMouseClicked( mouseEvent -> {
             final MouseButton button = mouseEvent.getButton();
             if ( MouseButton.PRIMARY.equals( button ) ) {
-                // Update the cursor coordinates.
-                updateCursorCoordinates( mouseEvent.getScreenX(),
-                                         mouseEvent.getScreenY(),
-                                         _awtPolarPlotVt );
+                // Update the cursor coordinates on the next pulse.
+                _polarPlotVtCursorUpdateCoalescer.postCursorUpdate( mouseEvent.getX(),
+                                                                     mouseEvent.getY() );
             }
             else if ( MouseButton.SECONDARY.equals( button ) ) {
                 contextMenu
@@ -195,13 +332,200 @@ public final class PolarResponsePane extends BorderPane {
             }
         } );
         _polarPlotVtSwingNode.setOnMouseMoved( mouseEvent -> {
-            // Update the cursor coordinates.
-            updateCursorCoordinates( mouseEvent.getScreenX(),
-                                     mouseEvent.getScreenY(),
-                                     _awtPolarPlotVt );
+            // Update the cursor coordinates on the next pulse, coalescing
+            // all of the motion events that arrive before then.
+            _polarPlotVtCursorUpdateCoalescer.postCursorUpdate( mouseEvent.getX(),
+                                                                 mouseEvent.getY() );
+        } );
+        _polarPlotVtSwingNode.setOnMouseExited( mouseEvent -> {
+            _polarPlotVtCursorUpdateCoalescer.cancelCursorUpdate();
+            _polarPlotVtTrackerOverlay.clearTracker();
         } );
     }
 
+    // Stack a data tracker overlay on a plot, keeping the two the same size
+    // and origin so that mouse coordinates on the plot apply to the overlay.
+    private static Pane makeTrackedPlotPane( final SwingNode swingNode,
+                                             final PolarDataTrackerOverlay trackerOverlay ) {
+        swingNode.layoutBoundsProperty().addListener( ( observable, oldValue, newValue ) -> {
+            trackerOverlay.setWidth( newValue.getWidth() );
+            trackerOverlay.setHeight( newValue.getHeight() );
+        } );
+        return new Pane( swingNode, trackerOverlay );
+    }
+
+    // This method must be called on the AWT Event Dispatch Thread.
+    private PolarAmplitudePlot makePolarAmplitudePlot( final String title,
+                                                       final double angleIncrementDegrees ) {
+        final PolarAmplitudePlot polarAmplitudePlot = new PolarAmplitudePlot( _plotWidth,
+                                                                              _plotHeight,
+                                                                              title,
+                                                                              angleIncrementDegrees );
+        polarAmplitudePlot.setRenderingHints( _renderingHints );
+        return polarAmplitudePlot;
+    }
+
+    // Replace a plot with one at a new angular resolution, carrying over its
+    // grid and colors. This method must be called on the AWT EDT.
+    private PolarAmplitudePlot rebuildPolarAmplitudePlot( final PolarAmplitudePlot polarAmplitudePlot,
+                                                          final SwingNode swingNode,
+                                                          final String title,
+                                                          final double angleIncrementDegrees ) {
+        final PolarAmplitudePlot rebuiltPolarAmplitudePlot =
+                makePolarAmplitudePlot( title, angleIncrementDegrees );
+        rebuiltPolarAmplitudePlot.setGridRange( polarAmplitudePlot.getGridRange() );
+        rebuiltPolarAmplitudePlot.setGridSpacing( polarAmplitudePlot.getGridSpacing() );
+        rebuiltPolarAmplitudePlot.setForegroundFromBackground( polarAmplitudePlot.getBackground() );
+
+        swingNode.setContent( rebuiltPolarAmplitudePlot );
+
+        return rebuiltPolarAmplitudePlot;
+    }
+
+    // Draw the level-of-detail decimation of a full resolution trace, sized
+    // to the current outer radius of the plot, and return the plot that now
+    // holds the trace. The decimated trace is drawn from a pooled buffer,
+    // which replaces the one held for the plot. This method must be called
+    // on the AWT EDT.
+    private PolarAmplitudePlot updatePolarAmplitudeTrace( final PolarAmplitudePlot polarAmplitudePlot,
+                                                          final SwingNode swingNode,
+                                                          final String title,
+                                                          final double[][] displayAmplitudeHolder,
+                                                          final double[] amplitude,
+                                                          final String loudspeakerModel,
+                                                          final RelativeBandwidth relativeBandwidth,
+                                                          final double centerFrequency ) {
+        final int width = ( polarAmplitudePlot.getWidth() > 0 )
+            ? polarAmplitudePlot.getWidth()
+            : _plotWidth;
+        final int height = ( polarAmplitudePlot.getHeight() > 0 )
+            ? polarAmplitudePlot.getHeight()
+            : _plotHeight;
+        final double radiusPixels = 0.5d * Math.min( width, height );
+        final int decimationFactor = PolarTraceDecimator.getDecimationFactor( amplitude.length,
+                                                                              radiusPixels );
+
+        // The full resolution trace is drawn as-is when no decimation is
+        // needed, as the snapshot that owns it is immutable.
+        final double[] displayAmplitude;
+        if ( decimationFactor > 1 ) {
+            displayAmplitude = DoubleArrayPool.getSharedPool()
+                    .acquire( PolarTraceDecimator
+                            .getNumberOfDecimatedDataPoints( amplitude.length, decimationFactor ) );
+            PolarTraceDecimator.decimateInto( amplitude, decimationFactor, displayAmplitude );
+        }
+        else {
+            displayAmplitude = amplitude;
+        }
+
+        // Match the plot to the resolution of the decimated trace.
+        PolarAmplitudePlot targetPolarAmplitudePlot = polarAmplitudePlot;
+        if ( displayAmplitude.length != polarAmplitudePlot.getNumberOfPolarDataPoints() ) {
+            final double displayAngleIncrementDegrees = PolarTraceDecimator
+                    .getAngleIncrementDegrees( displayAmplitude.length );
+            targetPolarAmplitudePlot = rebuildPolarAmplitudePlot( polarAmplitudePlot,
+                                                                  swingNode,
+                                                                  title,
+                                                                  displayAngleIncrementDegrees );
+        }
+
+        targetPolarAmplitudePlot.updatePolarAmplitudeTrace( displayAmplitude,
+                                                            loudspeakerModel,
+                                                            relativeBandwidth,
+                                                            centerFrequency );
+
+        releaseDisplayAmplitude( displayAmplitudeHolder );
+        if ( displayAmplitude != amplitude ) {
+            displayAmplitudeHolder[ 0 ] = displayAmplitude;
+        }
+
+        return targetPolarAmplitudePlot;
+    }
+
+    // Return the pooled decimated trace held for a plot, if any, once the
+    // plot no longer displays it. This method must be called on the AWT EDT.
+    private static void releaseDisplayAmplitude( final double[][] displayAmplitudeHolder ) {
+        DoubleArrayPool.getSharedPool().release( displayAmplitudeHolder[ 0 ] );
+        displayAmplitudeHolder[ 0 ] = null;
+    }
+
+    // Apply a batch of plot updates, repainting each updated plot once. This
+    // method must be called on the AWT EDT.
+    private void applyPolarPlotUpdates( final PolarPlotUpdate horizontalUpdate,
+                                        final PolarPlotUpdate verticalUpdate ) {
+        if ( horizontalUpdate != null ) {
+            _awtPolarPlotHz = applyPolarPlotUpdate( _awtPolarPlotHz,
+                                                    _polarPlotHzSwingNode,
+                                                    "Horizontal", //$NON-NLS-1$
+                                                    _polarPlotHzDisplayAmplitude,
+                                                    horizontalUpdate );
+        }
+        if ( verticalUpdate != null ) {
+            _awtPolarPlotVt = applyPolarPlotUpdate( _awtPolarPlotVt,
+                                                    _polarPlotVtSwingNode,
+                                                    "Vertical", //$NON-NLS-1$
+                                                    _polarPlotVtDisplayAmplitude,
+                                                    verticalUpdate );
+        }
+    }
+
+    // Apply the pending updates for one plot, with the styling and grid
+    // first as a rebuilt plot carries them over, and return the plot that
+    // now holds the trace. This method must be called on the AWT EDT.
+    private PolarAmplitudePlot applyPolarPlotUpdate( final PolarAmplitudePlot polarAmplitudePlot,
+                                                     final SwingNode swingNode,
+                                                     final String title,
+                                                     final double[][] displayAmplitudeHolder,
+                                                     final PolarPlotUpdate polarPlotUpdate ) {
+        final java.awt.Color backgroundColor = polarPlotUpdate.getBackgroundColor();
+        if ( backgroundColor != null ) {
+            polarAmplitudePlot.setForegroundFromBackground( backgroundColor );
+        }
+        final Float gridRange = polarPlotUpdate.getGridRange();
+        if ( gridRange != null ) {
+            polarAmplitudePlot.setGridRange( gridRange );
+        }
+        final Integer gridSpacing = polarPlotUpdate.getGridSpacing();
+        if ( gridSpacing != null ) {
+            polarAmplitudePlot.setGridSpacing( gridSpacing );
+        }
+
+        PolarAmplitudePlot targetPolarAmplitudePlot = polarAmplitudePlot;
+        final double[] amplitude = polarPlotUpdate.getAmplitude();
+        final PolarResponse polarResponse = polarPlotUpdate.getPolarResponse();
+        if ( polarPlotUpdate.isClearPlot() ) {
+            polarAmplitudePlot.clearPlot();
+            releaseDisplayAmplitude( displayAmplitudeHolder );
+        }
+        else if ( amplitude != null ) {
+            targetPolarAmplitudePlot = updatePolarAmplitudeTrace( polarAmplitudePlot,
+                                                                  swingNode,
+                                                                  title,
+                                                                  displayAmplitudeHolder,
+                                                                  amplitude,
+                                                                  polarResponse
+                                                                          .getAcousticSourceModel(),
+                                                                  polarResponse
+                                                                          .getRelativeBandwidth(),
+                                                                  polarResponse
+                                                                          .getCenterFrequency() );
+        }
+
+        targetPolarAmplitudePlot.repaint();
+
+        return targetPolarAmplitudePlot;
+    }
+
+    /**
+     * Returns the counts of logical plot updates against the AWT EDT tasks
+     * and repaints that they caused, for verifying the update batching.
+     *
+     * @return A summary of the plot update counts
+     */
+    public String getPolarPlotUpdateStatistics() {
+        return _polarPlotUpdateDispatcher.toString();
+    }
+
     public void resetVisualizations() {
         // Clear all the plots.
         clearPlots();
@@ -214,51 +538,124 @@ public final class PolarResponsePane extends BorderPane {
         final Background background = RegionUtilities.makeRegionBackground( backColor );
         setBackground( background );
 
+        // Keep the data trackers legible against the new background.
+        _polarPlotHzTrackerOverlay.setForegroundFromBackground( backColor );
+        _polarPlotVtTrackerOverlay.setForegroundFromBackground( backColor );
+
         // Forward this method to the subcomponents.
         final java.awt.Color awtBackColor = new java.awt.Color( ( float ) backColor.getRed(),
                                                                 ( float ) backColor.getGreen(),
                                                                 ( float ) backColor.getBlue() );
-        EventQueue.invokeLater( () -> _awtPolarPlotHz.setForegroundFromBackground( awtBackColor ) );
-        EventQueue.invokeLater( () -> _awtPolarPlotVt.setForegroundFromBackground( awtBackColor ) );
+        _polarPlotUpdateDispatcher.postBackgroundColor( awtBackColor );
     }
 
     public void setGridRange( final double gridRange ) {
         // Sync up the traces with the new Grid Range.
-        final float awtGridRange = ( float ) gridRange;
-        EventQueue.invokeLater( () -> _awtPolarPlotHz.setGridRange( awtGridRange ) );
-        EventQueue.invokeLater( () -> _awtPolarPlotVt.setGridRange( awtGridRange ) );
+        _polarPlotUpdateDispatcher.postGridRange( ( float ) gridRange );
     }
 
     public void setGridSpacing( final int gridSpacing ) {
         // Sync up the traces with the new radial Grid Spacing.
-        EventQueue.invokeLater( () -> _awtPolarPlotHz.setGridSpacing( gridSpacing ) );
-        EventQueue.invokeLater( () -> _awtPolarPlotVt.setGridSpacing( gridSpacing ) );
+        _polarPlotUpdateDispatcher.postGridSpacing( gridSpacing );
     }
 
+    // Move the data tracker to the cursor, reading the amplitude from the full
+    // resolution trace. The coordinates are local to the plot.
     protected void updateCursorCoordinates( final double cursorX,
                                             final double cursorY,
-                                            final PolarAmplitudePlot polarAmplitudeChart ) {
-        // TODO: Implement this after we replace the AWT version of the Polar
-        // Chart, which has its own data tracking at the moment (using AWT).
+                                            final PolarDataTrackerOverlay trackerOverlay,
+                                            final double[] amplitude ) {
+        trackerOverlay.updateTracker( cursorX, cursorY, amplitude );
+    }
+
+    // Recompute and show the directivity metrics for the displayed response.
+    // This is cheap enough to run on every trace update during sweeps.
+    protected void updateDirectivityMetrics() {
+        final PolarResponse polarResponse = _polarResponse;
+        if ( polarResponse == null ) {
+            _directivityMetricsLabel.setText( "" ); //$NON-NLS-1$
+            return;
+        }
+        if ( _directivityMetricsCaption != null ) {
+            _directivityMetricsLabel.setText( _directivityMetricsCaption );
+            return;
+        }
+
+        final DirectivityMetrics directivityMetrics = _directivityMetricsCalculator
+                .calculate( polarResponse.getHorizontalAmplitude(),
+                            polarResponse.getVerticalAmplitude(),
+                            polarResponse.getCenterFrequency() );
+        _directivityMetricsLabel.setText( getDirectivityMetricsText( directivityMetrics ) );
     }
 
-    public void updateHorizontalPolarResponse( final double[] amplitude,
-                                               final String loudspeakerModel,
-                                               final RelativeBandwidth relativeBandwidth,
-                                               final double centerFrequency ) {
-        _awtPolarPlotHz.updatePolarAmplitudeTrace( amplitude,
-                                                   loudspeakerModel,
-                                                   relativeBandwidth,
-                                                   centerFrequency );
+    @SuppressWarnings("nls")
+    protected String getDirectivityMetricsText( final DirectivityMetrics directivityMetrics ) {
+        final Locale locale = _clientProperties.locale;
+        final StringBuilder directivityMetricsText = new StringBuilder( "Coverage (H x V): " );
+        for ( int i = 0; i < DirectivityMetrics.COVERAGE_LEVEL_DROPS.length; i++ ) {
+            directivityMetricsText.append( String.format( locale,
+                                                          "-%1$.0f dB %2$.0f\u00B0 x %3$.0f\u00B0   ",
+                                                          DirectivityMetrics.COVERAGE_LEVEL_DROPS[ i ],
+                                                          directivityMetrics
+                                                                  .getHorizontalCoverageAngle( i ),
+                                                          directivityMetrics
+                                                                  .getVerticalCoverageAngle( i ) ) );
+        }
+        directivityMetricsText.append( String.format( locale,
+                                                      "Front/Back (H x V): %1$.1f dB x %2$.1f dB   ",
+                                                      directivityMetrics
+                                                              .getHorizontalFrontToBackRatio(),
+                                                      directivityMetrics
+                                                              .getVerticalFrontToBackRatio() ) );
+        final double directivityIndex = directivityMetrics.getDirectivityIndex();
+        directivityMetricsText.append( Double.isNaN( directivityIndex )
+            ? "DI: n/a"
+            : String.format( locale, "DI: %1$.1f dB", directivityIndex ) );
+        return directivityMetricsText.toString();
+    }
+
+    /**
+     * Shows a new response in both plots. This method must be called on the
+     * JavaFX Application Thread.
+     *
+     * @param polarResponse The snapshot of the response to show
+     */
+    public void updatePolarResponse( final PolarResponse polarResponse ) {
+        updatePolarResponse( polarResponse, null );
     }
 
-    public void updateVerticalPolarResponse( final double[] amplitude,
-                                             final String loudspeakerModel,
-                                             final RelativeBandwidth relativeBandwidth,
-                                             final double centerFrequency ) {
-        _awtPolarPlotVt.updatePolarAmplitudeTrace( amplitude,
-                                                   loudspeakerModel,
-                                                   relativeBandwidth,
-                                                   centerFrequency );
+    /**
+     * Shows a new response in both plots, with a caption in place of the
+     * directivity metrics if one is given, such as for the difference of two
+     * responses, whose coverage angles and DI would be meaningless. This
+     * method must be called on the JavaFX Application Thread.
+     *
+     * @param polarResponse The snapshot of the response to show
+     * @param directivityMetricsCaption The caption to show instead of the
+     *            directivity metrics, or {@code null} to show the metrics
+     */
+    public void updatePolarResponse( final PolarResponse polarResponse,
+                                     final String directivityMetricsCaption ) {
+        // Skip snapshots that are already displayed, other than their caption.
+        final PolarResponse currentPolarResponse = _polarResponse;
+        final boolean captionChanged = ( directivityMetricsCaption == null )
+            ? _directivityMetricsCaption != null
+            : !directivityMetricsCaption.equals( _directivityMetricsCaption );
+        _directivityMetricsCaption = directivityMetricsCaption;
+        if ( ( currentPolarResponse != null )
+                && ( currentPolarResponse.getVersion() == polarResponse.getVersion() ) ) {
+            if ( captionChanged ) {
+                updateDirectivityMetrics();
+            }
+            return;
+        }
+
+        // Cache the full resolution snapshot for the data tracker and exports.
+        _polarResponse = polarResponse;
+        updateDirectivityMetrics();
+
+        // Draw the decimated traces on the AWT thread, which is also where the
+        // plots must be rebuilt if the angular resolution has changed.
+        _polarPlotUpdateDispatcher.postPolarResponse( polarResponse );
     }
 }
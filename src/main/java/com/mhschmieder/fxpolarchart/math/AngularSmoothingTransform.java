@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.math;
+
+import com.mhschmieder.fxpolarchart.model.PolarResponse;
+
+/**
+ * A transform that smooths both planes of a polar response by power-averaging
+ * every data point with its neighbors over an angular window, wrapping around
+ * the full circle.
+ * <p>
+ * The window is rounded to a whole number of data points on either side, so
+ * a window narrower than two angle increments has no effect.
+ */
+public final class AngularSmoothingTransform implements PolarResponseTransform {
+
+    // Precompute the conversion factors between levels and powers.
+    private static final double LEVEL_TO_POWER_EXPONENT = Math.log( 10.0d ) / 10.0d;
+    private static final double POWER_TO_LEVEL_FACTOR   = 10.0d / Math.log( 10.0d );
+
+    private final double windowWidthDegrees;
+
+    /**
+     * Makes a smoothing transform over the given angular window.
+     *
+     * @param pWindowWidthDegrees The full width of the window, in degrees
+     */
+    public AngularSmoothingTransform( final double pWindowWidthDegrees ) {
+        windowWidthDegrees = pWindowWidthDegrees;
+    }
+
+    public double getWindowWidthDegrees() {
+        return windowWidthDegrees;
+    }
+
+    @Override
+    public PolarResponse apply( final PolarResponse polarResponse ) {
+        final double[] horizontalAmplitude = polarResponse.getHorizontalAmplitude();
+        final double[] verticalAmplitude = polarResponse.getVerticalAmplitude();
+        final double[] smoothedHorizontalAmplitude =
+                smooth( horizontalAmplitude,
+                        getHalfWindowLength( polarResponse.getHorizontalAngleIncrementDegrees() ) );
+        final double[] smoothedVerticalAmplitude =
+                smooth( verticalAmplitude,
+                        getHalfWindowLength( polarResponse.getVerticalAngleIncrementDegrees() ) );
+        if ( ( smoothedHorizontalAmplitude == horizontalAmplitude )
+                && ( smoothedVerticalAmplitude == verticalAmplitude ) ) {
+            return polarResponse;
+        }
+
+        return new PolarResponse( polarResponse.getAcousticSourceModel(),
+                                  polarResponse.getRelativeBandwidth(),
+                                  polarResponse.getCenterFrequency(),
+                                  smoothedHorizontalAmplitude,
+                                  smoothedVerticalAmplitude );
+    }
+
+    private int getHalfWindowLength( final double angleIncrementDegrees ) {
+        return ( int ) Math.round( ( 0.5d * windowWidthDegrees ) / angleIncrementDegrees );
+    }
+
+    // Smooth a closed trace, whose last data point repeats the first, with a
+    // running sum of powers so that the cost doesn't grow with the window.
+    private static double[] smooth( final double[] amplitude, final int halfWindowLength ) {
+        final int numberOfAngles = amplitude.length - 1;
+        if ( ( halfWindowLength < 1 ) || ( numberOfAngles < 2 ) ) {
+            return amplitude;
+        }
+
+        final int windowLength = Math.min( ( 2 * halfWindowLength ) + 1, numberOfAngles );
+        final int leadingLength = windowLength / 2;
+
+        final double[] power = new double[ numberOfAngles ];
+        for ( int i = 0; i < numberOfAngles; i++ ) {
+            power[ i ] = Math.exp( LEVEL_TO_POWER_EXPONENT * amplitude[ i ] );
+        }
+
+        // Prime the window for the first data point, then slide it along.
+        double windowPower = 0.0d;
+        for ( int j = -leadingLength; j < ( windowLength - leadingLength ); j++ ) {
+            windowPower += power[ Math.floorMod( j, numberOfAngles ) ];
+        }
+
+        final double inverseWindowLength = 1.0d / windowLength;
+        final double[] smoothedAmplitude = new double[ amplitude.length ];
+        for ( int i = 0; i < numberOfAngles; i++ ) {
+            smoothedAmplitude[ i ] = POWER_TO_LEVEL_FACTOR
+                    * Math.log( windowPower * inverseWindowLength );
+            windowPower += power[ Math.floorMod( ( i + windowLength ) - leadingLength,
+                                                 numberOfAngles ) ]
+                    - power[ Math.floorMod( i - leadingLength, numberOfAngles ) ];
+        }
+        smoothedAmplitude[ numberOfAngles ] = smoothedAmplitude[ 0 ];
+
+        return smoothedAmplitude;
+    }
+
+    @Override
+    public boolean equals( final Object other ) {
+        return ( other instanceof AngularSmoothingTransform )
+                && ( Double.compare( ( ( AngularSmoothingTransform ) other ).windowWidthDegrees,
+                                     windowWidthDegrees ) == 0 );
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode( windowWidthDegrees );
+    }
+}
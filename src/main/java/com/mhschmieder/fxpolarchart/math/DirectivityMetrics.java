@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.math;
+
+/**
+ * An immutable set of directivity metrics for one band of polar response
+ * data, as derived from its horizontal and vertical planes.
+ * <p>
+ * Coverage angles are the total included angle around on-axis within which
+ * the level stays no more than a given number of decibels below on-axis.
+ */
+public final class DirectivityMetrics {
+
+    /**
+     * The level drops, in decibels below on-axis, that coverage angles are
+     * computed for.
+     */
+    public static final double[] COVERAGE_LEVEL_DROPS = { 3.0d, 6.0d, 10.0d };
+
+    private final double centerFrequency;
+    private final double[] horizontalCoverageAngles;
+    private final double[] verticalCoverageAngles;
+    private final double horizontalFrontToBackRatio;
+    private final double verticalFrontToBackRatio;
+    private final double directivityIndex;
+
+    DirectivityMetrics( final double pCenterFrequency,
+                        final double[] pHorizontalCoverageAngles,
+                        final double[] pVerticalCoverageAngles,
+                        final double pHorizontalFrontToBackRatio,
+                        final double pVerticalFrontToBackRatio,
+                        final double pDirectivityIndex ) {
+        centerFrequency = pCenterFrequency;
+        horizontalCoverageAngles = pHorizontalCoverageAngles;
+        verticalCoverageAngles = pVerticalCoverageAngles;
+        horizontalFrontToBackRatio = pHorizontalFrontToBackRatio;
+        verticalFrontToBackRatio = pVerticalFrontToBackRatio;
+        directivityIndex = pDirectivityIndex;
+    }
+
+    public double getCenterFrequency() {
+        return centerFrequency;
+    }
+
+    /**
+     * Returns the horizontal coverage angle for one of the level drops.
+     *
+     * @param levelDropIndex The index into {@link #COVERAGE_LEVEL_DROPS}
+     * @return The horizontal coverage angle, in degrees
+     */
+    public double getHorizontalCoverageAngle( final int levelDropIndex ) {
+        return horizontalCoverageAngles[ levelDropIndex ];
+    }
+
+    /**
+     * Returns the vertical coverage angle for one of the level drops.
+     *
+     * @param levelDropIndex The index into {@link #COVERAGE_LEVEL_DROPS}
+     * @return The vertical coverage angle, in degrees
+     */
+    public double getVerticalCoverageAngle( final int levelDropIndex ) {
+        return verticalCoverageAngles[ levelDropIndex ];
+    }
+
+    public double getHorizontalFrontToBackRatio() {
+        return horizontalFrontToBackRatio;
+    }
+
+    public double getVerticalFrontToBackRatio() {
+        return verticalFrontToBackRatio;
+    }
+
+    /**
+     * Returns the estimated Directivity Index, or NaN if the planes don't
+     * share an angular grid with a sample at 180 degrees.
+     *
+     * @return The estimated Directivity Index, in decibels
+     */
+    public double getDirectivityIndex() {
+        return directivityIndex;
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.math;
+
+/**
+ * A calculator for directivity metrics over decoded horizontal and vertical
+ * polar amplitude traces, fast enough to run on every trace update.
+ * <p>
+ * The Directivity Index is estimated from the two planes alone, by taking the
+ * power at each angle off-axis to be the average of the powers of the four
+ * half-planes (left, right, up, down) at that angle. This is the exact
+ * spherical average for a pattern that varies elliptically with roll angle
+ * between the measured planes, and it reduces to the usual result for
+ * omnidirectional and axially symmetric sources.
+ * <p>
+ * Instances cache the solid angle weights for the most recent angular grid,
+ * so they are not thread-safe; use one instance per thread.
+ */
+public final class DirectivityMetricsCalculator {
+
+    // Precompute the conversion factors between levels and powers.
+    private static final double LEVEL_TO_POWER_EXPONENT = Math.log( 10.0d ) / 10.0d;
+
+    // Cache the trapezoidal solid angle weights from 0 to 180 degrees.
+    private double[] solidAngleWeights;
+
+    public DirectivityMetricsCalculator() {
+        solidAngleWeights = new double[ 0 ];
+    }
+
+    /**
+     * Computes the directivity metrics for one band.
+     *
+     * @param horizontalAmplitude The closed horizontal polar trace, in dB
+     * @param verticalAmplitude The closed vertical polar trace, in dB
+     * @param centerFrequency The Center Frequency of the band
+     * @return The directivity metrics for the band
+     */
+    public DirectivityMetrics calculate( final double[] horizontalAmplitude,
+                                         final double[] verticalAmplitude,
+                                         final double centerFrequency ) {
+        final int numberOfLevelDrops = DirectivityMetrics.COVERAGE_LEVEL_DROPS.length;
+        final double[] horizontalCoverageAngles = new double[ numberOfLevelDrops ];
+        final double[] verticalCoverageAngles = new double[ numberOfLevelDrops ];
+        for ( int i = 0; i < numberOfLevelDrops; i++ ) {
+            final double levelDrop = DirectivityMetrics.COVERAGE_LEVEL_DROPS[ i ];
+            horizontalCoverageAngles[ i ] = getCoverageAngle( horizontalAmplitude, levelDrop );
+            verticalCoverageAngles[ i ] = getCoverageAngle( verticalAmplitude, levelDrop );
+        }
+
+        return new DirectivityMetrics( centerFrequency,
+                                       horizontalCoverageAngles,
+                                       verticalCoverageAngles,
+                                       getFrontToBackRatio( horizontalAmplitude ),
+                                       getFrontToBackRatio( verticalAmplitude ),
+                                       getDirectivityIndex( horizontalAmplitude,
+                                                            verticalAmplitude ) );
+    }
+
+    /**
+     * Returns the total included angle around on-axis within which a closed
+     * polar trace stays no more than a given drop below its on-axis level,
+     * interpolating linearly between samples at each edge.
+     *
+     * @param amplitude The closed polar trace, in decibels
+     * @param levelDrop The level drop below on-axis, in decibels
+     * @return The coverage angle, in degrees, up to a full circle
+     */
+    public static double getCoverageAngle( final double[] amplitude, final double levelDrop ) {
+        final int numberOfIntervals = amplitude.length - 1;
+        final double angleIncrementDegrees = 360.0d / numberOfIntervals;
+        final double threshold = amplitude[ 0 ] - levelDrop;
+        final int halfCircle = numberOfIntervals / 2;
+
+        // Walk out from on-axis in each direction, up to the rear axis.
+        double forwardAngle = 180.0d;
+        for ( int i = 1; i <= halfCircle; i++ ) {
+            if ( amplitude[ i ] < threshold ) {
+                forwardAngle = angleIncrementDegrees
+                        * ( ( i - 1 ) + getCrossingFraction( amplitude[ i - 1 ],
+                                                             amplitude[ i ],
+                                                             threshold ) );
+                break;
+            }
+        }
+
+        double backwardAngle = 180.0d;
+        for ( int i = 1; i <= halfCircle; i++ ) {
+            final int index = numberOfIntervals - i;
+            if ( amplitude[ index ] < threshold ) {
+                backwardAngle = angleIncrementDegrees
+                        * ( ( i - 1 ) + getCrossingFraction( amplitude[ index + 1 ],
+                                                             amplitude[ index ],
+                                                             threshold ) );
+                break;
+            }
+        }
+
+        return Math.min( 360.0d, forwardAngle + backwardAngle );
+    }
+
+    // Return where a threshold is crossed between two samples, as a fraction
+    // of the interval between them.
+    private static double getCrossingFraction( final double insideLevel,
+                                               final double outsideLevel,
+                                               final double threshold ) {
+        final double levelChange = insideLevel - outsideLevel;
+        return ( levelChange > 0.0d )
+            ? Math.min( 1.0d, Math.max( 0.0d, ( insideLevel - threshold ) / levelChange ) )
+            : 0.0d;
+    }
+
+    /**
+     * Returns the difference between the on-axis level and the level at 180
+     * degrees of a closed polar trace, interpolating if the grid has no
+     * sample at 180 degrees.
+     *
+     * @param amplitude The closed polar trace, in decibels
+     * @return The front-to-back ratio, in decibels
+     */
+    public static double getFrontToBackRatio( final double[] amplitude ) {
+        final int numberOfIntervals = amplitude.length - 1;
+        final int halfCircle = numberOfIntervals / 2;
+        final double rearLevel = ( ( numberOfIntervals % 2 ) == 0 )
+            ? amplitude[ halfCircle ]
+            : 0.5d * ( amplitude[ halfCircle ] + amplitude[ halfCircle + 1 ] );
+        return amplitude[ 0 ] - rearLevel;
+    }
+
+    /**
+     * Returns the Directivity Index estimated from the four half-planes of
+     * the horizontal and vertical traces.
+     *
+     * @param horizontalAmplitude The closed horizontal polar trace, in dB
+     * @param verticalAmplitude The closed vertical polar trace, in dB
+     * @return The estimated Directivity Index in decibels, or NaN if the
+     *         traces don't share an angular grid with a sample at 180 degrees
+     */
+    public double getDirectivityIndex( final double[] horizontalAmplitude,
+                                       final double[] verticalAmplitude ) {
+        final int numberOfIntervals = horizontalAmplitude.length - 1;
+        if ( ( verticalAmplitude.length != horizontalAmplitude.length )
+                || ( ( numberOfIntervals % 2 ) != 0 ) ) {
+            return Double.NaN;
+        }
+
+        final int halfCircle = numberOfIntervals / 2;
+        final double[] weights = getSolidAngleWeights( halfCircle );
+
+        // Work in power relative to on-axis, to keep the sums well scaled.
+        final double onAxisLevel = 0.5d * ( horizontalAmplitude[ 0 ] + verticalAmplitude[ 0 ] );
+        final double onAxisExponent = LEVEL_TO_POWER_EXPONENT * onAxisLevel;
+        double weightedPowerSum = 0.0d;
+        for ( int i = 0; i <= halfCircle; i++ ) {
+            final int mirrorIndex = numberOfIntervals - i;
+            final double halfPlanePowerSum =
+                    Math.exp( ( LEVEL_TO_POWER_EXPONENT * horizontalAmplitude[ i ] )
+                            - onAxisExponent )
+                            + Math.exp( ( LEVEL_TO_POWER_EXPONENT
+                                    * horizontalAmplitude[ mirrorIndex ] ) - onAxisExponent )
+                            + Math.exp( ( LEVEL_TO_POWER_EXPONENT * verticalAmplitude[ i ] )
+                                    - onAxisExponent )
+                            + Math.exp( ( LEVEL_TO_POWER_EXPONENT
+                                    * verticalAmplitude[ mirrorIndex ] ) - onAxisExponent );
+            weightedPowerSum += weights[ i ] * halfPlanePowerSum;
+        }
+
+        // The weights already fold in the average over the four half-planes,
+        // so an omnidirectional source sums to two, the integral of sine.
+        return 10.0d * Math.log10( 2.0d / weightedPowerSum );
+    }
+
+    // Return the trapezoidal weights for integrating over polar angle from
+    // 0 to 180 degrees with a sine factor, premultiplied by a quarter for the
+    // average over the four half-planes.
+    private double[] getSolidAngleWeights( final int halfCircle ) {
+        if ( solidAngleWeights.length != ( halfCircle + 1 ) ) {
+            final double angleIncrementRadians = Math.PI / halfCircle;
+            final double[] weights = new double[ halfCircle + 1 ];
+            for ( int i = 0; i <= halfCircle; i++ ) {
+                final double endWeight = ( ( i == 0 ) || ( i == halfCircle ) ) ? 0.5d : 1.0d;
+                weights[ i ] = 0.25d * endWeight * angleIncrementRadians
+                        * Math.sin( i * angleIncrementRadians );
+            }
+            solidAngleWeights = weights;
+        }
+        return solidAngleWeights;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.math;
+
+import com.mhschmieder.fxpolarchart.model.PolarResponse;
+import com.mhschmieder.fxpolarchart.model.PolarResponseCache;
+import com.mhschmieder.fxpolarchart.model.PolarResponseKey;
+import com.mhschmieder.jacoustics.RelativeBandwidth;
+
+/**
+ * A band synthesis engine that computes coarser fractional-octave polar
+ * response data from cached finer bands, by power-averaging the constituent
+ * bands at every angle.
+ * <p>
+ * Only odd bandwidth ratios nest exactly on the base-2 band grid (such as
+ * three 1/3 octave bands per octave band, or three 1/24 octave bands per 1/8
+ * octave band), so even ratios are never used as synthesis sources.
+ * <p>
+ * NOTE: The power average is taken of the levels exactly as delivered, so if
+ *  the server normalizes each band to its own on-axis level, the synthesized
+ *  band is an average of normalized patterns rather than a re-normalized
+ *  average of absolute patterns.
+ */
+public final class FractionalOctaveBandSynthesizer {
+
+    /**
+     * The finest fractional-octave bandwidth that is searched for sources.
+     */
+    public static final int MAXIMUM_SOURCE_OCTAVE_DIVIDER = 48;
+
+    // Precompute the conversion factors between levels and powers.
+    private static final double LEVEL_TO_POWER_EXPONENT = Math.log( 10.0d ) / 10.0d;
+    private static final double POWER_TO_LEVEL_FACTOR   = 10.0d / Math.log( 10.0d );
+
+    /**
+     * The default constructor is disabled, as this is a static utilities class.
+     */
+    private FractionalOctaveBandSynthesizer() {}
+
+    /**
+     * Synthesizes a band from the finest complete set of constituent bands in
+     * the cache, if there is one.
+     *
+     * @param polarResponseCache The cache to look for constituent bands in
+     * @param polarResponseKey The key of the band to synthesize
+     * @param relativeBandwidth The Relative Bandwidth of the band
+     * @param centerFrequency The nominal Center Frequency of the band
+     * @return The synthesized band, or {@code null} if no complete set of
+     *         constituent bands is cached
+     */
+    public static PolarResponse synthesize( final PolarResponseCache polarResponseCache,
+                                            final PolarResponseKey polarResponseKey,
+                                            final RelativeBandwidth relativeBandwidth,
+                                            final double centerFrequency ) {
+        final int octaveDivider = polarResponseKey.getOctaveDivider();
+        final int bandIndex = polarResponseKey.getBandIndex();
+
+        // Try the narrowest bandwidth ratio first, as it needs the fewest
+        // cached bands and is the most likely to have been viewed.
+        for ( int bandwidthRatio = 3; ( bandwidthRatio
+                * octaveDivider ) <= MAXIMUM_SOURCE_OCTAVE_DIVIDER; bandwidthRatio += 2 ) {
+            final PolarResponse[] constituentBands =
+                    getConstituentBands( polarResponseCache,
+                                         polarResponseKey,
+                                         bandwidthRatio * octaveDivider,
+                                         bandwidthRatio * bandIndex,
+                                         bandwidthRatio );
+            if ( constituentBands != null ) {
+                return powerAverage( constituentBands, relativeBandwidth, centerFrequency );
+            }
+        }
+
+        return null;
+    }
+
+    // Return the constituent bands of a coarser band, centered on the given
+    // finer band, or null if any of them is missing or of a different
+    // angular resolution.
+    private static PolarResponse[] getConstituentBands( final PolarResponseCache polarResponseCache,
+                                                        final PolarResponseKey polarResponseKey,
+                                                        final int sourceOctaveDivider,
+                                                        final int centerSourceBandIndex,
+                                                        final int bandwidthRatio ) {
+        final PolarResponse[] constituentBands = new PolarResponse[ bandwidthRatio ];
+        final int halfBandwidthRatio = bandwidthRatio / 2;
+        int numberOfDataPoints = -1;
+        for ( int i = 0; i < bandwidthRatio; i++ ) {
+            final PolarResponseKey sourceKey = polarResponseKey
+                    .withBand( sourceOctaveDivider, centerSourceBandIndex - halfBandwidthRatio + i );
+            final PolarResponse sourceBand = polarResponseCache.get( sourceKey );
+            if ( sourceBand == null ) {
+                return null;
+            }
+
+            final int horizontalLength = sourceBand.getHorizontalAmplitude().length;
+            final int verticalLength = sourceBand.getVerticalAmplitude().length;
+            if ( numberOfDataPoints < 0 ) {
+                numberOfDataPoints = horizontalLength;
+            }
+            if ( ( horizontalLength != numberOfDataPoints )
+                    || ( verticalLength != numberOfDataPoints ) ) {
+                return null;
+            }
+
+            constituentBands[ i ] = sourceBand;
+        }
+
+        return constituentBands;
+    }
+
+    // Power-average both planes of a set of constituent bands, which share
+    // their Acoustic Source Model.
+    private static PolarResponse powerAverage( final PolarResponse[] constituentBands,
+                                               final RelativeBandwidth relativeBandwidth,
+                                               final double centerFrequency ) {
+        final int numberOfBands = constituentBands.length;
+        final double[][] horizontalAmplitudes = new double[ numberOfBands ][];
+        final double[][] verticalAmplitudes = new double[ numberOfBands ][];
+        for ( int i = 0; i < numberOfBands; i++ ) {
+            horizontalAmplitudes[ i ] = constituentBands[ i ].getHorizontalAmplitude();
+            verticalAmplitudes[ i ] = constituentBands[ i ].getVerticalAmplitude();
+        }
+
+        return new PolarResponse( constituentBands[ 0 ].getAcousticSourceModel(),
+                                  relativeBandwidth,
+                                  centerFrequency,
+                                  powerAverage( horizontalAmplitudes ),
+                                  powerAverage( verticalAmplitudes ) );
+    }
+
+    /**
+     * Returns the angle-by-angle power average of a set of level traces of
+     * equal length, in decibels.
+     *
+     * @param levels The level traces to average, in decibels
+     * @return The power-averaged level trace, in decibels
+     */
+    public static double[] powerAverage( final double[][] levels ) {
+        final int numberOfTraces = levels.length;
+        final int numberOfDataPoints = levels[ 0 ].length;
+
+        // Accumulate the powers one trace at a time, so that the inner loop
+        // runs over contiguous memory.
+        final double[] averageLevel = new double[ numberOfDataPoints ];
+        for ( final double[] level : levels ) {
+            for ( int i = 0; i < numberOfDataPoints; i++ ) {
+                averageLevel[ i ] += Math.exp( LEVEL_TO_POWER_EXPONENT * level[ i ] );
+            }
+        }
+
+        final double inverseNumberOfTraces = 1.0d / numberOfTraces;
+        for ( int i = 0; i < numberOfDataPoints; i++ ) {
+            averageLevel[ i ] = POWER_TO_LEVEL_FACTOR
+                    * Math.log( averageLevel[ i ] * inverseNumberOfTraces );
+        }
+
+        return averageLevel;
+    }
+}
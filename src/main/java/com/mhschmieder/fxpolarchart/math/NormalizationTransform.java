@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.math;
+
+import com.mhschmieder.fxpolarchart.model.PolarResponse;
+
+/**
+ * A transform that normalizes each plane of a polar response to its own
+ * reference level, so that the reference reads as 0 dB.
+ */
+public final class NormalizationTransform implements PolarResponseTransform {
+
+    private final PolarResponseNormalization normalization;
+
+    public NormalizationTransform( final PolarResponseNormalization pNormalization ) {
+        normalization = pNormalization;
+    }
+
+    public PolarResponseNormalization getNormalization() {
+        return normalization;
+    }
+
+    @Override
+    public PolarResponse apply( final PolarResponse polarResponse ) {
+        if ( normalization == PolarResponseNormalization.ABSOLUTE ) {
+            return polarResponse;
+        }
+
+        return new PolarResponse( polarResponse.getAcousticSourceModel(),
+                                  polarResponse.getRelativeBandwidth(),
+                                  polarResponse.getCenterFrequency(),
+                                  normalize( polarResponse.getHorizontalAmplitude() ),
+                                  normalize( polarResponse.getVerticalAmplitude() ) );
+    }
+
+    // Normalize a closed trace, whose first data point is on-axis.
+    private double[] normalize( final double[] amplitude ) {
+        double referenceLevel = amplitude[ 0 ];
+        if ( normalization == PolarResponseNormalization.MAXIMUM ) {
+            for ( final double level : amplitude ) {
+                referenceLevel = Math.max( referenceLevel, level );
+            }
+        }
+
+        final double[] normalizedAmplitude = new double[ amplitude.length ];
+        for ( int i = 0; i < amplitude.length; i++ ) {
+            normalizedAmplitude[ i ] = amplitude[ i ] - referenceLevel;
+        }
+
+        return normalizedAmplitude;
+    }
+
+    @Override
+    public boolean equals( final Object other ) {
+        return ( other instanceof NormalizationTransform )
+                && ( ( ( NormalizationTransform ) other ).normalization == normalization );
+    }
+
+    @Override
+    public int hashCode() {
+        return normalization.hashCode();
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.math;
+
+import com.mhschmieder.fxpolarchart.model.PolarResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable chain of polar response transforms, applied in order, along
+ * with a memo of the transformed responses.
+ * <p>
+ * The memo is keyed by the source snapshot and the settings of every prefix
+ * of the chain, so toggling a transform back and forth redraws from the memo,
+ * and changing only the last transform of a chain reuses the earlier stages.
+ * The memo holds a bounded number of the most recently used results, and is
+ * shared by the chains derived from one another.
+ * <p>
+ * This class is not thread-safe, and is meant to be used on the JavaFX
+ * Application Thread.
+ */
+public final class PolarResponseTransformChain {
+
+    /**
+     * The default number of transformed responses to memoize.
+     */
+    public static final int MEMO_CAPACITY_DEFAULT = 64;
+
+    // Key the memo by the source snapshot and the settings of a chain prefix.
+    private static final class MemoKey {
+
+        private final long                           sourceVersion;
+        private final List< PolarResponseTransform > transforms;
+
+        private MemoKey( final long pSourceVersion,
+                         final List< PolarResponseTransform > pTransforms ) {
+            sourceVersion = pSourceVersion;
+            transforms = pTransforms;
+        }
+
+        @Override
+        public boolean equals( final Object other ) {
+            if ( !( other instanceof MemoKey ) ) {
+                return false;
+            }
+            final MemoKey otherMemoKey = ( MemoKey ) other;
+            return ( otherMemoKey.sourceVersion == sourceVersion )
+                    && otherMemoKey.transforms.equals( transforms );
+        }
+
+        @Override
+        public int hashCode() {
+            return ( 31 * Long.hashCode( sourceVersion ) ) + transforms.hashCode();
+        }
+    }
+
+    // Hold the memo along with its statistics, as they are shared by all of
+    // the chains derived from one another.
+    private static final class Memo {
+
+        private final Map< MemoKey, PolarResponse > transformedPolarResponses;
+        private long                                numberOfStagesComputed;
+        private long                                numberOfStagesMemoized;
+
+        @SuppressWarnings("serial")
+        private Memo( final int memoCapacity ) {
+            transformedPolarResponses = new LinkedHashMap< MemoKey, PolarResponse >( 16,
+                                                                                    0.75f,
+                                                                                    true ) {
+                @Override
+                protected boolean removeEldestEntry( final Map.Entry< MemoKey, PolarResponse > eldest ) {
+                    return size() > memoCapacity;
+                }
+            };
+            numberOfStagesComputed = 0L;
+            numberOfStagesMemoized = 0L;
+        }
+    }
+
+    private final List< PolarResponseTransform > transforms;
+    private final Memo                           memo;
+
+    /**
+     * Makes an empty chain, with a memo of the default capacity.
+     */
+    public PolarResponseTransformChain() {
+        this( MEMO_CAPACITY_DEFAULT );
+    }
+
+    /**
+     * Makes an empty chain, with a memo of the given capacity.
+     *
+     * @param memoCapacity The number of transformed responses to memoize
+     */
+    public PolarResponseTransformChain( final int memoCapacity ) {
+        this( Collections.emptyList(), new Memo( memoCapacity ) );
+    }
+
+    private PolarResponseTransformChain( final List< PolarResponseTransform > pTransforms,
+                                         final Memo pMemo ) {
+        transforms = pTransforms;
+        memo = pMemo;
+    }
+
+    /**
+     * Returns a chain that applies this chain and then the given transform,
+     * sharing this chain's memo.
+     *
+     * @param transform The transform to append
+     * @return The extended chain
+     */
+    public PolarResponseTransformChain then( final PolarResponseTransform transform ) {
+        final List< PolarResponseTransform > extendedTransforms = new ArrayList<>( transforms );
+        extendedTransforms.add( transform );
+        return new PolarResponseTransformChain( Collections.unmodifiableList( extendedTransforms ),
+                                                memo );
+    }
+
+    /**
+     * Returns an empty chain that shares this chain's memo, to build a chain
+     * with new settings on.
+     *
+     * @return An empty chain with the same memo
+     */
+    public PolarResponseTransformChain cleared() {
+        return new PolarResponseTransformChain( Collections.emptyList(), memo );
+    }
+
+    public List< PolarResponseTransform > getTransforms() {
+        return transforms;
+    }
+
+    public boolean isEmpty() {
+        return transforms.isEmpty();
+    }
+
+    /**
+     * Applies the chain to a response, reusing memoized results for the
+     * longest prefix of the chain that has already been applied to it.
+     *
+     * @param polarResponse The response to transform
+     * @return The transformed response, which is the response itself if the
+     *         chain is empty
+     */
+    public PolarResponse apply( final PolarResponse polarResponse ) {
+        if ( ( polarResponse == null ) || transforms.isEmpty() ) {
+            return polarResponse;
+        }
+
+        final long sourceVersion = polarResponse.getVersion();
+
+        // Find the longest memoized prefix, working backwards.
+        int numberOfStagesApplied = transforms.size();
+        PolarResponse transformedPolarResponse = null;
+        while ( numberOfStagesApplied > 0 ) {
+            transformedPolarResponse = memo.transformedPolarResponses
+                    .get( new MemoKey( sourceVersion,
+                                       transforms.subList( 0, numberOfStagesApplied ) ) );
+            if ( transformedPolarResponse != null ) {
+                break;
+            }
+            numberOfStagesApplied--;
+        }
+        memo.numberOfStagesMemoized += numberOfStagesApplied;
+        if ( transformedPolarResponse == null ) {
+            transformedPolarResponse = polarResponse;
+        }
+
+        // Compute and memoize the remaining stages.
+        for ( int i = numberOfStagesApplied; i < transforms.size(); i++ ) {
+            transformedPolarResponse = transforms.get( i ).apply( transformedPolarResponse );
+            memo.transformedPolarResponses
+                    .put( new MemoKey( sourceVersion, transforms.subList( 0, i + 1 ) ),
+                          transformedPolarResponse );
+            memo.numberOfStagesComputed++;
+        }
+
+        return transformedPolarResponse;
+    }
+
+    public long getNumberOfStagesComputed() {
+        return memo.numberOfStagesComputed;
+    }
+
+    public long getNumberOfStagesMemoized() {
+        return memo.numberOfStagesMemoized;
+    }
+}
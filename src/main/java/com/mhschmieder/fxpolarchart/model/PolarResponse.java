@@ -0,0 +1,155 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.model;
+
+import com.mhschmieder.jacoustics.RelativeBandwidth;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An immutable snapshot of the decoded horizontal and vertical polar response
+ * of one band, along with the Acoustic Source Model, Relative Bandwidth and
+ * Center Frequency that it is for, and a version stamp.
+ * <p>
+ * A snapshot is published once and then shared without copying by the live
+ * chart, the export preview and the caches, on any thread. The final fields
+ * make it safe to hand across threads without further synchronization.
+ * <p>
+ * NOTE: The amplitude arrays are owned by the snapshot from construction on,
+ *  and are shared rather than copied, so neither the code that made them nor
+ *  any reader may modify them. Code that needs to alter a trace must work on
+ *  its own copy.
+ */
+public final class PolarResponse {
+
+    // Stamp every snapshot with a unique, increasing version.
+    private static final AtomicLong VERSION_SEQUENCE = new AtomicLong();
+
+    private final String acousticSourceModel;
+    private final RelativeBandwidth relativeBandwidth;
+    private final double centerFrequency;
+    private final double[] horizontalAmplitude;
+    private final double[] verticalAmplitude;
+    private final long version;
+
+    /**
+     * Makes a snapshot that takes ownership of the amplitude arrays.
+     *
+     * @param pAcousticSourceModel The Acoustic Source Model
+     * @param pRelativeBandwidth The Relative Bandwidth of the band
+     * @param pCenterFrequency The nominal Center Frequency of the band
+     * @param pHorizontalAmplitude The closed horizontal polar trace, in dB
+     * @param pVerticalAmplitude The closed vertical polar trace, in dB
+     */
+    public PolarResponse( final String pAcousticSourceModel,
+                          final RelativeBandwidth pRelativeBandwidth,
+                          final double pCenterFrequency,
+                          final double[] pHorizontalAmplitude,
+                          final double[] pVerticalAmplitude ) {
+        acousticSourceModel = pAcousticSourceModel;
+        relativeBandwidth = pRelativeBandwidth;
+        centerFrequency = pCenterFrequency;
+        horizontalAmplitude = pHorizontalAmplitude;
+        verticalAmplitude = pVerticalAmplitude;
+        version = VERSION_SEQUENCE.incrementAndGet();
+    }
+
+    public String getAcousticSourceModel() {
+        return acousticSourceModel;
+    }
+
+    public RelativeBandwidth getRelativeBandwidth() {
+        return relativeBandwidth;
+    }
+
+    public double getCenterFrequency() {
+        return centerFrequency;
+    }
+
+    /**
+     * Returns the shared horizontal polar trace, which must not be modified.
+     *
+     * @return The closed horizontal polar trace, in dB
+     */
+    public double[] getHorizontalAmplitude() {
+        return horizontalAmplitude;
+    }
+
+    /**
+     * Returns the shared vertical polar trace, which must not be modified.
+     *
+     * @return The closed vertical polar trace, in dB
+     */
+    public double[] getVerticalAmplitude() {
+        return verticalAmplitude;
+    }
+
+    public double getHorizontalAngleIncrementDegrees() {
+        return 360.0d / ( horizontalAmplitude.length - 1 );
+    }
+
+    public double getVerticalAngleIncrementDegrees() {
+        return 360.0d / ( verticalAmplitude.length - 1 );
+    }
+
+    /**
+     * Returns the angle of a horizontal data point, which is implied by the
+     * angular resolution rather than stored.
+     *
+     * @param index The index of the data point
+     * @return The angle of the data point, in degrees
+     */
+    public double getHorizontalAngleDegrees( final int index ) {
+        return index * getHorizontalAngleIncrementDegrees();
+    }
+
+    /**
+     * Returns the angle of a vertical data point, which is implied by the
+     * angular resolution rather than stored.
+     *
+     * @param index The index of the data point
+     * @return The angle of the data point, in degrees
+     */
+    public double getVerticalAngleDegrees( final int index ) {
+        return index * getVerticalAngleIncrementDegrees();
+    }
+
+    /**
+     * Returns the version stamp, which is unique to this snapshot and greater
+     * than that of any snapshot made before it, so that consumers can skip
+     * work for a snapshot they have already applied.
+     *
+     * @return The version stamp of this snapshot
+     */
+    public long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.model;
+
+import com.mhschmieder.fxpolarchart.net.PolarResponseValidator;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * A bounded, least-recently-used cache of decoded polar responses, keyed by
+ * Acoustic Source Model and band, along with the HTTP cache validators of
+ * those that came from the server.
+ * <p>
+ * All methods are synchronized, as the cache may be filled from background
+ * threads while being read on the JavaFX Application Thread.
+ */
+public final class PolarResponseCache {
+
+    /**
+     * The default number of bands to hold, which at one degree resolution is
+     * a few megabytes of data.
+     */
+    public static final int DEFAULT_CAPACITY = 512;
+
+    // Pair each response with its validator, so that both are evicted
+    // together.
+    private static final class CacheEntry {
+
+        private final PolarResponse polarResponse;
+        private final PolarResponseValidator polarResponseValidator;
+
+        private CacheEntry( final PolarResponse pPolarResponse,
+                            final PolarResponseValidator pPolarResponseValidator ) {
+            polarResponse = pPolarResponse;
+            polarResponseValidator = pPolarResponseValidator;
+        }
+    }
+
+    private final Map< PolarResponseKey, CacheEntry > cache;
+
+    public PolarResponseCache() {
+        this( DEFAULT_CAPACITY );
+    }
+
+    public PolarResponseCache( final int capacity ) {
+        // Use access order, so that the eldest entry is the least recently used.
+        cache = new LinkedHashMap< PolarResponseKey, CacheEntry >( 2 * capacity,
+                                                                    0.75f,
+                                                                    true ) {
+            private static final long serialVersionUID = 3385093372937766592L;
+
+            @Override
+            protected boolean removeEldestEntry( final Map.Entry< PolarResponseKey, CacheEntry > eldest ) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public synchronized PolarResponse get( final PolarResponseKey polarResponseKey ) {
+        final CacheEntry cacheEntry = cache.get( polarResponseKey );
+        return ( cacheEntry != null ) ? cacheEntry.polarResponse : null;
+    }
+
+    /**
+     * Returns the HTTP cache validator of a cached response. As with
+     * {@link #get}, this counts as a use of the cached response.
+     *
+     * @param polarResponseKey The key of the cached response
+     * @return The validator, or {@code null} if the response isn't cached or
+     *         didn't come from the server with validators
+     */
+    public synchronized PolarResponseValidator getValidator( final PolarResponseKey polarResponseKey ) {
+        final CacheEntry cacheEntry = cache.get( polarResponseKey );
+        return ( cacheEntry != null ) ? cacheEntry.polarResponseValidator : null;
+    }
+
+    public synchronized void put( final PolarResponseKey polarResponseKey,
+                                  final PolarResponse polarResponseData ) {
+        put( polarResponseKey, polarResponseData, null );
+    }
+
+    public synchronized void put( final PolarResponseKey polarResponseKey,
+                                  final PolarResponse polarResponseData,
+                                  final PolarResponseValidator polarResponseValidator ) {
+        cache.put( polarResponseKey, new CacheEntry( polarResponseData, polarResponseValidator ) );
+    }
+
+    /**
+     * Marks a cached response as confirmed current by the server, keeping its
+     * decoded data as-is.
+     *
+     * @param polarResponseKey The key of the cached response
+     * @return The cached response, or {@code null} if it is no longer cached
+     */
+    public synchronized PolarResponse revalidate( final PolarResponseKey polarResponseKey ) {
+        final CacheEntry cacheEntry = cache.get( polarResponseKey );
+        if ( cacheEntry == null ) {
+            return null;
+        }
+
+        if ( cacheEntry.polarResponseValidator != null ) {
+            cache.put( polarResponseKey,
+                       new CacheEntry( cacheEntry.polarResponse,
+                                       cacheEntry.polarResponseValidator.revalidated() ) );
+        }
+        return cacheEntry.polarResponse;
+    }
+
+    /**
+     * Returns all of the cached bands for one Acoustic Source Model at one
+     * Relative Bandwidth, as a single batch ordered by frequency. This does
+     * not affect the least-recently-used order of the cache.
+     *
+     * @param acousticSourceModel The Acoustic Source Model to match
+     * @param octaveDivider The octave divider of the Relative Bandwidth
+     * @return The cached bands, keyed by band index
+     */
+    public synchronized SortedMap< Integer, PolarResponse > getBands( final String acousticSourceModel,
+                                                                          final int octaveDivider ) {
+        final SortedMap< Integer, PolarResponse > bands = new TreeMap<>();
+        for ( final Map.Entry< PolarResponseKey, CacheEntry > entry : cache.entrySet() ) {
+            final PolarResponseKey polarResponseKey = entry.getKey();
+            if ( ( polarResponseKey.getOctaveDivider() == octaveDivider )
+                    && polarResponseKey.getAcousticSourceModel().equals( acousticSourceModel ) ) {
+                bands.put( polarResponseKey.getBandIndex(), entry.getValue().polarResponse );
+            }
+        }
+        return bands;
+    }
+
+    /**
+     * Returns a copy of all of the cached responses, from the least to the
+     * most recently used. This does not affect the least-recently-used order
+     * of the cache.
+     *
+     * @return A copy of the cache contents
+     */
+    public synchronized Map< PolarResponseKey, PolarResponse > getAll() {
+        final Map< PolarResponseKey, PolarResponse > polarResponses = new LinkedHashMap<>( 2
+                * cache.size() );
+        for ( final Map.Entry< PolarResponseKey, CacheEntry > entry : cache.entrySet() ) {
+            polarResponses.put( entry.getKey(), entry.getValue().polarResponse );
+        }
+        return polarResponses;
+    }
+
+    public synchronized boolean contains( final PolarResponseKey polarResponseKey ) {
+        return cache.containsKey( polarResponseKey );
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    public synchronized void clear() {
+        cache.clear();
+    }
+}
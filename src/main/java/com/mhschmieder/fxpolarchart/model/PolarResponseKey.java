@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.model;
+
+import com.mhschmieder.jacoustics.FrequencyRange;
+
+import java.util.Objects;
+
+/**
+ * An immutable key that identifies one band of polar response data for one
+ * Acoustic Source Model.
+ * <p>
+ * Bands are identified by their index on the base-2 fractional-octave grid
+ * relative to 1 kHz rather than by their Center Frequency, as nominal Center
+ * Frequencies are rounded and would otherwise not match exact ones.
+ */
+public final class PolarResponseKey {
+
+    /**
+     * The reference frequency for band indices, which is band zero for all
+     * fractional-octave bandwidths.
+     */
+    public static final double REFERENCE_FREQUENCY = 1000.0d;
+
+    private final String acousticSourceModel;
+    private final int octaveDivider;
+    private final int bandIndex;
+
+    public PolarResponseKey( final String pAcousticSourceModel,
+                             final int pOctaveDivider,
+                             final int pBandIndex ) {
+        acousticSourceModel = pAcousticSourceModel;
+        octaveDivider = pOctaveDivider;
+        bandIndex = pBandIndex;
+    }
+
+    /**
+     * Makes the key for the band of a Frequency Range, for the Acoustic
+     * Source Model in the form that the data request server expects.
+     *
+     * @param acousticSourceModel The Acoustic Source Model for the data request
+     * @param frequencyRange The Frequency Range whose current band is keyed
+     * @return The key for the current band of the Frequency Range
+     */
+    public static PolarResponseKey makeKey( final String acousticSourceModel,
+                                            final FrequencyRange frequencyRange ) {
+        final int octaveDivider = frequencyRange.getRelativeBandwidth().toOctaveDivider();
+        final int bandIndex = getBandIndex( octaveDivider, frequencyRange.getCenterFrequency() );
+        return new PolarResponseKey( acousticSourceModel, octaveDivider, bandIndex );
+    }
+
+    /**
+     * Returns the index of the fractional-octave band nearest to a nominal or
+     * exact Center Frequency.
+     *
+     * @param octaveDivider The number of bands per octave
+     * @param centerFrequency The nominal or exact Center Frequency of the band
+     * @return The band index, where band zero is centered on 1 kHz
+     */
+    public static int getBandIndex( final int octaveDivider, final double centerFrequency ) {
+        final double octavesFromReference = Math.log( centerFrequency / REFERENCE_FREQUENCY )
+                / Math.log( 2.0d );
+        return ( int ) Math.round( octaveDivider * octavesFromReference );
+    }
+
+    /**
+     * Returns the exact base-2 Center Frequency of a fractional-octave band.
+     *
+     * @param octaveDivider The number of bands per octave
+     * @param bandIndex The band index, where band zero is centered on 1 kHz
+     * @return The exact Center Frequency of the band
+     */
+    public static double getExactCenterFrequency( final int octaveDivider, final int bandIndex ) {
+        return REFERENCE_FREQUENCY * Math.pow( 2.0d, ( double ) bandIndex / octaveDivider );
+    }
+
+    public String getAcousticSourceModel() {
+        return acousticSourceModel;
+    }
+
+    public int getOctaveDivider() {
+        return octaveDivider;
+    }
+
+    public int getBandIndex() {
+        return bandIndex;
+    }
+
+    /**
+     * Returns the key for another band of the same model and bandwidth.
+     *
+     * @param otherOctaveDivider The number of bands per octave for the new key
+     * @param otherBandIndex The band index for the new key
+     * @return The key for the other band
+     */
+    public PolarResponseKey withBand( final int otherOctaveDivider, final int otherBandIndex ) {
+        return new PolarResponseKey( acousticSourceModel, otherOctaveDivider, otherBandIndex );
+    }
+
+    @Override
+    public boolean equals( final Object other ) {
+        if ( this == other ) {
+            return true;
+        }
+        if ( !( other instanceof PolarResponseKey ) ) {
+            return false;
+        }
+
+        final PolarResponseKey otherKey = ( PolarResponseKey ) other;
+        return ( octaveDivider == otherKey.octaveDivider )
+                && ( bandIndex == otherKey.bandIndex )
+                && Objects.equals( acousticSourceModel, otherKey.acousticSourceModel );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash( acousticSourceModel, octaveDivider, bandIndex );
+    }
+
+    @SuppressWarnings("nls")
+    @Override
+    public String toString() {
+        return acousticSourceModel + " [1/" + octaveDivider + " octave, band " + bandIndex + "]";
+    }
+}
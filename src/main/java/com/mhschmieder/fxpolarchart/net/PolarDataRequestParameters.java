@@ -45,6 +45,18 @@ import java.net.HttpURLConnection;
  */
 public final class PolarDataRequestParameters extends DataRequestParameters {
 
+    /**
+     * The media types the client accepts, with the framed body preferred
+     * over the ZIP payload that older servers send.
+     */
+    public static final String ACCEPT_MEDIA_TYPES = "application/x-polar-response, application/zip;q=0.5"; //$NON-NLS-1$
+
+    /**
+     * The content encodings the client accepts, which lets the server send
+     * the framed body uncompressed on fast networks.
+     */
+    public static final String ACCEPT_ENCODINGS   = "gzip, identity"; //$NON-NLS-1$
+
     /** 
      * Cache the Acoustic Source Model to use for the prediction. 
      * <p>
@@ -65,9 +77,29 @@ public final class PolarDataRequestParameters extends DataRequestParameters {
      */
     private final FrequencyRange frequencyRange;
 
+    /**
+     * Cache the validators of the cached response for this band, if any, to
+     * make this a conditional request that the server can answer with a
+     * bodiless 304 (Not Modified) response.
+     */
+    private final PolarResponseValidator cachedValidator;
+
+    /**
+     * Keep the connection once the request is made, so that the validators
+     * of the response can be read from its headers after it completes.
+     */
+    private volatile HttpURLConnection requestConnection;
+
     public PolarDataRequestParameters( final LoginCredentials pLoginCredentials,
                                        final String pAcousticSourceModel,
                                        final FrequencyRange pFrequencyRange ) {
+        this( pLoginCredentials, pAcousticSourceModel, pFrequencyRange, null );
+    }
+
+    public PolarDataRequestParameters( final LoginCredentials pLoginCredentials,
+                                       final String pAcousticSourceModel,
+                                       final FrequencyRange pFrequencyRange,
+                                       final PolarResponseValidator pCachedValidator ) {
         // Always call the super-constructor first!
         super( "Polar Response",
                DataUpdateType.FULL_UPDATE,
@@ -75,6 +107,38 @@ public final class PolarDataRequestParameters extends DataRequestParameters {
         
         acousticSourceModel = pAcousticSourceModel;
         frequencyRange = pFrequencyRange;
+        cachedValidator = pCachedValidator;
+    }
+
+    /**
+     * Returns whether this is a conditional request, for revalidating a
+     * cached response.
+     *
+     * @return {@code true} if this request carries cache validators
+     */
+    public boolean isConditional() {
+        return cachedValidator != null;
+    }
+
+    /**
+     * Returns the validators of the response, once the request has completed.
+     *
+     * @return The validators of the response, or {@code null} if the request
+     *         hasn't been made or the server sent no validators
+     */
+    public PolarResponseValidator getResponseValidator() {
+        final HttpURLConnection httpURLConnection = requestConnection;
+        if ( httpURLConnection == null ) {
+            return null;
+        }
+
+        try {
+            return PolarResponseValidator.fromResponseHeaders( httpURLConnection );
+        }
+        catch ( final Exception e ) {
+            e.printStackTrace();
+            return null;
+        }
     }
 
     /**
@@ -99,6 +163,16 @@ public final class PolarDataRequestParameters extends DataRequestParameters {
                                                   Integer.toString( octaveDivider ) );
             httpURLConnection.setRequestProperty( "centerFrequency",
                                                   Double.toString( centerFrequency ) );
+
+            // Negotiate the payload format and its compression.
+            httpURLConnection.setRequestProperty( "Accept", ACCEPT_MEDIA_TYPES );
+            httpURLConnection.setRequestProperty( "Accept-Encoding", ACCEPT_ENCODINGS );
+
+            // Revalidate rather than re-download a cached response.
+            if ( cachedValidator != null ) {
+                cachedValidator.addConditionalRequestProperties( httpURLConnection );
+            }
+            requestConnection = httpURLConnection;
         }
         catch ( final Exception e ) {
             e.printStackTrace();
@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.net;
+
+import java.net.HttpURLConnection;
+
+/**
+ * An immutable pair of HTTP cache validators for a polar response, which the
+ * server sent as its ETag and Last-Modified headers, along with the time the
+ * response was last known to be current.
+ * <p>
+ * The validators are sent back as If-None-Match and If-Modified-Since headers
+ * on the next request for the same band, so that the server can answer with
+ * a bodiless 304 (Not Modified) response if its model data hasn't changed.
+ */
+public final class PolarResponseValidator {
+
+    /**
+     * The HTTP response header for the entity tag.
+     */
+    public static final String ETAG_HEADER              = "ETag"; //$NON-NLS-1$
+
+    /**
+     * The HTTP response header for the last modification time.
+     */
+    public static final String LAST_MODIFIED_HEADER     = "Last-Modified"; //$NON-NLS-1$
+
+    /**
+     * The HTTP request header for matching the entity tag.
+     */
+    public static final String IF_NONE_MATCH_HEADER     = "If-None-Match"; //$NON-NLS-1$
+
+    /**
+     * The HTTP request header for matching the last modification time.
+     */
+    public static final String IF_MODIFIED_SINCE_HEADER = "If-Modified-Since"; //$NON-NLS-1$
+
+    private final String entityTag;
+    private final String lastModified;
+    private final long validatedTimeMillis;
+
+    public PolarResponseValidator( final String pEntityTag,
+                                   final String pLastModified,
+                                   final long pValidatedTimeMillis ) {
+        entityTag = pEntityTag;
+        lastModified = pLastModified;
+        validatedTimeMillis = pValidatedTimeMillis;
+    }
+
+    /**
+     * Makes a validator from the response headers of a completed request.
+     *
+     * @param httpURLConnection The HTTP URL Connection of the completed request
+     * @return The validator, or {@code null} if the server sent neither header
+     */
+    public static PolarResponseValidator fromResponseHeaders( final HttpURLConnection httpURLConnection ) {
+        final String entityTag = httpURLConnection.getHeaderField( ETAG_HEADER );
+        final String lastModified = httpURLConnection.getHeaderField( LAST_MODIFIED_HEADER );
+        if ( ( entityTag == null ) && ( lastModified == null ) ) {
+            return null;
+        }
+
+        return new PolarResponseValidator( entityTag, lastModified, System.currentTimeMillis() );
+    }
+
+    public String getEntityTag() {
+        return entityTag;
+    }
+
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    public long getValidatedTimeMillis() {
+        return validatedTimeMillis;
+    }
+
+    /**
+     * Returns a copy of this validator, marked as current as of now, for when
+     * the server has confirmed that the response hasn't changed.
+     *
+     * @return A copy of this validator, validated now
+     */
+    public PolarResponseValidator revalidated() {
+        return new PolarResponseValidator( entityTag, lastModified, System.currentTimeMillis() );
+    }
+
+    /**
+     * Returns whether the response was last known to be current long enough
+     * ago that it should be revalidated before it is relied upon again.
+     *
+     * @param maximumAgeMillis The maximum age, in milliseconds
+     * @return {@code true} if the response should be revalidated
+     */
+    public boolean isStale( final long maximumAgeMillis ) {
+        return ( System.currentTimeMillis() - validatedTimeMillis ) > maximumAgeMillis;
+    }
+
+    /**
+     * Adds the conditional request headers for these validators to a request.
+     *
+     * @param httpURLConnection The HTTP URL Connection for the request
+     */
+    public void addConditionalRequestProperties( final HttpURLConnection httpURLConnection ) {
+        if ( entityTag != null ) {
+            httpURLConnection.setRequestProperty( IF_NONE_MATCH_HEADER, entityTag );
+        }
+        if ( lastModified != null ) {
+            httpURLConnection.setRequestProperty( IF_MODIFIED_SINCE_HEADER, lastModified );
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.stage;
+
+import com.mhschmieder.fxpolarchart.concurrent.DirectivitySpectrumTask;
+import com.mhschmieder.fxpolarchart.math.DirectivityMetrics;
+import com.mhschmieder.fxpolarchart.model.PolarResponse;
+import com.mhschmieder.fxpolarchart.model.PolarResponseKey;
+import com.mhschmieder.jcommons.util.ClientProperties;
+import javafx.application.Platform;
+import javafx.geometry.Insets;
+import javafx.scene.Scene;
+import javafx.scene.chart.LineChart;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.XYChart;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+import javafx.util.StringConverter;
+
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A companion window to the Polar Response Viewer, that charts beamwidth and
+ * Directivity Index against frequency for all of the bands that are available
+ * for the current Acoustic Source Model and Relative Bandwidth.
+ * <p>
+ * The per-band metrics are computed on the common fork-join pool, and only
+ * the most recently requested batch is charted.
+ */
+public class DirectivityChartViewer extends Stage {
+
+    public static final String DIRECTIVITY_CHART_FRAME_TITLE_DEFAULT
+            = "Directivity Charts";
+
+    // Default window dimensions.
+    public static final int    DIRECTIVITY_CHART_VIEWER_WIDTH_DEFAULT  = 720;
+    public static final int    DIRECTIVITY_CHART_VIEWER_HEIGHT_DEFAULT = 680;
+
+    // The index of the coverage angle to chart as the beamwidth, which is the
+    // -6 dB coverage angle as is standard on specification sheets.
+    public static final int    BEAMWIDTH_LEVEL_DROP_INDEX              = 1;
+
+    // Declare the charts, which share a frequency axis in octaves from 1 kHz.
+    protected LineChart< Number, Number > _beamwidthChart;
+    protected LineChart< Number, Number > _directivityIndexChart;
+
+    // Keep track of the most recent batch, so that slower stale batches are
+    // never charted over newer ones.
+    protected long                        _spectrumGeneration;
+
+    // Cache the full Session Context (System Type, Locale, Client Type, etc.).
+    protected final ClientProperties      _clientProperties;
+
+    public DirectivityChartViewer( final ClientProperties pClientProperties ) {
+        // Always call the superclass constructor first!
+        super();
+
+        _clientProperties = pClientProperties;
+        _spectrumGeneration = 0L;
+
+        try {
+            initStage();
+        }
+        catch ( final Exception ex ) {
+            ex.printStackTrace();
+        }
+    }
+
+    @SuppressWarnings("nls")
+    private void initStage() {
+        setTitle( DIRECTIVITY_CHART_FRAME_TITLE_DEFAULT );
+
+        _beamwidthChart = makeFrequencyChart( "Beamwidth (-6 dB)", "Coverage Angle (degrees)" );
+        final NumberAxis beamwidthAxis = ( NumberAxis ) _beamwidthChart.getYAxis();
+        beamwidthAxis.setAutoRanging( false );
+        beamwidthAxis.setLowerBound( 0.0d );
+        beamwidthAxis.setUpperBound( 360.0d );
+        beamwidthAxis.setTickUnit( 30.0d );
+
+        _directivityIndexChart = makeFrequencyChart( "Directivity Index", "DI (dB)" );
+
+        final VBox contentPane = new VBox( 5.0d, _beamwidthChart, _directivityIndexChart );
+        contentPane.setPadding( new Insets( 5.0d ) );
+        VBox.setVgrow( _beamwidthChart, Priority.ALWAYS );
+        VBox.setVgrow( _directivityIndexChart, Priority.ALWAYS );
+
+        setScene( new Scene( contentPane,
+                             DIRECTIVITY_CHART_VIEWER_WIDTH_DEFAULT,
+                             DIRECTIVITY_CHART_VIEWER_HEIGHT_DEFAULT ) );
+    }
+
+    // Make a line chart over a logarithmic frequency axis, which is a linear
+    // axis in octaves relative to 1 kHz, labeled in Hertz.
+    @SuppressWarnings("nls")
+    private LineChart< Number, Number > makeFrequencyChart( final String title,
+                                                            final String valueLabel ) {
+        final NumberAxis frequencyAxis = new NumberAxis();
+        frequencyAxis.setLabel( "Frequency (Hz)" );
+        frequencyAxis.setForceZeroInRange( false );
+        frequencyAxis.setTickUnit( 1.0d );
+        frequencyAxis.setMinorTickCount( 0 );
+        frequencyAxis.setTickLabelFormatter( new StringConverter< Number >() {
+            @Override
+            public String toString( final Number octaves ) {
+                return formatFrequency( PolarResponseKey.REFERENCE_FREQUENCY
+                        * Math.pow( 2.0d, octaves.doubleValue() ) );
+            }
+
+            @Override
+            public Number fromString( final String frequency ) {
+                return null;
+            }
+        } );
+
+        final NumberAxis valueAxis = new NumberAxis();
+        valueAxis.setLabel( valueLabel );
+        valueAxis.setForceZeroInRange( false );
+
+        final LineChart< Number, Number > frequencyChart =
+                new LineChart<>( frequencyAxis, valueAxis );
+        frequencyChart.setTitle( title );
+        frequencyChart.setAnimated( false );
+        frequencyChart.setCreateSymbols( true );
+        return frequencyChart;
+    }
+
+    @SuppressWarnings("nls")
+    protected String formatFrequency( final double frequency ) {
+        final Locale locale = _clientProperties.locale;
+        return ( frequency >= 1000.0d )
+            ? String.format( locale, "%1$.0fk", 0.001d * frequency )
+            : String.format( locale, "%1$.0f", frequency );
+    }
+
+    /**
+     * Computes and charts the directivity metrics for a batch of bands. This
+     * method must be called on the JavaFX Application Thread, and returns
+     * right away, as the metrics are computed across all cores.
+     *
+     * @param acousticSourceModel The Acoustic Source Model the bands are for
+     * @param bands The bands to chart, in order of increasing frequency
+     */
+    public final void updateDirectivitySpectrum( final String acousticSourceModel,
+                                                 final PolarResponse[] bands ) {
+        final long spectrumGeneration = ++_spectrumGeneration;
+        final DirectivitySpectrumTask directivitySpectrumTask = new DirectivitySpectrumTask( bands );
+        ForkJoinPool.commonPool().execute( () -> {
+            final DirectivityMetrics[] directivityMetrics = directivitySpectrumTask.invoke();
+            Platform.runLater( () -> {
+                if ( spectrumGeneration == _spectrumGeneration ) {
+                    showDirectivitySpectrum( acousticSourceModel, directivityMetrics );
+                }
+            } );
+        } );
+    }
+
+    @SuppressWarnings("nls")
+    protected void showDirectivitySpectrum( final String acousticSourceModel,
+                                            final DirectivityMetrics[] directivityMetrics ) {
+        setTitle( DIRECTIVITY_CHART_FRAME_TITLE_DEFAULT + ": " + acousticSourceModel );
+
+        final XYChart.Series< Number, Number > horizontalBeamwidthSeries = new XYChart.Series<>();
+        horizontalBeamwidthSeries.setName( "Horizontal" );
+        final XYChart.Series< Number, Number > verticalBeamwidthSeries = new XYChart.Series<>();
+        verticalBeamwidthSeries.setName( "Vertical" );
+        final XYChart.Series< Number, Number > directivityIndexSeries = new XYChart.Series<>();
+        directivityIndexSeries.setName( "Estimated from Horizontal and Vertical" );
+
+        for ( final DirectivityMetrics bandDirectivityMetrics : directivityMetrics ) {
+            final double octaves = Math.log( bandDirectivityMetrics.getCenterFrequency()
+                    / PolarResponseKey.REFERENCE_FREQUENCY ) / Math.log( 2.0d );
+            horizontalBeamwidthSeries.getData()
+                    .add( new XYChart.Data<>( octaves,
+                                              bandDirectivityMetrics
+                                                      .getHorizontalCoverageAngle( BEAMWIDTH_LEVEL_DROP_INDEX ) ) );
+            verticalBeamwidthSeries.getData()
+                    .add( new XYChart.Data<>( octaves,
+                                              bandDirectivityMetrics
+                                                      .getVerticalCoverageAngle( BEAMWIDTH_LEVEL_DROP_INDEX ) ) );
+            final double directivityIndex = bandDirectivityMetrics.getDirectivityIndex();
+            if ( !Double.isNaN( directivityIndex ) ) {
+                directivityIndexSeries.getData().add( new XYChart.Data<>( octaves, directivityIndex ) );
+            }
+        }
+
+        _beamwidthChart.getData().clear();
+        _beamwidthChart.getData().add( horizontalBeamwidthSeries );
+        _beamwidthChart.getData().add( verticalBeamwidthSeries );
+        _directivityIndexChart.getData().clear();
+        _directivityIndexChart.getData().add( directivityIndexSeries );
+    }
+}
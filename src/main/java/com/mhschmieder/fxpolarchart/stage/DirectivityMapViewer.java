@@ -0,0 +1,426 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.stage;
+
+import com.mhschmieder.fxpolarchart.model.PolarResponse;
+import com.mhschmieder.fxpolarchart.model.PolarResponseKey;
+import com.mhschmieder.jcommons.util.ClientProperties;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A companion window to the Polar Response Viewer, that maps level against
+ * angle and frequency for each plane, for all of the bands in the current
+ * Octave Range of the current Acoustic Source Model and Relative Bandwidth.
+ * <p>
+ * Each band is one row of pixels, which is written straight into the map
+ * image through a precomputed color look-up table as soon as the band is
+ * available, so the map fills in incrementally as bands arrive. Each band is
+ * normalized to its own maximum level, so that the map shows how the pattern
+ * changes with frequency rather than how the sensitivity does.
+ * <p>
+ * This class must only be used on the JavaFX Application Thread.
+ */
+public class DirectivityMapViewer extends Stage {
+
+    public static final String DIRECTIVITY_MAP_FRAME_TITLE_DEFAULT
+            = "Directivity Map";
+
+    // Default window dimensions.
+    public static final int    DIRECTIVITY_MAP_VIEWER_WIDTH_DEFAULT  = 800;
+    public static final int    DIRECTIVITY_MAP_VIEWER_HEIGHT_DEFAULT = 720;
+
+    // The number of angle columns in each map, which is one per half degree
+    // from -180 to +180 degrees, with the on-axis angle at the center.
+    public static final int    NUMBER_OF_ANGLE_COLUMNS               = 720;
+
+    // The default range of levels below each band's maximum that is mapped
+    // to colors, in dB; anything lower gets the lowest color.
+    public static final double LEVEL_RANGE_DEFAULT                   = 30.0d;
+
+    // The color look-up table, from the lowest level to the maximum level,
+    // as non-premultiplied ARGB pixels.
+    private static final int   NUMBER_OF_COLORS                      = 256;
+    private static final int[] COLOR_LUT                             = makeColorLut();
+
+    // The color of the rows for bands that aren't available (yet).
+    private static final int   NO_DATA_COLOR                         = 0xFF3C3C3C;
+
+    // Declare the maps, which share their band rows and angle columns.
+    protected WritableImage    _horizontalMap;
+    protected WritableImage    _verticalMap;
+    protected ImageView        _horizontalMapView;
+    protected ImageView        _verticalMapView;
+    protected Label            _highestFrequencyLabel;
+    protected Label            _lowestFrequencyLabel;
+    protected Label            _levelRangeLabel;
+
+    // Keep track of the bands that are mapped, in order of increasing
+    // frequency, and of which row of pixels each one is drawn in.
+    protected PolarResponseKey[]                _bandKeys;
+    protected final Map< PolarResponseKey, Integer > _bandRows;
+
+    // The range of levels below each band's maximum that is mapped to colors.
+    protected double                            _levelRange;
+
+    // Cache the angle resampling tables by the number of data points in a
+    // closed trace, as all bands of a model usually share one resolution.
+    protected final Map< Integer, AngleResamplingTable > _angleResamplingTables;
+
+    // Reuse a single row of pixels, as rows are written one at a time.
+    protected final int[]                       _rowPixels;
+
+    // Cache the full Session Context (System Type, Locale, Client Type, etc.).
+    protected final ClientProperties            _clientProperties;
+
+    // The trace indices and weights to interpolate each angle column from.
+    private static final class AngleResamplingTable {
+
+        private final int[]    traceIndices;
+        private final double[] weights;
+
+        private AngleResamplingTable( final int traceLength ) {
+            traceIndices = new int[ NUMBER_OF_ANGLE_COLUMNS ];
+            weights = new double[ NUMBER_OF_ANGLE_COLUMNS ];
+            final int numberOfIntervals = traceLength - 1;
+            for ( int column = 0; column < NUMBER_OF_ANGLE_COLUMNS; column++ ) {
+                // Trace index 0 is on-axis, so wrap the negative angles.
+                final double angle = ( ( 360.0d * column ) / NUMBER_OF_ANGLE_COLUMNS ) - 180.0d;
+                final double tracePosition = ( ( angle < 0.0d ) ? angle + 360.0d : angle )
+                        * ( numberOfIntervals / 360.0d );
+                final int traceIndex = Math.min( ( int ) tracePosition, numberOfIntervals - 1 );
+                traceIndices[ column ] = traceIndex;
+                weights[ column ] = tracePosition - traceIndex;
+            }
+        }
+    }
+
+    public DirectivityMapViewer( final ClientProperties pClientProperties ) {
+        // Always call the superclass constructor first!
+        super();
+
+        _clientProperties = pClientProperties;
+        _bandKeys = null;
+        _bandRows = new HashMap<>();
+        _levelRange = LEVEL_RANGE_DEFAULT;
+        _angleResamplingTables = new HashMap<>();
+        _rowPixels = new int[ NUMBER_OF_ANGLE_COLUMNS ];
+
+        try {
+            initStage();
+        }
+        catch ( final Exception ex ) {
+            ex.printStackTrace();
+        }
+    }
+
+    // Make a color ramp from dark blue through cyan, green and yellow to red,
+    // so that equal level steps read as roughly equal color steps.
+    private static int[] makeColorLut() {
+        final double[][] colorStops = { { 0.0d, 0.0d, 0.5d },
+                                        { 0.0d, 0.5d, 1.0d },
+                                        { 0.0d, 0.9d, 0.6d },
+                                        { 0.9d, 0.9d, 0.0d },
+                                        { 1.0d, 0.5d, 0.0d },
+                                        { 0.8d, 0.0d, 0.0d } };
+        final int numberOfSegments = colorStops.length - 1;
+        final int[] colorLut = new int[ NUMBER_OF_COLORS ];
+        for ( int i = 0; i < NUMBER_OF_COLORS; i++ ) {
+            final double position = ( ( double ) i * numberOfSegments ) / ( NUMBER_OF_COLORS - 1 );
+            final int segment = Math.min( ( int ) position, numberOfSegments - 1 );
+            final double weight = position - segment;
+            int argb = 0xFF000000;
+            for ( int channel = 0; channel < 3; channel++ ) {
+                final double value = colorStops[ segment ][ channel ] + ( weight
+                        * ( colorStops[ segment + 1 ][ channel ] - colorStops[ segment ][ channel ] ) );
+                argb |= ( int ) Math.round( 255.0d * value ) << ( 16 - ( 8 * channel ) );
+            }
+            colorLut[ i ] = argb;
+        }
+        return colorLut;
+    }
+
+    @SuppressWarnings("nls")
+    private void initStage() {
+        setTitle( DIRECTIVITY_MAP_FRAME_TITLE_DEFAULT );
+
+        _horizontalMap = makeMap( 1 );
+        _verticalMap = makeMap( 1 );
+        _horizontalMapView = new ImageView( _horizontalMap );
+        _verticalMapView = new ImageView( _verticalMap );
+
+        _highestFrequencyLabel = new Label();
+        _lowestFrequencyLabel = new Label();
+        _levelRangeLabel = new Label();
+        updateLevelRangeLabel();
+
+        // Show the color scale as a stretched single-row image of the LUT.
+        final WritableImage colorScale = new WritableImage( NUMBER_OF_COLORS, 1 );
+        colorScale.getPixelWriter().setPixels( 0,
+                                               0,
+                                               NUMBER_OF_COLORS,
+                                               1,
+                                               PixelFormat.getIntArgbInstance(),
+                                               COLOR_LUT,
+                                               0,
+                                               NUMBER_OF_COLORS );
+        final ImageView colorScaleView = new ImageView( colorScale );
+        colorScaleView.setFitWidth( 256.0d );
+        colorScaleView.setFitHeight( 12.0d );
+        final HBox legendPane = new HBox( 5.0d, _levelRangeLabel, colorScaleView, new Label( "0 dB" ) );
+        legendPane.setAlignment( Pos.CENTER );
+
+        final VBox contentPane = new VBox( 5.0d,
+                                           makeMapPane( "Horizontal", _horizontalMapView ),
+                                           makeMapPane( "Vertical", _verticalMapView ),
+                                           legendPane );
+        contentPane.setPadding( new Insets( 5.0d ) );
+
+        setScene( new Scene( contentPane,
+                             DIRECTIVITY_MAP_VIEWER_WIDTH_DEFAULT,
+                             DIRECTIVITY_MAP_VIEWER_HEIGHT_DEFAULT ) );
+    }
+
+    // Make a map image with a row of pixels per band, with no data yet.
+    private static WritableImage makeMap( final int numberOfBands ) {
+        final WritableImage map = new WritableImage( NUMBER_OF_ANGLE_COLUMNS, numberOfBands );
+        final int[] noDataPixels = new int[ NUMBER_OF_ANGLE_COLUMNS * numberOfBands ];
+        Arrays.fill( noDataPixels, NO_DATA_COLOR );
+        map.getPixelWriter().setPixels( 0,
+                                        0,
+                                        NUMBER_OF_ANGLE_COLUMNS,
+                                        numberOfBands,
+                                        PixelFormat.getIntArgbInstance(),
+                                        noDataPixels,
+                                        0,
+                                        NUMBER_OF_ANGLE_COLUMNS );
+        return map;
+    }
+
+    // Lay out a map, stretched to fill the space it is given, between its
+    // frequency labels and its angle labels.
+    @SuppressWarnings("nls")
+    private VBox makeMapPane( final String planeName, final ImageView mapView ) {
+        final Pane mapHolder = new Pane( mapView );
+        mapHolder.setMinSize( 0.0d, 0.0d );
+        mapView.setPreserveRatio( false );
+        mapView.fitWidthProperty().bind( mapHolder.widthProperty() );
+        mapView.fitHeightProperty().bind( mapHolder.heightProperty() );
+
+        final Label highestFrequencyLabel = new Label();
+        highestFrequencyLabel.textProperty().bind( _highestFrequencyLabel.textProperty() );
+        final Label lowestFrequencyLabel = new Label();
+        lowestFrequencyLabel.textProperty().bind( _lowestFrequencyLabel.textProperty() );
+        final Region frequencySpacer = new Region();
+        VBox.setVgrow( frequencySpacer, Priority.ALWAYS );
+        final VBox frequencyPane = new VBox( highestFrequencyLabel,
+                                             frequencySpacer,
+                                             lowestFrequencyLabel );
+        frequencyPane.setPadding( new Insets( 0.0d, 5.0d, 0.0d, 0.0d ) );
+
+        final Region leftAngleSpacer = new Region();
+        final Region rightAngleSpacer = new Region();
+        HBox.setHgrow( leftAngleSpacer, Priority.ALWAYS );
+        HBox.setHgrow( rightAngleSpacer, Priority.ALWAYS );
+        final HBox anglePane = new HBox( new Label( "-180\u00B0" ),
+                                         leftAngleSpacer,
+                                         new Label( "0\u00B0" ),
+                                         rightAngleSpacer,
+                                         new Label( "+180\u00B0" ) );
+
+        final BorderPane mapPane = new BorderPane( mapHolder );
+        mapPane.setLeft( frequencyPane );
+        mapPane.setBottom( anglePane );
+        BorderPane.setMargin( anglePane, new Insets( 0.0d, 0.0d, 0.0d, 40.0d ) );
+        frequencyPane.setMinWidth( 40.0d );
+        frequencyPane.setPrefWidth( 40.0d );
+
+        final VBox planePane = new VBox( 2.0d, new Label( planeName ), mapPane );
+        VBox.setVgrow( mapPane, Priority.ALWAYS );
+        VBox.setVgrow( planePane, Priority.ALWAYS );
+        return planePane;
+    }
+
+    @SuppressWarnings("nls")
+    protected String formatFrequency( final double frequency ) {
+        final Locale locale = _clientProperties.locale;
+        return ( frequency >= 1000.0d )
+            ? String.format( locale, "%1$.0fk", 0.001d * frequency )
+            : String.format( locale, "%1$.0f", frequency );
+    }
+
+    @SuppressWarnings("nls")
+    private void updateLevelRangeLabel() {
+        _levelRangeLabel.setText( String.format( _clientProperties.locale,
+                                                 "%1$.0f dB",
+                                                 -_levelRange ) );
+    }
+
+    /**
+     * Lays out the maps for a set of bands, clearing them, unless they are
+     * already laid out for exactly these bands, in which case the rows that
+     * are already drawn are kept.
+     *
+     * @param acousticSourceModel The Acoustic Source Model the bands are for
+     * @param bandKeys The keys of the bands to map, in order of increasing
+     *            frequency
+     * @param centerFrequencies The nominal Center Frequencies of the bands
+     * @return {@code true} if the maps were laid out anew and need their bands
+     */
+    @SuppressWarnings("nls")
+    public final boolean setDirectivityMapBands( final String acousticSourceModel,
+                                                 final PolarResponseKey[] bandKeys,
+                                                 final double[] centerFrequencies ) {
+        setTitle( DIRECTIVITY_MAP_FRAME_TITLE_DEFAULT + ": " + acousticSourceModel );
+        if ( Arrays.equals( bandKeys, _bandKeys ) ) {
+            return false;
+        }
+
+        _bandKeys = bandKeys;
+        _bandRows.clear();
+        final int numberOfBands = bandKeys.length;
+        for ( int i = 0; i < numberOfBands; i++ ) {
+            // The highest band is drawn in the top row.
+            _bandRows.put( bandKeys[ i ], numberOfBands - 1 - i );
+        }
+
+        _horizontalMap = makeMap( Math.max( numberOfBands, 1 ) );
+        _verticalMap = makeMap( Math.max( numberOfBands, 1 ) );
+        _horizontalMapView.setImage( _horizontalMap );
+        _verticalMapView.setImage( _verticalMap );
+
+        _highestFrequencyLabel.setText( ( numberOfBands > 0 )
+            ? formatFrequency( centerFrequencies[ numberOfBands - 1 ] )
+            : "" );
+        _lowestFrequencyLabel.setText( ( numberOfBands > 0 )
+            ? formatFrequency( centerFrequencies[ 0 ] )
+            : "" );
+
+        return true;
+    }
+
+    /**
+     * Forgets the bands that are laid out, so that the next layout clears
+     * the maps even if it is for the same bands, such as when the data
+     * source for those bands has changed.
+     */
+    public final void resetDirectivityMap() {
+        _bandKeys = null;
+    }
+
+    /**
+     * Draws a band into its row of both maps, if it is one of the bands that
+     * are laid out.
+     *
+     * @param polarResponseKey The key of the band
+     * @param polarResponse The response for the band
+     */
+    public final void updateBand( final PolarResponseKey polarResponseKey,
+                                  final PolarResponse polarResponse ) {
+        final Integer row = _bandRows.get( polarResponseKey );
+        if ( row == null ) {
+            return;
+        }
+
+        writeBandRow( _horizontalMap, row, polarResponse.getHorizontalAmplitude() );
+        writeBandRow( _verticalMap, row, polarResponse.getVerticalAmplitude() );
+    }
+
+    // Map a closed trace onto a row of pixels, relative to its maximum level.
+    // NOTE: The color index is clamped rather than range-checked, so that the
+    //  inner loop has no data-dependent branches; NaN levels map to index 0.
+    private void writeBandRow( final WritableImage map,
+                               final int row,
+                               final double[] trace ) {
+        final AngleResamplingTable angleResamplingTable = _angleResamplingTables
+                .computeIfAbsent( trace.length, AngleResamplingTable::new );
+        final int[] traceIndices = angleResamplingTable.traceIndices;
+        final double[] weights = angleResamplingTable.weights;
+
+        double maximumLevel = Double.NEGATIVE_INFINITY;
+        for ( int i = 0, numberOfIntervals = trace.length - 1; i < numberOfIntervals; i++ ) {
+            maximumLevel = Math.max( maximumLevel, trace[ i ] );
+        }
+
+        final int maximumColorIndex = NUMBER_OF_COLORS - 1;
+        final double colorsPerDecibel = maximumColorIndex / _levelRange;
+        final double colorOffset = maximumColorIndex - ( maximumLevel * colorsPerDecibel );
+        for ( int column = 0; column < NUMBER_OF_ANGLE_COLUMNS; column++ ) {
+            final int traceIndex = traceIndices[ column ];
+            final double lowerLevel = trace[ traceIndex ];
+            final double level = lowerLevel
+                    + ( weights[ column ] * ( trace[ traceIndex + 1 ] - lowerLevel ) );
+            final int colorIndex = ( int ) ( ( level * colorsPerDecibel ) + colorOffset );
+            _rowPixels[ column ] = COLOR_LUT[ Math.max( 0, Math.min( maximumColorIndex, colorIndex ) ) ];
+        }
+
+        map.getPixelWriter().setPixels( 0,
+                                        row,
+                                        NUMBER_OF_ANGLE_COLUMNS,
+                                        1,
+                                        PixelFormat.getIntArgbInstance(),
+                                        _rowPixels,
+                                        0,
+                                        NUMBER_OF_ANGLE_COLUMNS );
+    }
+
+    /**
+     * Sets the range of levels below each band's maximum that is mapped to
+     * colors. This only applies to bands that are drawn afterwards.
+     *
+     * @param levelRange The range of levels that is mapped to colors, in dB
+     */
+    public final void setLevelRange( final double levelRange ) {
+        _levelRange = levelRange;
+        updateLevelRangeLabel();
+    }
+
+    public final double getLevelRange() {
+        return _levelRange;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.stage;
+
+import javafx.concurrent.Task;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+
+/**
+ * A small companion window that shows the progress of a long-running export
+ * task, and lets the user cancel it. It closes itself once the task is done,
+ * however it ends.
+ */
+public class ExportProgressViewer extends Stage {
+
+    // Default window width.
+    public static final int EXPORT_PROGRESS_VIEWER_WIDTH_DEFAULT = 360;
+
+    protected final Label       _messageLabel;
+    protected final ProgressBar _progressBar;
+    protected final Button      _cancelButton;
+
+    public ExportProgressViewer( final Window owner, final String title ) {
+        // Always call the superclass constructor first!
+        super();
+
+        initOwner( owner );
+        setTitle( title );
+        setResizable( false );
+
+        _messageLabel = new Label();
+        _progressBar = new ProgressBar( 0.0d );
+        _progressBar.setMaxWidth( Double.MAX_VALUE );
+        _cancelButton = new Button( "Cancel" ); //$NON-NLS-1$
+
+        final VBox contentPane = new VBox( 8.0d, _messageLabel, _progressBar, _cancelButton );
+        contentPane.setPadding( new Insets( 10.0d ) );
+        contentPane.setAlignment( Pos.CENTER_RIGHT );
+        contentPane.setPrefWidth( EXPORT_PROGRESS_VIEWER_WIDTH_DEFAULT );
+
+        setScene( new Scene( contentPane ) );
+    }
+
+    /**
+     * Tracks a task until it is done, and cancels it if the user asks to or
+     * closes this window first.
+     *
+     * @param task The task to track
+     */
+    public final void track( final Task< ? > task ) {
+        _messageLabel.textProperty().bind( task.messageProperty() );
+        _progressBar.progressProperty().bind( task.progressProperty() );
+        _cancelButton.setOnAction( evt -> task.cancel() );
+        setOnCloseRequest( evt -> task.cancel() );
+
+        task.runningProperty().addListener( ( observable, wasRunning, isRunning ) -> {
+            if ( !isRunning && task.isDone() ) {
+                _messageLabel.textProperty().unbind();
+                _progressBar.progressProperty().unbind();
+                hide();
+            }
+        } );
+    }
+}
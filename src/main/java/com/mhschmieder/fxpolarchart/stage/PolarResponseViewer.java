@@ -38,12 +38,35 @@ import com.mhschmieder.fxgui.stage.ExtensionFilters;
 import com.mhschmieder.fxgui.stage.RenderedGraphicsExportPreview;
 import com.mhschmieder.fxgui.stage.XStage;
 import com.mhschmieder.fxpolarchart.action.PolarResponseActions;
+import com.mhschmieder.fxpolarchart.concurrent.PolarChartPrintTask;
+import com.mhschmieder.fxpolarchart.concurrent.PolarDataHub;
 import com.mhschmieder.fxpolarchart.concurrent.PolarDataRequestService;
+import com.mhschmieder.fxpolarchart.concurrent.PolarDataRequestTask;
+import com.mhschmieder.fxpolarchart.concurrent.PolarRequestPriority;
+import com.mhschmieder.fxpolarchart.concurrent.PolarRequestScheduler;
+import com.mhschmieder.fxpolarchart.concurrent.RasterGraphicsExportTask;
 import com.mhschmieder.fxpolarchart.control.PolarResponseMenuFactory;
 import com.mhschmieder.fxpolarchart.control.PolarResponseToolBar;
+import com.mhschmieder.fxpolarchart.graphics.PathSimplificationStatistics;
+import com.mhschmieder.fxpolarchart.io.BalloonDataStore;
+import com.mhschmieder.fxpolarchart.io.PolarDataExporter;
+import com.mhschmieder.fxpolarchart.io.PolarResponseDecoder;
+import com.mhschmieder.fxpolarchart.io.PolarResponseFormatException;
+import com.mhschmieder.fxpolarchart.io.PolarResponseWarmStartFile;
+import com.mhschmieder.fxpolarchart.io.PolarSessionArchive;
+import com.mhschmieder.fxpolarchart.io.PolarTextTableReader;
 import com.mhschmieder.fxpolarchart.layout.PolarResponsePane;
+import com.mhschmieder.fxpolarchart.math.AngularSmoothingTransform;
+import com.mhschmieder.fxpolarchart.math.FractionalOctaveBandSynthesizer;
+import com.mhschmieder.fxpolarchart.math.NormalizationTransform;
+import com.mhschmieder.fxpolarchart.math.PolarResponseDifference;
+import com.mhschmieder.fxpolarchart.math.PolarResponseNormalization;
+import com.mhschmieder.fxpolarchart.math.PolarResponseTransformChain;
+import com.mhschmieder.fxpolarchart.model.PolarResponse;
+import com.mhschmieder.fxpolarchart.model.PolarResponseCache;
+import com.mhschmieder.fxpolarchart.model.PolarResponseKey;
 import com.mhschmieder.fxpolarchart.net.PolarDataRequestParameters;
-import com.mhschmieder.jchart.layout.PolarAmplitudePlot;
+import com.mhschmieder.fxpolarchart.net.PolarResponseValidator;
 import com.mhschmieder.fxpolarchart.swing.PolarResponsePanel;
 import com.mhschmieder.jchart.layout.SemiLogRPolarPlot;
 import com.mhschmieder.jacoustics.FrequencyRange;
@@ -52,7 +75,6 @@ import com.mhschmieder.jacoustics.RelativeBandwidth;
 import com.mhschmieder.jcommons.branding.ProductBranding;
 import com.mhschmieder.jcommons.io.FileMode;
 import com.mhschmieder.jcommons.io.FileStatus;
-import com.mhschmieder.jcommons.io.IoUtilities;
 import com.mhschmieder.jcommons.io.ZipUtilities;
 import com.mhschmieder.jcommons.net.DataServerResponse;
 import com.mhschmieder.jcommons.net.HttpServletRequestProperties;
@@ -62,30 +84,56 @@ import com.mhschmieder.jgraphics.GraphicsUtilities;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.scene.Node;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Alert.AlertType;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.ChoiceDialog;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.Label;
 import javafx.scene.control.MenuBar;
+import javafx.scene.control.Spinner;
 import javafx.scene.control.ToolBar;
 import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.GridPane;
 import javafx.scene.paint.Color;
+import javafx.stage.FileChooser;
 import javafx.stage.FileChooser.ExtensionFilter;
 import javafx.stage.Modality;
+import javafx.stage.WindowEvent;
 import org.apache.commons.io.FilenameUtils;
-import org.apache.commons.io.input.SwappedDataInputStream;
 
+import java.awt.Component;
+import java.awt.Container;
 import java.awt.EventQueue;
 import java.awt.RenderingHints;
-import java.io.BufferedInputStream;
+import java.awt.print.PageFormat;
+import java.awt.print.PrinterJob;
 import java.io.BufferedOutputStream;
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.HttpURLConnection;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 import java.util.prefs.Preferences;
-import java.util.zip.ZipEntry;
 import java.util.zip.ZipException;
-import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 
 /**
@@ -99,12 +147,41 @@ public class PolarResponseViewer extends XStage {
     public static final String POLAR_RESPONSE_FRAME_TITLE_DEFAULT
             = "Polar Response Viewer";
 
+    // The angular resolution to lay out the plots with before any data has
+    // been loaded; thereafter the resolution follows the loaded data.
+    public static final double POLAR_RESPONSE_ANGLE_INCREMENT_DEFAULT = 1.0d;
+
     // Default window locations and dimensions.
     public static final int    POLAR_RESPONSE_VIEWER_X_DEFAULT      = 20;
     public static final int    POLAR_RESPONSE_VIEWER_Y_DEFAULT      = 20;
     public static final int    POLAR_RESPONSE_VIEWER_WIDTH_DEFAULT  = 980;
     public static final int    POLAR_RESPONSE_VIEWER_HEIGHT_DEFAULT = 680;
 
+    // How long a cached server response is trusted before it is revalidated
+    // with a conditional request, in milliseconds.
+    public static final long   POLAR_RESPONSE_REVALIDATION_INTERVAL_DEFAULT = 60000L;
+
+    // The nominal screen resolution that the charts are laid out at, and the
+    // resolutions offered for raster graphics export, in dots per inch.
+    public static final double SCREEN_DOTS_PER_INCH                 = 96.0d;
+    public static final int[]  RASTER_GRAPHICS_EXPORT_DOTS_PER_INCH = { 192, 300, 384, 600 };
+
+    // Run modal print dialogs, print spooling and raster graphics export on
+    // their own daemon threads, which are only kept while in use, as they
+    // can block for as long as a dialog is open or a printer is busy, and
+    // would otherwise starve the common fork-join pool that the directivity
+    // charts, table imports and data exports run on.
+    protected static final ExecutorService BLOCKING_TASK_EXECUTOR = Executors
+            .newCachedThreadPool( runnable -> {
+                final Thread thread = new Thread( runnable, "PolarChartPrintAndExport" ); //$NON-NLS-1$
+                thread.setDaemon( true );
+                return thread;
+            } );
+
+    // The maximum visual error allowed when simplifying the traces for vector
+    // graphics export, in points, which is well below what can be seen.
+    public static final double VECTOR_SIMPLIFICATION_TOLERANCE_DEFAULT = 0.25d;
+
     // Handle the Polar Response prediction servlet's HTTP and/or authorization
     // status, and echo the formatted error response to the user if an HTTP
     // error code is detected.
@@ -132,6 +209,10 @@ public class PolarResponseViewer extends XStage {
             // Nothing to do; don't return a message as that means an error
             // was seen on the server.
             return true;
+        case HttpURLConnection.HTTP_NOT_MODIFIED:
+            // The cached response for a conditional request is still current,
+            // so it is reused and there is no data to load.
+            return true;
         case HttpURLConnection.HTTP_INTERNAL_ERROR:
             // Don't punish or confuse the user if there was an internal
             // server error, as we don't let those affect downstream data.
@@ -163,6 +244,8 @@ public class PolarResponseViewer extends XStage {
     // Declare uninitialized stages.
     protected DataRequestStatusViewer    _dataRequestStatusViewer;
     protected RenderedGraphicsExportPreview _renderedGraphicsExportPreview;
+    protected DirectivityChartViewer     _directivityChartViewer;
+    protected DirectivityMapViewer       _directivityMapViewer;
     
     // Cache the Acoustic Source Model Selector so that it can be passed by
     // the constructor but valid by the time the tool bar is loaded.
@@ -186,6 +269,71 @@ public class PolarResponseViewer extends XStage {
     // Cache the Service associated with Polar Plot update requests.
     protected PolarDataRequestService        _polarDataRequestService;
 
+    // Share the response cache and the request pool with the other viewers
+    // in the application, via the polar data hub.
+    protected final PolarDataHub                   _polarDataHub;
+
+    // Cache decoded responses, so that revisited and synthesized bands can be
+    // shown without a server round-trip.
+    protected final PolarResponseCache             _polarResponseCache;
+
+    // Keep track of the band whose shared request this viewer is making, and
+    // of the band whose shared request by another viewer it is waiting on.
+    protected PolarResponseKey                     _claimedPolarResponseKey;
+    protected PolarResponseKey                     _awaitedPolarResponseKey;
+
+    // Keep track of whether this viewer stopped waiting on the current band
+    // when it was hidden, so that it picks the band up when shown again.
+    protected boolean                              _polarResponseUpdateDeferred;
+
+    // Keep track of which band the current server request is for.
+    protected PolarResponseKey                     _pendingPolarResponseKey;
+
+    // Keep the parameters of the current server request, for its validators.
+    protected PolarDataRequestParameters           _pendingPolarDataRequestParameters;
+
+    // Cache the memory-mapped directivity balloon, if one is open, along with
+    // the planes to slice out of it. While a balloon is open, it replaces the
+    // server as the source of polar response data.
+    protected BalloonDataStore                     _balloonDataStore;
+    protected double                               _balloonHorizontalPlaneElevation;
+    protected double                               _balloonVerticalPlaneAzimuth;
+
+    // Cache the transform settings, and the chain of transforms they make,
+    // which memoizes the transformed responses so that toggling a setting
+    // redraws without recomputing.
+    protected int                                  _angularSmoothingWidth;
+    protected PolarResponseNormalization           _normalization;
+    protected PolarResponseTransformChain          _polarResponseTransformChain;
+
+    // Keep the response that is displayed, as it was before its transforms.
+    protected PolarResponse                        _sourcePolarResponse;
+
+    // Keep track of the most recent batch of directivity map bands, so that
+    // the requests of stale batches are skipped when they come up.
+    protected volatile long                        _directivityMapGeneration;
+
+    // Cache the Acoustic Source Model to difference the displayed response
+    // against, if any, for comparing a model against its predecessor. This is
+    // in the form that the data request server expects, as the cache is.
+    protected String                               _differenceReferenceModel;
+
+    // Remember the last reference band that couldn't be had, so that it isn't
+    // requested over and over while it stays unavailable.
+    protected PolarResponseKey                     _unavailableDifferenceReferenceKey;
+
+    // Keep the background requests this viewer has queued or running, so that
+    // one can be moved up if this viewer comes to need its band interactively.
+    protected final Map< PolarResponseKey, PolarRequestScheduler.ScheduledRequest >
+                                                   _backgroundPolarResponseRequests;
+
+    // Cache the page format chosen via Page Setup, if any, for printing.
+    protected PageFormat                           _pageFormat;
+
+    // Cache the open session archive, if any. While an archive is open, bands
+    // that aren't cached are loaded from it, and the server isn't used.
+    protected PolarSessionArchive                  _polarSessionArchive;
+
     // Cache a global reference to the most recent Login Credentials.
     private final ServerLoginCredentials       _loginCredentials;
     
@@ -204,6 +352,24 @@ public class PolarResponseViewer extends XStage {
                                 final String pAcousticSourceModelDefault,
                                 final boolean pUseExtendedRange,
                                 final HttpServletRequestProperties pServerRequestProperties ) {
+        this( loginCredentials,
+              productBranding,
+              pClientProperties,
+              pAcousticSourceModelSelector,
+              pAcousticSourceModelDefault,
+              pUseExtendedRange,
+              pServerRequestProperties,
+              PolarDataHub.getSharedHub() );
+    }
+
+    public PolarResponseViewer( final ServerLoginCredentials loginCredentials,
+                                final ProductBranding productBranding,
+                                final ClientProperties pClientProperties,
+                                final TextSelector pAcousticSourceModelSelector,
+                                final String pAcousticSourceModelDefault,
+                                final boolean pUseExtendedRange,
+                                final HttpServletRequestProperties pServerRequestProperties,
+                                final PolarDataHub pPolarDataHub ) {
         // Always call the superclass constructor first!
         super( POLAR_RESPONSE_FRAME_TITLE_DEFAULT,
                "polarResponse",
@@ -225,6 +391,19 @@ public class PolarResponseViewer extends XStage {
         acousticSourceModel = pAcousticSourceModelDefault;
         _frequencyRange = new FrequencyRange();
 
+        _polarDataHub = pPolarDataHub;
+        _polarResponseCache = _polarDataHub.getPolarResponseCache();
+
+        _angularSmoothingWidth = 0;
+        _normalization = PolarResponseNormalization.ABSOLUTE;
+        _polarResponseTransformChain = new PolarResponseTransformChain();
+        _sourcePolarResponse = null;
+        _differenceReferenceModel = null;
+        _unavailableDifferenceReferenceKey = null;
+        _backgroundPolarResponseRequests = new HashMap<>();
+        _polarResponseUpdateDeferred = false;
+        _directivityMapGeneration = 0L;
+
         try {
             initStage();
         }
@@ -238,12 +417,12 @@ public class PolarResponseViewer extends XStage {
     protected final void addActionHandlers() {
         // Load the action handlers for the "File" actions.
         _actions._fileActions._closeWindowAction.setEventHandler( evt -> doCloseWindow() );
-        _actions._fileActions._pageSetupAction.setEventHandler( evt -> doPageSetup() );
-        _actions._fileActions._printAction.setEventHandler( evt -> doPrint() );
+        _actions._fileActions._pageSetupAction.setEventHandler( evt -> doPolarChartPageSetup() );
+        _actions._fileActions._printAction.setEventHandler( evt -> doPrintPolarCharts() );
 
         // Load the action handlers for the "Export" actions.
         _actions._fileActions._exportActions._exportRasterGraphicsAction
-                .setEventHandler( evt -> doExportImageGraphics() );
+                .setEventHandler( evt -> doExportRasterGraphics() );
         _actions._fileActions._exportActions._exportVectorGraphicsAction
                 .setEventHandler( evt -> doExportVectorGraphics() );
         _actions._fileActions._exportActions._exportRenderedGraphicsAction
@@ -255,6 +434,52 @@ public class PolarResponseViewer extends XStage {
         _actions._viewActions._scaleChoices._scaleDiv10dbChoice
                 .setEventHandler( evt -> doDiv10db() );
 
+        // Load the action handlers for the "Smoothing" choices.
+        _actions._viewActions._smoothingChoices._smoothingNoneChoice
+                .setEventHandler( evt -> setAngularSmoothingWidth( 0 ) );
+        _actions._viewActions._smoothingChoices._smoothing5degChoice
+                .setEventHandler( evt -> setAngularSmoothingWidth( 5 ) );
+        _actions._viewActions._smoothingChoices._smoothing10degChoice
+                .setEventHandler( evt -> setAngularSmoothingWidth( 10 ) );
+        _actions._viewActions._smoothingChoices._smoothing20degChoice
+                .setEventHandler( evt -> setAngularSmoothingWidth( 20 ) );
+
+        // Load the action handlers for the "Normalization" choices.
+        _actions._viewActions._normalizationChoices._normalizationAbsoluteChoice
+                .setEventHandler( evt -> setNormalization( PolarResponseNormalization.ABSOLUTE ) );
+        _actions._viewActions._normalizationChoices._normalizationOnAxisChoice
+                .setEventHandler( evt -> setNormalization( PolarResponseNormalization.ON_AXIS ) );
+        _actions._viewActions._normalizationChoices._normalizationMaximumChoice
+                .setEventHandler( evt -> setNormalization( PolarResponseNormalization.MAXIMUM ) );
+
+        // Load the action handlers for the remaining "View" actions.
+        _actions._viewActions._directivityChartsAction
+                .setEventHandler( evt -> doShowDirectivityCharts() );
+        _actions._viewActions._directivityMapAction
+                .setEventHandler( evt -> doShowDirectivityMap() );
+        _actions._viewActions._setDifferenceReferenceAction
+                .setEventHandler( evt -> setDifferenceReferenceModel( getAcousticSourceModelForDataRequest() ) );
+        _actions._viewActions._clearDifferenceReferenceAction
+                .setEventHandler( evt -> setDifferenceReferenceModel( null ) );
+
+        // Load the action handlers for the "Session" actions.
+        _actions._sessionActions._openSessionArchiveAction
+                .setEventHandler( evt -> doOpenSessionArchive() );
+        _actions._sessionActions._saveSessionArchiveAction
+                .setEventHandler( evt -> doSaveSessionArchive() );
+        _actions._sessionActions._closeSessionArchiveAction
+                .setEventHandler( evt -> doCloseSessionArchive() );
+        _actions._sessionActions._openBalloonAction
+                .setEventHandler( evt -> doOpenBalloon() );
+        _actions._sessionActions._balloonPlanesAction
+                .setEventHandler( evt -> doSetBalloonPlanes() );
+        _actions._sessionActions._closeBalloonAction
+                .setEventHandler( evt -> doCloseBalloon() );
+        _actions._sessionActions._importPolarTableAction
+                .setEventHandler( evt -> doImportPolarTable() );
+        _actions._sessionActions._exportPolarDataAction
+                .setEventHandler( evt -> doExportPolarData() );
+
         // Load the action handlers for the "Background Color" choices.
         addBackgroundColorChoiceHandlers( _actions._settingsActions._backgroundColorChoices );
 
@@ -372,6 +597,229 @@ public class PolarResponseViewer extends XStage {
         toFront();
     }
 
+    public final void doShowDirectivityCharts() {
+        // Chart all of the bands available for the current Acoustic Source
+        // Model and Relative Bandwidth, then show the companion window.
+        updateDirectivityCharts();
+        _directivityChartViewer.show();
+        _directivityChartViewer.toFront();
+    }
+
+    public final void doShowDirectivityMap() {
+        // Map all of the bands in the current Octave Range, requesting any
+        // that aren't available, then show the companion window.
+        updateDirectivityMap();
+        _directivityMapViewer.show();
+        _directivityMapViewer.toFront();
+    }
+
+    public final void doOpenSessionArchive() {
+        final File archiveFile = makeSessionArchiveFileChooser( "Open Session Archive" ) //$NON-NLS-1$
+                .showOpenDialog( this );
+        if ( archiveFile != null ) {
+            openSessionArchive( archiveFile );
+        }
+    }
+
+    public final void doSaveSessionArchive() {
+        final File archiveFile = makeSessionArchiveFileChooser( "Save Session Archive As" ) //$NON-NLS-1$
+                .showSaveDialog( this );
+        if ( ( archiveFile != null ) && !saveSessionArchive( archiveFile ) ) {
+            // Alert the user that the archive could not be written.
+            showErrorAlert( "Session Archive Not Saved", //$NON-NLS-1$
+                            archiveFile.getName() );
+        }
+    }
+
+    public final void doCloseSessionArchive() {
+        // Switch back to the server for any bands that aren't cached.
+        closeSessionArchive();
+        updatePolarResponse();
+    }
+
+    @SuppressWarnings("nls")
+    public final void doOpenBalloon() {
+        final FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle( "Open Balloon" );
+        if ( ( _defaultDirectory != null ) && _defaultDirectory.isDirectory() ) {
+            fileChooser.setInitialDirectory( _defaultDirectory );
+        }
+        fileChooser.getExtensionFilters()
+                .addAll( new ExtensionFilter( "Balloon Files", "*.bln", "*.bin" ),
+                         new ExtensionFilter( "All Files", "*.*" ) );
+        final File balloonFile = fileChooser.showOpenDialog( this );
+        if ( balloonFile != null ) {
+            openBalloonDataStore( balloonFile );
+        }
+    }
+
+    @SuppressWarnings("nls")
+    public final void doSetBalloonPlanes() {
+        final Spinner< Double > elevationSpinner =
+                new Spinner<>( -90.0d, 90.0d, _balloonHorizontalPlaneElevation, 1.0d );
+        final Spinner< Double > azimuthSpinner =
+                new Spinner<>( -180.0d, 180.0d, _balloonVerticalPlaneAzimuth, 1.0d );
+        elevationSpinner.setEditable( true );
+        azimuthSpinner.setEditable( true );
+
+        final GridPane planesPane = new GridPane();
+        planesPane.setHgap( 10.0d );
+        planesPane.setVgap( 10.0d );
+        planesPane.addRow( 0, new Label( "Horizontal Plane Elevation (degrees):" ), elevationSpinner );
+        planesPane.addRow( 1, new Label( "Vertical Plane Azimuth (degrees):" ), azimuthSpinner );
+
+        final Dialog< ButtonType > planesDialog = new Dialog<>();
+        planesDialog.initOwner( this );
+        planesDialog.setTitle( "Balloon Planes" );
+        planesDialog.getDialogPane().setContent( planesPane );
+        planesDialog.getDialogPane().getButtonTypes().addAll( ButtonType.OK, ButtonType.CANCEL );
+        final Optional< ButtonType > planesChoice = planesDialog.showAndWait();
+        if ( planesChoice.isPresent() && ( planesChoice.get() == ButtonType.OK ) ) {
+            setBalloonPlanes( elevationSpinner.getValue(), azimuthSpinner.getValue() );
+        }
+    }
+
+    public final void doCloseBalloon() {
+        // Switch back to the cache and server for all bands.
+        closeBalloonDataStore();
+        updatePolarResponse();
+    }
+
+    @SuppressWarnings("nls")
+    public final void doImportPolarTable() {
+        final FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle( "Import Polar Table" );
+        if ( ( _defaultDirectory != null ) && _defaultDirectory.isDirectory() ) {
+            fileChooser.setInitialDirectory( _defaultDirectory );
+        }
+        fileChooser.getExtensionFilters()
+                .add( new ExtensionFilter( "Polar Tables", "*.txt", "*.csv", "*.tab", "*.dat" ) );
+        final File polarTableFile = fileChooser.showOpenDialog( this );
+        if ( polarTableFile != null ) {
+            importPolarTable( polarTableFile );
+        }
+    }
+
+    @SuppressWarnings("nls")
+    public final void doExportPolarData() {
+        final FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle( "Export Polar Data As" );
+        if ( ( _defaultDirectory != null ) && _defaultDirectory.isDirectory() ) {
+            fileChooser.setInitialDirectory( _defaultDirectory );
+        }
+        final ExtensionFilter csvExtensionFilter = new ExtensionFilter( "CSV Files", "*.csv" );
+        fileChooser.getExtensionFilters()
+                .addAll( csvExtensionFilter, new ExtensionFilter( "Binary Files", "*.bin" ) );
+        fileChooser.setSelectedExtensionFilter( csvExtensionFilter );
+        final File exportFile = fileChooser.showSaveDialog( this );
+        if ( exportFile != null ) {
+            exportPolarData( exportFile );
+        }
+    }
+
+    public final void doPolarChartPageSetup() {
+        // NOTE: The page dialog is modal to the thread that shows it, so it
+        //  is shown off the JavaFX Application Thread.
+        final PageFormat pageFormat = _pageFormat;
+        BLOCKING_TASK_EXECUTOR.execute( () -> {
+            final PrinterJob printerJob = PrinterJob.getPrinterJob();
+            final PageFormat newPageFormat = printerJob
+                    .pageDialog( ( pageFormat != null ) ? pageFormat : printerJob.defaultPage() );
+            Platform.runLater( () -> _pageFormat = newPageFormat );
+        } );
+    }
+
+    @SuppressWarnings("nls")
+    public final void doPrintPolarCharts() {
+        final List< String > printChoices = Arrays.asList( "Current Band",
+                                                           "All Bands of Current Model",
+                                                           "All Bands of All Models" );
+        final ChoiceDialog< String > printDialog = new ChoiceDialog<>( printChoices.get( 0 ),
+                                                                       printChoices );
+        printDialog.initOwner( this );
+        printDialog.setTitle( "Print" );
+        printDialog.setHeaderText( null );
+        printDialog.setContentText( "Pages:" );
+        final Optional< String > printChoice = printDialog.showAndWait();
+        if ( !printChoice.isPresent() ) {
+            return;
+        }
+
+        final List< PolarResponse > polarResponses = new ArrayList<>();
+        switch ( printChoices.indexOf( printChoice.get() ) ) {
+        case 0:
+            final PolarResponse currentPolarResponse = _polarResponsePane.getPolarResponse();
+            if ( currentPolarResponse != null ) {
+                polarResponses.add( currentPolarResponse );
+            }
+            break;
+        case 1:
+            for ( final PolarResponse band : getDirectivitySpectrumBands() ) {
+                polarResponses.add( _polarResponseTransformChain.apply( band ) );
+            }
+            break;
+        default:
+            for ( final PolarResponse band : _polarResponseCache.getAll().values() ) {
+                polarResponses.add( _polarResponseTransformChain.apply( band ) );
+            }
+            polarResponses.sort( Comparator.comparing( PolarResponse::getAcousticSourceModel )
+                    .thenComparingInt( polarResponse -> polarResponse.getRelativeBandwidth()
+                            .toOctaveDivider() )
+                    .thenComparingDouble( PolarResponse::getCenterFrequency ) );
+            break;
+        }
+
+        printPolarCharts( polarResponses );
+    }
+
+    @SuppressWarnings("nls")
+    public final void doExportRasterGraphics() {
+        // Offer resolutions at whole multiples of the screen resolution as
+        // well as the usual print resolutions.
+        final List< String > resolutionChoices = new ArrayList<>();
+        for ( final int dotsPerInch : RASTER_GRAPHICS_EXPORT_DOTS_PER_INCH ) {
+            resolutionChoices.add( String.format( Locale.ENGLISH,
+                                                  "%d DPI (%.3gx)",
+                                                  dotsPerInch,
+                                                  dotsPerInch / SCREEN_DOTS_PER_INCH ) );
+        }
+        final ChoiceDialog< String > resolutionDialog =
+                new ChoiceDialog<>( resolutionChoices.get( 0 ), resolutionChoices );
+        resolutionDialog.initOwner( this );
+        resolutionDialog.setTitle( "Export Raster Graphics" );
+        resolutionDialog.setHeaderText( null );
+        resolutionDialog.setContentText( "Resolution:" );
+        final Optional< String > resolutionChoice = resolutionDialog.showAndWait();
+        if ( !resolutionChoice.isPresent() ) {
+            return;
+        }
+        final int dotsPerInch = RASTER_GRAPHICS_EXPORT_DOTS_PER_INCH[ resolutionChoices
+                .indexOf( resolutionChoice.get() ) ];
+
+        final FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle( "Export Raster Graphics As" );
+        if ( ( _defaultDirectory != null ) && _defaultDirectory.isDirectory() ) {
+            fileChooser.setInitialDirectory( _defaultDirectory );
+        }
+        fileChooser.getExtensionFilters().add( new ExtensionFilter( "PNG Files", "*.png" ) );
+        final File exportFile = fileChooser.showSaveDialog( this );
+        if ( exportFile != null ) {
+            exportRasterGraphics( exportFile, dotsPerInch );
+        }
+    }
+
+    // Make a file chooser for session archives, which are ZIP files.
+    private FileChooser makeSessionArchiveFileChooser( final String title ) {
+        final FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle( title );
+        if ( ( _defaultDirectory != null ) && _defaultDirectory.isDirectory() ) {
+            fileChooser.setInitialDirectory( _defaultDirectory );
+        }
+        fileChooser.getExtensionFilters().addAll( ExtensionFilterUtilities.getZipExtensionFilters() );
+        fileChooser.setSelectedExtensionFilter( ExtensionFilters.ZIP_EXTENSION_FILTER );
+        return fileChooser;
+    }
+
     public final void doSaveServerResponse() {
         // Invoke the common prediction method, then save the returned ZIP
         // file to disc.
@@ -382,6 +830,8 @@ public class PolarResponseViewer extends XStage {
     @Override
     public final void hideSecondaryWindows() {
         _renderedGraphicsExportPreview.setVisible( false );
+        _directivityChartViewer.hide();
+        _directivityMapViewer.hide();
     }
 
     @SuppressWarnings("nls")
@@ -430,15 +880,33 @@ public class PolarResponseViewer extends XStage {
                                                                             clientProperties );
         _renderedGraphicsExportPreview.initOwner( this );
         _windowManager.addStage( _renderedGraphicsExportPreview );
+
+        // Instantiate the non-modal Directivity Chart Viewer, which charts
+        // metrics for all available bands alongside this window.
+        _directivityChartViewer = new DirectivityChartViewer( clientProperties );
+        _directivityChartViewer.initOwner( this );
+
+        // Instantiate the non-modal Directivity Map Viewer, which maps level
+        // against angle and frequency for the current Octave Range.
+        _directivityMapViewer = new DirectivityMapViewer( clientProperties );
+        _directivityMapViewer.initOwner( this );
+
+        // Skip the bulk requests of the current batch once the map is closed,
+        // and lay the map out anew when it is shown again.
+        _directivityMapViewer.setOnHidden( evt -> {
+            ++_directivityMapGeneration;
+            _directivityMapViewer.resetDirectivityMap();
+        } );
     }
 
     @Override
     protected final Node loadContent() {
         // Instantiate and return the custom Content Node.
-        // TODO: Pass in the angle increment in degrees, to the viewer's constructor.
+        // NOTE: The angle increment is only the initial layout resolution, as
+        //  the data resolution is inferred from each loaded response.
         _polarResponsePane = new PolarResponsePane( POLAR_RESPONSE_VIEWER_WIDTH_DEFAULT,
                                                     POLAR_RESPONSE_VIEWER_HEIGHT_DEFAULT,
-                                                    1.0d, // data resolution is one degree
+                                                    POLAR_RESPONSE_ANGLE_INCREMENT_DEFAULT,
                                                     clientProperties,
                                                     this,
                                                     _actions );
@@ -523,12 +991,24 @@ public class PolarResponseViewer extends XStage {
                 RelativeBandwidth.defaultValue().valueOfLabel( sRelativeBandwidth ),
                 sOctaveRange, 
                 centerFrequency );
-        setFrequencyRange( _frequencyRange );
+        setFrequencyRange( frequencyRange );
         
         // Set the appropriate grid spacing for polar response radial scale.
         final int gridSpacing = prefs.getInt( "gridSpacing",
                                               SemiLogRPolarPlot.DEFAULT_GRID_SPACING );
         setGridSpacing( gridSpacing );
+
+        // Set the transforms to apply to the polar response traces.
+        setAngularSmoothingWidth( prefs.getInt( "angularSmoothingWidth", 0 ) );
+        PolarResponseNormalization normalization = PolarResponseNormalization.ABSOLUTE;
+        try {
+            normalization = PolarResponseNormalization
+                    .valueOf( prefs.get( "normalization", normalization.name() ) );
+        }
+        catch ( final IllegalArgumentException iae ) {
+            iae.printStackTrace();
+        }
+        setNormalization( normalization );
         
         return prefs;
     }
@@ -549,9 +1029,86 @@ public class PolarResponseViewer extends XStage {
 
         final int gridSpacing = _polarResponsePane.getGridSpacing();
         prefs.putInt( "gridSpacing", gridSpacing );
+
+        prefs.putInt( "angularSmoothingWidth", _angularSmoothingWidth );
+        prefs.put( "normalization", _normalization.name() );
+
+        // Save the displayed response alongside the preferences, for a warm
+        // start on the next launch.
+        saveWarmStartPolarResponse();
         
         return prefs;
     }
+
+    /**
+     * Returns the file that holds the last displayed response between
+     * launches, for the current Acoustic Source Model.
+     * <p>
+     * NOTE: Downstream clients may override this method to keep the file
+     *  with their other application data, but should keep it distinct per
+     *  Acoustic Source Model, as several viewers may be open at once.
+     *
+     * @return The warm start file
+     */
+    protected File getWarmStartFile() {
+        return PolarResponseWarmStartFile.getDefaultFile( getAcousticSourceModelForDataRequest() );
+    }
+
+    // Save the displayed response, along with its band and validators, if
+    // it is the cached response for the current band, as balloon slices
+    // can't be restored without their balloon.
+    private void saveWarmStartPolarResponse() {
+        final PolarResponse polarResponse = _sourcePolarResponse;
+        if ( polarResponse == null ) {
+            return;
+        }
+
+        final PolarResponseKey polarResponseKey = PolarResponseKey
+                .makeKey( getAcousticSourceModelForDataRequest(), _frequencyRange );
+        if ( _polarResponseCache.get( polarResponseKey ) != polarResponse ) {
+            return;
+        }
+
+        try {
+            new PolarResponseWarmStartFile( getWarmStartFile() )
+                    .save( polarResponseKey,
+                           polarResponse,
+                           _polarResponseCache.getValidator( polarResponseKey ) );
+        }
+        catch ( final IOException ioe ) {
+            ioe.printStackTrace();
+        }
+    }
+
+    // Paint the response saved by the last launch right away, if it is for
+    // the current band of the current Acoustic Source Model and Relative
+    // Bandwidth, and then revalidate it with the server in the background.
+    // Otherwise it is only cached, in case the user switches to its band.
+    private void warmStartPolarResponse() {
+        final PolarResponseWarmStartFile polarResponseWarmStartFile =
+                new PolarResponseWarmStartFile( getWarmStartFile() );
+        try {
+            if ( !polarResponseWarmStartFile.load() ) {
+                return;
+            }
+        }
+        catch ( final IOException ioe ) {
+            ioe.printStackTrace();
+            return;
+        }
+
+        // NOTE: The restored validators are always stale, so the cache hit
+        //  below triggers a conditional request, or a full one if the server
+        //  sent no validators for the saved response.
+        final PolarResponseKey polarResponseKey = polarResponseWarmStartFile.getPolarResponseKey();
+        _polarResponseCache.put( polarResponseKey,
+                                 polarResponseWarmStartFile.getPolarResponse(),
+                                 polarResponseWarmStartFile.getPolarResponseValidator() );
+        if ( polarResponseKey.equals( PolarResponseKey
+                .makeKey( getAcousticSourceModelForDataRequest(), _frequencyRange ) ) ) {
+            updatePolarResponse();
+        }
+    }
     
     @Override
     public String getBackgroundColor() {
@@ -581,78 +1138,45 @@ public class PolarResponseViewer extends XStage {
 
     // This method updates prediction response data from a cached ZIP stream
     // already loaded from the server.
-    // TODO: Make sure all zip load/save methods have an error exit for
-    //  closing the original ZIP stream.
     protected final String loadServerResponseDataFromZip() {
-        // Cycle through the ZIP stream until all of the responses are loaded.
-        //
-        // Chain a ZipInputStream to a ByteArrayInputStream to the byte array
-        // copied from the original servlet response stream, to inflate the ZIP
-        // entries.
-        //
-        // NOTE: We suppress warnings on the SwappedDataInputStream used for
-        //  ENDIAN-aware loading of server-side binary data, as the compiler
-        //  isn't smart enough to know that using try-with-resources inside the
-        //  ZIP block will prematurely close the ZIP stream due to how the ZIP
-        //  API deals with wrapping ZIP entries around the whole ZIP file itself
-        //  (thus closing a ZIP entry closes the ZIP file, if one isn't careful).
-        //  This is all due to the Apache I/O library not having been rewritten
-        //  yet for Java 7, so it doesn't implement the methods the compiler
-        //  looks for to determine awareness of resource handling.
+        // Decode both planes into a single immutable snapshot, which is then
+        // shared as-is by the chart, the exports and the cache.
         String statusMessage = null;
-        try ( final ByteArrayInputStream byteArrayInputStream =
-                                                              new ByteArrayInputStream( _serverResponseData );
-                final ZipInputStream zipInputStream = new ZipInputStream( byteArrayInputStream ) ) {
-            ZipEntry zipEntry = null;
-            while ( ( zipEntry = zipInputStream.getNextEntry() ) != null ) {
-                final String name = zipEntry.getName();
-                if ( "PolarResponseHz.bin".equalsIgnoreCase( name ) ) { //$NON-NLS-1$
-                    // Update the screen graphics to reflect the prediction
-                    // response.
-                    //
-                    // Write the horizontal polar response back to the Polar
-                    // Plot graphics panel.
-                    //
-                    // Chain a SwappedDataInputStream to BufferedInputStream to
-                    // a ZipInputStream, for better performance and
-                    // platform-independent floating-point reads.
-                    @SuppressWarnings("resource") final SwappedDataInputStream littleEndianInputStream =
-                                                                                                       new SwappedDataInputStream( new BufferedInputStream( zipInputStream ) );
-                    if ( !updateHorizontalPolarResponse( littleEndianInputStream,
-                                                         acousticSourceModel,
-                                                         _frequencyRange.getRelativeBandwidth(),
-                                                         _frequencyRange.getCenterFrequency() ) ) {
-                        statusMessage =
-                                      "Missing, Incomplete, or Invalid Horizontal Polar Response."; //$NON-NLS-1$
-                    }
+        try {
+            final PolarResponse polarResponse = PolarResponseDecoder
+                    .decodeServerResponse( _serverResponseData,
+                                           acousticSourceModel,
+                                           _frequencyRange.getRelativeBandwidth(),
+                                           _frequencyRange.getCenterFrequency() );
+
+            // Update the screen graphics to reflect the prediction response.
+            displayPolarResponse( polarResponse );
+
+            // Cache complete responses, for revisits and for band synthesis.
+            // NOTE: The validators are stored with the response, so that the
+            //  next request for this band can be a conditional one.
+            if ( _pendingPolarResponseKey != null ) {
+                final PolarResponseValidator polarResponseValidator =
+                        ( _pendingPolarDataRequestParameters != null )
+                            ? _pendingPolarDataRequestParameters.getResponseValidator()
+                            : null;
+                _polarResponseCache.put( _pendingPolarResponseKey,
+                                         polarResponse,
+                                         polarResponseValidator );
+
+                // Keep the directivity charts and map in step with the newly
+                // cached band.
+                if ( _directivityChartViewer.isShowing() ) {
+                    updateDirectivityCharts();
                 }
-                else if ( "PolarResponseVt.bin".equalsIgnoreCase( name ) ) { //$NON-NLS-1$
-                    // Update the screen graphics to reflect the prediction
-                    // response.
-                    //
-                    // Write the vertical polar response back to the Polar
-                    // Plot graphics panel.
-                    //
-                    // Chain a SwappedDataInputStream to a BufferedInputStream
-                    // to a ZipInputStream, for better performance and
-                    // platform-independent floating-point reads.
-                    @SuppressWarnings("resource") final SwappedDataInputStream littleEndianInputStream =
-                                                                                                       new SwappedDataInputStream( new BufferedInputStream( zipInputStream ) );
-                    if ( !updateVerticalPolarResponse( littleEndianInputStream,
-                                                       acousticSourceModel,
-                                                       _frequencyRange.getRelativeBandwidth(),
-                                                       _frequencyRange.getCenterFrequency() ) ) {
-                        statusMessage = "Missing, Incomplete, or Invalid Vertical Polar Response."; //$NON-NLS-1$
-                    }
+                if ( _directivityMapViewer.isShowing() ) {
+                    _directivityMapViewer.updateBand( _pendingPolarResponseKey, polarResponse );
                 }
-
-                // Close the current ZIP entry to prepare to read the next one.
-                zipInputStream.closeEntry();
             }
         }
-        catch ( final NullPointerException npe ) {
-            npe.printStackTrace();
-            statusMessage = "Missing, Incomplete, or Invalid Response Data."; //$NON-NLS-1$
+        catch ( final PolarResponseFormatException pfe ) {
+            pfe.printStackTrace();
+            statusMessage = pfe.getMessage();
         }
         catch ( final ZipException ze ) {
             ze.printStackTrace();
@@ -685,48 +1209,1112 @@ public class PolarResponseViewer extends XStage {
                                                                 clientProperties,
                                                                 _dataRequestStatusViewer );
 
+        // Run the requests on the bounded pool that is shared by all of the
+        // viewers, rather than on an unbounded pool per viewer.
+        // NOTE: The priority is decided as each request is submitted, which
+        //  is on the JavaFX Application Thread, so that a window that isn't
+        //  showing never holds up one that is.
+        _polarDataRequestService.setExecutor( command -> _polarDataHub.getRequestScheduler()
+                .submit( command, getPolarRequestPriority() ) );
+
         // Set the callbacks for handling success, failure, and cancellation.
+        // NOTE: The shared request is only ended once the response has been
+        //  decoded and cached, so that any viewers waiting on it find it.
          _polarDataRequestService.setOnSucceeded( t -> {
-            // Handle any errors that we marked for post-processing.
-            final DataServerResponse dataServerResponse = _polarDataRequestService
-                    .getValue();
-            final boolean sawErrors = !handleDataServerResponse( dataServerResponse );
-            if ( !sawErrors ) {
-                // Cache the Server Response Data before post-processing.
-                _serverResponseData = dataServerResponse.getServerResponseData();
-                if ( _serverResponseData == null ) {
-                    return;
-                }
-    
-                // Update the server-loaded prediction response data.
-                loadServerResponse();
+            try {
+                handlePolarDataRequestSuccess();
+            }
+            finally {
+                endSharedPolarResponseRequest();
             }
         } );
+         _polarDataRequestService.setOnFailed( t -> endSharedPolarResponseRequest() );
+    }
+
+    // Treat requests for a window that isn't showing as background work.
+    private PolarRequestPriority getPolarRequestPriority() {
+        return ( isShowing() && !isIconified() )
+            ? PolarRequestPriority.INTERACTIVE
+            : PolarRequestPriority.PREFETCH;
+    }
+
+    // Handle a successful server request, whether or not the server itself
+    // reported errors.
+    private void handlePolarDataRequestSuccess() {
+        // Handle any errors that we marked for post-processing.
+        final DataServerResponse dataServerResponse = _polarDataRequestService
+                .getValue();
+        final boolean sawErrors = !handleDataServerResponse( dataServerResponse );
+        if ( !sawErrors ) {
+            // Reuse the cached decoded response if it is still current.
+            if ( dataServerResponse
+                    .getHttpResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED ) {
+                revalidateCachedPolarResponse();
+                return;
+            }
+
+            // Cache the Server Response Data before post-processing.
+            _serverResponseData = dataServerResponse.getServerResponseData();
+            if ( _serverResponseData == null ) {
+                return;
+            }
+
+            // Update the server-loaded prediction response data.
+            loadServerResponse();
+        }
     }
 
     // This common update handler, called by any of the tool bar drop lists in
     // the Polar Response Stage, effectively forks the thread that does the work
     // of the polar response data update request.
     protected final void updatePolarResponse() {
+        // Keep the directivity charts in step with the current Acoustic
+        // Source Model, Relative Bandwidth and data source.
+        if ( _directivityChartViewer.isShowing() ) {
+            updateDirectivityCharts();
+        }
+        if ( _directivityMapViewer.isShowing() ) {
+            updateDirectivityMap();
+        }
+
+        // Slice the current band out of the open balloon, if there is one.
+        if ( _balloonDataStore != null ) {
+            updatePolarResponseFromBalloon();
+            return;
+        }
+
+        // Answer the request locally if the band is cached, or if it can be
+        // synthesized from cached finer bands, as is the case when switching
+        // to a coarser Relative Bandwidth after viewing the finer bands.
+        final String acousticSourceModelForDataRequest = getAcousticSourceModelForDataRequest();
+        final PolarResponseKey polarResponseKey = PolarResponseKey
+                .makeKey( acousticSourceModelForDataRequest, _frequencyRange );
+        PolarResponse polarResponse = _polarResponseCache.get( polarResponseKey );
+        if ( ( polarResponse == null ) && ( _polarSessionArchive != null ) ) {
+            polarResponse = loadPolarResponseFromSessionArchive( polarResponseKey );
+        }
+        if ( polarResponse == null ) {
+            polarResponse = FractionalOctaveBandSynthesizer
+                    .synthesize( _polarResponseCache,
+                                 polarResponseKey,
+                                 _frequencyRange.getRelativeBandwidth(),
+                                 _frequencyRange.getCenterFrequency() );
+            if ( polarResponse != null ) {
+                _polarResponseCache.put( polarResponseKey, polarResponse );
+            }
+        }
+        if ( polarResponse != null ) {
+            // Make sure a stale server response doesn't overwrite this one.
+            _pendingPolarResponseKey = null;
+            _pendingPolarDataRequestParameters = null;
+            cancelPolarResponseRequest();
+
+            showPolarResponse( polarResponse );
+
+            // Show a cached server response right away, but revalidate it
+            // in the background once it is old enough, which costs a
+            // bodiless 304 response if the server data hasn't changed.
+            final PolarResponseValidator polarResponseValidator = _polarResponseCache
+                    .getValidator( polarResponseKey );
+            if ( ( _polarSessionArchive == null ) && ( polarResponseValidator != null )
+                    && polarResponseValidator
+                            .isStale( POLAR_RESPONSE_REVALIDATION_INTERVAL_DEFAULT ) ) {
+                requestPolarResponse( polarResponseKey, polarResponseValidator );
+            }
+            return;
+        }
+
         // NOTE: Everything needs to be reset if a prediction is invoked.
+        _sourcePolarResponse = null;
         _polarResponsePane.resetVisualizations();
 
+        // Stay offline while a session archive is open, even if it doesn't
+        // have this band.
+        if ( _polarSessionArchive != null ) {
+            _pendingPolarResponseKey = null;
+            cancelPolarResponseRequest();
+            return;
+        }
+
+        requestPolarResponse( polarResponseKey, null );
+    }
+
+    // Request a band from the server, either in full or, if the validators
+    // of a cached response are given, conditionally.
+    private void requestPolarResponse( final PolarResponseKey polarResponseKey,
+                                       final PolarResponseValidator cachedValidator ) {
+        // Let go of any other band this viewer was requesting or waiting on.
+        cancelPolarResponseRequest();
+
+        // If another viewer already has this band in flight, wait for it to
+        // fill the shared cache instead of making a duplicate network call.
+        if ( !_polarDataHub.beginRequest( polarResponseKey,
+                                          this,
+                                          () -> handleSharedPolarResponseRequestSettled( polarResponseKey ) ) ) {
+            _pendingPolarResponseKey = null;
+            _pendingPolarDataRequestParameters = null;
+            _awaitedPolarResponseKey = polarResponseKey;
+
+            // If it is one of this viewer's own background requests, it is
+            // now wanted interactively, so don't leave it queued behind them.
+            final PolarRequestScheduler.ScheduledRequest backgroundPolarResponseRequest =
+                    _backgroundPolarResponseRequests.get( polarResponseKey );
+            if ( backgroundPolarResponseRequest != null ) {
+                backgroundPolarResponseRequest.promote( getPolarRequestPriority() );
+            }
+            return;
+        }
+
         // Make sure the prediction parameter sources are up to date.
-        final String acousticSourceModelForDataRequest = getAcousticSourceModelForDataRequest();
-        final PolarDataRequestParameters polarDataRequestParameters = new PolarDataRequestParameters( _loginCredentials,
-                                                                                                      acousticSourceModelForDataRequest,
-                                                                                                      _frequencyRange );
-        _polarDataRequestService.setDataRequestParameters( polarDataRequestParameters );
+        _pendingPolarResponseKey = polarResponseKey;
+        _pendingPolarDataRequestParameters = new PolarDataRequestParameters( _loginCredentials,
+                                                                             polarResponseKey
+                                                                                     .getAcousticSourceModel(),
+                                                                             _frequencyRange,
+                                                                             cachedValidator );
+        _polarDataRequestService.setDataRequestParameters( _pendingPolarDataRequestParameters );
 
         // Restart the Service as this also cancels old tasks and then resets.
         try {
             _polarDataRequestService.restart();
+            _claimedPolarResponseKey = polarResponseKey;
         }
         catch ( final IllegalStateException ise ) {
             ise.printStackTrace();
+            _polarDataHub.endRequest( polarResponseKey, this );
+        }
+    }
+
+    // Cancel the current server request, if any, and let go of any shared
+    // request this viewer was making or waiting on.
+    private void cancelPolarResponseRequest() {
+        if ( _awaitedPolarResponseKey != null ) {
+            _polarDataHub.cancelWait( _awaitedPolarResponseKey, this );
+            _awaitedPolarResponseKey = null;
+        }
+        _polarDataRequestService.cancel();
+        endSharedPolarResponseRequest();
+    }
+
+    // End the shared request this viewer was making, if any, which lets any
+    // viewers waiting on it look in the shared cache.
+    private void endSharedPolarResponseRequest() {
+        if ( _claimedPolarResponseKey == null ) {
+            return;
         }
+
+        final PolarResponseKey polarResponseKey = _claimedPolarResponseKey;
+        _claimedPolarResponseKey = null;
+        _polarDataHub.endRequest( polarResponseKey, this );
+    }
+
+    // Pick up a band that another viewer requested on behalf of this one,
+    // unless this viewer has moved on to another band in the meantime.
+    // NOTE: If the other viewer's request failed or was cancelled, the band
+    //  won't be cached, so this viewer then makes the request itself.
+    private void handleSharedPolarResponseRequestSettled( final PolarResponseKey polarResponseKey ) {
+        if ( !polarResponseKey.equals( _awaitedPolarResponseKey ) ) {
+            return;
+        }
+
+        _awaitedPolarResponseKey = null;
+        updatePolarResponse();
     }
     
+    // Mark the cached response for the current conditional request as still
+    // current, and make sure it is the one shown.
+    private void revalidateCachedPolarResponse() {
+        if ( _pendingPolarResponseKey == null ) {
+            return;
+        }
+
+        final PolarResponse polarResponse = _polarResponseCache
+                .revalidate( _pendingPolarResponseKey );
+        if ( polarResponse != null ) {
+            showPolarResponse( polarResponse );
+        }
+    }
+
+    // Load a band from the open session archive and cache it, which is fast
+    // enough to do on the JavaFX Application Thread as only its two plane
+    // entries are inflated.
+    private PolarResponse loadPolarResponseFromSessionArchive( final PolarResponseKey polarResponseKey ) {
+        try {
+            final PolarResponse polarResponse = _polarSessionArchive.load( polarResponseKey );
+            if ( polarResponse != null ) {
+                _polarResponseCache.put( polarResponseKey, polarResponse );
+            }
+            return polarResponse;
+        }
+        catch ( final IOException ioe ) {
+            ioe.printStackTrace();
+            DialogUtilities.showFileReadErrorAlert( "Session Archive Read Error: " //$NON-NLS-1$
+                    + ioe.getMessage() );
+            return null;
+        }
+    }
+
+    // Slice the planes for the current band out of the open balloon, which
+    // is fast enough to do on the JavaFX Application Thread as only the two
+    // planes are read from the memory-mapped file.
+    private void updatePolarResponseFromBalloon() {
+        // Make sure a stale server response doesn't overwrite the balloon data.
+        _pendingPolarResponseKey = null;
+        cancelPolarResponseRequest();
+
+        final RelativeBandwidth relativeBandwidth = _frequencyRange.getRelativeBandwidth();
+        final double centerFrequency = _frequencyRange.getCenterFrequency();
+        final int bandIndex = PolarResponseKey.getBandIndex( relativeBandwidth.toOctaveDivider(),
+                                                             centerFrequency );
+        try {
+            final PolarResponse polarResponse = _balloonDataStore
+                    .slicePolarResponse( acousticSourceModel,
+                                         relativeBandwidth,
+                                         bandIndex,
+                                         centerFrequency,
+                                         _balloonHorizontalPlaneElevation,
+                                         _balloonVerticalPlaneAzimuth );
+            if ( polarResponse == null ) {
+                // The balloon doesn't cover this band at this bandwidth.
+                _sourcePolarResponse = null;
+                _polarResponsePane.resetVisualizations();
+                return;
+            }
+
+            showPolarResponse( polarResponse );
+        }
+        catch ( final IOException ioe ) {
+            ioe.printStackTrace();
+            DialogUtilities.showFileReadErrorAlert( "Balloon File Read Error: " //$NON-NLS-1$
+                    + ioe.getMessage() );
+        }
+    }
+
+    /**
+     * Opens a local directivity balloon file, which then replaces the server
+     * as the source of polar response data until it is closed.
+     *
+     * @param balloonFile The balloon file to memory-map
+     * @return {@code true} if the balloon was opened successfully
+     */
+    public final boolean openBalloonDataStore( final File balloonFile ) {
+        try {
+            final BalloonDataStore balloonDataStore = new BalloonDataStore( balloonFile );
+            closeBalloonDataStore();
+            _balloonDataStore = balloonDataStore;
+        }
+        catch ( final IOException ioe ) {
+            ioe.printStackTrace();
+            DialogUtilities.showFileReadErrorAlert( "Balloon File Not Opened: " //$NON-NLS-1$
+                    + ioe.getMessage() );
+            return false;
+        }
+
+        updatePolarResponse();
+        return true;
+    }
+
+    /**
+     * Closes the open directivity balloon, if any, so that subsequent polar
+     * response data comes from the server again.
+     */
+    public final void closeBalloonDataStore() {
+        if ( _balloonDataStore == null ) {
+            return;
+        }
+
+        try {
+            _balloonDataStore.close();
+        }
+        catch ( final IOException ioe ) {
+            ioe.printStackTrace();
+        }
+        _balloonDataStore = null;
+    }
+
+    /**
+     * Opens a session archive, which then supplies any band that isn't cached
+     * until it is closed, so that its responses can be stepped through
+     * offline. Only the archive index is read up front.
+     *
+     * @param archiveFile The session archive to open
+     * @return {@code true} if the archive was opened successfully
+     */
+    public final boolean openSessionArchive( final File archiveFile ) {
+        try {
+            final PolarSessionArchive polarSessionArchive = new PolarSessionArchive( archiveFile );
+            closeSessionArchive();
+            _polarSessionArchive = polarSessionArchive;
+        }
+        catch ( final IOException ioe ) {
+            ioe.printStackTrace();
+            DialogUtilities.showFileReadErrorAlert( "Session Archive Not Opened: " //$NON-NLS-1$
+                    + ioe.getMessage() );
+            return false;
+        }
+
+        updatePolarResponse();
+        return true;
+    }
+
+    /**
+     * Imports a plain text or CLF text polar table, such as a measurement
+     * export, as bands of the current Acoustic Source Model at the current
+     * Relative Bandwidth. The table is parsed in the background, and then
+     * cached, so that its frequencies can be stepped through as usual.
+     *
+     * @param polarTableFile The polar table file to import
+     */
+    public final void importPolarTable( final File polarTableFile ) {
+        final String acousticSourceModelForDataRequest = getAcousticSourceModelForDataRequest();
+        final RelativeBandwidth relativeBandwidth = _frequencyRange.getRelativeBandwidth();
+        ForkJoinPool.commonPool().execute( () -> {
+            try {
+                final List< PolarResponse > polarResponses = new PolarTextTableReader()
+                        .read( polarTableFile, acousticSourceModelForDataRequest, relativeBandwidth );
+                Platform.runLater( () -> {
+                    final int octaveDivider = relativeBandwidth.toOctaveDivider();
+                    for ( final PolarResponse polarResponse : polarResponses ) {
+                        final int bandIndex = PolarResponseKey
+                                .getBandIndex( octaveDivider, polarResponse.getCenterFrequency() );
+                        _polarResponseCache.put( new PolarResponseKey( acousticSourceModelForDataRequest,
+                                                                       octaveDivider,
+                                                                       bandIndex ),
+                                                 polarResponse );
+                    }
+
+                    updatePolarResponse();
+                } );
+            }
+            catch ( final IOException ioe ) {
+                ioe.printStackTrace();
+                Platform.runLater( () -> DialogUtilities
+                        .showFileReadErrorAlert( "Polar Table Not Imported: " //$NON-NLS-1$
+                                + ioe.getMessage() ) );
+            }
+        } );
+    }
+
+    /**
+     * Exports the decoded data of all of the bands that are available for the
+     * current Acoustic Source Model and Relative Bandwidth, in order of
+     * increasing frequency, as columnar binary for a ".bin" file or else as
+     * CSV. The file is written in the background.
+     *
+     * @param exportFile The file to export to
+     */
+    public final void exportPolarData( final File exportFile ) {
+        // Only gather where the bands are on the JavaFX Application Thread,
+        // and slice or inflate them one at a time as they are written, so
+        // that no more than one uncached band is held in memory at once.
+        final List< Supplier< PolarResponse > > bandSources = getDirectivitySpectrumBandSources();
+        final Iterable< PolarResponse > bands = () -> bandSources.stream().map( Supplier::get )
+                .filter( Objects::nonNull ).iterator();
+        final boolean binary = FilenameUtils
+                .isExtension( exportFile.getName().toLowerCase( Locale.ENGLISH ), "bin" ); //$NON-NLS-1$
+        ForkJoinPool.commonPool().execute( () -> {
+            try {
+                if ( binary ) {
+                    PolarDataExporter.exportBinary( exportFile, bands );
+                }
+                else {
+                    PolarDataExporter.exportCsv( exportFile, bands );
+                }
+            }
+            catch ( final IOException | UncheckedIOException e ) {
+                e.printStackTrace();
+                final String message = ( e instanceof UncheckedIOException )
+                    ? e.getCause().getMessage()
+                    : e.getMessage();
+                Platform.runLater( () -> showErrorAlert( "Polar Data Not Exported", //$NON-NLS-1$
+                                                         message ) );
+            }
+        } );
+    }
+
+    /**
+     * Exports the current charts as a PNG image at the given resolution, in
+     * the background, with a progress window that allows cancelling.
+     * <p>
+     * A dedicated offscreen panel is set up on the AWT Event Dispatch Thread
+     * with the current settings and data, and is then handed over to the
+     * export task, which renders and encodes it off both UI threads.
+     *
+     * @param exportFile The file to export the image to
+     * @param dotsPerInch The resolution of the image, in dots per inch
+     */
+    public final void exportRasterGraphics( final File exportFile, final int dotsPerInch ) {
+        // Grab the non-persistent values that need to be forwarded.
+        final float gridRange = _polarResponsePane.getGridRange();
+        final int gridSpacing = _polarResponsePane.getGridSpacing();
+        final PolarResponse polarResponse = _polarResponsePane.getPolarResponse();
+
+        EventQueue.invokeLater( () -> {
+            final PolarResponsePanel exportPanel = makeOffscreenPolarResponsePanel( gridRange,
+                                                                                    gridSpacing,
+                                                                                    polarResponse );
+
+            Platform.runLater( () -> {
+                final RasterGraphicsExportTask rasterGraphicsExportTask =
+                        new RasterGraphicsExportTask( exportPanel,
+                                                      dotsPerInch / SCREEN_DOTS_PER_INCH,
+                                                      dotsPerInch,
+                                                      exportFile );
+                rasterGraphicsExportTask.setOnFailed( evt -> {
+                    final Throwable exception = rasterGraphicsExportTask.getException();
+                    exception.printStackTrace();
+                    showErrorAlert( "Raster Graphics Export Error", //$NON-NLS-1$
+                                    exception.getMessage() );
+                } );
+
+                final ExportProgressViewer exportProgressViewer =
+                        new ExportProgressViewer( this,
+                                                  "Export Raster Graphics" ); //$NON-NLS-1$
+                exportProgressViewer.track( rasterGraphicsExportTask );
+                exportProgressViewer.show();
+
+                BLOCKING_TASK_EXECUTOR.execute( rasterGraphicsExportTask );
+            } );
+        } );
+    }
+
+    /**
+     * Prints responses as one job, one page per response, in the background,
+     * with a progress window that allows cancelling. The pages use the grid
+     * settings of the current charts, and the page format from Page Setup.
+     *
+     * @param polarResponses The responses to print, one per page
+     */
+    public final void printPolarCharts( final List< PolarResponse > polarResponses ) {
+        if ( polarResponses.isEmpty() ) {
+            return;
+        }
+
+        // Grab the non-persistent values that need to be forwarded.
+        final float gridRange = _polarResponsePane.getGridRange();
+        final int gridSpacing = _polarResponsePane.getGridSpacing();
+
+        final PrinterJob printerJob = PrinterJob.getPrinterJob();
+        printerJob.setJobName( getTitle() );
+        final PageFormat pageFormat = ( _pageFormat != null )
+            ? _pageFormat
+            : printerJob.defaultPage();
+        final PolarChartPrintTask polarChartPrintTask =
+                new PolarChartPrintTask( printerJob,
+                                         pageFormat,
+                                         polarResponses,
+                                         polarResponse -> makeOffscreenPolarResponsePanel( gridRange,
+                                                                                          gridSpacing,
+                                                                                          polarResponse ) );
+        polarChartPrintTask.setOnFailed( evt -> {
+            final Throwable exception = polarChartPrintTask.getException();
+            exception.printStackTrace();
+            showErrorAlert( "Print Error", exception.getMessage() ); //$NON-NLS-1$
+        } );
+
+        final ExportProgressViewer exportProgressViewer =
+                new ExportProgressViewer( this, "Print" ); //$NON-NLS-1$
+        exportProgressViewer.track( polarChartPrintTask );
+        exportProgressViewer.show();
+
+        BLOCKING_TASK_EXECUTOR.execute( polarChartPrintTask );
+    }
+
+    // Make a panel that shows a response the same way as the rendered
+    // graphics export preview, for exporting or printing it offscreen. This
+    // must be called on the AWT Event Dispatch Thread.
+    private static PolarResponsePanel makeOffscreenPolarResponsePanel( final float gridRange,
+                                                                       final int gridSpacing,
+                                                                       final PolarResponse polarResponse ) {
+        final PolarResponsePanel polarResponsePanel =
+                                                    new PolarResponsePanel( POLAR_RESPONSE_VIEWER_WIDTH_DEFAULT,
+                                                                            POLAR_RESPONSE_VIEWER_HEIGHT_DEFAULT,
+                                                                            POLAR_RESPONSE_ANGLE_INCREMENT_DEFAULT );
+        polarResponsePanel.setRenderingHints( GraphicsUtilities.getRenderingHintsForCharting() );
+        polarResponsePanel.setForegroundFromBackground( java.awt.Color.WHITE );
+        polarResponsePanel.setGridRange( gridRange );
+        polarResponsePanel.setGridSpacing( gridSpacing );
+        if ( polarResponse != null ) {
+            polarResponsePanel.updatePolarResponse( polarResponse );
+        }
+
+        // Lay the panel out at its preferred size, as it is never shown.
+        polarResponsePanel.setSize( polarResponsePanel.getPreferredSize() );
+        layOutOffscreen( polarResponsePanel );
+
+        return polarResponsePanel;
+    }
+
+    // Lay out a component tree that has no native peers, and so is never
+    // validated by the AWT toolkit.
+    private static void layOutOffscreen( final Component component ) {
+        if ( component instanceof Container ) {
+            final Container container = ( Container ) component;
+            container.doLayout();
+            for ( final Component child : container.getComponents() ) {
+                layOutOffscreen( child );
+            }
+        }
+    }
+
+    /**
+     * Returns the statistics of the most recent vector graphics export, for
+     * the reduction in trace vertices and the estimated file size savings.
+     *
+     * @return The path simplification statistics, or {@code null} if none
+     */
+    public final PathSimplificationStatistics getVectorSimplificationStatistics() {
+        return ( _polarResponsePreviewPanel != null )
+            ? _polarResponsePreviewPanel.getVectorSimplificationStatistics()
+            : null;
+    }
+
+    /**
+     * Closes the open session archive, if any. Bands already loaded from it
+     * stay cached.
+     */
+    public final void closeSessionArchive() {
+        if ( _polarSessionArchive == null ) {
+            return;
+        }
+
+        try {
+            _polarSessionArchive.close();
+        }
+        catch ( final IOException ioe ) {
+            ioe.printStackTrace();
+        }
+        _polarSessionArchive = null;
+    }
+
+    /**
+     * Saves all of the cached responses to a session archive, along with any
+     * that are only in the open session archive.
+     *
+     * @param archiveFile The session archive to write
+     * @return {@code true} if the archive was saved successfully
+     */
+    public final boolean saveSessionArchive( final File archiveFile ) {
+        final Map< PolarResponseKey, PolarResponse > polarResponses = _polarResponseCache.getAll();
+        try {
+            if ( _polarSessionArchive != null ) {
+                for ( final PolarResponseKey polarResponseKey : _polarSessionArchive.getKeys() ) {
+                    if ( !polarResponses.containsKey( polarResponseKey ) ) {
+                        polarResponses.put( polarResponseKey,
+                                            _polarSessionArchive.load( polarResponseKey ) );
+                    }
+                }
+            }
+
+            // NOTE: The open archive can't be overwritten in place, as its
+            //  responses are read lazily from the file.
+            final File tempFile = File.createTempFile( "polarSession", //$NON-NLS-1$
+                                                       ".zip", //$NON-NLS-1$
+                                                       archiveFile.getAbsoluteFile().getParentFile() );
+            try {
+                PolarSessionArchive.write( tempFile, polarResponses );
+
+                // Switch an open archive over to the saved one, as it holds
+                // all of the same responses and more.
+                final boolean sessionArchiveOpen = _polarSessionArchive != null;
+                closeSessionArchive();
+                Files.move( tempFile.toPath(),
+                            archiveFile.toPath(),
+                            StandardCopyOption.REPLACE_EXISTING );
+                if ( sessionArchiveOpen ) {
+                    _polarSessionArchive = new PolarSessionArchive( archiveFile );
+                }
+            }
+            finally {
+                Files.deleteIfExists( tempFile.toPath() );
+            }
+        }
+        catch ( final IOException ioe ) {
+            ioe.printStackTrace();
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Sets the planes to slice out of the open directivity balloon, and shows
+     * them for the current band.
+     *
+     * @param horizontalPlaneElevation The elevation of the horizontal plane,
+     *            in degrees
+     * @param verticalPlaneAzimuth The azimuth of the vertical plane, in degrees
+     */
+    public final void setBalloonPlanes( final double horizontalPlaneElevation,
+                                        final double verticalPlaneAzimuth ) {
+        _balloonHorizontalPlaneElevation = horizontalPlaneElevation;
+        _balloonVerticalPlaneAzimuth = verticalPlaneAzimuth;
+
+        if ( _balloonDataStore != null ) {
+            updatePolarResponseFromBalloon();
+
+            if ( _directivityChartViewer.isShowing() ) {
+                updateDirectivityCharts();
+            }
+            if ( _directivityMapViewer.isShowing() ) {
+                // The same bands now slice differently, so redraw them all.
+                _directivityMapViewer.resetDirectivityMap();
+                updateDirectivityMap();
+            }
+        }
+    }
+
+    // Show a decoded response in the Polar Response Pane, without having to
+    // make a server request.
+    protected final void showPolarResponse( final PolarResponse polarResponse ) {
+        displayPolarResponse( polarResponse );
+
+        // De-iconify the Polar Response Stage.
+        deiconifyPolarResponse();
+    }
+
+    // Chart a response through the current transforms, which are memoized,
+    // so re-showing a response doesn't recompute them. If a difference
+    // reference is set, the same band of the reference model is transformed
+    // likewise and subtracted, so long as it is at hand.
+    private void displayPolarResponse( final PolarResponse polarResponse ) {
+        _sourcePolarResponse = polarResponse;
+
+        final PolarResponse transformedPolarResponse = _polarResponseTransformChain
+                .apply( polarResponse );
+        final PolarResponseKey differenceReferenceKey = getDifferenceReferenceKey();
+        if ( differenceReferenceKey == null ) {
+            _polarResponsePane.updatePolarResponse( transformedPolarResponse );
+            return;
+        }
+
+        // Make it clear that the levels are absolute until the reference band
+        // arrives, or if it can't be had at all.
+        final PolarResponse referencePolarResponse =
+                getDifferenceReferencePolarResponse( differenceReferenceKey );
+        if ( referencePolarResponse == null ) {
+            _polarResponsePane
+                    .updatePolarResponse( transformedPolarResponse,
+                                          ( differenceReferenceKey
+                                                  .equals( _unavailableDifferenceReferenceKey ) )
+                                              ? "Difference reference unavailable for this band: " //$NON-NLS-1$
+                                                      + _differenceReferenceModel
+                                              : "Loading difference reference: " //$NON-NLS-1$
+                                                      + _differenceReferenceModel );
+            return;
+        }
+
+        // The directivity metrics of a difference are meaningless, so say
+        // what is shown instead.
+        final PolarResponse differencePolarResponse = PolarResponseDifference
+                .subtract( transformedPolarResponse,
+                           _polarResponseTransformChain.apply( referencePolarResponse ) );
+        _polarResponsePane.updatePolarResponse( differencePolarResponse,
+                                                "Difference in dB: " //$NON-NLS-1$
+                                                        + differencePolarResponse
+                                                                .getAcousticSourceModel() );
+    }
+
+    // Get the key of the current band of the difference reference model, or
+    // null if there is no reference or it is the current model, which is
+    // then shown as is.
+    private PolarResponseKey getDifferenceReferenceKey() {
+        if ( ( _differenceReferenceModel == null ) || _differenceReferenceModel
+                .equals( getAcousticSourceModelForDataRequest() ) ) {
+            return null;
+        }
+
+        return PolarResponseKey.makeKey( _differenceReferenceModel, _frequencyRange );
+    }
+
+    // Get the current band of the difference reference model from the shared
+    // cache, so that another viewer on the reference model keeps it current,
+    // or else from the open session archive. Failing that, the band is
+    // requested as background work unless a local data source replaces the
+    // server, and the displayed response is redrawn once the band arrives.
+    private PolarResponse getDifferenceReferencePolarResponse( final PolarResponseKey polarResponseKey ) {
+        final PolarResponse referencePolarResponse = _polarResponseCache.get( polarResponseKey );
+        if ( referencePolarResponse != null ) {
+            return referencePolarResponse;
+        }
+        if ( _polarSessionArchive != null ) {
+            final PolarResponse archivedPolarResponse =
+                    loadPolarResponseFromSessionArchive( polarResponseKey );
+            if ( archivedPolarResponse == null ) {
+                _unavailableDifferenceReferenceKey = polarResponseKey;
+            }
+            return archivedPolarResponse;
+        }
+        if ( _balloonDataStore != null ) {
+            _unavailableDifferenceReferenceKey = polarResponseKey;
+            return null;
+        }
+
+        if ( !polarResponseKey.equals( _unavailableDifferenceReferenceKey ) ) {
+            // NOTE: Only the data request form of the reference model's name
+            //  is known here, so the decoded response is labeled with it.
+            requestBackgroundPolarResponse( polarResponseKey,
+                                            _differenceReferenceModel,
+                                            new FrequencyRange( _frequencyRange.getRelativeBandwidth(),
+                                                                _frequencyRange.getOctaveRange(),
+                                                                _frequencyRange.getCenterFrequency() ),
+                                            () -> true,
+                                            () -> handleDifferenceReferenceSettled( polarResponseKey ) );
+        }
+        return null;
+    }
+
+    // Redraw the displayed response once a requested reference band settles,
+    // unless the reference or the band has changed in the meantime.
+    private void handleDifferenceReferenceSettled( final PolarResponseKey polarResponseKey ) {
+        if ( !polarResponseKey.equals( getDifferenceReferenceKey() ) ) {
+            return;
+        }
+        if ( !_polarResponseCache.contains( polarResponseKey ) ) {
+            _unavailableDifferenceReferenceKey = polarResponseKey;
+        }
+        if ( _sourcePolarResponse != null ) {
+            displayPolarResponse( _sourcePolarResponse );
+        }
+    }
+
+    // Rebuild the transform chain from the current settings, and redraw the
+    // displayed response through it.
+    // NOTE: Smoothing comes first, so that the normalization reference is
+    //  taken from the smoothed traces and reads as exactly 0 dB.
+    private void updatePolarResponseTransforms() {
+        PolarResponseTransformChain polarResponseTransformChain = _polarResponseTransformChain
+                .cleared();
+        if ( _angularSmoothingWidth > 0 ) {
+            polarResponseTransformChain = polarResponseTransformChain
+                    .then( new AngularSmoothingTransform( _angularSmoothingWidth ) );
+        }
+        if ( _normalization != PolarResponseNormalization.ABSOLUTE ) {
+            polarResponseTransformChain = polarResponseTransformChain
+                    .then( new NormalizationTransform( _normalization ) );
+        }
+        _polarResponseTransformChain = polarResponseTransformChain;
+
+        if ( _sourcePolarResponse != null ) {
+            displayPolarResponse( _sourcePolarResponse );
+        }
+    }
+
+    // Chart the directivity metrics for all of the bands that are available
+    // for the current Acoustic Source Model and Relative Bandwidth, from the
+    // open balloon if there is one, or else from the cache, so that no server
+    // round-trips are needed.
+    protected final void updateDirectivityCharts() {
+        final PolarResponse[] bands = getDirectivitySpectrumBands();
+        _directivityChartViewer.updateDirectivitySpectrum( acousticSourceModel, bands );
+    }
+
+    // Gather all of the available bands at the current Relative Bandwidth as
+    // a single batch, in order of increasing frequency.
+    protected final PolarResponse[] getDirectivitySpectrumBands() {
+        final List< PolarResponse > bands = new ArrayList<>();
+        for ( final Supplier< PolarResponse > bandSource : getDirectivitySpectrumBandSources() ) {
+            try {
+                final PolarResponse polarResponse = bandSource.get();
+                if ( polarResponse != null ) {
+                    bands.add( polarResponse );
+                }
+            }
+            catch ( final UncheckedIOException uioe ) {
+                uioe.printStackTrace();
+                DialogUtilities.showFileReadErrorAlert( "Band Data Read Error: " //$NON-NLS-1$
+                        + uioe.getCause().getMessage() );
+                break;
+            }
+        }
+
+        return bands.toArray( new PolarResponse[ 0 ] );
+    }
+
+    // Gather the sources of all of the available bands at the current
+    // Relative Bandwidth, in order of increasing frequency, from the open
+    // balloon if there is one, or else from the cache and the open session
+    // archive. No band is sliced or inflated until its source is asked for,
+    // which may be on any thread. A source returns null if its band turns out
+    // not to be covered, and throws an UncheckedIOException if it can't be
+    // read.
+    protected final List< Supplier< PolarResponse > > getDirectivitySpectrumBandSources() {
+        final RelativeBandwidth relativeBandwidth = _frequencyRange.getRelativeBandwidth();
+        final int octaveDivider = relativeBandwidth.toOctaveDivider();
+        final List< Supplier< PolarResponse > > bandSources = new ArrayList<>();
+        if ( _balloonDataStore == null ) {
+            final String acousticSourceModelForDataRequest = getAcousticSourceModelForDataRequest();
+            final SortedMap< Integer, Supplier< PolarResponse > > bandSourcesByIndex = new TreeMap<>();
+            for ( final Map.Entry< Integer, PolarResponse > band : _polarResponseCache
+                    .getBands( acousticSourceModelForDataRequest, octaveDivider ).entrySet() ) {
+                final PolarResponse polarResponse = band.getValue();
+                bandSourcesByIndex.put( band.getKey(), () -> polarResponse );
+            }
+
+            // Fill in any bands that are only in the open session archive,
+            // and cache them once they are inflated.
+            final PolarSessionArchive polarSessionArchive = _polarSessionArchive;
+            if ( polarSessionArchive != null ) {
+                for ( final PolarResponseKey polarResponseKey : polarSessionArchive.getKeys() ) {
+                    if ( ( polarResponseKey.getOctaveDivider() == octaveDivider )
+                            && polarResponseKey.getAcousticSourceModel()
+                                    .equals( acousticSourceModelForDataRequest )
+                            && !bandSourcesByIndex.containsKey( polarResponseKey.getBandIndex() ) ) {
+                        bandSourcesByIndex.put( polarResponseKey.getBandIndex(), () -> {
+                            try {
+                                final PolarResponse polarResponse = polarSessionArchive
+                                        .load( polarResponseKey );
+                                if ( polarResponse != null ) {
+                                    _polarResponseCache.put( polarResponseKey, polarResponse );
+                                }
+                                return polarResponse;
+                            }
+                            catch ( final IOException ioe ) {
+                                throw new UncheckedIOException( ioe );
+                            }
+                        } );
+                    }
+                }
+            }
+
+            bandSources.addAll( bandSourcesByIndex.values() );
+            return bandSources;
+        }
+
+        // Slice every band of this bandwidth that the balloon spans, and let
+        // the balloon skip those that it can't fully cover.
+        final BalloonDataStore balloonDataStore = _balloonDataStore;
+        final int balloonOctaveDivider = balloonDataStore.getOctaveDivider();
+        if ( ( balloonOctaveDivider % octaveDivider ) == 0 ) {
+            final int bandwidthRatio = balloonOctaveDivider / octaveDivider;
+            final int firstBalloonBandIndex = balloonDataStore.getFirstBandIndex();
+            final int lastBalloonBandIndex = firstBalloonBandIndex
+                    + balloonDataStore.getNumberOfBands() - 1;
+            final int firstBandIndex = Math.floorDiv( firstBalloonBandIndex, bandwidthRatio );
+            final int lastBandIndex = Math.floorDiv( lastBalloonBandIndex, bandwidthRatio ) + 1;
+            final String slicedAcousticSourceModel = acousticSourceModel;
+            final double horizontalPlaneElevation = _balloonHorizontalPlaneElevation;
+            final double verticalPlaneAzimuth = _balloonVerticalPlaneAzimuth;
+            for ( int bandIndex = firstBandIndex; bandIndex <= lastBandIndex; bandIndex++ ) {
+                final int slicedBandIndex = bandIndex;
+                bandSources.add( () -> {
+                    try {
+                        return balloonDataStore
+                                .slicePolarResponse( slicedAcousticSourceModel,
+                                                     relativeBandwidth,
+                                                     slicedBandIndex,
+                                                     PolarResponseKey
+                                                             .getExactCenterFrequency( octaveDivider,
+                                                                                       slicedBandIndex ),
+                                                     horizontalPlaneElevation,
+                                                     verticalPlaneAzimuth );
+                    }
+                    catch ( final IOException ioe ) {
+                        throw new UncheckedIOException( ioe );
+                    }
+                } );
+            }
+        }
+
+        return bandSources;
+    }
+
+    // Map all of the bands in the current Octave Range at the current
+    // Relative Bandwidth, from the open balloon if there is one, or else from
+    // the cache and the open session archive. Any bands that are still
+    // missing are requested from the server as a bulk batch, and are mapped
+    // one by one as they arrive.
+    // NOTE: The bands are laid out anew only when the Acoustic Source Model,
+    //  Relative Bandwidth or Octave Range changes, so scrubbing the Center
+    //  Frequency neither clears the map nor requests any bands again.
+    protected final void updateDirectivityMap() {
+        final RelativeBandwidth relativeBandwidth = _frequencyRange.getRelativeBandwidth();
+        final int octaveDivider = relativeBandwidth.toOctaveDivider();
+        final String acousticSourceModelForDataRequest = getAcousticSourceModelForDataRequest();
+
+        // The Center Frequency Selector lists the bands of the Octave Range,
+        // in order of increasing frequency.
+        final List< String > centerFrequencyChoices = _toolBar.frequencyRangeControls
+                ._centerFrequencySelector.getItems();
+        final List< PolarResponseKey > bandKeys = new ArrayList<>( centerFrequencyChoices.size() );
+        final List< Double > centerFrequencies = new ArrayList<>( centerFrequencyChoices.size() );
+        for ( final String sCenterFrequency : centerFrequencyChoices ) {
+            if ( ( sCenterFrequency == null ) || sCenterFrequency.trim().isEmpty() ) {
+                continue;
+            }
+            final double centerFrequency = FrequencySignalUtilities
+                    .expandMetricAbbreviatedFrequency( sCenterFrequency, _numberParse );
+            bandKeys.add( new PolarResponseKey( acousticSourceModelForDataRequest,
+                                                octaveDivider,
+                                                PolarResponseKey.getBandIndex( octaveDivider,
+                                                                               centerFrequency ) ) );
+            centerFrequencies.add( centerFrequency );
+        }
+
+        final PolarResponseKey[] bandKeyArray = bandKeys.toArray( new PolarResponseKey[ 0 ] );
+        final double[] centerFrequencyArray = centerFrequencies.stream()
+                .mapToDouble( Double::doubleValue ).toArray();
+        if ( !_directivityMapViewer.setDirectivityMapBands( acousticSourceModel,
+                                                            bandKeyArray,
+                                                            centerFrequencyArray ) ) {
+            return;
+        }
+
+        final List< Integer > missingBands = new ArrayList<>();
+        for ( int i = 0; i < bandKeyArray.length; i++ ) {
+            final PolarResponse polarResponse = getDirectivityMapBand( bandKeyArray[ i ],
+                                                                       relativeBandwidth,
+                                                                       centerFrequencyArray[ i ] );
+            if ( polarResponse != null ) {
+                _directivityMapViewer.updateBand( bandKeyArray[ i ], polarResponse );
+            }
+            else {
+                missingBands.add( i );
+            }
+        }
+
+        // Only the server is asked for missing bands, as neither the balloon
+        // nor the session archive will have them later on.
+        final long directivityMapGeneration = ++_directivityMapGeneration;
+        if ( ( _balloonDataStore == null ) && ( _polarSessionArchive == null ) ) {
+            for ( final int i : missingBands ) {
+                requestDirectivityMapBand( directivityMapGeneration,
+                                           bandKeyArray[ i ],
+                                           new FrequencyRange( relativeBandwidth,
+                                                               _frequencyRange.getOctaveRange(),
+                                                               centerFrequencyArray[ i ] ) );
+            }
+        }
+    }
+
+    // Get a band for the directivity map without a server request, if it is
+    // available at all.
+    private PolarResponse getDirectivityMapBand( final PolarResponseKey polarResponseKey,
+                                                 final RelativeBandwidth relativeBandwidth,
+                                                 final double centerFrequency ) {
+        if ( _balloonDataStore != null ) {
+            try {
+                return _balloonDataStore.slicePolarResponse( acousticSourceModel,
+                                                             relativeBandwidth,
+                                                             polarResponseKey.getBandIndex(),
+                                                             centerFrequency,
+                                                             _balloonHorizontalPlaneElevation,
+                                                             _balloonVerticalPlaneAzimuth );
+            }
+            catch ( final IOException ioe ) {
+                ioe.printStackTrace();
+                return null;
+            }
+        }
+
+        final PolarResponse polarResponse = _polarResponseCache.get( polarResponseKey );
+        if ( ( polarResponse == null ) && ( _polarSessionArchive != null ) ) {
+            return loadPolarResponseFromSessionArchive( polarResponseKey );
+        }
+
+        return polarResponse;
+    }
+
+    // Request a missing band of the directivity map through the shared hub,
+    // unless the map has been laid out anew before the request comes up, and
+    // map it once it is cached, whether by this request or by one that any
+    // viewer already had in flight.
+    private void requestDirectivityMapBand( final long directivityMapGeneration,
+                                            final PolarResponseKey polarResponseKey,
+                                            final FrequencyRange frequencyRange ) {
+        requestBackgroundPolarResponse( polarResponseKey,
+                                        acousticSourceModel,
+                                        frequencyRange,
+                                        () -> directivityMapGeneration == _directivityMapGeneration,
+                                        () -> {
+                                            final PolarResponse polarResponse = _polarResponseCache
+                                                    .get( polarResponseKey );
+                                            if ( polarResponse != null ) {
+                                                _directivityMapViewer
+                                                        .updateBand( polarResponseKey, polarResponse );
+                                            }
+                                        } );
+    }
+
+    // Request a band from the server as bulk work on behalf of a companion
+    // view, so that it never holds up interactive requests, and cache it on
+    // the JavaFX Application Thread. If any viewer already has the band in
+    // flight, no duplicate request is made. Either way, the settled callback
+    // runs on the JavaFX Application Thread once the band is cached, or once
+    // the request has failed or been skipped, so it must check the cache.
+    // NOTE: Each background request claims the band with its own token, so
+    //  that it is kept apart from this viewer's own interactive request.
+    // NOTE: The claim is ended whether the request runs or is cancelled while
+    //  still queued, so that no viewer is ever left waiting on it.
+    // NOTE: Errors are only logged, as the companion views treat a missing
+    //  band as unavailable.
+    private void requestBackgroundPolarResponse( final PolarResponseKey polarResponseKey,
+                                                 final String decodedAcousticSourceModel,
+                                                 final FrequencyRange frequencyRange,
+                                                 final BooleanSupplier stillWanted,
+                                                 final Runnable onSettled ) {
+        final Object requestOwner = new Object();
+        if ( !_polarDataHub.beginRequest( polarResponseKey, requestOwner, onSettled ) ) {
+            return;
+        }
+
+        final PolarDataRequestParameters polarDataRequestParameters =
+                new PolarDataRequestParameters( _loginCredentials,
+                                                polarResponseKey.getAcousticSourceModel(),
+                                                frequencyRange );
+        final Runnable settleRequest = () -> {
+            _backgroundPolarResponseRequests.remove( polarResponseKey );
+            _polarDataHub.endRequest( polarResponseKey, requestOwner );
+            onSettled.run();
+        };
+        final PolarRequestScheduler.ScheduledRequest scheduledRequest = _polarDataHub
+                .getRequestScheduler().submit( () -> {
+                    final PolarResponse polarResponse = stillWanted.getAsBoolean()
+                        ? fetchPolarResponse( polarDataRequestParameters,
+                                              decodedAcousticSourceModel,
+                                              frequencyRange )
+                        : null;
+                    Platform.runLater( () -> {
+                        if ( polarResponse != null ) {
+                            _polarResponseCache.put( polarResponseKey,
+                                                     polarResponse,
+                                                     polarDataRequestParameters
+                                                             .getResponseValidator() );
+                        }
+                        settleRequest.run();
+                    } );
+                }, PolarRequestPriority.BULK, () -> Platform.runLater( settleRequest ) );
+        _backgroundPolarResponseRequests.put( polarResponseKey, scheduledRequest );
+    }
+
+    // Make a server request and decode its response on the calling thread,
+    // returning null if it failed or the server had no data for the band.
+    private PolarResponse fetchPolarResponse( final PolarDataRequestParameters polarDataRequestParameters,
+                                              final String decodedAcousticSourceModel,
+                                              final FrequencyRange frequencyRange ) {
+        final PolarDataRequestTask polarDataRequestTask =
+                new PolarDataRequestTask( httpServletRequestProperties,
+                                          polarDataRequestParameters,
+                                          clientProperties );
+        try {
+            polarDataRequestTask.run();
+            final DataServerResponse dataServerResponse = polarDataRequestTask.get();
+            if ( ( dataServerResponse == null ) || ( dataServerResponse
+                    .getHttpResponseCode() != HttpURLConnection.HTTP_OK ) ) {
+                return null;
+            }
+            return PolarResponseDecoder
+                    .decodeServerResponse( dataServerResponse.getServerResponseData(),
+                                           decodedAcousticSourceModel,
+                                           frequencyRange.getRelativeBandwidth(),
+                                           frequencyRange.getCenterFrequency() );
+        }
+        catch ( final Exception e ) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
     /**
      * Returns the Acoustic Source Model name in the form that the data request
      * server expects, which may not match the version cached in this GUI class.
@@ -748,11 +2336,11 @@ public class PolarResponseViewer extends XStage {
         // side effects on startup timing of JavaFX stuff.
         EventQueue.invokeLater( () -> {
             // Make the main Swing layout panel once only at startup.
-            // TODO: Pass the angle increment to the viewer's constructor.
+            // NOTE: The panel matches its resolution to the exported data.
             _polarResponsePreviewPanel =
                                        new PolarResponsePanel( POLAR_RESPONSE_VIEWER_WIDTH_DEFAULT,
                                                                POLAR_RESPONSE_VIEWER_HEIGHT_DEFAULT,
-                                                               1.0d ); // data increment is one degree
+                                                               POLAR_RESPONSE_ANGLE_INCREMENT_DEFAULT );
 
             // Get Rendering Hints that aim for quality rendering of geometry.
             final RenderingHints renderingHints = GraphicsUtilities.getRenderingHintsForCharting();
@@ -761,6 +2349,10 @@ public class PolarResponseViewer extends XStage {
             // Set the background to white, as EPS is paper-oriented.
             _polarResponsePreviewPanel.setForegroundFromBackground( java.awt.Color.WHITE );
 
+            // Keep high resolution traces from bloating the exported files.
+            _polarResponsePreviewPanel
+                    .setVectorSimplificationTolerance( VECTOR_SIMPLIFICATION_TOLERANCE_DEFAULT );
+
             // Set the Graphics Export Source in the Graphics Export Preview
             // window, as it is made once and only needs to update its display.
             _renderedGraphicsExportPreview
@@ -770,9 +2362,28 @@ public class PolarResponseViewer extends XStage {
         // Make the reusable service for Polar Response prediction requests.
         makePredictPolarResponseService();
 
+        // Stop waiting on another viewer's request once this one is closed,
+        // so that the shared hub doesn't keep it alive or call it back with
+        // stale state, and catch up on the current band once shown again.
+        addEventHandler( WindowEvent.WINDOW_HIDDEN, evt -> {
+            if ( _awaitedPolarResponseKey != null ) {
+                cancelPolarResponseRequest();
+                _polarResponseUpdateDeferred = true;
+            }
+        } );
+        addEventHandler( WindowEvent.WINDOW_SHOWN, evt -> {
+            if ( _polarResponseUpdateDeferred ) {
+                _polarResponseUpdateDeferred = false;
+                updatePolarResponse();
+            }
+        } );
+
         // It is safer to set the general input preparation last, as method
         // overload may otherwise access uninitialized variables.
         super.prepareForInput( menuBar );
+
+        // Paint the last displayed response before any server round-trip.
+        warmStartPolarResponse();
     }
 
     // This is a wrapper to ensure that all server response save actions are
@@ -794,6 +2405,16 @@ public class PolarResponseViewer extends XStage {
                     null );
     }
 
+    // Alert the user to a failure that is not a file read, such as a file
+    // write or a print job, as the dialog utilities only cover file reads.
+    private void showErrorAlert( final String title, final String message ) {
+        final Alert alert = new Alert( AlertType.ERROR, message, ButtonType.OK );
+        alert.initOwner( this );
+        alert.setTitle( title );
+        alert.setHeaderText( title );
+        alert.showAndWait();
+    }
+
     // Update the current frequency range to match the new octave range choice.
     public final void setCenterFrequency( final double centerFrequency ) {
         // Cache the current center frequency value.
@@ -840,6 +2461,43 @@ public class PolarResponseViewer extends XStage {
         _polarResponsePane.setGridSpacing( gridSpacing );
     }
 
+    public final void setAngularSmoothingWidth( final int angularSmoothingWidth ) {
+        // Sync up the Radio Button Menu Items with the current smoothing.
+        _actions.setAngularSmoothingWidth( angularSmoothingWidth );
+
+        _angularSmoothingWidth = angularSmoothingWidth;
+        updatePolarResponseTransforms();
+    }
+
+    public final void setNormalization( final PolarResponseNormalization normalization ) {
+        // Sync up the Radio Button Menu Items with the current normalization.
+        _actions.setNormalization( normalization );
+
+        _normalization = normalization;
+        updatePolarResponseTransforms();
+    }
+
+    /**
+     * Sets the Acoustic Source Model to difference the displayed response
+     * against, or turns the difference off.
+     *
+     * @param differenceReferenceModel The reference model, in the form that the
+     *            data request server expects, or {@code null} for none
+     */
+    public final void setDifferenceReferenceModel( final String differenceReferenceModel ) {
+        _differenceReferenceModel = differenceReferenceModel;
+        _unavailableDifferenceReferenceKey = null;
+
+        // Redraw the displayed response with or without the difference.
+        if ( _sourcePolarResponse != null ) {
+            displayPolarResponse( _sourcePolarResponse );
+        }
+    }
+
+    public final String getDifferenceReferenceModel() {
+        return _differenceReferenceModel;
+    }
+
     public final void setAcousticSourceModel( final String pAcousticSourceModel ) {
         // Cache the current acoustic source model.
         acousticSourceModel = pAcousticSourceModel;
@@ -901,8 +2559,9 @@ public class PolarResponseViewer extends XStage {
         // Grab the non-persistent values that need to be converted/forwarded.
         final float gridRange = _polarResponsePane.getGridRange();
         final int gridSpacing = _polarResponsePane.getGridSpacing();
-        final double[] horizontalData = _polarResponsePane.getHorizontalPolarAmplitudeData();
-        final double[] verticalData = _polarResponsePane.getVerticalPolarAmplitudeData();
+        // NOTE: The snapshot is immutable, so it is handed to the AWT thread
+        //  as-is, without copying and without racing the live chart.
+        final PolarResponse polarResponse = _polarResponsePane.getPolarResponse();
 
         EventQueue.invokeLater( () -> {
             // Reset the non-persistent references that might have changed.
@@ -910,16 +2569,12 @@ public class PolarResponseViewer extends XStage {
             _polarResponsePreviewPanel.setGridSpacing( gridSpacing );
 
             // Update prediction response data from the visualization source.
-            _polarResponsePreviewPanel
-                    .updateHorizontalPolarResponse( horizontalData,
-                                                    acousticSourceModel,
-                                                    _frequencyRange.getRelativeBandwidth(),
-                                                    _frequencyRange.getCenterFrequency() );
-            _polarResponsePreviewPanel
-                    .updateVerticalPolarResponse( verticalData,
-                                                  acousticSourceModel,
-                                                  _frequencyRange.getRelativeBandwidth(),
-                                                  _frequencyRange.getCenterFrequency() );
+            if ( polarResponse != null ) {
+                _polarResponsePreviewPanel.updatePolarResponse( polarResponse );
+            }
+            else {
+                _polarResponsePreviewPanel.clearPlots();
+            }
 
             // Make sure the new settings and data are shown right away.
             _polarResponsePreviewPanel.repaint();
@@ -936,56 +2591,4 @@ public class PolarResponseViewer extends XStage {
         // spacing value.
         setGridSpacing( gridSpacing );
     }
-
-    public final boolean updateHorizontalPolarResponse( final SwappedDataInputStream inputStream,
-                                                        final String loudspeakerModel,
-                                                        final RelativeBandwidth relativeBandwidth,
-                                                        final double centerFrequency ) {
-        // Load the Horizontal Polar Response from the server input stream.
-        // NOTE: To close the plot curve, we repeat the on-axis 0-degree data
-        //  at 360 degrees, on the server and therefore in the loaded response.
-        final int numberOfDataPoints = _polarResponsePane.getNumberOfPolarDataPoints();
-        final double[] amplitude = new double[ numberOfDataPoints ];
-        final boolean succeeded = IoUtilities
-                .loadIntoDoubleArray( inputStream,
-                                      amplitude,
-                                      0,
-                                      numberOfDataPoints,
-                                      PolarAmplitudePlot.DEFAULT_AMPLITUDE );
-        if ( !succeeded ) {
-            return false;
-        }
-
-        // Update the Horizontal Polar Response Chart.
-        _polarResponsePane.updateHorizontalPolarResponse( amplitude,
-                                                          loudspeakerModel,
-                                                          relativeBandwidth,
-                                                          centerFrequency );
-
-        return true;
-    }
-
-    public final boolean updateVerticalPolarResponse( final SwappedDataInputStream inputStream,
-                                                      final String loudspeakerModel,
-                                                      final RelativeBandwidth relativeBandwidth,
-                                                      final double centerFrequency ) {
-        // Load the Vertical Polar Response from the server input stream.
-        // NOTE: To close the plot curve, we repeat the on-axis 0-degree data
-        //  at 360 degrees, on the server and therefore in the loaded response.
-        final int numberOfDataPoints = _polarResponsePane.getNumberOfPolarDataPoints();
-        final double amplitude[] = new double[ numberOfDataPoints ];
-        final boolean succeeded = IoUtilities
-                .loadIntoDoubleArray( inputStream, amplitude, 0, numberOfDataPoints, 0.0d );
-        if ( !succeeded ) {
-            return false;
-        }
-
-        // Update the Vertical Polar Response Chart.
-        _polarResponsePane.updateVerticalPolarResponse( amplitude,
-                                                        loudspeakerModel,
-                                                        relativeBandwidth,
-                                                        centerFrequency );
-
-        return true;
-    }
 }
@@ -31,7 +31,10 @@
 package com.mhschmieder.fxpolarchart.swing;
 
 import com.mhschmieder.fxgui.swing.RenderedGraphicsPanel;
-import com.mhschmieder.jacoustics.RelativeBandwidth;
+import com.mhschmieder.fxpolarchart.graphics.PathSimplificationStatistics;
+import com.mhschmieder.fxpolarchart.graphics.PolarTraceDecimator;
+import com.mhschmieder.fxpolarchart.graphics.SimplifyingGraphics2D;
+import com.mhschmieder.fxpolarchart.model.PolarResponse;
 import com.mhschmieder.jchart.layout.PolarAmplitudePlot;
 import com.mhschmieder.jgraphics.color.ColorUtilities;
 
@@ -48,17 +51,43 @@ public final class PolarResponsePanel extends RenderedGraphicsPanel {
      */
     private static final long  serialVersionUID = 8938733992377167662L;
 
+    // Snapshot versions start at one, so zero means that none is applied.
+    private static final long  NO_POLAR_RESPONSE_VERSION = 0L;
+
     // Declare and instantiate all of the UI components.
     private JPanel             _polarPlotGraphicsPanel;
     public PolarAmplitudePlot _polarPlotHz;
     public PolarAmplitudePlot _polarPlotVt;
 
+    // Cache the initial plot dimensions and rendering hints, for rebuilding
+    // the plots when the angular resolution of the data changes.
+    private final int          _plotWidth;
+    private final int          _plotHeight;
+    private RenderingHints     _renderingHints;
+
+    // Keep track of the version of the snapshot that is applied, if any.
+    private long               _polarResponseVersion;
+
+    // Cache the maximum visual error allowed when simplifying the traces for
+    // vector graphics export, in device units, where zero means that the
+    // traces are exported at full resolution.
+    private double             _vectorSimplificationTolerance;
+
+    // Keep the statistics of the most recent simplified vector export.
+    private volatile PathSimplificationStatistics _vectorSimplificationStatistics;
+
     public PolarResponsePanel( final int polarResponseViewerWidth,
                                final int polarResponseViewerHeight,
                                final double angleIncrementDegrees ) {
         // Always call the superclass constructor first!
         super();
 
+        _plotWidth = polarResponseViewerWidth;
+        _plotHeight = polarResponseViewerHeight;
+        _polarResponseVersion = NO_POLAR_RESPONSE_VERSION;
+        _vectorSimplificationTolerance = 0.0d;
+        _vectorSimplificationStatistics = null;
+
         try {
             initPanel( polarResponseViewerWidth, 
                        polarResponseViewerHeight,
@@ -91,20 +120,89 @@ public final class PolarResponsePanel extends RenderedGraphicsPanel {
         //
         // Full-screen mode truncates the grid overlay for the bottom portion of
         // the chart, for some reason, but not the data.
-        boolean panelSaved = _polarPlotHz.vectorize( graphicsContent );
+        //
+        // High resolution traces are simplified on the way out if requested,
+        // as otherwise every data point becomes path geometry.
+        Graphics2D plotGraphicsContent = graphicsContent;
+        if ( _vectorSimplificationTolerance > 0.0d ) {
+            final PathSimplificationStatistics statistics =
+                    new PathSimplificationStatistics( _vectorSimplificationTolerance );
+            plotGraphicsContent = new SimplifyingGraphics2D( graphicsContent,
+                                                             _vectorSimplificationTolerance,
+                                                             statistics );
+            _vectorSimplificationStatistics = statistics;
+        }
+
+        boolean panelSaved = _polarPlotHz.vectorize( plotGraphicsContent );
         if ( panelSaved ) {
-            graphicsContent.translate( _polarPlotHz.getWidth(), 0 );
-            panelSaved = _polarPlotVt.vectorize( graphicsContent );
-            graphicsContent.translate( -_polarPlotHz.getWidth(), 0 );
+            plotGraphicsContent.translate( _polarPlotHz.getWidth(), 0 );
+            panelSaved = _polarPlotVt.vectorize( plotGraphicsContent );
+            plotGraphicsContent.translate( -_polarPlotHz.getWidth(), 0 );
         }
 
         return panelSaved;
     }
 
+    /**
+     * Sets the maximum visual error allowed when simplifying the traces for
+     * vector graphics export, in the device units of the exported file.
+     *
+     * @param vectorSimplificationTolerance The maximum visual error, or zero
+     *            to export the traces at full resolution
+     */
+    public void setVectorSimplificationTolerance( final double vectorSimplificationTolerance ) {
+        _vectorSimplificationTolerance = Math.max( 0.0d, vectorSimplificationTolerance );
+    }
+
+    public double getVectorSimplificationTolerance() {
+        return _vectorSimplificationTolerance;
+    }
+
+    /**
+     * Returns the statistics of the most recent vector graphics export that
+     * simplified the traces, if any.
+     *
+     * @return The path simplification statistics, or {@code null} if none
+     */
+    public PathSimplificationStatistics getVectorSimplificationStatistics() {
+        return _vectorSimplificationStatistics;
+    }
+
     public int getGridSpacing() {
         return _polarPlotHz.getGridSpacing();
     }
 
+    // Replace a plot with one at the angular resolution of new data, as
+    // exports are drawn at full resolution rather than at screen level of
+    // detail, carrying over the grid and colors of the original plot.
+    private PolarAmplitudePlot matchAngularResolution( final PolarAmplitudePlot polarAmplitudePlot,
+                                                       final int plotIndex,
+                                                       final String title,
+                                                       final int numberOfDataPoints ) {
+        if ( numberOfDataPoints == polarAmplitudePlot.getNumberOfPolarDataPoints() ) {
+            return polarAmplitudePlot;
+        }
+
+        final double angleIncrementDegrees = PolarTraceDecimator
+                .getAngleIncrementDegrees( numberOfDataPoints );
+        final PolarAmplitudePlot rebuiltPolarAmplitudePlot = new PolarAmplitudePlot( _plotWidth,
+                                                                                     _plotHeight,
+                                                                                     title,
+                                                                                     angleIncrementDegrees );
+        if ( _renderingHints != null ) {
+            rebuiltPolarAmplitudePlot.setRenderingHints( _renderingHints );
+        }
+        rebuiltPolarAmplitudePlot.setGridRange( polarAmplitudePlot.getGridRange() );
+        rebuiltPolarAmplitudePlot.setGridSpacing( polarAmplitudePlot.getGridSpacing() );
+        rebuiltPolarAmplitudePlot.setForegroundFromBackground( polarAmplitudePlot.getBackground() );
+
+        _polarPlotGraphicsPanel.remove( plotIndex );
+        _polarPlotGraphicsPanel.add( rebuiltPolarAmplitudePlot, plotIndex );
+        _polarPlotGraphicsPanel.revalidate();
+
+        return rebuiltPolarAmplitudePlot;
+    }
+
     private void initPanel( final int polarResponseViewerWidth,
                             final int polarResponseViewerHeight,
                             final double angleIncrementDegrees )
@@ -167,30 +265,47 @@ public final class PolarResponsePanel extends RenderedGraphicsPanel {
     public void setRenderingHints( final RenderingHints renderingHints ) {
         // Set the shared component rendering hints.
         super.setRenderingHints( renderingHints );
+        _renderingHints = renderingHints;
 
         // Forward the global rendering hints to all top-level components.
         _polarPlotHz.setRenderingHints( renderingHints );
         _polarPlotVt.setRenderingHints( renderingHints );
     }
 
-    public void updateHorizontalPolarResponse( final double[] amplitude,
-                                               final String acousticSourceModel,
-                                               final RelativeBandwidth relativeBandwidth,
-                                               final double centerFrequency ) {
-        _polarPlotHz.updatePolarAmplitudeTrace( amplitude,
-                                                acousticSourceModel,
-                                                relativeBandwidth,
-                                                centerFrequency );
+    public void clearPlots() {
+        _polarResponseVersion = NO_POLAR_RESPONSE_VERSION;
+        _polarPlotHz.clearPlot();
+        _polarPlotVt.clearPlot();
     }
 
-    public void updateVerticalPolarResponse( final double[] amplitude,
-                                             final String acousticSourceModel,
-                                             final RelativeBandwidth relativeBandwidth,
-                                             final double centerFrequency ) {
-        _polarPlotVt.updatePolarAmplitudeTrace( amplitude,
-                                                acousticSourceModel,
-                                                relativeBandwidth,
-                                                centerFrequency );
-    }
+    public void updatePolarResponse( final PolarResponse polarResponse ) {
+        // Skip snapshots that are already applied, as re-exporting the same
+        // response is common.
+        if ( polarResponse.getVersion() == _polarResponseVersion ) {
+            return;
+        }
+        _polarResponseVersion = polarResponse.getVersion();
 
-}
\ No newline at end of file
+        // NOTE: The full resolution traces are shared with the snapshot, as
+        //  neither this panel nor the plots modify them.
+        final double[] horizontalAmplitude = polarResponse.getHorizontalAmplitude();
+        _polarPlotHz = matchAngularResolution( _polarPlotHz,
+                                               0,
+                                               "Horizontal", //$NON-NLS-1$
+                                               horizontalAmplitude.length );
+        _polarPlotHz.updatePolarAmplitudeTrace( horizontalAmplitude,
+                                                polarResponse.getAcousticSourceModel(),
+                                                polarResponse.getRelativeBandwidth(),
+                                                polarResponse.getCenterFrequency() );
+
+        final double[] verticalAmplitude = polarResponse.getVerticalAmplitude();
+        _polarPlotVt = matchAngularResolution( _polarPlotVt,
+                                               1,
+                                               "Vertical", //$NON-NLS-1$
+                                               verticalAmplitude.length );
+        _polarPlotVt.updatePolarAmplitudeTrace( verticalAmplitude,
+                                                polarResponse.getAcousticSourceModel(),
+                                                polarResponse.getRelativeBandwidth(),
+                                                polarResponse.getCenterFrequency() );
+    }
+}
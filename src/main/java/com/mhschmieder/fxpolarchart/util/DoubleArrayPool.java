@@ -0,0 +1,198 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.util;
+
+/**
+ * A pool of primitive double arrays, kept in exact-length size classes, so
+ * that transient buffers such as decode scratch space and decimated display
+ * traces can be recycled rather than reallocated on every update.
+ * <p>
+ * Polar data only ever comes in a handful of point counts, so the size
+ * classes are searched linearly, which avoids the boxing and entry objects
+ * of a hash map and keeps a steady-state acquire and release allocation-free.
+ * <p>
+ * Only buffers that are privately owned may be released to the pool. The
+ * amplitude arrays of a published snapshot are shared, and must never be.
+ * <p>
+ * NOTE: Only the decoder's scratch traces and the pane's decimated display
+ *  traces are pooled, so an update still allocates elsewhere: the exact-length
+ *  traces of each new snapshot, one trace per transform stage, and the
+ *  directivity metrics and their text. The counters below only account for
+ *  the pooled buffers. The snapshot traces can't safely be pooled, as they
+ *  are shared by the caches, the panes and background exports, with no
+ *  single point at which all of them are done with a trace.
+ * <p>
+ * All methods are synchronized, as buffers may be acquired on the JavaFX
+ * Application Thread, the AWT Event Dispatch Thread and worker threads.
+ */
+public final class DoubleArrayPool {
+
+    /**
+     * The default number of free arrays kept per size class.
+     */
+    public static final int DEFAULT_MAXIMUM_FREE_ARRAYS_PER_SIZE = 8;
+
+    /**
+     * The default number of size classes, beyond which released arrays of
+     * new sizes are simply dropped.
+     */
+    public static final int DEFAULT_MAXIMUM_NUMBER_OF_SIZES      = 16;
+
+    // Share one pool across the library, as the point counts are common to
+    // the decode and display paths.
+    private static final DoubleArrayPool SHARED_POOL = new DoubleArrayPool();
+
+    /**
+     * Returns the pool that is shared across the library.
+     *
+     * @return The shared pool
+     */
+    public static DoubleArrayPool getSharedPool() {
+        return SHARED_POOL;
+    }
+
+    // Hold the free arrays as one stack per size class.
+    private final int[] sizeClassLengths;
+    private final double[][][] freeArrays;
+    private final int[] numberOfFreeArrays;
+    private int numberOfSizeClasses;
+    private final int maximumFreeArraysPerSize;
+
+    // Count the acquisitions that were served from the pool, and those that
+    // had to allocate, along with the releases that were dropped.
+    private long acquisitionCount;
+    private long allocationCount;
+    private long releaseCount;
+    private long discardCount;
+
+    public DoubleArrayPool() {
+        this( DEFAULT_MAXIMUM_NUMBER_OF_SIZES, DEFAULT_MAXIMUM_FREE_ARRAYS_PER_SIZE );
+    }
+
+    public DoubleArrayPool( final int maximumNumberOfSizes, final int pMaximumFreeArraysPerSize ) {
+        sizeClassLengths = new int[ maximumNumberOfSizes ];
+        freeArrays = new double[ maximumNumberOfSizes ][ pMaximumFreeArraysPerSize ][];
+        numberOfFreeArrays = new int[ maximumNumberOfSizes ];
+        numberOfSizeClasses = 0;
+        maximumFreeArraysPerSize = pMaximumFreeArraysPerSize;
+    }
+
+    /**
+     * Returns a privately owned array of exactly the given length, recycled
+     * from the pool where possible. The contents are unspecified.
+     *
+     * @param length The length of the array
+     * @return The array, which should be released once it is no longer used
+     */
+    public synchronized double[] acquire( final int length ) {
+        acquisitionCount++;
+
+        final int sizeClass = findSizeClass( length );
+        if ( ( sizeClass >= 0 ) && ( numberOfFreeArrays[ sizeClass ] > 0 ) ) {
+            final int top = --numberOfFreeArrays[ sizeClass ];
+            final double[] array = freeArrays[ sizeClass ][ top ];
+            freeArrays[ sizeClass ][ top ] = null;
+            return array;
+        }
+
+        allocationCount++;
+        return new double[ length ];
+    }
+
+    /**
+     * Returns an array to the pool, after which the caller must not use it.
+     *
+     * @param array The array to release, or {@code null} for none
+     */
+    public synchronized void release( final double[] array ) {
+        if ( array == null ) {
+            return;
+        }
+        releaseCount++;
+
+        int sizeClass = findSizeClass( array.length );
+        if ( ( sizeClass < 0 ) && ( numberOfSizeClasses < sizeClassLengths.length ) ) {
+            sizeClass = numberOfSizeClasses++;
+            sizeClassLengths[ sizeClass ] = array.length;
+        }
+        if ( ( sizeClass < 0 ) || ( numberOfFreeArrays[ sizeClass ] >= maximumFreeArraysPerSize ) ) {
+            discardCount++;
+            return;
+        }
+
+        freeArrays[ sizeClass ][ numberOfFreeArrays[ sizeClass ]++ ] = array;
+    }
+
+    private int findSizeClass( final int length ) {
+        for ( int i = 0; i < numberOfSizeClasses; i++ ) {
+            if ( sizeClassLengths[ i ] == length ) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public synchronized long getAcquisitionCount() {
+        return acquisitionCount;
+    }
+
+    /**
+     * Returns the number of acquisitions that had to allocate a new array,
+     * which stops growing once the update loop reaches a steady state.
+     *
+     * @return The number of arrays allocated by the pool
+     */
+    public synchronized long getAllocationCount() {
+        return allocationCount;
+    }
+
+    public synchronized long getReleaseCount() {
+        return releaseCount;
+    }
+
+    public synchronized long getDiscardCount() {
+        return discardCount;
+    }
+
+    public synchronized void resetCounters() {
+        acquisitionCount = 0L;
+        allocationCount = 0L;
+        releaseCount = 0L;
+        discardCount = 0L;
+    }
+
+    @SuppressWarnings("nls")
+    @Override
+    public synchronized String toString() {
+        return "Acquisitions: " + acquisitionCount + ", Allocations: " + allocationCount
+                + ", Releases: " + releaseCount + ", Discards: " + discardCount;
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.io;
+
+import com.mhschmieder.fxpolarchart.model.PolarResponse;
+import com.mhschmieder.fxpolarchart.net.PolarDataRequestParameters;
+import com.mhschmieder.jacoustics.RelativeBandwidth;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * A client-side benchmark that compares the latency of the payload formats
+ * that the Polar Response Decoder accepts, for the same data.
+ * <p>
+ * The payloads are encoded here exactly as a server would encode them, and
+ * are served over loopback HTTP, one endpoint per format. Each request is
+ * timed from opening the connection, with the same Accept headers as the
+ * viewer sends, to the decoded snapshot, and the decoding alone is also
+ * timed so that the transfer cost of each format can be told apart. The
+ * network latency of each format can be measured against a real server with
+ * the Polar Data load test harness, using the same sizes.
+ * <p>
+ * Run it with no arguments to print the median latencies of the ZIP path
+ * and the identity and gzip framed paths, at 1 and 0.1 degree resolution.
+ * <p>
+ * This lives with the test sources, so that it never ships with the library.
+ */
+public final class PolarResponseDecodingBenchmark {
+
+    // The angular resolutions to compare the formats at, in degrees.
+    private static final double[] ANGLE_INCREMENTS_DEGREES = { 1.0d, 0.1d };
+
+    private static final int DEFAULT_NUMBER_OF_WARMUP_RUNS = 100;
+    private static final int DEFAULT_NUMBER_OF_MEASURED_RUNS = 500;
+
+    // The size of the buffer for reading response bodies.
+    private static final int TRANSFER_BUFFER_SIZE = 8192;
+
+    /**
+     * The default constructor is disabled, as this is a static utilities class.
+     */
+    private PolarResponseDecodingBenchmark() {}
+
+    /**
+     * Serves each payload format over loopback HTTP, and prints the median
+     * request-to-snapshot and decoding latencies of each.
+     *
+     * @param args Not used
+     * @throws IOException If a payload can't be encoded, served or decoded
+     */
+    @SuppressWarnings("nls")
+    public static void main( final String[] args ) throws IOException {
+        // Send each response at once, as otherwise Nagle's algorithm holds
+        // the body back behind the headers until the client acknowledges
+        // them, which adds tens of milliseconds to every loopback request.
+        System.setProperty( "sun.net.httpserver.nodelay", "true" );
+
+        final HttpServer httpServer = HttpServer
+                .create( new InetSocketAddress( InetAddress.getLoopbackAddress(), 0 ), 0 );
+        httpServer.start();
+        try {
+            for ( final double angleIncrementDegrees : ANGLE_INCREMENTS_DEGREES ) {
+                final double[] horizontalAmplitude = makeSyntheticTrace( angleIncrementDegrees, 12.0d );
+                final double[] verticalAmplitude = makeSyntheticTrace( angleIncrementDegrees, 18.0d );
+
+                final String[] formats = { "zip", "framed", "gzip" };
+                final byte[][] payloads = {
+                    encodeZipPayload( horizontalAmplitude, verticalAmplitude ),
+                    encodeFramedBody( horizontalAmplitude, verticalAmplitude ),
+                    encodeGzipFramedBody( horizontalAmplitude, verticalAmplitude ) };
+                final String[] contentTypes = {
+                    "application/zip",
+                    "application/x-polar-response",
+                    "application/x-polar-response" };
+
+                for ( int i = 0; i < formats.length; i++ ) {
+                    final String path = "/" + formats[ i ] + "/" + horizontalAmplitude.length;
+                    final byte[] payload = payloads[ i ];
+                    final String contentType = contentTypes[ i ];
+                    final boolean gzip = "gzip".equals( formats[ i ] );
+                    httpServer.createContext( path, httpExchange -> {
+                        httpExchange.getResponseHeaders().set( "Content-Type", contentType );
+                        if ( gzip ) {
+                            httpExchange.getResponseHeaders().set( "Content-Encoding", "gzip" );
+                        }
+                        httpExchange.sendResponseHeaders( HttpURLConnection.HTTP_OK, payload.length );
+                        try ( final OutputStream outputStream = httpExchange.getResponseBody() ) {
+                            outputStream.write( payload );
+                        }
+                    } );
+
+                    final URL url = new URL( "http", "127.0.0.1", httpServer.getAddress().getPort(), path );
+                    final long requestNanoseconds = measureRequestToSnapshotNanoseconds( url,
+                                                                                         DEFAULT_NUMBER_OF_WARMUP_RUNS,
+                                                                                         DEFAULT_NUMBER_OF_MEASURED_RUNS );
+                    final long decodingNanoseconds = measureDecodingNanoseconds( payload,
+                                                                                 DEFAULT_NUMBER_OF_WARMUP_RUNS,
+                                                                                 DEFAULT_NUMBER_OF_MEASURED_RUNS );
+                    System.out.println( String.format( Locale.ENGLISH,
+                                                       "%.1f deg %-6s %8d bytes: request to snapshot %8.1f us, decoding %8.1f us",
+                                                       angleIncrementDegrees,
+                                                       formats[ i ],
+                                                       payload.length,
+                                                       1.0e-3d * requestNanoseconds,
+                                                       1.0e-3d * decodingNanoseconds ) );
+                }
+            }
+        }
+        finally {
+            httpServer.stop( 0 );
+        }
+    }
+
+    /**
+     * Makes a closed synthetic trace that falls off smoothly off-axis, with a
+     * little ripple and rounding to 0.01 dB, as in a measured response, so
+     * that it doesn't compress unrealistically well.
+     *
+     * @param angleIncrementDegrees The angular resolution of the trace
+     * @param rearAttenuation The attenuation at the rear, in dB
+     * @return The closed synthetic trace
+     */
+    public static double[] makeSyntheticTrace( final double angleIncrementDegrees,
+                                               final double rearAttenuation ) {
+        final int numberOfIntervals = ( int ) Math.round( 360.0d / angleIncrementDegrees );
+        final double[] amplitude = new double[ numberOfIntervals + 1 ];
+        for ( int i = 0; i < numberOfIntervals; i++ ) {
+            final double angleRadians = Math.toRadians( i * angleIncrementDegrees );
+            final double offAxis = 0.5d * ( 1.0d - Math.cos( angleRadians ) );
+            final double ripple = 0.4d * Math.sin( 7.0d * angleRadians ) * Math.sin( 3.0d * angleRadians );
+            amplitude[ i ] = 0.01d * Math.round( 100.0d * ( ( -rearAttenuation * offAxis ) + ripple ) );
+        }
+        amplitude[ numberOfIntervals ] = amplitude[ 0 ];
+        return amplitude;
+    }
+
+    /**
+     * Encodes a pair of planes as a ZIP payload, with one entry per plane.
+     *
+     * @param horizontalAmplitude The closed horizontal trace
+     * @param verticalAmplitude The closed vertical trace
+     * @return The ZIP payload
+     * @throws IOException If the payload can't be deflated
+     */
+    public static byte[] encodeZipPayload( final double[] horizontalAmplitude,
+                                           final double[] verticalAmplitude )
+            throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try ( final ZipOutputStream zipOutputStream = new ZipOutputStream( byteArrayOutputStream ) ) {
+            zipOutputStream.putNextEntry( new ZipEntry( PolarResponseDecoder.HORIZONTAL_ENTRY_NAME ) );
+            zipOutputStream.write( toLittleEndianBytes( horizontalAmplitude ) );
+            zipOutputStream.closeEntry();
+            zipOutputStream.putNextEntry( new ZipEntry( PolarResponseDecoder.VERTICAL_ENTRY_NAME ) );
+            zipOutputStream.write( toLittleEndianBytes( verticalAmplitude ) );
+            zipOutputStream.closeEntry();
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    /**
+     * Encodes a pair of planes as an uncompressed framed body.
+     *
+     * @param horizontalAmplitude The closed horizontal trace
+     * @param verticalAmplitude The closed vertical trace
+     * @return The framed body
+     */
+    public static byte[] encodeFramedBody( final double[] horizontalAmplitude,
+                                           final double[] verticalAmplitude ) {
+        final ByteBuffer byteBuffer = ByteBuffer
+                .allocate( PolarResponseDecoder.FRAMED_HEADER_SIZE
+                        + ( Double.BYTES * ( horizontalAmplitude.length + verticalAmplitude.length ) ) )
+                .order( ByteOrder.LITTLE_ENDIAN );
+        byteBuffer.putInt( PolarResponseDecoder.FRAMED_MAGIC_NUMBER );
+        byteBuffer.putInt( PolarResponseDecoder.FRAMED_FORMAT_VERSION );
+        byteBuffer.putInt( horizontalAmplitude.length );
+        byteBuffer.putInt( verticalAmplitude.length );
+        byteBuffer.asDoubleBuffer().put( horizontalAmplitude ).put( verticalAmplitude );
+        return byteBuffer.array();
+    }
+
+    /**
+     * Encodes a pair of planes as a gzip-compressed framed body, as sent with
+     * a gzip Content-Encoding.
+     *
+     * @param horizontalAmplitude The closed horizontal trace
+     * @param verticalAmplitude The closed vertical trace
+     * @return The gzip-compressed framed body
+     * @throws IOException If the body can't be compressed
+     */
+    public static byte[] encodeGzipFramedBody( final double[] horizontalAmplitude,
+                                               final double[] verticalAmplitude )
+            throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try ( final GZIPOutputStream gzipOutputStream = new GZIPOutputStream( byteArrayOutputStream ) ) {
+            gzipOutputStream.write( encodeFramedBody( horizontalAmplitude, verticalAmplitude ) );
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private static byte[] toLittleEndianBytes( final double[] amplitude ) {
+        final ByteBuffer byteBuffer = ByteBuffer.allocate( Double.BYTES * amplitude.length )
+                .order( ByteOrder.LITTLE_ENDIAN );
+        byteBuffer.asDoubleBuffer().put( amplitude );
+        return byteBuffer.array();
+    }
+
+    /**
+     * Requests a payload repeatedly, with the same Accept headers as the
+     * viewer sends, and returns the median latency from opening the
+     * connection to the decoded snapshot.
+     *
+     * @param url The URL that serves the payload
+     * @param numberOfWarmupRuns The number of untimed runs, to let the JIT
+     *            compiler settle
+     * @param numberOfMeasuredRuns The number of timed runs
+     * @return The median request-to-snapshot latency, in nanoseconds
+     * @throws IOException If the payload can't be requested or decoded
+     */
+    public static long measureRequestToSnapshotNanoseconds( final URL url,
+                                                            final int numberOfWarmupRuns,
+                                                            final int numberOfMeasuredRuns )
+            throws IOException {
+        final byte[] transferBuffer = new byte[ TRANSFER_BUFFER_SIZE ];
+        for ( int i = 0; i < numberOfWarmupRuns; i++ ) {
+            requestSnapshot( url, transferBuffer );
+        }
+
+        final long[] latencies = new long[ Math.max( 1, numberOfMeasuredRuns ) ];
+        for ( int i = 0; i < latencies.length; i++ ) {
+            final long startTimeNanoseconds = System.nanoTime();
+            requestSnapshot( url, transferBuffer );
+            latencies[ i ] = System.nanoTime() - startTimeNanoseconds;
+        }
+
+        Arrays.sort( latencies );
+        return latencies[ latencies.length / 2 ];
+    }
+
+    // Make one request and decode its body, leaving the connection open for
+    // reuse, as the viewer's requests would.
+    @SuppressWarnings("nls")
+    private static PolarResponse requestSnapshot( final URL url, final byte[] transferBuffer )
+            throws IOException {
+        final HttpURLConnection httpURLConnection = ( HttpURLConnection ) url.openConnection();
+        httpURLConnection.setRequestProperty( "Accept",
+                                              PolarDataRequestParameters.ACCEPT_MEDIA_TYPES );
+        httpURLConnection.setRequestProperty( "Accept-Encoding",
+                                              PolarDataRequestParameters.ACCEPT_ENCODINGS );
+        if ( httpURLConnection.getResponseCode() != HttpURLConnection.HTTP_OK ) {
+            throw new IOException( "Unexpected HTTP Response: "
+                    + httpURLConnection.getResponseCode() );
+        }
+
+        final ByteArrayOutputStream byteArrayOutputStream =
+                new ByteArrayOutputStream( Math.max( 32, httpURLConnection.getContentLength() ) );
+        try ( final InputStream inputStream = httpURLConnection.getInputStream() ) {
+            int bytesRead = 0;
+            while ( ( bytesRead = inputStream.read( transferBuffer ) ) >= 0 ) {
+                byteArrayOutputStream.write( transferBuffer, 0, bytesRead );
+            }
+        }
+
+        return PolarResponseDecoder.decodeServerResponse( byteArrayOutputStream.toByteArray(),
+                                                          "Benchmark",
+                                                          RelativeBandwidth.defaultValue(),
+                                                          1000.0d );
+    }
+
+    /**
+     * Decodes a payload repeatedly, and returns the median decoding latency.
+     *
+     * @param payload The payload to decode, in any supported format
+     * @param numberOfWarmupRuns The number of untimed runs, to let the JIT
+     *            compiler settle
+     * @param numberOfMeasuredRuns The number of timed runs
+     * @return The median decoding latency, in nanoseconds
+     * @throws IOException If the payload can't be decoded
+     */
+    public static long measureDecodingNanoseconds( final byte[] payload,
+                                                   final int numberOfWarmupRuns,
+                                                   final int numberOfMeasuredRuns )
+            throws IOException {
+        for ( int i = 0; i < numberOfWarmupRuns; i++ ) {
+            PolarResponseDecoder.decodeServerResponse( payload,
+                                                       "Benchmark", //$NON-NLS-1$
+                                                       RelativeBandwidth.defaultValue(),
+                                                       1000.0d );
+        }
+
+        final long[] latencies = new long[ Math.max( 1, numberOfMeasuredRuns ) ];
+        for ( int i = 0; i < latencies.length; i++ ) {
+            final long startTimeNanoseconds = System.nanoTime();
+            PolarResponseDecoder.decodeServerResponse( payload,
+                                                       "Benchmark", //$NON-NLS-1$
+                                                       RelativeBandwidth.defaultValue(),
+                                                       1000.0d );
+            latencies[ i ] = System.nanoTime() - startTimeNanoseconds;
+        }
+
+        Arrays.sort( latencies );
+        return latencies[ latencies.length / 2 ];
+    }
+}
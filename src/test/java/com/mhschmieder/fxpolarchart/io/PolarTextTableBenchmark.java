@@ -0,0 +1,190 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.io;
+
+import com.mhschmieder.jacoustics.RelativeBandwidth;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * A throughput benchmark for the Polar Text Table Reader, which repeatedly
+ * parses a polar table file and reports the median parsing rate.
+ * <p>
+ * Synthetic tables can be written at any angular resolution and number of
+ * frequency columns, so that multi-megabyte files are easy to produce for
+ * comparison with real measurement exports.
+ * <p>
+ * Run it with the path of a polar table file as its only argument, or with
+ * no arguments to write and parse a synthetic table of a few megabytes at a
+ * tenth of a degree resolution.
+ * <p>
+ * This lives with the test sources, so that it never ships with the library.
+ */
+public final class PolarTextTableBenchmark {
+
+    // The default synthetic table, which is a little over 3 MB.
+    private static final double DEFAULT_ANGLE_INCREMENT_DEGREES = 0.1d;
+    private static final int DEFAULT_NUMBER_OF_FREQUENCIES = 61;
+
+    private static final int DEFAULT_NUMBER_OF_WARMUP_RUNS = 5;
+    private static final int DEFAULT_NUMBER_OF_MEASURED_RUNS = 15;
+
+    /**
+     * The default constructor is disabled, as this is a static utilities class.
+     */
+    private PolarTextTableBenchmark() {}
+
+    /**
+     * Runs the benchmark on the given polar table file, or on a synthetic
+     * table if no file is given, and prints the median throughput.
+     *
+     * @param args The path of the polar table file to parse, if any
+     * @throws IOException If the file can't be read, written or parsed
+     */
+    @SuppressWarnings("nls")
+    public static void main( final String[] args ) throws IOException {
+        final boolean synthetic = args.length == 0;
+        final File file = synthetic
+            ? File.createTempFile( "PolarTextTableBenchmark", ".txt" )
+            : new File( args[ 0 ] );
+        try {
+            if ( synthetic ) {
+                writeSyntheticTable( file,
+                                     DEFAULT_ANGLE_INCREMENT_DEGREES,
+                                     DEFAULT_NUMBER_OF_FREQUENCIES );
+            }
+
+            final double throughput = run( file,
+                                           DEFAULT_NUMBER_OF_WARMUP_RUNS,
+                                           DEFAULT_NUMBER_OF_MEASURED_RUNS );
+            System.out.println( String.format( Locale.ENGLISH,
+                                               "%s: %.2f MB, median %.1f MB/s over %d runs",
+                                               file.getName(),
+                                               1.0e-6d * file.length(),
+                                               throughput,
+                                               DEFAULT_NUMBER_OF_MEASURED_RUNS ) );
+        }
+        finally {
+            if ( synthetic ) {
+                Files.deleteIfExists( file.toPath() );
+            }
+        }
+    }
+
+    /**
+     * Parses a polar table file repeatedly, and returns the median throughput
+     * of the measured runs, from opening the file to the decoded responses.
+     *
+     * @param file The polar table file to parse
+     * @param numberOfWarmupRuns The number of untimed runs, to let the JIT
+     *            compiler settle
+     * @param numberOfMeasuredRuns The number of timed runs
+     * @return The median throughput, in megabytes of the file per second
+     * @throws IOException If the file can't be read or parsed
+     */
+    public static double run( final File file,
+                              final int numberOfWarmupRuns,
+                              final int numberOfMeasuredRuns )
+            throws IOException {
+        final PolarTextTableReader polarTextTableReader = new PolarTextTableReader();
+        for ( int i = 0; i < numberOfWarmupRuns; i++ ) {
+            polarTextTableReader.read( file, "Benchmark", RelativeBandwidth.defaultValue() ); //$NON-NLS-1$
+        }
+
+        final double fileSizeBytes = file.length();
+        final double[] throughputs = new double[ Math.max( 1, numberOfMeasuredRuns ) ];
+        for ( int i = 0; i < throughputs.length; i++ ) {
+            final long startTimeNanoseconds = System.nanoTime();
+            polarTextTableReader.read( file, "Benchmark", RelativeBandwidth.defaultValue() ); //$NON-NLS-1$
+            final long elapsedTimeNanoseconds = System.nanoTime() - startTimeNanoseconds;
+            throughputs[ i ] = ( 1.0e3d * fileSizeBytes ) / Math.max( 1L, elapsedTimeNanoseconds );
+        }
+
+        Arrays.sort( throughputs );
+        return throughputs[ throughputs.length / 2 ];
+    }
+
+    /**
+     * Writes a synthetic polar table with both planes, whose levels fall off
+     * smoothly with angle and frequency.
+     *
+     * @param file The polar table file to write
+     * @param angleIncrementDegrees The angular resolution of the table
+     * @param numberOfFrequencies The number of frequency columns, at 1/3
+     *            octave spacing from 20 Hz
+     * @throws IOException If the file can't be written
+     */
+    @SuppressWarnings("nls")
+    public static void writeSyntheticTable( final File file,
+                                            final double angleIncrementDegrees,
+                                            final int numberOfFrequencies )
+            throws IOException {
+        final int numberOfIntervals = ( int ) Math.round( 360.0d / angleIncrementDegrees );
+        try ( final BufferedWriter bufferedWriter = Files.newBufferedWriter( file.toPath(),
+                                                                             StandardCharsets.UTF_8 ) ) {
+            for ( final String section : new String[] { "[Horizontal]", "[Vertical]" } ) {
+                bufferedWriter.write( section );
+                bufferedWriter.newLine();
+
+                final StringBuilder header = new StringBuilder( "Angle" );
+                for ( int column = 0; column < numberOfFrequencies; column++ ) {
+                    header.append( '\t' ).append( String
+                            .format( Locale.ENGLISH, "%.2f", getFrequency( column ) ) );
+                }
+                bufferedWriter.write( header.toString() );
+                bufferedWriter.newLine();
+
+                for ( int i = 0; i <= numberOfIntervals; i++ ) {
+                    final double angleDegrees = i * angleIncrementDegrees;
+                    final double offAxis = 0.5d * ( 1.0d - Math.cos( Math.toRadians( angleDegrees ) ) );
+                    final StringBuilder row = new StringBuilder();
+                    row.append( String.format( Locale.ENGLISH, "%.3f", angleDegrees ) );
+                    for ( int column = 0; column < numberOfFrequencies; column++ ) {
+                        final double level = -offAxis * 3.0d * ( 1.0d + column );
+                        row.append( '\t' ).append( String.format( Locale.ENGLISH, "%.2f", level ) );
+                    }
+                    bufferedWriter.write( row.toString() );
+                    bufferedWriter.newLine();
+                }
+            }
+        }
+    }
+
+    private static double getFrequency( final int column ) {
+        return 20.0d * Math.pow( 2.0d, column / 3.0d );
+    }
+}
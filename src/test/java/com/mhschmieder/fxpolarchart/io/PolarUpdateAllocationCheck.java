@@ -0,0 +1,174 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020, 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxPolarChart Library
+ *
+ * You should have received a copy of the MIT License along with the FxPolarChart
+ * Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxpolarchart
+ */
+package com.mhschmieder.fxpolarchart.io;
+
+import com.mhschmieder.fxpolarchart.graphics.PolarTraceDecimator;
+import com.mhschmieder.fxpolarchart.model.PolarResponse;
+import com.mhschmieder.fxpolarchart.util.DoubleArrayPool;
+import com.mhschmieder.jacoustics.RelativeBandwidth;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+/**
+ * A check that the pooled buffers of the update loop reach a steady state,
+ * in which repeated updates no longer make the Double Array Pool allocate.
+ * <p>
+ * Each update decodes a ZIP payload, whose scratch traces are pooled, and
+ * then decimates both planes into pooled display traces, holding one per
+ * plane and releasing the previous one, as the Polar Response Pane does.
+ * <p>
+ * The snapshot traces themselves are not pooled, as a snapshot is shared by
+ * the caches, the panes and background exports, and there is no point at
+ * which all of them are known to be done with it. The bytes allocated per
+ * update by the calling thread are printed alongside, to show that cost.
+ * <p>
+ * Run it with no arguments; it throws an {@link AssertionError} on failure.
+ * This lives with the test sources, so that it never ships with the library.
+ */
+public final class PolarUpdateAllocationCheck {
+
+    // Use a fine angular resolution, so that the display traces are decimated.
+    private static final double ANGLE_INCREMENT_DEGREES = 0.1d;
+
+    // The outer radius of the charts, in pixels.
+    private static final double RADIUS_PIXELS = 200.0d;
+
+    private static final int NUMBER_OF_WARMUP_UPDATES = 100;
+    private static final int NUMBER_OF_MEASURED_UPDATES = 1000;
+
+    /**
+     * The default constructor is disabled, as this is a static utilities class.
+     */
+    private PolarUpdateAllocationCheck() {}
+
+    /**
+     * Runs the check, and prints the pool counters and the bytes allocated
+     * per update.
+     *
+     * @param args Not used
+     * @throws IOException If the payload can't be encoded or decoded
+     */
+    @SuppressWarnings("nls")
+    public static void main( final String[] args ) throws IOException {
+        final double[] horizontalAmplitude = PolarResponseDecodingBenchmark
+                .makeSyntheticTrace( ANGLE_INCREMENT_DEGREES, 12.0d );
+        final double[] verticalAmplitude = PolarResponseDecodingBenchmark
+                .makeSyntheticTrace( ANGLE_INCREMENT_DEGREES, 18.0d );
+        final byte[] payload = PolarResponseDecodingBenchmark
+                .encodeZipPayload( horizontalAmplitude, verticalAmplitude );
+        final DoubleArrayPool doubleArrayPool = DoubleArrayPool.getSharedPool();
+        final double[][] displayAmplitudeHolders = new double[ 2 ][];
+
+        for ( int i = 0; i < NUMBER_OF_WARMUP_UPDATES; i++ ) {
+            update( payload, doubleArrayPool, displayAmplitudeHolders );
+        }
+
+        doubleArrayPool.resetCounters();
+        final long startAllocatedBytes = getAllocatedBytes();
+        for ( int i = 0; i < NUMBER_OF_MEASURED_UPDATES; i++ ) {
+            update( payload, doubleArrayPool, displayAmplitudeHolders );
+        }
+        final long allocatedBytes = getAllocatedBytes() - startAllocatedBytes;
+
+        System.out.println( doubleArrayPool );
+        if ( startAllocatedBytes >= 0L ) {
+            System.out.println( String.format( Locale.ENGLISH,
+                                               "Bytes allocated per update, including snapshots: %d",
+                                               allocatedBytes / NUMBER_OF_MEASURED_UPDATES ) );
+        }
+
+        if ( doubleArrayPool.getAcquisitionCount() == 0L ) {
+            throw new AssertionError( "The update loop didn't use the pool." );
+        }
+        if ( doubleArrayPool.getAllocationCount() != 0L ) {
+            throw new AssertionError( "The pool allocated "
+                    + doubleArrayPool.getAllocationCount() + " arrays in "
+                    + NUMBER_OF_MEASURED_UPDATES + " steady-state updates." );
+        }
+        if ( doubleArrayPool.getDiscardCount() != 0L ) {
+            throw new AssertionError( "The pool discarded "
+                    + doubleArrayPool.getDiscardCount() + " released arrays." );
+        }
+    }
+
+    // Decode a response and replace the display trace of each plane.
+    private static void update( final byte[] payload,
+                                final DoubleArrayPool doubleArrayPool,
+                                final double[][] displayAmplitudeHolders )
+            throws IOException {
+        final PolarResponse polarResponse = PolarResponseDecoder
+                .decodeServerResponse( payload,
+                                       "Check", //$NON-NLS-1$
+                                       RelativeBandwidth.defaultValue(),
+                                       1000.0d );
+        updateDisplayAmplitude( polarResponse.getHorizontalAmplitude(),
+                                doubleArrayPool,
+                                displayAmplitudeHolders,
+                                0 );
+        updateDisplayAmplitude( polarResponse.getVerticalAmplitude(),
+                                doubleArrayPool,
+                                displayAmplitudeHolders,
+                                1 );
+    }
+
+    // Decimate a trace into a pooled display trace, and release the one that
+    // it replaces.
+    private static void updateDisplayAmplitude( final double[] amplitude,
+                                                final DoubleArrayPool doubleArrayPool,
+                                                final double[][] displayAmplitudeHolders,
+                                                final int plane ) {
+        final int decimationFactor = PolarTraceDecimator.getDecimationFactor( amplitude.length,
+                                                                              RADIUS_PIXELS );
+        if ( decimationFactor <= 1 ) {
+            throw new AssertionError( "The display trace wasn't decimated." ); //$NON-NLS-1$
+        }
+
+        final double[] displayAmplitude = doubleArrayPool.acquire( PolarTraceDecimator
+                .getNumberOfDecimatedDataPoints( amplitude.length, decimationFactor ) );
+        PolarTraceDecimator.decimateInto( amplitude, decimationFactor, displayAmplitude );
+
+        doubleArrayPool.release( displayAmplitudeHolders[ plane ] );
+        displayAmplitudeHolders[ plane ] = displayAmplitude;
+    }
+
+    // Return the bytes allocated so far by the calling thread, or -1 if the
+    // virtual machine doesn't track them.
+    private static long getAllocatedBytes() {
+        final java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if ( threadMXBean instanceof com.sun.management.ThreadMXBean ) {
+            return ( ( com.sun.management.ThreadMXBean ) threadMXBean )
+                    .getThreadAllocatedBytes( Thread.currentThread().getId() );
+        }
+        return -1L;
+    }
+}